@@ -0,0 +1,144 @@
+package org.bacon.ruthenium.benchmark;
+
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bacon.ruthenium.util.ChunkEventQueue;
+import org.bacon.ruthenium.util.CoordinateUtil;
+import org.bacon.ruthenium.util.FrozenLongSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * One region tick of {@value #CHAIN_LENGTH} chained piston-style block events, where each event
+ * queues the next one at the neighbouring block: the previous monitor-guarded
+ * {@link ObjectLinkedOpenHashSet} drained with one lock round trip per event against the
+ * single-owner {@link ChunkEventQueue}. {@code parkedEvents} extra events sit in a chunk that is
+ * not ticking; the old path pops and re-adds them every tick while the new one parks them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BlockEventQueueBenchmark {
+
+    private static final int CHAIN_LENGTH = 10_000;
+    private static final long UNTICKED_CHUNK = CoordinateUtil.getChunkKey(-1_000, -1_000);
+
+    // Packs x in the high and z in the low 32 bits, so pos + 1 is the next block along z
+    private record Event(long pos, int eventId, int eventParam) {
+
+        long chunkKey() {
+            return CoordinateUtil.getChunkKey((int)(this.pos >> 32) >> 4, (int)this.pos >> 4);
+        }
+    }
+
+    private static final Hash.Strategy<Event> STRATEGY = new Hash.Strategy<>() {
+        @Override
+        public int hashCode(final Event event) {
+            return event == null ? 0 : HashCommon.mix((int)HashCommon.mix(event.pos) + 31 * event.eventId + 961 * event.eventParam);
+        }
+
+        @Override
+        public boolean equals(final Event a, final Event b) {
+            if (a == b) {
+                return true;
+            }
+            if (a == null || b == null) {
+                return false;
+            }
+            return a.pos == b.pos && a.eventId == b.eventId && a.eventParam == b.eventParam;
+        }
+    };
+
+    @Param({"0", "512"})
+    public int parkedEvents;
+
+    private FrozenLongSet tickingChunks;
+    private ObjectLinkedOpenHashSet<Event> lockedEvents;
+    private final Object lockedEventsLock = new Object();
+    private ChunkEventQueue<Event> queue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        final LongOpenHashSet ticking = new LongOpenHashSet();
+        for (int z = 0; z <= (CHAIN_LENGTH >> 4); ++z) {
+            ticking.add(CoordinateUtil.getChunkKey(0, z));
+        }
+        this.tickingChunks = FrozenLongSet.copyOf(ticking);
+
+        this.lockedEvents = new ObjectLinkedOpenHashSet<>();
+        this.queue = new ChunkEventQueue<>(STRATEGY, Event::chunkKey);
+        for (int i = 0; i < this.parkedEvents; ++i) {
+            final Event event = new Event(((long)-16_000 << 32) | (-16_000 & 0xFFFFFFFFL), 1, i);
+            this.lockedEvents.add(event);
+            this.queue.push(event);
+        }
+        // Park the queue's unticked events once, as the first real tick would
+        this.queue.drain(chunkKey -> chunkKey != UNTICKED_CHUNK, event -> { });
+    }
+
+    @Benchmark
+    public int synchronizedLinkedSet(final Blackhole blackhole) {
+        this.pushLocked(new Event(0L, 0, 0));
+        final List<Event> toReschedule = new ArrayList<>();
+        int ran = 0;
+        Event event;
+        while ((event = this.pollLocked()) != null) {
+            if (!this.tickingChunks.contains(event.chunkKey())) {
+                toReschedule.add(event);
+                continue;
+            }
+            ++ran;
+            blackhole.consume(event);
+            if (event.eventId < CHAIN_LENGTH) {
+                this.pushLocked(new Event(event.pos + 1L, event.eventId + 1, 0));
+            }
+        }
+        synchronized (this.lockedEventsLock) {
+            this.lockedEvents.addAll(toReschedule);
+        }
+        return ran;
+    }
+
+    @Benchmark
+    public int chunkEventQueue(final Blackhole blackhole) {
+        final ChunkEventQueue<Event> events = this.queue;
+        events.push(new Event(0L, 0, 0));
+        return events.drain(this.tickingChunks::contains, event -> {
+            blackhole.consume(event);
+            if (event.eventId < CHAIN_LENGTH) {
+                events.push(new Event(event.pos + 1L, event.eventId + 1, 0));
+            }
+        });
+    }
+
+    private void pushLocked(final Event event) {
+        synchronized (this.lockedEventsLock) {
+            this.lockedEvents.add(event);
+        }
+    }
+
+    private Event pollLocked() {
+        synchronized (this.lockedEventsLock) {
+            return this.lockedEvents.isEmpty() ? null : this.lockedEvents.removeFirst();
+        }
+    }
+}
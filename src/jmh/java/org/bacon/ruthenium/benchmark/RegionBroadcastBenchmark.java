@@ -0,0 +1,172 @@
+package org.bacon.ruthenium.benchmark;
+
+import it.unimi.dsi.fastutil.longs.Long2ReferenceOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.bacon.ruthenium.util.CoordinateUtil;
+import org.bacon.ruthenium.util.MpscRingBuffer;
+import org.bacon.ruthenium.world.SingleUserAreaMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of the two halves of {@code RegionNetworkManager} packet fan-out with {@value #PLAYERS}
+ * players spread over a 64x64 chunk region:
+ * <ul>
+ *   <li>{@code broadcast*}: picking recipients within {@value #DISTANCE} chunks of a packet by
+ *   scanning every player against the {@code NearbyPlayers}-style chunk buckets.</li>
+ *   <li>{@code queue*}: queueing {@value #PACKETS_PER_FLUSH} cross-region packets and flushing
+ *   them, comparing {@code computeIfAbsent} plus {@link ConcurrentLinkedQueue} against a plain
+ *   lookup plus a preallocated {@link MpscRingBuffer}.</li>
+ * </ul>
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegionBroadcastBenchmark {
+
+    private static final int PLAYERS = 500;
+    private static final int DISTANCE = 8;
+    private static final int BUCKET_DISTANCE = 10;
+    private static final int PACKETS_PER_FLUSH = 4096;
+    private static final Function<FakePlayer, ConcurrentLinkedQueue<Object>> NEW_QUEUE = ignored -> new ConcurrentLinkedQueue<>();
+    private static final Function<FakePlayer, MpscRingBuffer<Object>> NEW_RING = ignored -> new MpscRingBuffer<>(256);
+
+    private static final class FakePlayer {
+        final int chunkX;
+        final int chunkZ;
+
+        FakePlayer(final int chunkX, final int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+    }
+
+    private final class Tracker extends SingleUserAreaMap<FakePlayer> {
+
+        Tracker(final FakePlayer player) {
+            super(player);
+        }
+
+        @Override
+        protected void addCallback(final FakePlayer player, final int chunkX, final int chunkZ) {
+            RegionBroadcastBenchmark.this.byChunk
+                .computeIfAbsent(CoordinateUtil.getChunkKey(chunkX, chunkZ), ignored -> new ReferenceOpenHashSet<>())
+                .add(player);
+        }
+
+        @Override
+        protected void removeCallback(final FakePlayer player, final int chunkX, final int chunkZ) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private final List<FakePlayer> players = new ArrayList<>();
+    private final Long2ReferenceOpenHashMap<ReferenceOpenHashSet<FakePlayer>> byChunk = new Long2ReferenceOpenHashMap<>();
+    private final Object packet = new Object();
+    private int[] probeX;
+    private int[] probeZ;
+    private int probe;
+
+    private ConcurrentHashMap<FakePlayer, ConcurrentLinkedQueue<Object>> queues;
+    private ConcurrentHashMap<FakePlayer, MpscRingBuffer<Object>> rings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(1234L);
+        for (int i = 0; i < PLAYERS; ++i) {
+            final FakePlayer player = new FakePlayer(random.nextInt(64), random.nextInt(64));
+            this.players.add(player);
+            new Tracker(player).add(player.chunkX, player.chunkZ, BUCKET_DISTANCE);
+        }
+        this.probeX = new int[1024];
+        this.probeZ = new int[1024];
+        for (int i = 0; i < this.probeX.length; ++i) {
+            this.probeX[i] = random.nextInt(64);
+            this.probeZ[i] = random.nextInt(64);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetQueues() {
+        this.queues = new ConcurrentHashMap<>();
+        this.rings = new ConcurrentHashMap<>();
+    }
+
+    @Benchmark
+    public void broadcastLinearScan(final Blackhole blackhole) {
+        final int index = this.probe++ & (this.probeX.length - 1);
+        final int chunkX = this.probeX[index];
+        final int chunkZ = this.probeZ[index];
+        for (final FakePlayer player : this.players) {
+            if (Math.abs(player.chunkX - chunkX) <= DISTANCE && Math.abs(player.chunkZ - chunkZ) <= DISTANCE) {
+                blackhole.consume(player);
+            }
+        }
+    }
+
+    @Benchmark
+    public void broadcastChunkBuckets(final Blackhole blackhole) {
+        final int index = this.probe++ & (this.probeX.length - 1);
+        final int chunkX = this.probeX[index];
+        final int chunkZ = this.probeZ[index];
+        final ReferenceOpenHashSet<FakePlayer> nearby = this.byChunk.get(CoordinateUtil.getChunkKey(chunkX, chunkZ));
+        if (nearby == null) {
+            return;
+        }
+        for (final FakePlayer player : nearby) {
+            if (Math.abs(player.chunkX - chunkX) <= DISTANCE && Math.abs(player.chunkZ - chunkZ) <= DISTANCE) {
+                blackhole.consume(player);
+            }
+        }
+    }
+
+    @Benchmark
+    public void queueConcurrentLinkedQueue(final Blackhole blackhole) {
+        for (int i = 0; i < PACKETS_PER_FLUSH; ++i) {
+            this.queues.computeIfAbsent(this.players.get(i % PLAYERS), NEW_QUEUE).add(this.packet);
+        }
+        for (final FakePlayer player : this.players) {
+            final ConcurrentLinkedQueue<Object> queue = this.queues.get(player);
+            Object queued;
+            while ((queued = queue.poll()) != null) {
+                blackhole.consume(queued);
+            }
+        }
+    }
+
+    @Benchmark
+    public void queueRingBuffer(final Blackhole blackhole) {
+        for (int i = 0; i < PACKETS_PER_FLUSH; ++i) {
+            final FakePlayer player = this.players.get(i % PLAYERS);
+            MpscRingBuffer<Object> ring = this.rings.get(player);
+            if (ring == null) {
+                ring = this.rings.computeIfAbsent(player, NEW_RING);
+            }
+            ring.offer(this.packet);
+        }
+        for (final FakePlayer player : this.players) {
+            this.rings.get(player).drain(blackhole::consume);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.bacon.ruthenium.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bacon.ruthenium.region.RegionRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Random-tick position picks against the world random at 1, 4 and 16 threads: the previous
+ * per-instance {@link ThreadLocal} seed that also wrote the shared seed on every call, against a
+ * region-owned {@link RegionRandom} reached through the current thread. Each operation picks one
+ * block position (three 4-bit draws) per random-ticked section.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegionRandomBenchmark {
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long INCREMENT = 0xBL;
+    private static final long SEED_MASK = (1L << 48) - 1L;
+    private static final int SECTIONS_PER_OP = 24;
+
+    @State(Scope.Benchmark)
+    public static class SharedRandom {
+        final AtomicLong seed = new AtomicLong(42L);
+        final ThreadLocal<AtomicLong> threadSeed = ThreadLocal.withInitial(() -> new AtomicLong(this.seed.get()));
+
+        int next(final int bits) {
+            final AtomicLong local = this.threadSeed.get();
+            final long next = (local.get() * MULTIPLIER + INCREMENT) & SEED_MASK;
+            local.set(next);
+            this.seed.set(next);
+            return (int)(next >>> (48 - bits));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RegionOwned {
+        // Stands in for RegionTickThread#getCurrentRandom: one field read off the current thread
+        final RegionRandom random = new RegionRandom(Thread.currentThread().threadId());
+    }
+
+    private static int pickShared(final SharedRandom random) {
+        int acc = 0;
+        for (int i = 0; i < SECTIONS_PER_OP; ++i) {
+            acc += random.next(4) | random.next(4) << 4 | random.next(4) << 8;
+        }
+        return acc;
+    }
+
+    private static int pickRegion(final RegionOwned owned) {
+        final RegionRandom random = owned.random;
+        int acc = 0;
+        for (int i = 0; i < SECTIONS_PER_OP; ++i) {
+            acc += random.next(4) | random.next(4) << 4 | random.next(4) << 8;
+        }
+        return acc;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int threadLocalSharedSeed1(final SharedRandom random) {
+        return pickShared(random);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int threadLocalSharedSeed4(final SharedRandom random) {
+        return pickShared(random);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public int threadLocalSharedSeed16(final SharedRandom random) {
+        return pickShared(random);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int regionRandom1(final RegionOwned owned) {
+        return pickRegion(owned);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int regionRandom4(final RegionOwned owned) {
+        return pickRegion(owned);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public int regionRandom16(final RegionOwned owned) {
+        return pickRegion(owned);
+    }
+}
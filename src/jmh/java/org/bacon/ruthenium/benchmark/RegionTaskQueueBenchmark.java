@@ -0,0 +1,127 @@
+package org.bacon.ruthenium.benchmark;
+
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bacon.ruthenium.region.RegionTaskQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Enqueue and drain throughput of the region chunk task queue with 8 producer threads feeding one
+ * draining region thread: the previous monitor-guarded {@link LinkedList} against the lock-free
+ * {@link RegionTaskQueue}. Compare the per-group enqueue and drain scores. Producers back off while
+ * {@value #MAX_PENDING} tasks are outstanding so the queues stay bounded.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegionTaskQueueBenchmark {
+
+    private static final Runnable NOOP = () -> { };
+    private static final int DRAIN_BATCH = 256;
+    private static final int MAX_PENDING = 1 << 16;
+
+    @State(Scope.Group)
+    public static class LockedQueue {
+        final Deque<Object[]> tasks = new LinkedList<>();
+        final AtomicInteger pending = new AtomicInteger();
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            synchronized (this) {
+                this.tasks.clear();
+            }
+            this.pending.set(0);
+        }
+    }
+
+    @State(Scope.Group)
+    public static class LockFreeQueue {
+        RegionTaskQueue tasks;
+        final AtomicInteger pending = new AtomicInteger();
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.tasks = new RegionTaskQueue();
+            this.pending.set(0);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+        int chunkX;
+    }
+
+    @Benchmark
+    @Group("synchronizedLinkedList")
+    @GroupThreads(8)
+    public void lockedEnqueue(final LockedQueue queue, final Producer producer) {
+        awaitCapacity(queue.pending);
+        // Mirrors the old RegionChunkTask allocation plus the node allocated by LinkedList
+        final Object[] task = {producer.chunkX++, 0, NOOP};
+        synchronized (queue) {
+            queue.tasks.addLast(task);
+        }
+    }
+
+    @Benchmark
+    @Group("synchronizedLinkedList")
+    @GroupThreads(1)
+    public int lockedDrain(final LockedQueue queue, final Blackhole blackhole) {
+        int drained = 0;
+        while (drained < DRAIN_BATCH) {
+            final Object[] task;
+            synchronized (queue) {
+                task = queue.tasks.pollFirst();
+            }
+            if (task == null) {
+                break;
+            }
+            blackhole.consume(task);
+            ++drained;
+        }
+        queue.pending.addAndGet(-drained);
+        return drained;
+    }
+
+    @Benchmark
+    @Group("multiThreadedQueue")
+    @GroupThreads(8)
+    public void lockFreeEnqueue(final LockFreeQueue queue, final Producer producer) {
+        awaitCapacity(queue.pending);
+        queue.tasks.queueChunkTask(producer.chunkX++, 0, NOOP);
+    }
+
+    @Benchmark
+    @Group("multiThreadedQueue")
+    @GroupThreads(1)
+    public int lockFreeDrain(final LockFreeQueue queue, final Blackhole blackhole) {
+        final int drained = queue.tasks.drainChunkTasks(blackhole::consume, DRAIN_BATCH);
+        queue.pending.addAndGet(-drained);
+        return drained;
+    }
+
+    private static void awaitCapacity(final AtomicInteger pending) {
+        // Bounded so producers still finish their invocation once the drain thread has stopped
+        for (int spins = 0; pending.get() >= MAX_PENDING && spins < 4096; ++spins) {
+            Thread.onSpinWait();
+        }
+        pending.incrementAndGet();
+    }
+}
@@ -0,0 +1,41 @@
+package org.bacon.ruthenium.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.bacon.ruthenium.world.RegionTickPhaseProfiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-tick cost of the region phase profiler: timing and accumulating every phase once, then
+ * committing the tick into the histograms. Divide the score by the phase count for the per-phase
+ * overhead, which should stay below 100 ns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RegionTickPhaseProfilerBenchmark {
+
+    private static final RegionTickPhaseProfiler.Phase[] PHASES = RegionTickPhaseProfiler.Phase.values();
+
+    private final RegionTickPhaseProfiler profiler = new RegionTickPhaseProfiler();
+
+    @Benchmark
+    public RegionTickPhaseProfiler timeAndCommitTick() {
+        for (final RegionTickPhaseProfiler.Phase phase : PHASES) {
+            final long start = System.nanoTime();
+            this.profiler.add(phase, System.nanoTime() - start);
+        }
+        this.profiler.commitTick();
+        return this.profiler;
+    }
+}
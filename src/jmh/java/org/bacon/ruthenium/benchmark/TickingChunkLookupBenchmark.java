@@ -0,0 +1,81 @@
+package org.bacon.ruthenium.benchmark;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.bacon.ruthenium.util.CoordinateUtil;
+import org.bacon.ruthenium.util.FrozenLongSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-lookup cost of the ticking-chunk membership check used by region threads: the previous
+ * monitor-guarded {@link LongOpenHashSet} against the volatile {@link FrozenLongSet} snapshot.
+ * Run with several threads to see the monitor contention, e.g. {@code ./gradlew jmh -Pjmh.args="-t 8"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TickingChunkLookupBenchmark {
+
+    @Param({"1024", "16384"})
+    public int chunkCount;
+
+    private final Object chunkLock = new Object();
+    private LongOpenHashSet lockedSet;
+    private volatile FrozenLongSet frozenSet;
+    private long[] probes;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(1234L);
+        final int radius = (int)Math.ceil(Math.sqrt(this.chunkCount)) / 2;
+        this.lockedSet = new LongOpenHashSet(this.chunkCount);
+        for (int x = -radius; x < radius; ++x) {
+            for (int z = -radius; z < radius; ++z) {
+                this.lockedSet.add(CoordinateUtil.getChunkKey(x, z));
+            }
+        }
+        this.frozenSet = FrozenLongSet.copyOf(this.lockedSet);
+        // Probe a window twice the loaded width: roughly a quarter hits, the rest misses
+        this.probes = new long[4096];
+        for (int i = 0; i < this.probes.length; ++i) {
+            final int span = radius * 4;
+            this.probes[i] = CoordinateUtil.getChunkKey(random.nextInt(span) - span / 2, random.nextInt(span) - span / 2);
+        }
+    }
+
+    @Benchmark
+    public boolean synchronizedOpenHashSet(final Cursor cursor) {
+        final long key = this.probes[cursor.index++ & (this.probes.length - 1)];
+        synchronized (this.chunkLock) {
+            return this.lockedSet.contains(key);
+        }
+    }
+
+    @Benchmark
+    public boolean volatileFrozenSet(final Cursor cursor) {
+        final long key = this.probes[cursor.index++ & (this.probes.length - 1)];
+        return this.frozenSet.contains(key);
+    }
+}
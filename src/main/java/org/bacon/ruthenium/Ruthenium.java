@@ -3,6 +3,7 @@ package org.bacon.ruthenium;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.ObserverBlock;
@@ -17,11 +18,17 @@ import org.bacon.ruthenium.command.RutheniumDebugCommand;
 import org.bacon.ruthenium.config.RutheniumConfig;
 import org.bacon.ruthenium.config.RutheniumConfigManager;
 import org.bacon.ruthenium.debug.RegionDebug;
+import org.bacon.ruthenium.metrics.MetricsExporter;
+import org.bacon.ruthenium.metrics.MetricsRegistry;
 import org.bacon.ruthenium.region.RegionTickData;
 import org.bacon.ruthenium.region.RegionizerConfig;
 import org.bacon.ruthenium.region.ThreadedRegionizer;
 import org.bacon.ruthenium.region.ThreadedRegionizer.ThreadedRegion;
 import org.bacon.ruthenium.region.TickRegions;
+import org.bacon.ruthenium.world.MainThreadTickGuard;
+import org.bacon.ruthenium.world.RegionEntityTracker;
+import org.bacon.ruthenium.world.RegionScheduledTicks;
+import org.bacon.ruthenium.world.RegionTickMonitor;
 import org.bacon.ruthenium.world.RegionizedServerWorld;
 import org.bacon.ruthenium.world.TickRegionScheduler;
 
@@ -50,13 +57,25 @@ public final class Ruthenium implements ModInitializer {
             RutheniumDebugCommand.register(dispatcher);
         });
 
+        // Metric sources publish into the registry; exporters only run while a server is up
+        MetricsRegistry.getInstance().register("regions", RegionTickMonitor.getInstance());
+        MetricsRegistry.getInstance().register("mainThreadTickGuard", MainThreadTickGuard::collectMetrics);
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> MetricsExporter.start(CONFIG.metrics));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> MetricsExporter.stop());
+
         ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
             final ThreadedRegionizer<RegionTickData, RegionTickData.RegionSectionData> regionizer = requireRegionizer(world);
             final ChunkPos pos = chunk.getPos();
             regionizer.addChunk(pos.x, pos.z);
+            final RegionTickData.RegionSectionData sectionData = regionizer.getSectionDataForChunk(pos.x, pos.z);
+            if (sectionData != null) {
+                sectionData.setChunk(chunk);
+            }
             final ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region = regionizer.getRegionForChunk(pos.x, pos.z);
             if (region != null) {
                 region.getData().addChunk(pos.x, pos.z);
+                RegionEntityTracker.adoptParkedEntities(world, region, pos.x, pos.z);
+                RegionScheduledTicks.adoptParkedTicks(world, region, pos.x, pos.z);
                 LOGGER.debug("Registered chunk {} for region {} in world {}", pos, region.id, world.getRegistryKey().getValue());
             }
             scheduleObserverResetTicks(world, chunk);
@@ -65,6 +84,10 @@ public final class Ruthenium implements ModInitializer {
         ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
             final ThreadedRegionizer<RegionTickData, RegionTickData.RegionSectionData> regionizer = requireRegionizer(world);
             final ChunkPos pos = chunk.getPos();
+            final RegionTickData.RegionSectionData sectionData = regionizer.getSectionDataForChunk(pos.x, pos.z);
+            if (sectionData != null) {
+                sectionData.clearChunk(chunk);
+            }
             final ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region = regionizer.getRegionForChunk(pos.x, pos.z);
             if (region != null) {
                 region.getData().removeChunk(pos.x, pos.z);
@@ -101,6 +124,7 @@ public final class Ruthenium implements ModInitializer {
         final RutheniumConfig config = RutheniumConfigManager.reloadAndApply();
         CONFIG = config;
         TickRegionScheduler.applyConfigIfStarted(config);
+        MetricsExporter.applyConfigIfStarted(config.metrics);
         return config;
     }
 
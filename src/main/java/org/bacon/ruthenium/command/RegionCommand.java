@@ -9,11 +9,13 @@ import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import org.bacon.ruthenium.debug.RegionDebug;
 import org.bacon.ruthenium.region.RegionTickData;
 import org.bacon.ruthenium.region.ThreadedRegionizer;
 import org.bacon.ruthenium.region.ThreadedRegionizer.ThreadedRegion;
+import org.bacon.ruthenium.world.RegionTickPhaseProfiler;
 import org.bacon.ruthenium.world.RegionTickStats;
 import org.bacon.ruthenium.world.RegionizedServerWorld;
 
@@ -98,6 +100,7 @@ public final class RegionCommand {
                 }
                 sb.append(" - total regions: ").append(totalRegions.get()).append('\n');
                 sb.append(" - sections: ").append(sectionCount).append("  chunks: ").append(chunkCount).append('\n');
+                sb.append(" - entities: ").append(region.getData().getWorldData().getEntityCount()).append('\n');
                 if (stats == null || samples == 0) {
                     sb.append(" - TPS: (warming up)  MSPT: (no samples yet)\n");
                 } else {
@@ -105,6 +108,8 @@ public final class RegionCommand {
                       .append("  MSPT(avg): ").append(formatDouble(avgMspt))
                       .append("  last: ").append(formatDouble(lastMs))
                       .append("  min/max: ").append(formatDouble(minMs)).append("/").append(formatDouble(maxMs)).append('\n');
+                    sb.append(" - scheduling delay(avg): ").append(formatDouble(snapshot.averageSchedulingDelayMillis()))
+                      .append("ms  max: ").append(formatDouble(snapshot.maxSchedulingDelayMillis())).append("ms\n");
                 }
 
                 // basic queue state (no size available)
@@ -161,6 +166,42 @@ public final class RegionCommand {
                     )
                 )
             )
+            .then(literal("stats").executes(ctx -> {
+                final ServerCommandSource source = ctx.getSource();
+                final ServerWorld world = source.getWorld();
+                if (!(world instanceof RegionizedServerWorld regionized)) {
+                    source.sendError(Text.literal("World is not regionized."));
+                    return 0;
+                }
+
+                final ChunkPos chunk = new ChunkPos(BlockPos.ofFloored(source.getPosition()));
+                final ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region =
+                    regionized.ruthenium$getRegionizer().getRegionForChunk(chunk.x, chunk.z);
+                if (region == null) {
+                    source.sendError(Text.literal("No region owns chunk " + chunk.x + ", " + chunk.z + "."));
+                    return 0;
+                }
+
+                final List<RegionTickPhaseProfiler.PhaseSummary> summaries = region.getData().getPhaseProfiler().summarize();
+                final long samples = summaries.isEmpty() ? 0L : summaries.get(0).samples();
+                final StringBuilder sb = new StringBuilder(512);
+                sb.append("§6--- Region ").append(region.id).append(" tick phases (").append(samples).append(" ticks) ---§r\n");
+                if (samples == 0L) {
+                    sb.append("(no samples yet)");
+                } else {
+                    for (final RegionTickPhaseProfiler.PhaseSummary summary : summaries) {
+                        sb.append(summary.phase().id())
+                          .append(": mean=").append(formatDouble(summary.meanNanos() / 1_000_000.0D))
+                          .append(" p50=").append(formatDouble(summary.p50Nanos() / 1_000_000.0D))
+                          .append(" p99=").append(formatDouble(summary.p99Nanos() / 1_000_000.0D))
+                          .append(" max=").append(formatDouble(summary.maxNanos() / 1_000_000.0D))
+                          .append(" ms\n");
+                    }
+                }
+
+                source.sendFeedback(() -> Text.literal(sb.toString().stripTrailing()), false);
+                return 1;
+            }))
             .then(literal("list").executes(ctx -> {
                 final ServerCommandSource source = ctx.getSource();
                 final ServerWorld world = source.getWorld();
@@ -22,6 +22,7 @@ public final class RutheniumConfig {
     public Logging logging = new Logging();
     public Debug debug = new Debug();
     public Fallback fallback = new Fallback();
+    public Metrics metrics = new Metrics();
 
     public static RutheniumConfig defaults() {
         return new RutheniumConfig();
@@ -36,14 +37,28 @@ public final class RutheniumConfig {
         this.logging = Objects.requireNonNullElseGet(this.logging, Logging::new);
         this.debug = Objects.requireNonNullElseGet(this.debug, Debug::new);
         this.fallback = Objects.requireNonNullElseGet(this.fallback, Fallback::new);
+        this.metrics = Objects.requireNonNullElseGet(this.metrics, Metrics::new);
 
         this.regionizer.recalculationSectionCount = clampMin(this.regionizer.recalculationSectionCount, 1);
         this.regionizer.emptySectionCreationRadius = clampMin(this.regionizer.emptySectionCreationRadius, 0);
         this.regionizer.mergeRadius = clampMin(this.regionizer.mergeRadius, 0);
         this.regionizer.sectionChunkShift = clamp(this.regionizer.sectionChunkShift, 0, 10);
         this.regionizer.maxDeadSectionPercent = clampDouble(this.regionizer.maxDeadSectionPercent, 0.0D, 1.0D);
+        this.regionizer.costSplitMspt = clampDouble(this.regionizer.costSplitMspt, 0.0D, 1000.0D);
+        this.regionizer.costSplitCheckIntervalTicks = clampMin(this.regionizer.costSplitCheckIntervalTicks, 1);
 
         this.scheduler.threadCount = clampMin(this.scheduler.threadCount, -1);
+        this.scheduler.minThreadCount = clampMin(this.scheduler.minThreadCount, 1);
+        this.scheduler.maxThreadCount = this.scheduler.maxThreadCount == -1 ? -1 : clampMin(this.scheduler.maxThreadCount, 1);
+        this.scheduler.adaptiveWindowMillis = clampMin(this.scheduler.adaptiveWindowMillis, 100L);
+        if (!"backlog".equalsIgnoreCase(this.scheduler.schedulingPolicy)) {
+            this.scheduler.schedulingPolicy = "deadline";
+        } else {
+            this.scheduler.schedulingPolicy = "backlog";
+        }
+        this.scheduler.backlogWeight = clampDouble(this.scheduler.backlogWeight, 0.0D, 20.0D);
+        this.scheduler.regionCpuBudgetPercent = clamp(this.scheduler.regionCpuBudgetPercent, 0, 100);
+        this.scheduler.parallelRandomTickMinChunks = clampMin(this.scheduler.parallelRandomTickMinChunks, 1);
         this.scheduler.watchdogWarnSeconds = clampMin(this.scheduler.watchdogWarnSeconds, 1L);
         this.scheduler.watchdogCrashSeconds = clampMin(this.scheduler.watchdogCrashSeconds, 1L);
         this.scheduler.watchdogLogIntervalSeconds = clampMin(this.scheduler.watchdogLogIntervalSeconds, 1L);
@@ -54,6 +69,15 @@ public final class RutheniumConfig {
 
         this.scheduler.maxScheduledTicksPerRegion = clampMin(this.scheduler.maxScheduledTicksPerRegion, 1);
 
+        this.metrics.httpPort = clamp(this.metrics.httpPort, 0, 65535);
+        this.metrics.fileIntervalSeconds = clampMin(this.metrics.fileIntervalSeconds, 1L);
+        if (this.metrics.bindAddress == null || this.metrics.bindAddress.isBlank()) {
+            this.metrics.bindAddress = "127.0.0.1";
+        }
+        if (this.metrics.filePath == null) {
+            this.metrics.filePath = "";
+        }
+
         return this;
     }
 
@@ -64,6 +88,8 @@ public final class RutheniumConfig {
             .recalculationSectionCount(this.regionizer.recalculationSectionCount)
             .maxDeadSectionPercent(this.regionizer.maxDeadSectionPercent)
             .sectionChunkShift(this.regionizer.sectionChunkShift)
+            .costSplitMspt(this.regionizer.costSplitMspt)
+            .costSplitCheckInterval(this.regionizer.costSplitCheckIntervalTicks)
             .build();
     }
 
@@ -97,6 +123,15 @@ public final class RutheniumConfig {
         public int emptySectionCreationRadius = 1;
         public int mergeRadius = 1;
         public int sectionChunkShift = 4;
+
+        /**
+         * Rolling average MSPT above which a region is recalculated with empty buffer sections no
+         * longer bridging its chunk clusters, so hot clusters only joined through buffers split
+         * apart. Checked at most every {@link #costSplitCheckIntervalTicks} region ticks. Use 0
+         * to disable.
+         */
+        public double costSplitMspt = 0.0D;
+        public int costSplitCheckIntervalTicks = 200;
     }
 
     public static final class Scheduler {
@@ -105,6 +140,55 @@ public final class RutheniumConfig {
          */
         public int threadCount = -1;
 
+        /**
+         * Grows and shrinks the number of workers taking region ticks between
+         * {@link #minThreadCount} and {@link #maxThreadCount} based on measured load, starting
+         * from {@link #threadCount}.
+         */
+        public boolean adaptiveThreads = false;
+        public int minThreadCount = 1;
+
+        /**
+         * Upper bound for adaptive sizing. Use -1 for the number of available processors.
+         */
+        public int maxThreadCount = -1;
+        public long adaptiveWindowMillis = 2000L;
+
+        /**
+         * Order in which due region ticks are run: {@code "deadline"} runs the earliest scheduled
+         * start first, {@code "backlog"} additionally moves a region that needed catch-up ticks
+         * ahead by {@link #backlogWeight} ticks per tick it fell behind.
+         */
+        public String schedulingPolicy = "deadline";
+        public double backlogWeight = 1.0D;
+
+        /**
+         * Average share of one worker, in percent, a region may use before its ticks wait behind
+         * every due region within budget. Use 0 to disable.
+         */
+        public int regionCpuBudgetPercent = 0;
+
+        /**
+         * Samples random tick positions of regions with at least
+         * {@link #parallelRandomTickMinChunks} chunks on idle workers. The random ticks themselves
+         * still run on the region's thread.
+         *
+         * <p>This is not vanilla behaviour. Positions are sampled for every chunk before the
+         * first chunk ticks, so a block that becomes random-tickable earlier in the same tick
+         * misses the random tick vanilla could have given it, and the world random is consumed
+         * in a different order. Leave it off where random tick outcomes must match vanilla.</p>
+         */
+        public boolean parallelRandomTicks = false;
+        public int parallelRandomTickMinChunks = 1024;
+
+        /**
+         * Runs the chunk state step of every dimension (tickets, chunk holders, broadcasts and
+         * trackers) on its own thread at the start of the server tick and joins them before the rest
+         * of the tick. Each dimension budgets its chunk unloads on its own clock instead of the
+         * server-wide one. Global services and vanilla fallback ticks still run on the main thread.
+         */
+        public boolean parallelWorldOrchestration = false;
+
         public long watchdogWarnSeconds = 10L;
         public long watchdogCrashSeconds = 60L;
         public long watchdogLogIntervalSeconds = 5L;
@@ -141,6 +225,22 @@ public final class RutheniumConfig {
         public boolean assertMode = false;
     }
 
+    public static final class Metrics {
+        public boolean enabled = false;
+
+        /**
+         * Port serving OpenMetrics at {@code /metrics}. Use 0 to disable the endpoint.
+         */
+        public int httpPort = 0;
+        public String bindAddress = "127.0.0.1";
+
+        /**
+         * File periodically rewritten with the OpenMetrics text. Leave empty to disable.
+         */
+        public String filePath = "";
+        public long fileIntervalSeconds = 15L;
+    }
+
     private static int clampMin(final int value, final int min) {
         return Math.max(min, value);
     }
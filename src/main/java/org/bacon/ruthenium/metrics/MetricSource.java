@@ -0,0 +1,16 @@
+package org.bacon.ruthenium.metrics;
+
+/**
+ * Publishes metrics into a scrape. Implementations read their own counters (atomics, volatile
+ * snapshots or short private monitors) and must never take regionizer or region locks.
+ */
+@FunctionalInterface
+public interface MetricSource {
+
+    /**
+     * Writes the current values of this source's metrics.
+     *
+     * @param writer scrape output
+     */
+    void collect(OpenMetricsWriter writer);
+}
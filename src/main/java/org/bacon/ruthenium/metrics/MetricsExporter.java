@@ -0,0 +1,138 @@
+package org.bacon.ruthenium.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bacon.ruthenium.config.RutheniumConfig;
+
+/**
+ * Exposes {@link MetricsRegistry} scrapes as an OpenMetrics HTTP endpoint and/or a periodically
+ * rewritten text file. Both run on a dedicated daemon thread, never on region or server threads.
+ */
+public final class MetricsExporter {
+
+    private static final Logger LOGGER = LogManager.getLogger(MetricsExporter.class);
+
+    private static HttpServer httpServer;
+    private static ExecutorService httpExecutor;
+    private static ScheduledExecutorService fileWriter;
+    private static boolean started;
+
+    private MetricsExporter() {
+    }
+
+    /**
+     * Starts the exporters enabled in the configuration, replacing any running ones.
+     *
+     * @param config metrics configuration
+     */
+    public static synchronized void start(final RutheniumConfig.Metrics config) {
+        stop();
+        started = true;
+        if (config == null || !config.enabled) {
+            return;
+        }
+        if (config.httpPort > 0) {
+            try {
+                final HttpServer server = HttpServer.create(new InetSocketAddress(config.bindAddress, config.httpPort), 0);
+                server.createContext("/metrics", MetricsExporter::handleScrape);
+                final ExecutorService executor =
+                    Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "Ruthenium Metrics HTTP"));
+                server.setExecutor(executor);
+                server.start();
+                httpServer = server;
+                httpExecutor = executor;
+                LOGGER.info("Serving OpenMetrics on http://{}:{}/metrics", config.bindAddress, config.httpPort);
+            } catch (final IOException | RuntimeException exception) {
+                LOGGER.error("Failed to start metrics endpoint on {}:{}", config.bindAddress, config.httpPort, exception);
+            }
+        }
+        if (config.filePath != null && !config.filePath.isBlank()) {
+            final Path target = Path.of(config.filePath);
+            final ScheduledExecutorService executor =
+                Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "Ruthenium Metrics File"));
+            executor.scheduleWithFixedDelay(() -> writeFile(target), config.fileIntervalSeconds,
+                config.fileIntervalSeconds, TimeUnit.SECONDS);
+            fileWriter = executor;
+            LOGGER.info("Writing OpenMetrics to {} every {}s", target, config.fileIntervalSeconds);
+        }
+    }
+
+    /**
+     * Restarts the exporters with new configuration if they were started, used on config reload.
+     *
+     * @param config metrics configuration
+     */
+    public static synchronized void applyConfigIfStarted(final RutheniumConfig.Metrics config) {
+        if (started) {
+            start(config);
+        }
+    }
+
+    /**
+     * Stops every running exporter.
+     */
+    public static synchronized void stop() {
+        started = false;
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+        if (httpExecutor != null) {
+            httpExecutor.shutdownNow();
+            httpExecutor = null;
+        }
+        if (fileWriter != null) {
+            fileWriter.shutdownNow();
+            fileWriter = null;
+        }
+    }
+
+    private static void handleScrape(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1L);
+                return;
+            }
+            final byte[] body = MetricsRegistry.getInstance().scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", OpenMetricsWriter.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static void writeFile(final Path target) {
+        try {
+            final Path parent = target.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // Write beside the target and move into place so readers never see a partial scrape
+            final Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            Files.writeString(temp, MetricsRegistry.getInstance().scrape(), StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException | RuntimeException exception) {
+            LOGGER.warn("Failed to write metrics file {}", target, exception);
+        }
+    }
+
+    private static Thread daemon(final Runnable runnable, final String name) {
+        final Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,75 @@
+package org.bacon.ruthenium.metrics;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Process-wide registry of {@link MetricSource}s. Subsystems register a source under a stable key
+ * (re-registering replaces the previous source) and scrapes collect every source in key order.
+ */
+public final class MetricsRegistry {
+
+    private static final Logger LOGGER = LogManager.getLogger(MetricsRegistry.class);
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private final ConcurrentHashMap<String, MetricSource> sources = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+    }
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers or replaces the source published under {@code key}.
+     *
+     * @param key    stable source key
+     * @param source source to publish
+     */
+    public void register(final String key, final MetricSource source) {
+        this.sources.put(Objects.requireNonNull(key, "key"), Objects.requireNonNull(source, "source"));
+    }
+
+    /**
+     * Removes the source published under {@code key}, if any.
+     *
+     * @param key source key
+     */
+    public void unregister(final String key) {
+        this.sources.remove(key);
+    }
+
+    /**
+     * Collects every registered source into a single OpenMetrics exposition. A failing source is
+     * logged and skipped so one broken publisher cannot blank the whole scrape.
+     *
+     * @return OpenMetrics text
+     */
+    public String scrape() {
+        final OpenMetricsWriter writer = new OpenMetricsWriter();
+        final Map.Entry<String, MetricSource>[] entries = this.sortedSources();
+        for (final Map.Entry<String, MetricSource> entry : entries) {
+            // Collect into a scratch writer so a source failing part way never emits a torn family
+            final OpenMetricsWriter sourceWriter = new OpenMetricsWriter();
+            try {
+                entry.getValue().collect(sourceWriter);
+                writer.append(sourceWriter);
+            } catch (final Throwable throwable) {
+                LOGGER.warn("Metric source {} failed during scrape", entry.getKey(), throwable);
+            }
+        }
+        return writer.finish();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map.Entry<String, MetricSource>[] sortedSources() {
+        final Map.Entry<String, MetricSource>[] entries = this.sources.entrySet().toArray(new Map.Entry[0]);
+        Arrays.sort(entries, Map.Entry.comparingByKey());
+        return entries;
+    }
+}
@@ -0,0 +1,134 @@
+package org.bacon.ruthenium.metrics;
+
+import java.util.Objects;
+
+/**
+ * Minimal writer for the OpenMetrics text exposition format.
+ *
+ * <p>Callers declare a metric family with {@link #family(String, Type, String)} and then write its
+ * samples with {@link #sample(String, double, String...)}, keeping every sample of a family
+ * contiguous as the format requires. Metric names are emitted verbatim and should already carry
+ * the {@code ruthenium_} prefix.</p>
+ */
+public final class OpenMetricsWriter {
+
+    /** Content type served for scrapes. */
+    public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    /**
+     * OpenMetrics family types used by Ruthenium.
+     */
+    public enum Type {
+        COUNTER("counter"),
+        GAUGE("gauge"),
+        SUMMARY("summary");
+
+        private final String id;
+
+        Type(final String id) {
+            this.id = id;
+        }
+    }
+
+    private final StringBuilder out = new StringBuilder(4096);
+
+    /**
+     * Creates an empty writer.
+     */
+    public OpenMetricsWriter() {
+    }
+
+    /**
+     * Declares a metric family. Counter sample names must end in {@code _total}.
+     *
+     * @param name family name
+     * @param type family type
+     * @param help one-line description
+     * @return this writer
+     */
+    public OpenMetricsWriter family(final String name, final Type type, final String help) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(type, "type");
+        this.out.append("# TYPE ").append(name).append(' ').append(type.id).append('\n');
+        if (help != null && !help.isEmpty()) {
+            this.out.append("# HELP ").append(name).append(' ');
+            appendEscaped(this.out, help, false);
+            this.out.append('\n');
+        }
+        return this;
+    }
+
+    /**
+     * Writes one sample.
+     *
+     * @param name   sample name
+     * @param value  sample value
+     * @param labels alternating label names and values
+     * @return this writer
+     */
+    public OpenMetricsWriter sample(final String name, final double value, final String... labels) {
+        Objects.requireNonNull(name, "name");
+        if ((labels.length & 1) != 0) {
+            throw new IllegalArgumentException("labels must be name/value pairs");
+        }
+        this.out.append(name);
+        if (labels.length > 0) {
+            this.out.append('{');
+            for (int i = 0; i < labels.length; i += 2) {
+                if (i > 0) {
+                    this.out.append(',');
+                }
+                this.out.append(labels[i]).append("=\"");
+                appendEscaped(this.out, labels[i + 1], true);
+                this.out.append('"');
+            }
+            this.out.append('}');
+        }
+        this.out.append(' ').append(formatValue(value)).append('\n');
+        return this;
+    }
+
+    /**
+     * Appends everything written to another writer so far.
+     *
+     * @param other writer whose samples to append
+     */
+    void append(final OpenMetricsWriter other) {
+        this.out.append(other.out);
+    }
+
+    /**
+     * Terminates the exposition and returns it.
+     *
+     * @return the full OpenMetrics text
+     */
+    public String finish() {
+        this.out.append("# EOF\n");
+        return this.out.toString();
+    }
+
+    private static String formatValue(final double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0.0D ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1.0E15D) {
+            return Long.toString((long)value);
+        }
+        return Double.toString(value);
+    }
+
+    private static void appendEscaped(final StringBuilder builder, final String value, final boolean escapeQuotes) {
+        for (int i = 0, len = value.length(); i < len; ++i) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '"' -> builder.append(escapeQuotes ? "\\\"" : "\"");
+                default -> builder.append(c);
+            }
+        }
+    }
+}
@@ -4,7 +4,9 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import net.minecraft.util.math.random.CheckedRandom;
 import net.minecraft.util.math.random.GaussianGenerator;
-import net.minecraft.util.math.random.Random;
+import org.bacon.ruthenium.region.RegionRandom;
+import org.bacon.ruthenium.world.RegionLocalRandom;
+import org.bacon.ruthenium.world.RegionTickThread;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -15,11 +17,17 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 /**
- * Allows {@link CheckedRandom} to operate on multiple threads by giving each thread an independent
- * pseudo-random state and gaussian generator cache.
+ * Allows {@link CheckedRandom} to operate on multiple threads.
+ *
+ * <p>Generators flagged as region local (the world random) are served from the ticking region's
+ * {@link RegionRandom} on region threads, so region threads never touch the shared seed. All other
+ * uses advance the shared seed with a compare-and-set loop instead of vanilla's ownership check,
+ * which would otherwise crash when a generator is used from several threads; concurrent callers
+ * each get their own step of the sequence. The shared gaussian generator is guarded by its own
+ * monitor for the same reason.</p>
  */
 @Mixin(CheckedRandom.class)
-public abstract class CheckedRandomMixin {
+public abstract class CheckedRandomMixin implements RegionLocalRandom {
 
     /**
      * Mixin initialization hook required by the Mixin framework.
@@ -35,53 +43,59 @@ public abstract class CheckedRandomMixin {
     @Shadow @Final private GaussianGenerator gaussianGenerator;
 
     @Unique
-    private ThreadLocal<AtomicLong> ruthenium$threadSeed;
+    private boolean ruthenium$regionLocal;
 
-    @Unique
-    private ThreadLocal<GaussianGenerator> ruthenium$threadGaussian;
-
-    @Unique
-    private ThreadLocal<AtomicLong> ruthenium$getThreadSeed() {
-        ThreadLocal<AtomicLong> threadLocal = this.ruthenium$threadSeed;
-        if (threadLocal == null) {
-            threadLocal = ThreadLocal.withInitial(() -> new AtomicLong(this.seed.get()));
-            this.ruthenium$threadSeed = threadLocal;
-        }
-        return threadLocal;
+    @Override
+    public void ruthenium$setRegionLocal(final boolean regionLocal) {
+        this.ruthenium$regionLocal = regionLocal;
     }
 
     @Unique
-    private ThreadLocal<GaussianGenerator> ruthenium$getThreadGaussian() {
-        ThreadLocal<GaussianGenerator> threadLocal = this.ruthenium$threadGaussian;
-        if (threadLocal == null) {
-            threadLocal = ThreadLocal.withInitial(() -> new GaussianGenerator((Random)(Object)this));
-            this.ruthenium$threadGaussian = threadLocal;
-        }
-        return threadLocal;
+    private RegionRandom ruthenium$regionRandom() {
+        return this.ruthenium$regionLocal ? RegionTickThread.getCurrentRandom() : null;
     }
 
     @Inject(method = "setSeed(J)V", at = @At("HEAD"), cancellable = true)
     private void ruthenium$setSeed(final long seed, final CallbackInfo ci) {
-        final long maskedSeed = (seed ^ MULTIPLIER) & SEED_MASK;
-        this.seed.set(maskedSeed);
-        this.ruthenium$getThreadSeed().get().set(maskedSeed);
-        this.gaussianGenerator.reset();
-        this.ruthenium$getThreadGaussian().get().reset();
+        final RegionRandom regionRandom = this.ruthenium$regionRandom();
+        if (regionRandom != null) {
+            regionRandom.setSeed(seed);
+        } else {
+            this.seed.set((seed ^ MULTIPLIER) & SEED_MASK);
+            synchronized (this.gaussianGenerator) {
+                this.gaussianGenerator.reset();
+            }
+        }
         ci.cancel();
     }
 
     @Inject(method = "next(I)I", at = @At("HEAD"), cancellable = true)
     private void ruthenium$next(final int bits, final CallbackInfoReturnable<Integer> cir) {
-        final AtomicLong threadSeed = this.ruthenium$getThreadSeed().get();
-        final long current = threadSeed.get();
-        final long next = (current * MULTIPLIER + INCREMENT) & SEED_MASK;
-        threadSeed.set(next);
-        this.seed.set(next);
+        final RegionRandom regionRandom = this.ruthenium$regionRandom();
+        if (regionRandom != null) {
+            cir.setReturnValue(regionRandom.next(bits));
+            return;
+        }
+        // Only threads outside any region (or non region-local generators) write the shared seed
+        long current;
+        long next;
+        do {
+            current = this.seed.get();
+            next = (current * MULTIPLIER + INCREMENT) & SEED_MASK;
+        } while (!this.seed.compareAndSet(current, next));
         cir.setReturnValue((int)(next >>> (48 - bits)));
     }
 
     @Inject(method = "nextGaussian()D", at = @At("HEAD"), cancellable = true)
     private void ruthenium$nextGaussian(final CallbackInfoReturnable<Double> cir) {
-        cir.setReturnValue(this.ruthenium$getThreadGaussian().get().next());
+        final RegionRandom regionRandom = this.ruthenium$regionRandom();
+        if (regionRandom != null) {
+            cir.setReturnValue(regionRandom.nextGaussian());
+            return;
+        }
+        // Vanilla's generator caches the second value of each pair in plain fields
+        synchronized (this.gaussianGenerator) {
+            cir.setReturnValue(this.gaussianGenerator.next());
+        }
     }
 }
@@ -0,0 +1,27 @@
+package org.bacon.ruthenium.mixin;
+
+import net.minecraft.entity.Entity;
+import org.bacon.ruthenium.mixin.accessor.EntityTrackerAccessor;
+import org.bacon.ruthenium.world.RegionTrackedEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Stores each entity's tracker on the entity, mirroring Folia's {@code moonrise$getTrackedEntity}.
+ */
+@Mixin(Entity.class)
+public abstract class EntityTrackerHolderMixin implements RegionTrackedEntity {
+
+    @Unique
+    private volatile EntityTrackerAccessor ruthenium$entityTracker;
+
+    @Override
+    public EntityTrackerAccessor ruthenium$getEntityTracker() {
+        return this.ruthenium$entityTracker;
+    }
+
+    @Override
+    public void ruthenium$setEntityTracker(final EntityTrackerAccessor tracker) {
+        this.ruthenium$entityTracker = tracker;
+    }
+}
@@ -7,17 +7,24 @@ import java.util.function.LongPredicate;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.chunk.light.LevelPropagator;
 import net.minecraft.world.chunk.light.PendingUpdateQueue;
+import org.bacon.ruthenium.util.LevelUpdateBatch;
+import org.bacon.ruthenium.world.RegionizedServer;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 
 /**
  * Makes LevelPropagator thread-safe by serializing access to the shared pending update structures.
  *
- * Vanilla's lighting propagators were written assuming single-threaded access. With region threads
- * ticking and mutating blocks concurrently, multiple threads can touch {@code pendingUpdates} and
- * {@code pendingUpdateQueue}, leading to corruption in the underlying fastutil maps/sets.
+ * Vanilla's level propagators (ticket, player and simulation distance) were written assuming
+ * single-threaded access. With region threads ticking concurrently, multiple threads can touch
+ * {@code pendingUpdates} and {@code pendingUpdateQueue}, leading to corruption in the underlying
+ * fastutil maps/sets. Region threads do not take the monitor for level updates: they append them
+ * to a lock-free batch that whoever next applies pending updates drains first, sorted by position.
+ * Everything else touching the pending structures runs under the monitor, which also guards the
+ * {@link PendingUpdateQueue}.
  */
 @Mixin(LevelPropagator.class)
 public abstract class LevelPropagatorMixin {
@@ -37,6 +44,9 @@ public abstract class LevelPropagatorMixin {
     @Shadow
     private volatile boolean hasPendingUpdates;
 
+    @Unique
+    private final LevelUpdateBatch ruthenium$regionUpdates = new LevelUpdateBatch(4096);
+
     @Shadow
     private int calculateLevel(int a, int b) {
         throw new AssertionError();
@@ -69,12 +79,13 @@ public abstract class LevelPropagatorMixin {
     @Overwrite
     protected void removePendingUpdate(final long id) {
         synchronized (this) {
+            this.ruthenium$applyRegionUpdates();
             final int pendingLevel = this.pendingUpdates.remove(id) & 255;
             if (pendingLevel != 255) {
                 final int currentLevel = this.getLevel(id);
                 final int queueLevel = this.calculateLevel(currentLevel, pendingLevel);
                 this.pendingUpdateQueue.remove(id, queueLevel, this.levelCount);
-                this.hasPendingUpdates = !this.pendingUpdateQueue.isEmpty();
+                this.ruthenium$refreshHasPendingUpdates();
             }
         }
     }
@@ -86,6 +97,7 @@ public abstract class LevelPropagatorMixin {
     @Overwrite
     public void removePendingUpdateIf(final LongPredicate predicate) {
         synchronized (this) {
+            this.ruthenium$applyRegionUpdates();
             final LongList idsToRemove = new LongArrayList();
             this.pendingUpdates.keySet().forEach(id -> {
                 if (predicate.test(id)) {
@@ -109,13 +121,21 @@ public abstract class LevelPropagatorMixin {
 
     /**
      * @author Ruthenium
-     * @reason Serialize access to pendingUpdates/pendingUpdateQueue.
+     * @reason Queue region thread updates without locking; serialize access to pendingUpdates/pendingUpdateQueue.
      */
     @Overwrite
     protected void updateLevel(final long sourceId, final long id, final int level, final boolean decrease) {
+        if (RegionizedServer.isOnRegionThread() && !Thread.holdsLock(this)
+            && this.ruthenium$regionUpdates.offer(sourceId, id, level, decrease)) {
+            // Queued before the flag is raised, see ruthenium$refreshHasPendingUpdates
+            this.hasPendingUpdates = true;
+            return;
+        }
         synchronized (this) {
+            // Keep updates for the same position in the order they were requested
+            this.ruthenium$applyRegionUpdates();
             this.updateLevel(sourceId, id, level, this.getLevel(id), this.pendingUpdates.get(id) & 255, decrease);
-            this.hasPendingUpdates = !this.pendingUpdateQueue.isEmpty();
+            this.ruthenium$refreshHasPendingUpdates();
         }
     }
 
@@ -161,7 +181,9 @@ public abstract class LevelPropagatorMixin {
     @Overwrite
     protected final int applyPendingUpdates(final int maxSteps) {
         synchronized (this) {
+            this.ruthenium$applyRegionUpdates();
             if (this.pendingUpdateQueue.isEmpty()) {
+                this.ruthenium$refreshHasPendingUpdates();
                 return maxSteps;
             }
 
@@ -186,7 +208,7 @@ public abstract class LevelPropagatorMixin {
                 }
             }
 
-            this.hasPendingUpdates = !this.pendingUpdateQueue.isEmpty();
+            this.ruthenium$refreshHasPendingUpdates();
             return remainingSteps;
         }
     }
@@ -198,7 +220,29 @@ public abstract class LevelPropagatorMixin {
     @Overwrite
     public int getPendingUpdateCount() {
         synchronized (this) {
+            this.ruthenium$applyRegionUpdates();
             return this.pendingUpdates.size();
         }
     }
+
+    /**
+     * Applies the updates queued by region threads. Must hold the monitor.
+     */
+    @Unique
+    private void ruthenium$applyRegionUpdates() {
+        this.ruthenium$regionUpdates.drainSorted((sourceId, id, level, decrease) ->
+            this.updateLevel(sourceId, id, level, this.getLevel(id), this.pendingUpdates.get(id) & 255, decrease));
+    }
+
+    /**
+     * Recomputes {@code hasPendingUpdates}. The batch is checked after the write so that an update
+     * queued concurrently either sees its own flag survive or is seen here.
+     */
+    @Unique
+    private void ruthenium$refreshHasPendingUpdates() {
+        this.hasPendingUpdates = !this.pendingUpdateQueue.isEmpty();
+        if (!this.ruthenium$regionUpdates.isEmpty()) {
+            this.hasPendingUpdates = true;
+        }
+    }
 }
@@ -60,6 +60,14 @@ public abstract class MinecraftServerMixin {
         MainThreadTickGuard.assertOrchestratorOnly((MinecraftServer)(Object)this);
     }
 
+    /**
+     * Runs every dimension's chunk state step in parallel before the world loop when enabled.
+     */
+    @Inject(method = "tickWorlds", at = @At("HEAD"))
+    private void ruthenium$orchestrateWorldsInParallel(final BooleanSupplier shouldKeepTicking, final CallbackInfo ci) {
+        TickRegionScheduler.getInstance().orchestrateWorlds(((MinecraftServer)(Object)this).getWorlds(), shouldKeepTicking);
+    }
+
     /**
      * Intercepts world tick calls to ensure scheduler orchestration.
      * The main thread should ONLY call TickRegionScheduler.tickWorld(), never vanilla tick directly.
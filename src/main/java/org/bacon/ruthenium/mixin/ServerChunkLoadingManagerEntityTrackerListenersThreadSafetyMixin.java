@@ -1,11 +1,15 @@
 package org.bacon.ruthenium.mixin;
 
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.Set;
 import net.minecraft.server.network.PlayerAssociatedNetworkHandler;
-import net.minecraft.server.world.ServerChunkLoadingManager;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 
@@ -15,12 +19,17 @@ import org.spongepowered.asm.mixin.injection.Redirect;
  * Region threads frequently send packets (iteration) while the orchestrator updates tracking
  * status (mutation), which can throw {@link java.util.ConcurrentModificationException}.
  *
- * This mixin snapshots the listener set for iteration and synchronizes mutations against the
- * same monitor (the set instance).
+ * This mixin snapshots the listener set for iteration and runs every method that mutates it
+ * while holding the same monitor (the set instance), which region threads also take when they
+ * read the set.
  */
 @Mixin(targets = "net.minecraft.server.world.ServerChunkLoadingManager$EntityTracker")
 public abstract class ServerChunkLoadingManagerEntityTrackerListenersThreadSafetyMixin {
 
+    @Shadow
+    @Final
+    private Set<PlayerAssociatedNetworkHandler> listeners;
+
     @Redirect(
         method = {"sendToListeners", "sendToSelfAndListeners", "sendToListenersIf", "stopTracking"},
         at = @At(value = "INVOKE", target = "Ljava/util/Set;iterator()Ljava/util/Iterator;")
@@ -31,44 +40,26 @@ public abstract class ServerChunkLoadingManagerEntityTrackerListenersThreadSafet
         }
     }
 
-    @Redirect(
-        method = {"updateTrackedStatus(Lnet/minecraft/server/network/ServerPlayerEntity;)V"},
-        at = @At(value = "INVOKE", target = "Ljava/util/Set;add(Ljava/lang/Object;)Z")
-    )
-    private boolean ruthenium$lockListenerAdd(final Set<PlayerAssociatedNetworkHandler> set, final Object value) {
-        synchronized (set) {
-            return set.add((PlayerAssociatedNetworkHandler)value);
-        }
-    }
-
-    @Redirect(
-        method = {"stopTracking(Lnet/minecraft/server/network/ServerPlayerEntity;)V"},
-        at = @At(value = "INVOKE", target = "Ljava/util/Set;remove(Ljava/lang/Object;)Z")
-    )
-    private boolean ruthenium$lockListenerRemove(final Set<PlayerAssociatedNetworkHandler> set, final Object value) {
-        synchronized (set) {
-            return set.remove(value);
-        }
-    }
-
-    @Redirect(
-        method = {"stopTracking(Lnet/minecraft/server/network/ServerPlayerEntity;)V"},
-        at = @At(value = "INVOKE", target = "Ljava/util/Set;isEmpty()Z")
-    )
-    private boolean ruthenium$lockListenerIsEmpty(final Set<?> set) {
-        synchronized (set) {
-            return set.isEmpty();
+    /**
+     * Holds the listener monitor across each vanilla writer, so the membership check and the
+     * matching start or stop packets happen as one step. This covers the region tracker tick as
+     * well as the main thread paths at disconnect ({@code unloadEntity} calls both
+     * {@code stopTracking} overloads).
+     */
+    @WrapMethod(method = {
+        "updateTrackedStatus(Lnet/minecraft/server/network/ServerPlayerEntity;)V",
+        "stopTracking(Lnet/minecraft/server/network/ServerPlayerEntity;)V"
+    })
+    private void ruthenium$lockListenerWriter(final ServerPlayerEntity player, final Operation<Void> original) {
+        synchronized (this.listeners) {
+            original.call(player);
         }
     }
 
-    @Redirect(
-        method = {"updateTrackedStatus(Lnet/minecraft/server/network/ServerPlayerEntity;)V"},
-        at = @At(value = "INVOKE", target = "Ljava/util/Set;size()I")
-    )
-    private int ruthenium$lockListenerSize(final Set<?> set) {
-        synchronized (set) {
-            return set.size();
+    @WrapMethod(method = "stopTracking()V")
+    private void ruthenium$lockStopTrackingAll(final Operation<Void> original) {
+        synchronized (this.listeners) {
+            original.call();
         }
     }
 }
-
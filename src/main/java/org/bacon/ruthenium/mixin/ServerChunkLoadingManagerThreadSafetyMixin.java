@@ -3,6 +3,8 @@ package org.bacon.ruthenium.mixin;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectCollection;
+import org.bacon.ruthenium.mixin.accessor.EntityTrackerAccessor;
+import org.bacon.ruthenium.world.RegionTrackedEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -22,7 +24,7 @@ public abstract class ServerChunkLoadingManagerThreadSafetyMixin {
     }
 
     @Redirect(
-        method = {"updatePosition", "loadEntity", "unloadEntity", "tickEntityMovement", "forEachEntityTrackedBy"},
+        method = {"updatePosition", "loadEntity", "unloadEntity", "forEachEntityTrackedBy"},
         at = @At(value = "INVOKE", target = "Lit/unimi/dsi/fastutil/ints/Int2ObjectMap;values()Lit/unimi/dsi/fastutil/objects/ObjectCollection;")
     )
     private ObjectCollection<?> ruthenium$lockEntityTrackerValues(final Int2ObjectMap<?> map) {
@@ -45,6 +47,9 @@ public abstract class ServerChunkLoadingManagerThreadSafetyMixin {
     )
     private Object ruthenium$lockEntityTrackerPut(final Int2ObjectMap<Object> map, final int key, final Object value) {
         synchronized (this.ruthenium$entityTrackerLock) {
+            final EntityTrackerAccessor tracker = (EntityTrackerAccessor)value;
+            // The owning region ticks the tracker through its entity, see RegionizedWorldData.tickEntityTrackers
+            ((RegionTrackedEntity)tracker.ruthenium$getEntity()).ruthenium$setEntityTracker(tracker);
             return map.put(key, value);
         }
     }
@@ -55,7 +60,11 @@ public abstract class ServerChunkLoadingManagerThreadSafetyMixin {
     )
     private Object ruthenium$lockEntityTrackerRemove(final Int2ObjectMap<Object> map, final int key) {
         synchronized (this.ruthenium$entityTrackerLock) {
-            return map.remove(key);
+            final Object removed = map.remove(key);
+            if (removed != null) {
+                ((RegionTrackedEntity)((EntityTrackerAccessor)removed).ruthenium$getEntity()).ruthenium$setEntityTracker(null);
+            }
+            return removed;
         }
     }
 
@@ -6,8 +6,16 @@ import java.util.Set;
 
 import net.minecraft.server.world.ChunkHolder;
 import net.minecraft.server.world.ServerChunkManager;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.profiler.Profiler;
 
+import org.bacon.ruthenium.region.RegionTickData;
+import org.bacon.ruthenium.region.ThreadedRegionizer;
+import org.bacon.ruthenium.world.RegionizedWorldData;
+import org.bacon.ruthenium.world.TickRegionScheduler;
+import org.bacon.ruthenium.world.WorldChunkBroadcasts;
+
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -18,23 +26,73 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(ServerChunkManager.class)
-public abstract class ServerChunkManagerBroadcastSetThreadSafetyMixin {
+public abstract class ServerChunkManagerBroadcastSetThreadSafetyMixin implements WorldChunkBroadcasts {
 
     @Final
     @Shadow
     private Set<ChunkHolder> chunksToBroadcastUpdate;
 
+    @Shadow
+    @Final
+    ServerWorld world;
+
     @Unique
     private final Object ruthenium$chunkHolderBroadcastLock = new Object();
 
     @Unique
     private List<ChunkHolder> ruthenium$chunkHolderBroadcastSnapshot;
 
+    /**
+     * Routes a dirty chunk holder to the current region's broadcast set when the calling thread is
+     * ticking the region that owns the chunk. The region flushes those holders itself, so they never
+     * reach the world-wide set that requires the chunk write lock.
+     */
+    @Unique
+    private boolean ruthenium$tryQueueRegionBroadcast(final ChunkHolder holder) {
+        if (TickRegionScheduler.getCurrentWorld() != this.world) {
+            return false;
+        }
+        final ThreadedRegionizer.ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region =
+            TickRegionScheduler.getCurrentRegion();
+        final RegionizedWorldData regionData = TickRegionScheduler.getCurrentWorldData();
+        if (region == null || regionData == null) {
+            return false;
+        }
+        final ChunkPos pos = holder.getPos();
+        if (!region.containsChunk(pos.x, pos.z)) {
+            return false;
+        }
+        regionData.markChunkHolderForBroadcast(holder);
+        return true;
+    }
+
+    @Override
+    public void ruthenium$queueWorldBroadcast(final ChunkHolder holder) {
+        synchronized (this.ruthenium$chunkHolderBroadcastLock) {
+            this.chunksToBroadcastUpdate.add(holder);
+        }
+    }
+
+    @Override
+    public List<ChunkHolder> ruthenium$drainWorldBroadcasts() {
+        synchronized (this.ruthenium$chunkHolderBroadcastLock) {
+            if (this.chunksToBroadcastUpdate.isEmpty()) {
+                return List.of();
+            }
+            final List<ChunkHolder> drained = new ArrayList<>(this.chunksToBroadcastUpdate);
+            this.chunksToBroadcastUpdate.clear();
+            return drained;
+        }
+    }
+
     @Redirect(
         method = "markForUpdate(Lnet/minecraft/util/math/BlockPos;)V",
         at = @At(value = "INVOKE", target = "Ljava/util/Set;add(Ljava/lang/Object;)Z")
     )
     private boolean ruthenium$lockChunkHolderBroadcastAddFromBlockPos(final Set<ChunkHolder> set, final Object value) {
+        if (this.ruthenium$tryQueueRegionBroadcast((ChunkHolder) value)) {
+            return true;
+        }
         synchronized (this.ruthenium$chunkHolderBroadcastLock) {
             return set.add((ChunkHolder) value);
         }
@@ -45,6 +103,9 @@ public abstract class ServerChunkManagerBroadcastSetThreadSafetyMixin {
         at = @At(value = "INVOKE", target = "Ljava/util/Set;add(Ljava/lang/Object;)Z")
     )
     private boolean ruthenium$lockChunkHolderBroadcastAddFromChunkHolder(final Set<ChunkHolder> set, final Object value) {
+        if (this.ruthenium$tryQueueRegionBroadcast((ChunkHolder) value)) {
+            return true;
+        }
         synchronized (this.ruthenium$chunkHolderBroadcastLock) {
             return set.add((ChunkHolder) value);
         }
@@ -15,6 +15,10 @@ import net.minecraft.world.chunk.ChunkStatus;
 import net.minecraft.world.chunk.EmptyChunk;
 import net.minecraft.world.chunk.WorldChunk;
 import org.bacon.ruthenium.mixin.accessor.ServerChunkLoadingManagerAccessor;
+import org.bacon.ruthenium.region.RegionOwnershipSnapshot;
+import org.bacon.ruthenium.region.RegionTickData;
+import org.bacon.ruthenium.world.RegionChunkRequests;
+import org.bacon.ruthenium.world.RegionizedServerWorld;
 import org.bacon.ruthenium.world.TickRegionScheduler;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -42,6 +46,11 @@ public abstract class ServerChunkManagerMixin {
     @Unique
     private volatile RegistryEntry<Biome> ruthenium$fallbackBiome;
 
+    @Unique
+    private RegionChunkRequests ruthenium$getChunkRequests() {
+        return ((RegionizedServerWorld)this.world).ruthenium$getWorldRegionData().getChunkRequests();
+    }
+
     @Unique
     private RegistryEntry<Biome> ruthenium$getFallbackBiome() {
         RegistryEntry<Biome> cached = this.ruthenium$fallbackBiome;
@@ -66,6 +75,17 @@ public abstract class ServerChunkManagerMixin {
             return;
         }
 
+        // Chunks of the running region resolve from the section chunk cache in a few array loads
+        final RegionOwnershipSnapshot ownership = TickRegionScheduler.getCurrentOwnership();
+        if (ownership != null && ownership.getRegion().regioniser.world == this.world
+            && ownership.getSectionDataForChunk(chunkX, chunkZ) instanceof RegionTickData.RegionSectionData sectionData) {
+            final WorldChunk cached = sectionData.getChunk(chunkX, chunkZ);
+            if (cached != null) {
+                cir.setReturnValue(cached);
+                return;
+            }
+        }
+
         final ServerWorld currentWorld = TickRegionScheduler.getCurrentWorld();
         if (currentWorld != this.world) {
             return;
@@ -111,13 +131,18 @@ public abstract class ServerChunkManagerMixin {
             //
             // Some vanilla code (notably chunk ticking) calls World.getChunk(..., create=true)
             // and will throw if it receives null. Return an EmptyChunk as a safe, non-blocking
-            // placeholder in that case.
+            // placeholder in that case, and have the orchestrator load the chunk in the background.
+            if (create) {
+                this.ruthenium$getChunkRequests().prefetch(chunkX, chunkZ, leastStatus);
+            }
             cir.setReturnValue(create ? this.ruthenium$createEmptyChunk(chunkX, chunkZ) : null);
             return;
         }
 
         final Chunk chunk = holder.getOrNull(leastStatus);
         if (chunk != null) {
+            // A prefetch that loaded this chunk can drop its ticket now that a region has it
+            this.ruthenium$getChunkRequests().markTaken(chunkX, chunkZ);
             cir.setReturnValue(chunk);
             return;
         }
@@ -125,6 +150,9 @@ public abstract class ServerChunkManagerMixin {
         // If the chunk isn't already present at the requested status, avoid forcing a sync load
         // on the main thread. For create=true callers, provide an EmptyChunk to prevent
         // IllegalStateException("Should always be able to create a chunk!").
+        if (create) {
+            this.ruthenium$getChunkRequests().prefetch(chunkX, chunkZ, leastStatus);
+        }
         cir.setReturnValue(create ? this.ruthenium$createEmptyChunk(chunkX, chunkZ) : null);
     }
 }
@@ -0,0 +1,31 @@
+package org.bacon.ruthenium.mixin;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
+import org.bacon.ruthenium.world.RegionEntityTracker;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Feeds the per-region entity index from the world's entity tracking callbacks, mirroring Folia's
+ * {@code addEntityCallback}/{@code removeEntityCallback} hooks.
+ */
+@Mixin(targets = "net.minecraft.server.world.ServerWorld$ServerEntityHandler")
+public abstract class ServerEntityHandlerMixin {
+
+    @Inject(method = "startTracking(Lnet/minecraft/entity/Entity;)V", at = @At("TAIL"))
+    private void ruthenium$indexTrackedEntity(final Entity entity, final CallbackInfo ci) {
+        if (entity.getEntityWorld() instanceof ServerWorld world) {
+            RegionEntityTracker.onTrackingStart(world, entity);
+        }
+    }
+
+    @Inject(method = "stopTracking(Lnet/minecraft/entity/Entity;)V", at = @At("TAIL"))
+    private void ruthenium$unindexTrackedEntity(final Entity entity, final CallbackInfo ci) {
+        if (entity.getEntityWorld() instanceof ServerWorld world) {
+            RegionEntityTracker.onTrackingEnd(world, entity);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.bacon.ruthenium.mixin;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.entity.EntityLike;
+import org.bacon.ruthenium.world.RegionEntityTracker;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Keeps the per-region entity index in sync when an entity moves into a different entity section
+ * column. Vertical section moves within the same chunk are ignored.
+ */
+@Mixin(targets = "net.minecraft.server.world.ServerEntityManager$Listener")
+public abstract class ServerEntityManagerListenerMixin {
+
+    @Shadow
+    @Final
+    private EntityLike entity;
+
+    @Shadow
+    private long sectionPos;
+
+    @Unique
+    private long ruthenium$previousSectionPos;
+
+    @Inject(method = "updateEntityPosition", at = @At("HEAD"))
+    private void ruthenium$capturePreviousSection(final CallbackInfo ci) {
+        this.ruthenium$previousSectionPos = this.sectionPos;
+    }
+
+    @Inject(method = "updateEntityPosition", at = @At("TAIL"))
+    private void ruthenium$updateRegionEntityIndex(final CallbackInfo ci) {
+        final long previous = this.ruthenium$previousSectionPos;
+        final long current = this.sectionPos;
+        if (previous == current) {
+            return;
+        }
+        final int fromX = ChunkSectionPos.unpackX(previous);
+        final int fromZ = ChunkSectionPos.unpackZ(previous);
+        final int toX = ChunkSectionPos.unpackX(current);
+        final int toZ = ChunkSectionPos.unpackZ(current);
+        if (fromX == toX && fromZ == toZ) {
+            return;
+        }
+        if (this.entity instanceof Entity movedEntity && movedEntity.getEntityWorld() instanceof ServerWorld world) {
+            RegionEntityTracker.onSectionColumnChanged(world, movedEntity, fromX, fromZ, toX, toZ);
+        }
+    }
+}
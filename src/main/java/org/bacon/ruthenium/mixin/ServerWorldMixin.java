@@ -18,20 +18,25 @@ import org.bacon.ruthenium.region.RegionTickData;
 import org.bacon.ruthenium.region.ThreadedRegionizer;
 import org.bacon.ruthenium.mixin.accessor.ServerWorldAccessor;
 import org.bacon.ruthenium.world.MainThreadTickGuard;
+import org.bacon.ruthenium.world.ParallelRandomTicker;
 import org.bacon.ruthenium.world.RegionTaskDispatcher;
 import org.bacon.ruthenium.world.RegionChunkTickAccess;
 import org.bacon.ruthenium.world.RegionizedServer;
 import org.bacon.ruthenium.world.TickRegionScheduler;
 import org.bacon.ruthenium.world.RegionizedWorldData;
 import org.bacon.ruthenium.world.RegionizedServerWorld;
+import org.bacon.ruthenium.world.RegionizedTickScheduler;
+import org.bacon.ruthenium.world.RegionLocalRandom;
 import org.bacon.ruthenium.world.raid.RaidManagerThreadSafe;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
+import net.minecraft.world.chunk.ChunkSection;
 import net.minecraft.world.chunk.WorldChunk;
 
 /**
@@ -76,6 +81,18 @@ public abstract class ServerWorldMixin implements RegionizedServerWorld, RegionC
         return this.ruthenium$worldRegionData;
     }
 
+    @Inject(method = "<init>", at = @At("TAIL"))
+    private void ruthenium$bindTickSchedulers(final CallbackInfo ci) {
+        final ServerWorld world = this.ruthenium$self();
+        // Lets the schedulers route newly scheduled ticks into the owning region's queue
+        ((RegionizedTickScheduler)world.getBlockTickScheduler()).ruthenium$bindRegionWorld(world, true);
+        ((RegionizedTickScheduler)world.getFluidTickScheduler()).ruthenium$bindRegionWorld(world, false);
+        // Region threads draw from their region's random instead of contending on the shared seed
+        if (world.getRandom() instanceof RegionLocalRandom random) {
+            random.ruthenium$setRegionLocal(true);
+        }
+    }
+
     @Unique
     private void ruthenium$resetVanillaTickGuards() {
         this.ruthenium$skipVanillaChunkTick = false;
@@ -105,7 +122,7 @@ public abstract class ServerWorldMixin implements RegionizedServerWorld, RegionC
 
         RegionDebug.onWorldTick(world);
         this.ruthenium$skipVanillaChunkTick = false;
-        final boolean replaced = scheduler.tickWorld(world, shouldKeepTicking);
+        final boolean replaced = scheduler.tickWorldOrCollect(world, shouldKeepTicking);
         final boolean regionsActive = !scheduler.isHalted() && scheduler.hasActiveRegions(world);
         if (replaced || regionsActive) {
             // The scheduler is responsible for chunk/entity ticking on region threads.
@@ -226,6 +243,22 @@ public abstract class ServerWorldMixin implements RegionizedServerWorld, RegionC
         }
     }
 
+    /**
+     * Runs the random ticks planned in parallel for this chunk instead of sampling positions, and
+     * leaves vanilla's random tick loop nothing to iterate.
+     */
+    @Redirect(method = "tickChunk", at = @At(value = "INVOKE",
+        target = "Lnet/minecraft/world/chunk/WorldChunk;getSectionArray()[Lnet/minecraft/world/chunk/ChunkSection;",
+        ordinal = 0))
+    private ChunkSection[] ruthenium$applyPlannedRandomTicks(final WorldChunk chunk) {
+        final int[] plan = ParallelRandomTicker.currentPlan();
+        if (plan == null) {
+            return chunk.getSectionArray();
+        }
+        ParallelRandomTicker.apply(this.ruthenium$self(), chunk, plan);
+        return ParallelRandomTicker.NO_SECTIONS;
+    }
+
     @Override
     public void ruthenium$pushRegionChunkTick() {
         RegionizedServer.ensureOnRegionThread("chunk ticking");
@@ -12,17 +12,17 @@ import net.minecraft.util.profiler.Profilers;
 import net.minecraft.world.tick.ChunkTickScheduler;
 import net.minecraft.world.tick.OrderedTick;
 import net.minecraft.world.tick.WorldTickScheduler;
-import org.bacon.ruthenium.world.RegionizedServer;
-import org.bacon.ruthenium.world.RegionizedWorldData;
-import net.minecraft.block.Block;
-import net.minecraft.fluid.Fluid;
+import net.minecraft.server.world.ServerWorld;
+import org.bacon.ruthenium.world.RegionScheduledTicks;
+import org.bacon.ruthenium.world.RegionizedTickScheduler;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 
 @Mixin(WorldTickScheduler.class)
-public abstract class WorldTickSchedulerMixin<T> {
+public abstract class WorldTickSchedulerMixin<T> implements RegionizedTickScheduler {
 
     @Shadow
     @Final
@@ -40,6 +40,12 @@ public abstract class WorldTickSchedulerMixin<T> {
     @Final
     private Queue<OrderedTick<T>> tickableTicks;
 
+    @Unique
+    private ServerWorld ruthenium$world;
+
+    @Unique
+    private boolean ruthenium$blockTicks;
+
     @Shadow
     private void collectTickableTicks(long time, int maxTicks, Profiler profiler) {
         throw new AssertionError();
@@ -55,6 +61,12 @@ public abstract class WorldTickSchedulerMixin<T> {
         throw new AssertionError();
     }
 
+    @Override
+    public void ruthenium$bindRegionWorld(final ServerWorld world, final boolean blockTicks) {
+        this.ruthenium$world = world;
+        this.ruthenium$blockTicks = blockTicks;
+    }
+
     /**
      * Region threads can schedule ticks concurrently with the orchestrator draining schedulers.
      * Vanilla's WorldTickScheduler is not thread-safe, so serialize access.
@@ -73,20 +85,10 @@ public abstract class WorldTickSchedulerMixin<T> {
             }
             scheduler.scheduleTick(orderedTick);
         }
-        final RegionizedWorldData worldData = RegionizedServer.getCurrentWorldData();
-        if (worldData != null) {
-            final int chunkX = orderedTick.pos().getX() >> 4;
-            final int chunkZ = orderedTick.pos().getZ() >> 4;
-            final Object type = orderedTick.type();
-            if (type instanceof Block block) {
-                @SuppressWarnings("unchecked")
-                final OrderedTick<Block> blockTick = (OrderedTick<Block>) orderedTick;
-                worldData.registerScheduledBlockTick(chunkX, chunkZ, blockTick);
-            } else if (type instanceof Fluid fluid) {
-                @SuppressWarnings("unchecked")
-                final OrderedTick<Fluid> fluidTick = (OrderedTick<Fluid>) orderedTick;
-                worldData.registerScheduledFluidTick(chunkX, chunkZ, fluidTick);
-            }
+        // Route outside the scheduler monitor; the region lookup may take the regionizer lock
+        if (this.ruthenium$world != null) {
+            RegionScheduledTicks.onTickScheduled(this.ruthenium$world, this.ruthenium$blockTicks,
+                orderedTick.pos().getX() >> 4, orderedTick.pos().getZ() >> 4, orderedTick.triggerTick());
         }
     }
 
@@ -98,15 +100,19 @@ public abstract class WorldTickSchedulerMixin<T> {
      */
     @Overwrite
     public void addChunkTickScheduler(final ChunkPos pos, final ChunkTickScheduler<T> scheduler) {
+        final OrderedTick<T> next;
         synchronized (this) {
             final long packedChunkPos = pos.toLong();
             this.chunkTickSchedulers.put(packedChunkPos, scheduler);
-            final OrderedTick<T> next = scheduler.peekNextTick();
+            next = scheduler.peekNextTick();
             if (next != null) {
                 this.nextTriggerTickByChunkPos.put(packedChunkPos, next.triggerTick());
             }
             scheduler.setTickConsumer(this.queuedTickConsumer);
         }
+        if (next != null && this.ruthenium$world != null) {
+            RegionScheduledTicks.onTickScheduled(this.ruthenium$world, this.ruthenium$blockTicks, pos.x, pos.z, next.triggerTick());
+        }
     }
 
     /**
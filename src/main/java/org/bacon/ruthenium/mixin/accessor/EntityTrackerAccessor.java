@@ -0,0 +1,34 @@
+package org.bacon.ruthenium.mixin.accessor;
+
+import java.util.List;
+import java.util.Set;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.network.EntityTrackerEntry;
+import net.minecraft.server.network.PlayerAssociatedNetworkHandler;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.ChunkSectionPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+@Mixin(targets = "net.minecraft.server.world.ServerChunkLoadingManager$EntityTracker")
+public interface EntityTrackerAccessor {
+
+    @Accessor("entity")
+    Entity ruthenium$getEntity();
+
+    @Accessor("entry")
+    EntityTrackerEntry ruthenium$getEntry();
+
+    @Accessor("trackedSection")
+    ChunkSectionPos ruthenium$getTrackedSection();
+
+    @Accessor("trackedSection")
+    void ruthenium$setTrackedSection(ChunkSectionPos section);
+
+    @Accessor("listeners")
+    Set<PlayerAssociatedNetworkHandler> ruthenium$getListeners();
+
+    @Invoker("updateTrackedStatus")
+    void ruthenium$updateTrackedStatus(List<ServerPlayerEntity> players);
+}
@@ -1,5 +1,7 @@
 package org.bacon.ruthenium.mixin.accessor;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.function.Consumer;
 import java.util.function.BooleanSupplier;
 import net.minecraft.server.world.ChunkHolder;
@@ -7,6 +9,7 @@ import net.minecraft.server.world.ServerChunkLoadingManager;
 import net.minecraft.world.chunk.WorldChunk;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.gen.Invoker;
 
 @Mixin(ServerChunkLoadingManager.class)
@@ -15,13 +18,19 @@ public interface ServerChunkLoadingManagerAccessor {
     @Invoker("forEachBlockTickingChunk")
     void ruthenium$forEachBlockTickingChunk(Consumer<WorldChunk> consumer);
 
-    @Invoker("tickEntityMovement")
-    void ruthenium$invokeTickEntityMovement();
-
     @Invoker("tick")
     void ruthenium$invokeTick(BooleanSupplier shouldKeepTicking);
 
     @Nullable
     @Invoker("getChunkHolder")
     ChunkHolder ruthenium$getChunkHolder(long pos);
+
+    @Accessor("unloadedChunks")
+    LongSet ruthenium$getUnloadedChunks();
+
+    @Accessor("chunksToUnload")
+    Long2ObjectLinkedOpenHashMap<ChunkHolder> ruthenium$getChunksToUnload();
+
+    @Accessor("chunksToSave")
+    LongSet ruthenium$getChunksToSave();
 }
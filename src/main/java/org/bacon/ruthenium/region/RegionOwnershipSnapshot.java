@@ -0,0 +1,284 @@
+package org.bacon.ruthenium.region;
+
+import java.util.Objects;
+import org.bacon.ruthenium.util.CoordinateUtil;
+
+/**
+ * Immutable view of the chunks owned by one region, answering ownership queries with plain bit
+ * tests instead of taking the regionizer lock.
+ *
+ * <p>Owned sections are marked in a bitmap spanning the bounding box of the region's sections. A
+ * rank table maps each set bit to the slot holding that section's chunk bitset, so the chunk data
+ * stays proportional to the number of owned sections rather than to the bounding box. The same
+ * slot also holds the section's regionizer data.</p>
+ *
+ * <p>A snapshot records the region's ownership version at capture time. Sections or chunks added
+ * to or removed from the region afterwards bump that version and make {@link #isCurrent()} return
+ * {@code false}; callers should then capture a new snapshot.</p>
+ */
+public final class RegionOwnershipSnapshot {
+
+    /**
+     * Bounding boxes larger than this many sections are not snapshotted; ownership checks for such
+     * regions fall back to the locked lookups.
+     */
+    public static final int MAX_BITMAP_SECTIONS = 1 << 20;
+
+    private final ThreadedRegionizer.ThreadedRegion<?, ?> region;
+    private final long version;
+    private final int sectionShift;
+    private final int sectionMask;
+    private final int wordsPerSection;
+    private final int minSectionX;
+    private final int minSectionZ;
+    private final int width;
+    private final int length;
+    private final long[] sectionBits;
+    private final int[] sectionRanks;
+    private final long[] chunkBits;
+    private final ThreadedRegionizer.ThreadedRegionSectionData[] sectionData;
+
+    private RegionOwnershipSnapshot(final ThreadedRegionizer.ThreadedRegion<?, ?> region, final long version,
+                                    final int sectionShift, final int wordsPerSection,
+                                    final int minSectionX, final int minSectionZ, final int width, final int length,
+                                    final long[] sectionBits, final int[] sectionRanks, final long[] chunkBits,
+                                    final ThreadedRegionizer.ThreadedRegionSectionData[] sectionData) {
+        this.region = region;
+        this.version = version;
+        this.sectionShift = sectionShift;
+        this.sectionMask = (1 << sectionShift) - 1;
+        this.wordsPerSection = wordsPerSection;
+        this.minSectionX = minSectionX;
+        this.minSectionZ = minSectionZ;
+        this.width = width;
+        this.length = length;
+        this.sectionBits = sectionBits;
+        this.sectionRanks = sectionRanks;
+        this.chunkBits = chunkBits;
+        this.sectionData = sectionData;
+    }
+
+    /**
+     * Builds a snapshot from the sections of a region.
+     *
+     * @param region          region the snapshot describes, or {@code null} for a detached snapshot
+     * @param version         ownership version of {@code region} read before the sections were copied
+     * @param sectionShift    section size shift, in chunks
+     * @param sectionKeys     packed section keys, one per owned section
+     * @param sectionChunks   chunk bitsets of the sections, {@code wordsPerSection} words per section in
+     *                        the same order as {@code sectionKeys}
+     * @param sectionData     regionizer data of the sections, in the same order as {@code sectionKeys}
+     * @param wordsPerSection number of bitset words per section
+     * @return snapshot, or {@code null} when the bounding box exceeds {@link #MAX_BITMAP_SECTIONS}
+     */
+    static RegionOwnershipSnapshot build(final ThreadedRegionizer.ThreadedRegion<?, ?> region, final long version,
+                                         final int sectionShift, final long[] sectionKeys, final long[] sectionChunks,
+                                         final ThreadedRegionizer.ThreadedRegionSectionData[] sectionData,
+                                         final int wordsPerSection) {
+        Objects.requireNonNull(sectionKeys, "sectionKeys");
+        Objects.requireNonNull(sectionChunks, "sectionChunks");
+        Objects.requireNonNull(sectionData, "sectionData");
+        if (sectionData.length != sectionKeys.length) {
+            throw new IllegalArgumentException("Expected " + sectionKeys.length + " section data entries, got "
+                + sectionData.length);
+        }
+        if (sectionChunks.length != sectionKeys.length * wordsPerSection) {
+            throw new IllegalArgumentException("Expected " + sectionKeys.length * wordsPerSection
+                + " chunk words, got " + sectionChunks.length);
+        }
+        if (sectionKeys.length == 0) {
+            return new RegionOwnershipSnapshot(region, version, sectionShift, wordsPerSection,
+                0, 0, 0, 0, new long[0], new int[0], new long[0], new ThreadedRegionizer.ThreadedRegionSectionData[0]);
+        }
+
+        int minX = Integer.MAX_VALUE;
+        int minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxZ = Integer.MIN_VALUE;
+        for (final long key : sectionKeys) {
+            final int x = CoordinateUtil.getChunkX(key);
+            final int z = CoordinateUtil.getChunkZ(key);
+            minX = Math.min(minX, x);
+            minZ = Math.min(minZ, z);
+            maxX = Math.max(maxX, x);
+            maxZ = Math.max(maxZ, z);
+        }
+        final long width = (long)maxX - minX + 1L;
+        final long length = (long)maxZ - minZ + 1L;
+        if (width * length > MAX_BITMAP_SECTIONS) {
+            return null;
+        }
+
+        final int cells = (int)(width * length);
+        final long[] sectionBits = new long[(cells + Long.SIZE - 1) >>> 6];
+        for (final long key : sectionKeys) {
+            final int cell = (CoordinateUtil.getChunkX(key) - minX) + (CoordinateUtil.getChunkZ(key) - minZ) * (int)width;
+            sectionBits[cell >>> 6] |= 1L << cell;
+        }
+
+        final int[] sectionRanks = new int[sectionBits.length];
+        int rank = 0;
+        for (int i = 0; i < sectionBits.length; ++i) {
+            sectionRanks[i] = rank;
+            rank += Long.bitCount(sectionBits[i]);
+        }
+
+        final long[] chunkBits = new long[rank * wordsPerSection];
+        final ThreadedRegionizer.ThreadedRegionSectionData[] rankedData = new ThreadedRegionizer.ThreadedRegionSectionData[rank];
+        for (int i = 0; i < sectionKeys.length; ++i) {
+            final long key = sectionKeys[i];
+            final int cell = (CoordinateUtil.getChunkX(key) - minX) + (CoordinateUtil.getChunkZ(key) - minZ) * (int)width;
+            final int slot = rankOf(sectionBits, sectionRanks, cell);
+            System.arraycopy(sectionChunks, i * wordsPerSection, chunkBits, slot * wordsPerSection, wordsPerSection);
+            rankedData[slot] = sectionData[i];
+        }
+
+        return new RegionOwnershipSnapshot(region, version, sectionShift, wordsPerSection,
+            minX, minZ, (int)width, (int)length, sectionBits, sectionRanks, chunkBits, rankedData);
+    }
+
+    /**
+     * Returns the region this snapshot describes.
+     *
+     * @return owning region, or {@code null} for a detached snapshot
+     */
+    public ThreadedRegionizer.ThreadedRegion<?, ?> getRegion() {
+        return this.region;
+    }
+
+    /**
+     * Returns whether the region's ownership is unchanged since this snapshot was captured.
+     *
+     * @return {@code true} while the snapshot still matches the region
+     */
+    public boolean isCurrent() {
+        return this.region != null && this.region.getOwnershipVersion() == this.version;
+    }
+
+    /**
+     * Returns whether the region owned the supplied section.
+     *
+     * @param sectionX section X coordinate
+     * @param sectionZ section Z coordinate
+     * @return {@code true} when the section belonged to the region
+     */
+    public boolean containsSection(final int sectionX, final int sectionZ) {
+        return this.slotOf(sectionX, sectionZ) >= 0;
+    }
+
+    /**
+     * Returns the regionizer data of the owned section containing the supplied chunk.
+     *
+     * @param chunkX chunk X coordinate
+     * @param chunkZ chunk Z coordinate
+     * @return section data, or {@code null} when the section did not belong to the region
+     */
+    public ThreadedRegionizer.ThreadedRegionSectionData getSectionDataForChunk(final int chunkX, final int chunkZ) {
+        final int slot = this.slotOf(chunkX >> this.sectionShift, chunkZ >> this.sectionShift);
+        return slot < 0 ? null : this.sectionData[slot];
+    }
+
+    /**
+     * Returns whether the region owned the supplied chunk.
+     *
+     * @param chunkX chunk X coordinate
+     * @param chunkZ chunk Z coordinate
+     * @return {@code true} when the chunk belonged to the region
+     */
+    public boolean containsChunk(final int chunkX, final int chunkZ) {
+        final int slot = this.slotOf(chunkX >> this.sectionShift, chunkZ >> this.sectionShift);
+        if (slot < 0) {
+            return false;
+        }
+        final int index = (chunkX & this.sectionMask) | ((chunkZ & this.sectionMask) << this.sectionShift);
+        return (this.chunkBits[slot * this.wordsPerSection + (index >>> 6)] & (1L << index)) != 0L;
+    }
+
+    /**
+     * Returns whether the region owned any chunk in the square of the supplied radius around a
+     * chunk. Each row of the square is tested a bitset word at a time, and a square that lies
+     * within a single section only resolves that section once.
+     *
+     * @param chunkX centre chunk X coordinate
+     * @param chunkZ centre chunk Z coordinate
+     * @param radius radius in chunks; values {@code <= 0} test the centre chunk only
+     * @return {@code true} when at least one chunk in the square belonged to the region
+     */
+    public boolean containsAnyChunk(final int chunkX, final int chunkZ, final int radius) {
+        if (radius <= 0) {
+            return this.containsChunk(chunkX, chunkZ);
+        }
+        final int minChunkX = chunkX - radius;
+        final int maxChunkX = chunkX + radius;
+        final int minChunkZ = chunkZ - radius;
+        final int maxChunkZ = chunkZ + radius;
+        final int shift = this.sectionShift;
+
+        final int fromSectionX = minChunkX >> shift;
+        final int toSectionX = maxChunkX >> shift;
+        final int fromSectionZ = minChunkZ >> shift;
+        final int toSectionZ = maxChunkZ >> shift;
+        if (fromSectionX == toSectionX && fromSectionZ == toSectionZ) {
+            final int slot = this.slotOf(fromSectionX, fromSectionZ);
+            return slot >= 0 && this.anyInSection(slot, minChunkX & this.sectionMask, maxChunkX & this.sectionMask,
+                minChunkZ & this.sectionMask, maxChunkZ & this.sectionMask);
+        }
+
+        for (int sectionZ = fromSectionZ; sectionZ <= toSectionZ; ++sectionZ) {
+            for (int sectionX = fromSectionX; sectionX <= toSectionX; ++sectionX) {
+                final int slot = this.slotOf(sectionX, sectionZ);
+                if (slot < 0) {
+                    continue;
+                }
+                final int baseX = sectionX << shift;
+                final int baseZ = sectionZ << shift;
+                if (this.anyInSection(slot,
+                    Math.max(minChunkX, baseX) - baseX, Math.min(maxChunkX, baseX + this.sectionMask) - baseX,
+                    Math.max(minChunkZ, baseZ) - baseZ, Math.min(maxChunkZ, baseZ + this.sectionMask) - baseZ)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean anyInSection(final int slot, final int fromX, final int toX, final int fromZ, final int toZ) {
+        final long[] chunkBits = this.chunkBits;
+        final int base = slot * this.wordsPerSection;
+        final int rowLength = toX - fromX + 1;
+        for (int z = fromZ; z <= toZ; ++z) {
+            int index = fromX | (z << this.sectionShift);
+            int remaining = rowLength;
+            while (remaining > 0) {
+                final int bit = index & (Long.SIZE - 1);
+                final int count = Math.min(remaining, Long.SIZE - bit);
+                final long mask = (count == Long.SIZE ? -1L : (1L << count) - 1L) << bit;
+                if ((chunkBits[base + (index >>> 6)] & mask) != 0L) {
+                    return true;
+                }
+                index += count;
+                remaining -= count;
+            }
+        }
+        return false;
+    }
+
+    private int slotOf(final int sectionX, final int sectionZ) {
+        final int x = sectionX - this.minSectionX;
+        final int z = sectionZ - this.minSectionZ;
+        // Unsigned compares reject coordinates on either side of the bounding box
+        if (Integer.compareUnsigned(x, this.width) >= 0 || Integer.compareUnsigned(z, this.length) >= 0) {
+            return -1;
+        }
+        final int cell = x + z * this.width;
+        if ((this.sectionBits[cell >>> 6] & (1L << cell)) == 0L) {
+            return -1;
+        }
+        return rankOf(this.sectionBits, this.sectionRanks, cell);
+    }
+
+    private static int rankOf(final long[] sectionBits, final int[] sectionRanks, final int cell) {
+        final int word = cell >>> 6;
+        return sectionRanks[word] + Long.bitCount(sectionBits[word] & ((1L << cell) - 1L));
+    }
+}
@@ -0,0 +1,130 @@
+package org.bacon.ruthenium.region;
+
+import it.unimi.dsi.fastutil.HashCommon;
+
+/**
+ * Region-owned replacement for the shared world {@code CheckedRandom} stream.
+ *
+ * <p>Uses the same 48-bit linear congruential generator as vanilla's {@code CheckedRandom}, but
+ * keeps its state in plain fields owned by a single region. Only the thread currently ticking the
+ * owning region may use an instance, so no atomics, thread locals or shared cache lines are
+ * involved. Splits and merges derive new states deterministically from the participating states
+ * via {@link #deriveSplitSeed(long)} and {@link #mergeFrom(RegionRandom)}.</p>
+ */
+public final class RegionRandom {
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long INCREMENT = 0xBL;
+    private static final long SEED_MASK = (1L << 48) - 1L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long seed;
+    private double nextNextGaussian;
+    private boolean haveNextNextGaussian;
+
+    /**
+     * Creates a generator with the supplied seed.
+     *
+     * @param seed initial seed, scrambled the same way as {@code CheckedRandom#setSeed}
+     */
+    public RegionRandom(final long seed) {
+        this.setSeed(seed);
+    }
+
+    /**
+     * Resets the generator state.
+     *
+     * @param seed new seed, scrambled the same way as {@code CheckedRandom#setSeed}
+     */
+    public void setSeed(final long seed) {
+        this.seed = (seed ^ MULTIPLIER) & SEED_MASK;
+        this.haveNextNextGaussian = false;
+    }
+
+    /**
+     * Returns the raw 48-bit generator state.
+     *
+     * @return current state
+     */
+    public long getState() {
+        return this.seed;
+    }
+
+    /**
+     * Advances the generator and returns the requested number of high bits.
+     *
+     * @param bits number of bits to return, at most 32
+     * @return pseudo-random bits
+     */
+    public int next(final int bits) {
+        final long next = (this.seed * MULTIPLIER + INCREMENT) & SEED_MASK;
+        this.seed = next;
+        return (int)(next >>> (48 - bits));
+    }
+
+    /**
+     * Returns a uniformly distributed double in {@code [0, 1)}.
+     *
+     * @return pseudo-random double
+     */
+    public double nextDouble() {
+        return (((long)this.next(26) << 27) + this.next(27)) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Returns a normally distributed double using the same polar method as vanilla's
+     * {@code GaussianGenerator}.
+     *
+     * @return pseudo-random gaussian
+     */
+    public double nextGaussian() {
+        if (this.haveNextNextGaussian) {
+            this.haveNextNextGaussian = false;
+            return this.nextNextGaussian;
+        }
+        double x;
+        double y;
+        double lengthSquared;
+        do {
+            x = 2.0 * this.nextDouble() - 1.0;
+            y = 2.0 * this.nextDouble() - 1.0;
+            lengthSquared = x * x + y * y;
+        } while (lengthSquared >= 1.0 || lengthSquared == 0.0);
+        final double scale = Math.sqrt(-2.0 * Math.log(lengthSquared) / lengthSquared);
+        this.nextNextGaussian = y * scale;
+        this.haveNextNextGaussian = true;
+        return x * scale;
+    }
+
+    /**
+     * Returns the seed a region produced by splitting this one should start from. The result only
+     * depends on this generator's state and the supplied salt.
+     *
+     * @param salt value identifying the new region, such as its lowest section key
+     * @return seed for the new region's generator
+     */
+    public long deriveSplitSeed(final long salt) {
+        return HashCommon.mix(this.seed ^ HashCommon.mix(salt));
+    }
+
+    /**
+     * Folds another region's state into this generator when the regions merge. The result only
+     * depends on the two states and is independent of which region absorbs the other.
+     *
+     * @param other generator of the region being merged into this one
+     */
+    public void mergeFrom(final RegionRandom other) {
+        this.setSeed(HashCommon.mix(this.seed + other.seed));
+    }
+
+    /**
+     * Copies the full state of another generator into this one.
+     *
+     * @param other generator to copy
+     */
+    public void copyFrom(final RegionRandom other) {
+        this.seed = other.seed;
+        this.nextNextGaussian = other.nextNextGaussian;
+        this.haveNextNextGaussian = other.haveNextNextGaussian;
+    }
+}
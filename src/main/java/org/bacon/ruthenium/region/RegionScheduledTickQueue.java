@@ -0,0 +1,359 @@
+package org.bacon.ruthenium.region;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMaps;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ReferenceMap;
+import it.unimi.dsi.fastutil.longs.Long2ReferenceOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import org.bacon.ruthenium.util.CoordinateUtil;
+
+/**
+ * Per-region priority queue of chunks with pending scheduled (block or fluid) ticks, ordered by
+ * the trigger tick of each chunk's earliest pending tick.
+ *
+ * <p>The ticks themselves remain stored in the vanilla chunk tick schedulers so that chunk
+ * serialisation is unaffected; this queue only indexes which of the region's chunks are due. A
+ * chunk is present at most once with its earliest known trigger tick. The heap is updated lazily:
+ * lowering a chunk's trigger pushes a new heap node and leaves the old one behind, and stale nodes
+ * are discarded when they reach the top of the heap or when the heap is rebuilt.</p>
+ *
+ * <p>Chunk keys use the {@link CoordinateUtil#getChunkKey(int, int)} packing. Like
+ * {@link RegionTaskQueue}, the queue follows its chunks across merges and splits.</p>
+ */
+public final class RegionScheduledTickQueue {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Long2LongOpenHashMap triggerByChunk = new Long2LongOpenHashMap();
+    private long[] heapTriggers = new long[INITIAL_CAPACITY];
+    private long[] heapChunks = new long[INITIAL_CAPACITY];
+    private int heapSize;
+
+    /**
+     * Creates an empty queue.
+     */
+    public RegionScheduledTickQueue() {
+        this.triggerByChunk.defaultReturnValue(Long.MAX_VALUE);
+    }
+
+    /**
+     * Records that the supplied chunk has a pending tick at {@code triggerTick}. The chunk keeps
+     * the earliest trigger tick recorded for it.
+     *
+     * @param chunkX      chunk X coordinate
+     * @param chunkZ      chunk Z coordinate
+     * @param triggerTick game time at which the chunk's earliest pending tick is due
+     */
+    public void schedule(final int chunkX, final int chunkZ, final long triggerTick) {
+        this.schedule(CoordinateUtil.getChunkKey(chunkX, chunkZ), triggerTick);
+    }
+
+    /**
+     * Records that the supplied chunk has a pending tick at {@code triggerTick}.
+     *
+     * @param chunkKey    packed chunk key
+     * @param triggerTick game time at which the chunk's earliest pending tick is due
+     */
+    public void schedule(final long chunkKey, final long triggerTick) {
+        synchronized (this) {
+            this.scheduleUnsynchronised(chunkKey, triggerTick);
+        }
+    }
+
+    /**
+     * Removes and returns every chunk whose earliest trigger tick is at or before {@code time},
+     * in ascending trigger order. Callers are expected to re-{@link #schedule(long, long)} chunks
+     * that still hold pending ticks after draining them.
+     *
+     * @param time current game time
+     * @return packed keys of the due chunks; empty when none are due
+     */
+    public long[] pollDueChunks(final long time) {
+        synchronized (this) {
+            if (this.heapSize == 0 || this.heapTriggers[0] > time) {
+                return new long[0];
+            }
+            final LongArrayList due = new LongArrayList();
+            while (this.heapSize > 0 && this.heapTriggers[0] <= time) {
+                final long trigger = this.heapTriggers[0];
+                final long chunkKey = this.heapChunks[0];
+                this.removeTop();
+                if (this.triggerByChunk.get(chunkKey) == trigger) {
+                    this.triggerByChunk.remove(chunkKey);
+                    due.add(chunkKey);
+                }
+            }
+            return due.toLongArray();
+        }
+    }
+
+    /**
+     * Returns the earliest trigger tick recorded in this queue.
+     *
+     * @return earliest trigger tick, or {@link Long#MAX_VALUE} when the queue is empty
+     */
+    public long peekNextTriggerTick() {
+        synchronized (this) {
+            while (this.heapSize > 0) {
+                final long trigger = this.heapTriggers[0];
+                if (this.triggerByChunk.get(this.heapChunks[0]) == trigger) {
+                    return trigger;
+                }
+                this.removeTop();
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Returns the trigger tick recorded for the supplied chunk.
+     *
+     * @param chunkX chunk X coordinate
+     * @param chunkZ chunk Z coordinate
+     * @return recorded trigger tick, or {@link Long#MAX_VALUE} when the chunk is not queued
+     */
+    public long getTriggerTick(final int chunkX, final int chunkZ) {
+        synchronized (this) {
+            return this.triggerByChunk.get(CoordinateUtil.getChunkKey(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Removes the supplied chunk from the queue.
+     *
+     * @param chunkX chunk X coordinate
+     * @param chunkZ chunk Z coordinate
+     * @return the trigger tick the chunk was queued with, or {@link Long#MAX_VALUE} when absent
+     */
+    public long remove(final int chunkX, final int chunkZ) {
+        synchronized (this) {
+            // The heap node becomes stale and is dropped lazily
+            return this.triggerByChunk.remove(CoordinateUtil.getChunkKey(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Determines whether the supplied chunk is queued.
+     *
+     * @param chunkX chunk X coordinate
+     * @param chunkZ chunk Z coordinate
+     * @return {@code true} when the chunk has a recorded trigger tick
+     */
+    public boolean containsChunk(final int chunkX, final int chunkZ) {
+        synchronized (this) {
+            return this.triggerByChunk.containsKey(CoordinateUtil.getChunkKey(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Determines whether any chunk is queued.
+     *
+     * @return {@code true} when no chunk is queued
+     */
+    public boolean isEmpty() {
+        synchronized (this) {
+            return this.triggerByChunk.isEmpty();
+        }
+    }
+
+    /**
+     * Returns the number of queued chunks.
+     *
+     * @return queued chunk count
+     */
+    public int size() {
+        synchronized (this) {
+            return this.triggerByChunk.size();
+        }
+    }
+
+    /**
+     * Removes every queued chunk.
+     */
+    public void clear() {
+        synchronized (this) {
+            this.triggerByChunk.clear();
+            this.heapSize = 0;
+        }
+    }
+
+    /**
+     * Moves all chunks from {@code other} into this queue, draining the source queue in the
+     * process.
+     *
+     * @param other queue to merge
+     */
+    public void absorb(final RegionScheduledTickQueue other) {
+        Objects.requireNonNull(other, "other");
+        if (other == this) {
+            return;
+        }
+        final Long2LongOpenHashMap transfer;
+        synchronized (other) {
+            transfer = new Long2LongOpenHashMap(other.triggerByChunk);
+            other.triggerByChunk.clear();
+            other.heapSize = 0;
+        }
+        synchronized (this) {
+            this.addAllUnsynchronised(transfer);
+        }
+    }
+
+    /**
+     * Copies all chunks from this queue into the supplied target without modifying this queue.
+     *
+     * @param target queue receiving the copy
+     */
+    public void copyInto(final RegionScheduledTickQueue target) {
+        Objects.requireNonNull(target, "target");
+        final Long2LongOpenHashMap snapshot;
+        synchronized (this) {
+            snapshot = new Long2LongOpenHashMap(this.triggerByChunk);
+        }
+        synchronized (target) {
+            target.addAllUnsynchronised(snapshot);
+        }
+    }
+
+    /**
+     * Extracts chunks that fall within the supplied section set, returning them in a new queue.
+     *
+     * @param sectionPositions  sections being reassigned to another region
+     * @param sectionChunkShift section shift used for chunk to section mapping
+     * @return a queue containing the transferred chunks
+     */
+    public RegionScheduledTickQueue splitForSections(final Set<RegionSectionPos> sectionPositions,
+                                                     final int sectionChunkShift) {
+        Objects.requireNonNull(sectionPositions, "sectionPositions");
+        final Long2ReferenceOpenHashMap<RegionScheduledTickQueue> targets = new Long2ReferenceOpenHashMap<>(sectionPositions.size());
+        final RegionScheduledTickQueue result = new RegionScheduledTickQueue();
+        for (final RegionSectionPos sectionPos : sectionPositions) {
+            targets.put(CoordinateUtil.getChunkKey(sectionPos.x(), sectionPos.z()), result);
+        }
+        this.distributeBySection(targets, sectionChunkShift);
+        return result;
+    }
+
+    /**
+     * Moves chunks into the queues mapped to their section in a single pass. Chunks whose section
+     * has no mapping remain in this queue.
+     *
+     * @param targetsBySection  destination queue for each packed section key
+     * @param sectionChunkShift section shift used for chunk to section mapping
+     */
+    public void distributeBySection(final Long2ReferenceMap<RegionScheduledTickQueue> targetsBySection,
+                                    final int sectionChunkShift) {
+        Objects.requireNonNull(targetsBySection, "targetsBySection");
+        synchronized (this) {
+            final ObjectIterator<Long2LongMap.Entry> iterator = this.triggerByChunk.long2LongEntrySet().fastIterator();
+            while (iterator.hasNext()) {
+                final Long2LongMap.Entry entry = iterator.next();
+                final long chunkKey = entry.getLongKey();
+                final long sectionKey = CoordinateUtil.getChunkKey(
+                    CoordinateUtil.getChunkX(chunkKey) >> sectionChunkShift, CoordinateUtil.getChunkZ(chunkKey) >> sectionChunkShift);
+                final RegionScheduledTickQueue target = targetsBySection.get(sectionKey);
+                if (target == null || target == this) {
+                    continue;
+                }
+                target.schedule(chunkKey, entry.getLongValue());
+                iterator.remove();
+            }
+            this.rebuildHeap();
+        }
+    }
+
+    private void addAllUnsynchronised(final Long2LongMap entries) {
+        final ObjectIterator<Long2LongMap.Entry> iterator = Long2LongMaps.fastIterator(entries);
+        while (iterator.hasNext()) {
+            final Long2LongMap.Entry entry = iterator.next();
+            this.scheduleUnsynchronised(entry.getLongKey(), entry.getLongValue());
+        }
+    }
+
+    private void scheduleUnsynchronised(final long chunkKey, final long triggerTick) {
+        if (this.triggerByChunk.get(chunkKey) <= triggerTick) {
+            return;
+        }
+        this.triggerByChunk.put(chunkKey, triggerTick);
+        this.push(triggerTick, chunkKey);
+        // Each lowered trigger leaves a stale node behind; compact before the heap grows unbounded
+        if (this.heapSize > (this.triggerByChunk.size() << 1) + INITIAL_CAPACITY) {
+            this.rebuildHeap();
+        }
+    }
+
+    private void rebuildHeap() {
+        final int size = this.triggerByChunk.size();
+        if (this.heapTriggers.length < size) {
+            this.heapTriggers = new long[size];
+            this.heapChunks = new long[size];
+        }
+        int index = 0;
+        final ObjectIterator<Long2LongMap.Entry> iterator = this.triggerByChunk.long2LongEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            final Long2LongMap.Entry entry = iterator.next();
+            this.heapTriggers[index] = entry.getLongValue();
+            this.heapChunks[index] = entry.getLongKey();
+            ++index;
+        }
+        this.heapSize = index;
+        for (int i = (index >>> 1) - 1; i >= 0; --i) {
+            this.siftDown(i);
+        }
+    }
+
+    private void push(final long triggerTick, final long chunkKey) {
+        if (this.heapSize == this.heapTriggers.length) {
+            final int capacity = this.heapTriggers.length << 1;
+            this.heapTriggers = Arrays.copyOf(this.heapTriggers, capacity);
+            this.heapChunks = Arrays.copyOf(this.heapChunks, capacity);
+        }
+        int index = this.heapSize++;
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (this.heapTriggers[parent] <= triggerTick) {
+                break;
+            }
+            this.heapTriggers[index] = this.heapTriggers[parent];
+            this.heapChunks[index] = this.heapChunks[parent];
+            index = parent;
+        }
+        this.heapTriggers[index] = triggerTick;
+        this.heapChunks[index] = chunkKey;
+    }
+
+    private void removeTop() {
+        final int last = --this.heapSize;
+        if (last > 0) {
+            this.heapTriggers[0] = this.heapTriggers[last];
+            this.heapChunks[0] = this.heapChunks[last];
+            this.siftDown(0);
+        }
+    }
+
+    private void siftDown(int index) {
+        final long trigger = this.heapTriggers[index];
+        final long chunkKey = this.heapChunks[index];
+        final int half = this.heapSize >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            final int right = child + 1;
+            if (right < this.heapSize && this.heapTriggers[right] < this.heapTriggers[child]) {
+                child = right;
+            }
+            if (trigger <= this.heapTriggers[child]) {
+                break;
+            }
+            this.heapTriggers[index] = this.heapTriggers[child];
+            this.heapChunks[index] = this.heapChunks[child];
+            index = child;
+        }
+        this.heapTriggers[index] = trigger;
+        this.heapChunks[index] = chunkKey;
+    }
+}
@@ -1,25 +1,29 @@
 package org.bacon.ruthenium.region;
 
+import ca.spottedleaf.concurrentutil.collection.MultiThreadedQueue;
+import it.unimi.dsi.fastutil.longs.Long2ReferenceMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import org.bacon.ruthenium.util.CoordinateUtil;
 
 /**
- * Simple task queue that keeps per-chunk runnables associated with a region.
+ * Task queue that keeps per-chunk runnables associated with a region.
  *
- * <p>This is a deliberately straightforward implementation that mirrors the
- * bookkeeping performed by Folia: chunk bound tasks remain with whichever
- * region currently owns the chunk, moving across merges and splits alongside
- * the chunk metadata.</p>
+ * <p>This mirrors the bookkeeping performed by Folia: chunk bound tasks remain with whichever
+ * region currently owns the chunk, moving across merges and splits alongside the chunk metadata.
+ * Tasks are held in a lock-free {@link MultiThreadedQueue}, so any number of threads may queue
+ * work while the owning region thread drains it without contending on a shared monitor.
+ * Draining is expected to happen from a single thread at a time (the owning region thread, or the
+ * thread holding the regionizer write lock during merges and splits).</p>
  */
 public final class RegionTaskQueue {
 
-    private final Deque<RegionChunkTask> chunkTasks = new LinkedList<>();
+    private final MultiThreadedQueue<RegionChunkTask> chunkTasks = new MultiThreadedQueue<>();
 
     /**
      * Creates an empty queue with no pending region tasks.
@@ -37,9 +41,7 @@ public final class RegionTaskQueue {
      */
     public void queueChunkTask(final int chunkX, final int chunkZ, final Runnable task) {
         Objects.requireNonNull(task, "task");
-        synchronized (this) {
-            this.chunkTasks.addLast(new RegionChunkTask(chunkX, chunkZ, task));
-        }
+        this.chunkTasks.add(new RegionChunkTask(chunkX, chunkZ, task));
     }
 
     /**
@@ -49,9 +51,35 @@ public final class RegionTaskQueue {
      * @return the next chunk task
      */
     public RegionChunkTask pollChunkTask() {
-        synchronized (this) {
-            return this.chunkTasks.pollFirst();
+        return this.chunkTasks.poll();
+    }
+
+    /**
+     * Removes up to {@code maxTasks} pending tasks in queue order and passes them to the consumer.
+     *
+     * @param consumer receives each drained task
+     * @param maxTasks maximum number of tasks to drain
+     * @return number of drained tasks
+     */
+    public int drainChunkTasks(final Consumer<? super RegionChunkTask> consumer, final int maxTasks) {
+        Objects.requireNonNull(consumer, "consumer");
+        int drained = 0;
+        RegionChunkTask task;
+        while (drained < maxTasks && (task = this.chunkTasks.poll()) != null) {
+            consumer.accept(task);
+            ++drained;
         }
+        return drained;
+    }
+
+    /**
+     * Removes every pending task in queue order and passes them to the consumer.
+     *
+     * @param consumer receives each drained task
+     * @return number of drained tasks
+     */
+    public int drainChunkTasks(final Consumer<? super RegionChunkTask> consumer) {
+        return this.drainChunkTasks(consumer, Integer.MAX_VALUE);
     }
 
     /**
@@ -60,29 +88,24 @@ public final class RegionTaskQueue {
      * @return {@code true} when no pending chunk tasks remain
      */
     public boolean isEmpty() {
-        synchronized (this) {
-            return this.chunkTasks.isEmpty();
-        }
+        return this.chunkTasks.isEmpty();
     }
 
     /**
-     * Returns the number of tasks currently queued.
+     * Returns the number of tasks currently queued. The value is a snapshot
+     * and may be stale while producers are active.
      *
      * @return task count
      */
     public int size() {
-        synchronized (this) {
-            return this.chunkTasks.size();
-        }
+        return this.chunkTasks.size();
     }
 
     /**
      * Removes all queued tasks.
      */
     public void clear() {
-        synchronized (this) {
-            this.chunkTasks.clear();
-        }
+        this.drainChunkTasks(ignored -> { });
     }
 
     /**
@@ -94,11 +117,9 @@ public final class RegionTaskQueue {
      * @return {@code true} if at least one task targets the chunk
      */
     public boolean containsTask(final int chunkX, final int chunkZ) {
-        synchronized (this) {
-            for (final RegionChunkTask task : this.chunkTasks) {
-                if (task.chunkX == chunkX && task.chunkZ == chunkZ) {
-                    return true;
-                }
+        for (final RegionChunkTask task : this.chunkTasks) {
+            if (task.chunkX == chunkX && task.chunkZ == chunkZ) {
+                return true;
             }
         }
         return false;
@@ -112,14 +133,10 @@ public final class RegionTaskQueue {
      */
     public void absorb(final RegionTaskQueue other) {
         Objects.requireNonNull(other, "other");
-        final List<RegionChunkTask> transfer = new ArrayList<>();
-        synchronized (other) {
-            transfer.addAll(other.chunkTasks);
-            other.chunkTasks.clear();
-        }
-        synchronized (this) {
-            this.chunkTasks.addAll(transfer);
+        if (other == this) {
+            return;
         }
+        other.drainChunkTasks(this.chunkTasks::add);
     }
 
     /**
@@ -131,12 +148,8 @@ public final class RegionTaskQueue {
      */
     public void copyInto(final RegionTaskQueue target) {
         Objects.requireNonNull(target, "target");
-        final List<RegionChunkTask> snapshot;
-        synchronized (this) {
-            snapshot = new ArrayList<>(this.chunkTasks);
-        }
-        synchronized (target) {
-            target.chunkTasks.addAll(snapshot);
+        for (final RegionChunkTask task : this.chunkTasks) {
+            target.chunkTasks.add(task);
         }
     }
 
@@ -151,27 +164,58 @@ public final class RegionTaskQueue {
     public RegionTaskQueue splitForSections(final Set<RegionSectionPos> sectionPositions,
                                             final int sectionChunkShift) {
         Objects.requireNonNull(sectionPositions, "sectionPositions");
-        final Set<RegionSectionPos> lookup = new HashSet<>(sectionPositions);
-        final List<RegionChunkTask> moved = new ArrayList<>();
-        synchronized (this) {
-            final Iterator<RegionChunkTask> iterator = this.chunkTasks.iterator();
-            while (iterator.hasNext()) {
-                final RegionChunkTask task = iterator.next();
-                final RegionSectionPos sectionPos =
-                    RegionSectionPos.fromChunk(task.chunkX, task.chunkZ, sectionChunkShift);
-                if (lookup.contains(sectionPos)) {
-                    moved.add(task);
-                    iterator.remove();
-                }
-            }
+        final LongSet sectionKeys = new LongOpenHashSet(sectionPositions.size());
+        for (final RegionSectionPos sectionPos : sectionPositions) {
+            sectionKeys.add(CoordinateUtil.getChunkKey(sectionPos.x(), sectionPos.z()));
         }
+        return this.splitForSections(sectionKeys, sectionChunkShift);
+    }
+
+    /**
+     * Extracts tasks whose chunks fall within the supplied section keys,
+     * returning them in a new queue.
+     *
+     * @param sectionKeys       packed keys of the sections being reassigned to another region
+     * @param sectionChunkShift section shift used for chunk to section mapping
+     * @return a queue containing the transferred tasks
+     */
+    public RegionTaskQueue splitForSections(final LongSet sectionKeys, final int sectionChunkShift) {
+        Objects.requireNonNull(sectionKeys, "sectionKeys");
         final RegionTaskQueue result = new RegionTaskQueue();
-        synchronized (result) {
-            result.chunkTasks.addAll(moved);
-        }
+        final List<RegionChunkTask> retained = new ArrayList<>();
+        this.drainChunkTasks(task -> {
+            if (sectionKeys.contains(task.sectionKey(sectionChunkShift))) {
+                result.chunkTasks.add(task);
+            } else {
+                retained.add(task);
+            }
+        });
+        this.chunkTasks.addAll(retained);
         return result;
     }
 
+    /**
+     * Distributes tasks to the queues mapped to their section in a single pass. Tasks whose
+     * section has no mapping remain in this queue.
+     *
+     * @param targetsBySection  destination queue for each packed section key
+     * @param sectionChunkShift section shift used for chunk to section mapping
+     */
+    public void distributeBySection(final Long2ReferenceMap<RegionTaskQueue> targetsBySection,
+                                    final int sectionChunkShift) {
+        Objects.requireNonNull(targetsBySection, "targetsBySection");
+        final List<RegionChunkTask> retained = new ArrayList<>();
+        this.drainChunkTasks(task -> {
+            final RegionTaskQueue target = targetsBySection.get(task.sectionKey(sectionChunkShift));
+            if (target != null && target != this) {
+                target.chunkTasks.add(task);
+            } else {
+                retained.add(task);
+            }
+        });
+        this.chunkTasks.addAll(retained);
+    }
+
     /**
      * Encapsulates a chunk bound task along with its target coordinates.
      */
@@ -213,5 +257,9 @@ public final class RegionTaskQueue {
         public Runnable runnable() {
             return this.runnable;
         }
+
+        private long sectionKey(final int sectionChunkShift) {
+            return CoordinateUtil.getChunkKey(this.chunkX >> sectionChunkShift, this.chunkZ >> sectionChunkShift);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package org.bacon.ruthenium.region;
 
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ReferenceMap;
 import it.unimi.dsi.fastutil.longs.Long2ReferenceOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
@@ -7,13 +8,14 @@ import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.random.RandomSeed;
+import net.minecraft.world.chunk.WorldChunk;
 import org.bacon.ruthenium.util.CoordinateUtil;
+import org.bacon.ruthenium.world.RegionTickPhaseProfiler;
 import org.bacon.ruthenium.world.RegionTickStats;
 import org.bacon.ruthenium.world.RegionizedServerWorld;
 import org.bacon.ruthenium.world.RegionizedWorldData;
@@ -33,6 +35,10 @@ public final class RegionTickData implements ThreadedRegionizer.ThreadedRegionDa
     private int chunkTickCursor;
     private final LongSet chunks = new LongOpenHashSet();
     private final RegionTaskQueue taskQueue = new RegionTaskQueue();
+    private final RegionScheduledTickQueue blockTickQueue = new RegionScheduledTickQueue();
+    private final RegionScheduledTickQueue fluidTickQueue = new RegionScheduledTickQueue();
+    private final RegionRandom random = new RegionRandom(RandomSeed.getSeed());
+    private final RegionTickPhaseProfiler phaseProfiler = new RegionTickPhaseProfiler();
     private final RegionizedWorldData worldData;
 
     /**
@@ -115,6 +121,10 @@ public final class RegionTickData implements ThreadedRegionizer.ThreadedRegionDa
         this.chunkTickCursor = Math.max(this.chunkTickCursor, other.chunkTickCursor);
         this.chunks.addAll(other.chunks);
         this.taskQueue.absorb(other.taskQueue);
+        this.blockTickQueue.absorb(other.blockTickQueue);
+        this.fluidTickQueue.absorb(other.fluidTickQueue);
+        this.random.mergeFrom(other.random);
+        this.phaseProfiler.mergeFrom(other.phaseProfiler);
     }
 
     /**
@@ -129,6 +139,10 @@ public final class RegionTickData implements ThreadedRegionizer.ThreadedRegionDa
         copy.chunkTickCursor = this.chunkTickCursor;
         copy.chunks.addAll(this.chunks);
         this.taskQueue.copyInto(copy.taskQueue);
+        this.blockTickQueue.copyInto(copy.blockTickQueue);
+        this.fluidTickQueue.copyInto(copy.fluidTickQueue);
+        copy.random.copyFrom(this.random);
+        copy.phaseProfiler.copyFrom(this.phaseProfiler);
         return copy;
     }
 
@@ -232,6 +246,43 @@ public final class RegionTickData implements ThreadedRegionizer.ThreadedRegionDa
         return this.taskQueue;
     }
 
+    /**
+     * Returns the queue indexing this region's chunks with pending scheduled block ticks.
+     *
+     * @return scheduled block tick queue
+     */
+    public RegionScheduledTickQueue getBlockTickQueue() {
+        return this.blockTickQueue;
+    }
+
+    /**
+     * Returns the queue indexing this region's chunks with pending scheduled fluid ticks.
+     *
+     * @return scheduled fluid tick queue
+     */
+    public RegionScheduledTickQueue getFluidTickQueue() {
+        return this.fluidTickQueue;
+    }
+
+    /**
+     * Returns the random generator owned by this region. Only the thread ticking the region may
+     * use it.
+     *
+     * @return region random
+     */
+    public RegionRandom getRandom() {
+        return this.random;
+    }
+
+    /**
+     * Returns the per-phase tick time histograms of this region.
+     *
+     * @return phase profiler
+     */
+    public RegionTickPhaseProfiler getPhaseProfiler() {
+        return this.phaseProfiler;
+    }
+
     /**
      * Provides access to the rolling tick statistics maintained by the region's schedule handle.
      *
@@ -265,15 +316,22 @@ public final class RegionTickData implements ThreadedRegionizer.ThreadedRegionDa
 
         this.worldData.split(sectionShift, regionToData, dataSet);
 
-        final Map<Long, Set<RegionSectionPos>> sectionsByRegion = new HashMap<>();
+        final Long2ReferenceOpenHashMap<RegionTaskQueue> taskQueuesBySection = new Long2ReferenceOpenHashMap<>(into.size());
+        final Long2ReferenceOpenHashMap<RegionScheduledTickQueue> blockTickQueuesBySection = new Long2ReferenceOpenHashMap<>(into.size());
+        final Long2ReferenceOpenHashMap<RegionScheduledTickQueue> fluidTickQueuesBySection = new Long2ReferenceOpenHashMap<>(into.size());
+        final Long2LongOpenHashMap lowestSections = new Long2LongOpenHashMap(regions.size());
+        lowestSections.defaultReturnValue(Long.MAX_VALUE);
         for (final Long2ReferenceMap.Entry<ThreadedRegionizer.ThreadedRegion<RegionTickData, RegionSectionData>> entry : into.long2ReferenceEntrySet()) {
-            final long sectionKey = entry.getLongKey();
             final ThreadedRegionizer.ThreadedRegion<RegionTickData, RegionSectionData> region = entry.getValue();
             if (region == null) {
                 continue;
             }
-            sectionsByRegion.computeIfAbsent(region.id, ignored -> new HashSet<>())
-                .add(new RegionSectionPos(CoordinateUtil.getChunkX(sectionKey), CoordinateUtil.getChunkZ(sectionKey)));
+            final RegionTickData targetData = region.getData();
+            // Salt each new region's random with its lowest section key so splits are deterministic
+            lowestSections.put(region.id, Math.min(lowestSections.get(region.id), entry.getLongKey()));
+            taskQueuesBySection.put(entry.getLongKey(), targetData.taskQueue);
+            blockTickQueuesBySection.put(entry.getLongKey(), targetData.blockTickQueue);
+            fluidTickQueuesBySection.put(entry.getLongKey(), targetData.fluidTickQueue);
         }
 
         final Long2ReferenceOpenHashMap<LongArrayList> chunksByRegion = new Long2ReferenceOpenHashMap<>(regions.size());
@@ -282,6 +340,8 @@ public final class RegionTickData implements ThreadedRegionizer.ThreadedRegionDa
             final RegionTickData targetData = region.getData();
             targetData.currentTick = this.currentTick;
             targetData.redstoneTick = this.redstoneTick;
+            targetData.random.setSeed(this.random.deriveSplitSeed(lowestSections.get(region.id)));
+            // Children start with empty phase history; copying it would count the parent's samples once per child
             if (this.scheduleHandle != null && targetData.scheduleHandle != null) {
                 targetData.scheduleHandle.copyStateFrom(this.scheduleHandle);
             }
@@ -312,15 +372,16 @@ public final class RegionTickData implements ThreadedRegionizer.ThreadedRegionDa
                     targetData.chunks.add(movedChunks.getLong(i));
                 }
             }
-
-            final Set<RegionSectionPos> positions = sectionsByRegion.get(region.id);
-            if (positions != null && !positions.isEmpty()) {
-                final RegionTaskQueue transferred = this.taskQueue.splitForSections(positions, sectionShift);
-                targetData.taskQueue.absorb(transferred);
-            }
         }
 
+        // Single pass over each queue, keyed by section rather than one scan per target region
+        this.taskQueue.distributeBySection(taskQueuesBySection, sectionShift);
+        this.blockTickQueue.distributeBySection(blockTickQueuesBySection, sectionShift);
+        this.fluidTickQueue.distributeBySection(fluidTickQueuesBySection, sectionShift);
+
         this.taskQueue.clear();
+        this.blockTickQueue.clear();
+        this.fluidTickQueue.clear();
         this.chunks.clear();
     }
 
@@ -334,15 +395,75 @@ public final class RegionTickData implements ThreadedRegionizer.ThreadedRegionDa
         targetData.chunks.addAll(this.chunks);
         this.chunks.clear();
         targetData.taskQueue.absorb(this.taskQueue);
+        targetData.blockTickQueue.absorb(this.blockTickQueue);
+        targetData.fluidTickQueue.absorb(this.fluidTickQueue);
+        targetData.random.mergeFrom(this.random);
+        targetData.phaseProfiler.mergeFrom(this.phaseProfiler);
         if (this.scheduleHandle != null && targetData.scheduleHandle != null) {
             targetData.scheduleHandle.copyStateFrom(this.scheduleHandle);
         }
     }
 
     /**
-     * Marker object containing per-section state for the threaded regionizer.
+     * Per-section state for the threaded regionizer. Caches the loaded {@link WorldChunk} of each
+     * chunk in the section so region threads can resolve chunks without going through the chunk
+     * holder map. Sections move between regions as they merge and split, so the cache follows
+     * ownership without any copying.
      */
-    public static final class RegionSectionData implements ThreadedRegionizer.ThreadedRegionSectionData {}
+    public static final class RegionSectionData implements ThreadedRegionizer.ThreadedRegionSectionData {
+
+        private final int sectionShift;
+        private final int sectionMask;
+        // Written by chunk load/unload callbacks, read by region threads
+        private final AtomicReferenceArray<WorldChunk> chunks;
+
+        /**
+         * Creates empty section data.
+         *
+         * @param sectionShift section size shift, in chunks
+         */
+        public RegionSectionData(final int sectionShift) {
+            this.sectionShift = sectionShift;
+            this.sectionMask = (1 << sectionShift) - 1;
+            this.chunks = new AtomicReferenceArray<>(1 << (sectionShift << 1));
+        }
+
+        /**
+         * Returns the cached chunk at the supplied coordinates.
+         *
+         * @param chunkX chunk X coordinate, within this section
+         * @param chunkZ chunk Z coordinate, within this section
+         * @return cached chunk, or {@code null} when the chunk is not loaded
+         */
+        public WorldChunk getChunk(final int chunkX, final int chunkZ) {
+            return this.chunks.get(this.indexOf(chunkX, chunkZ));
+        }
+
+        /**
+         * Caches a newly loaded chunk.
+         *
+         * @param chunk chunk that finished loading
+         */
+        public void setChunk(final WorldChunk chunk) {
+            final ChunkPos pos = chunk.getPos();
+            this.chunks.set(this.indexOf(pos.x, pos.z), chunk);
+        }
+
+        /**
+         * Drops an unloading chunk from the cache. A different chunk cached at the same position is
+         * left in place.
+         *
+         * @param chunk chunk being unloaded
+         */
+        public void clearChunk(final WorldChunk chunk) {
+            final ChunkPos pos = chunk.getPos();
+            this.chunks.compareAndSet(this.indexOf(pos.x, pos.z), chunk, null);
+        }
+
+        private int indexOf(final int chunkX, final int chunkZ) {
+            return (chunkX & this.sectionMask) | ((chunkZ & this.sectionMask) << this.sectionShift);
+        }
+    }
 
     /**
      * Extracts the chunk X coordinate from a packed chunk key.
@@ -11,6 +11,8 @@ public final class RegionizerConfig {
     private final int emptySectionCreationRadius;
     private final int mergeRadius;
     private final int sectionChunkShift;
+    private final double costSplitMspt;
+    private final int costSplitCheckInterval;
 
     private RegionizerConfig(final Builder builder) {
         this.recalculationSectionCount = builder.recalculationSectionCount;
@@ -18,6 +20,8 @@ public final class RegionizerConfig {
         this.emptySectionCreationRadius = builder.emptySectionCreationRadius;
         this.mergeRadius = builder.mergeRadius;
         this.sectionChunkShift = builder.sectionChunkShift;
+        this.costSplitMspt = builder.costSplitMspt;
+        this.costSplitCheckInterval = builder.costSplitCheckInterval;
     }
 
     /**
@@ -65,6 +69,25 @@ public final class RegionizerConfig {
         return this.sectionChunkShift;
     }
 
+    /**
+     * Returns the rolling tick cost above which a region is recalculated without empty sections
+     * bridging its chunk clusters.
+     *
+     * @return threshold in milliseconds per tick, {@code 0} when disabled
+     */
+    public double getCostSplitMspt() {
+        return this.costSplitMspt;
+    }
+
+    /**
+     * Returns how many releases of a region pass between checks of its tick cost.
+     *
+     * @return check interval in region ticks
+     */
+    public int getCostSplitCheckInterval() {
+        return this.costSplitCheckInterval;
+    }
+
     /**
      * Creates a builder pre-configured with reasonable defaults.
      *
@@ -84,6 +107,8 @@ public final class RegionizerConfig {
         private int emptySectionCreationRadius = 1;
         private int mergeRadius = 1;
         private int sectionChunkShift = 4;
+        private double costSplitMspt = 0.0D;
+        private int costSplitCheckInterval = 200;
 
         private Builder() {
         }
@@ -158,6 +183,34 @@ public final class RegionizerConfig {
             return this;
         }
 
+        /**
+         * Sets the rolling tick cost above which regions are split along their chunk clusters.
+         *
+         * @param value threshold in milliseconds per tick, {@code 0} to disable
+         * @return {@code this} for chaining
+         */
+        public Builder costSplitMspt(final double value) {
+            if (!(value >= 0.0D)) {
+                throw new IllegalArgumentException("Cost split MSPT must be non-negative");
+            }
+            this.costSplitMspt = value;
+            return this;
+        }
+
+        /**
+         * Sets how many releases of a region pass between checks of its tick cost.
+         *
+         * @param value check interval in region ticks
+         * @return {@code this} for chaining
+         */
+        public Builder costSplitCheckInterval(final int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException("Cost split check interval must be positive");
+            }
+            this.costSplitCheckInterval = value;
+            return this;
+        }
+
         /**
          * Builds an immutable configuration instance.
          *
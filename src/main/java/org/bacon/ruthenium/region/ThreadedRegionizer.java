@@ -35,6 +35,8 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
     public final int emptySectionCreateRadius;
     public final int regionSectionMergeRadius;
     public final double maxDeadRegionPercent;
+    public final double costSplitMspt;
+    public final int costSplitCheckInterval;
     public final ServerWorld world;
 
     private final ConcurrentLong2ReferenceChainedHashTable<ThreadedRegionSection<R, S>> sections = new ConcurrentLong2ReferenceChainedHashTable<>();
@@ -56,6 +58,15 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
                               final int emptySectionCreateRadius, final int regionSectionMergeRadius,
                               final int regionSectionChunkShift, final ServerWorld world,
                               final RegionCallbacks<R, S> callbacks) {
+        this(minSectionRecalcCount, maxDeadRegionPercent, emptySectionCreateRadius, regionSectionMergeRadius,
+            regionSectionChunkShift, 0.0D, 1, world, callbacks);
+    }
+
+    public ThreadedRegionizer(final int minSectionRecalcCount, final double maxDeadRegionPercent,
+                              final int emptySectionCreateRadius, final int regionSectionMergeRadius,
+                              final int regionSectionChunkShift, final double costSplitMspt,
+                              final int costSplitCheckInterval, final ServerWorld world,
+                              final RegionCallbacks<R, S> callbacks) {
         if (emptySectionCreateRadius < 0) {
             throw new IllegalStateException("Region section create radius must be >= 0");
         }
@@ -68,6 +79,8 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
         this.maxDeadRegionPercent = maxDeadRegionPercent;
         this.emptySectionCreateRadius = emptySectionCreateRadius;
         this.regionSectionMergeRadius = regionSectionMergeRadius;
+        this.costSplitMspt = costSplitMspt;
+        this.costSplitCheckInterval = Math.max(1, costSplitCheckInterval);
         this.world = world;
         this.callbacks = callbacks;
         //this.loadTestData();
@@ -81,6 +94,8 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
             config.getEmptySectionCreationRadius(),
             config.getMergeRadius(),
             config.getSectionChunkShift(),
+            config.getCostSplitMspt(),
+            config.getCostSplitCheckInterval(),
             world,
             callbacks
         );
@@ -288,10 +303,47 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
         return section == null ? null : section.getRegionPlain();
     }
 
+    /**
+     * Returns the data of the section containing the specified chunk, without locking.
+     *
+     * @param chunkX the chunk X coordinate
+     * @param chunkZ the chunk Z coordinate
+     * @return section data, or {@code null} when no section exists
+     */
+    public S getSectionDataForChunk(final int chunkX, final int chunkZ) {
+        final ThreadedRegionSection<R, S> section = this.sections.get(
+            CoordinateUtil.getChunkKey(chunkX >> this.sectionChunkShift, chunkZ >> this.sectionChunkShift));
+        return section == null ? null : section.getData();
+    }
+
     public ThreadedRegion<R, S> getRegionForChunk(final int chunkX, final int chunkZ) {
         return this.getRegionAtSynchronised(chunkX, chunkZ);
     }
 
+    /**
+     * Passes the region owning the specified chunk (or {@code null}) to the consumer while holding the
+     * region read lock, so the region cannot be merged or split until the consumer returns. The consumer
+     * must not block on other threads that may need the region write lock.
+     *
+     * @param chunkX the chunk X coordinate
+     * @param chunkZ the chunk Z coordinate
+     * @param consumer callback receiving the owning region, or null if none exists
+     */
+    public void computeAtChunkSynchronised(final int chunkX, final int chunkZ,
+                                           final Consumer<? super ThreadedRegion<R, S>> consumer) {
+        final boolean lock = this.writeLockOwner != Thread.currentThread();
+        if (lock) {
+            this.regionLock.readLock();
+        }
+        try {
+            consumer.accept(this.getRegionAtUnsynchronised(chunkX, chunkZ));
+        } finally {
+            if (lock) {
+                this.regionLock.tryUnlockRead();
+            }
+        }
+    }
+
     /**
      * Adds a chunk to the regioniser. Note that it is illegal to add a chunk unless
      * addChunk has not been called for it or removeChunk has been previously called.
@@ -595,6 +647,7 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
                 if (!region.sectionByKey.remove(key, deadSection)) {
                     throw new IllegalStateException("Region " + region + " has inconsistent state, it should contain section " + deadSection);
                 }
+                region.bumpOwnershipVersion();
                 if (this.sections.remove(key) != deadSection) {
                     throw new IllegalStateException("Cannot remove dead section '" +
                         deadSection.toStringWithRegion() + "' from section state! State at section coordinate: " + this.sections.get(key));
@@ -603,9 +656,13 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
             region.deadSections.clear();
         }
 
+        // a region that stays expensive is recalculated even without dead sections, see partitionByChunks
+        final double cost = this.checkRegionCost(region);
+        final boolean costSplit = cost >= this.costSplitMspt;
+
         // if we removed dead sections, we should check if the region can be split into smaller ones
         // otherwise, the region remains alive
-        if (!removedDeadSections) {
+        if (!removedDeadSections && !costSplit) {
             // didn't remove dead sections, don't check for split
             region.state = ThreadedRegion.STATE_READY;
             if (!region.expectingMergeFrom.isEmpty() || !region.mergeIntoLater.isEmpty()) {
@@ -624,47 +681,13 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
             return;
         }
 
-        // merge radius is max, since recalculateSections includes the dead or empty sections
-        final int mergeRadius = Math.max(this.regionSectionMergeRadius, this.emptySectionCreateRadius);
-
-        final List<List<ThreadedRegionSection<R, S>>> newRegions = new ArrayList<>();
-        while (!recalculateSections.isEmpty()) {
-            // select any section, then BFS around it to find all of its neighbours to form a region
-            // once no more neighbours are found, the region is complete
-            final List<ThreadedRegionSection<R, S>> currRegion = new ArrayList<>();
-            final Iterator<ThreadedRegionSection<R, S>> firstIterator = recalculateSections.values().iterator();
-
-            currRegion.add(firstIterator.next());
-            firstIterator.remove();
-            search_loop:
-            for (int idx = 0; idx < currRegion.size(); ++idx) {
-                final ThreadedRegionSection<R, S> curr = currRegion.get(idx);
-                final int centerX = curr.sectionX;
-                final int centerZ = curr.sectionZ;
-
-                // find neighbours in radius
-                for (int dz = -mergeRadius; dz <= mergeRadius; ++dz) {
-                    for (int dx = -mergeRadius; dx <= mergeRadius; ++dx) {
-                        if ((dx | dz) == 0) {
-                            continue;
-                        }
-
-                        final ThreadedRegionSection<R, S> section = recalculateSections.remove(CoordinateUtil.getChunkKey(dx + centerX, dz + centerZ));
-                        if (section == null) {
-                            continue;
-                        }
-
-                        currRegion.add(section);
-
-                        if (recalculateSections.isEmpty()) {
-                            // no point in searching further
-                            break search_loop;
-                        }
-                    }
-                }
-            }
-
-            newRegions.add(currRegion);
+        final List<List<ThreadedRegionSection<R, S>>> newRegions;
+        if (costSplit) {
+            newRegions = this.partitionByChunks(recalculateSections);
+            this.callbacks.onRegionCostRecalculation(region, cost, newRegions.size(), largestChunkShare(newRegions));
+        } else {
+            // merge radius is max, since recalculateSections includes the dead or empty sections
+            newRegions = partitionSections(recalculateSections, Math.max(this.regionSectionMergeRadius, this.emptySectionCreateRadius));
         }
 
         // now we have split the regions into separate parts, we can split recalculate
@@ -721,6 +744,138 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
         }
     }
 
+    /**
+     * Returns the rolling tick cost of {@code region} if it is due for a cost check, counting down
+     * {@link #costSplitCheckInterval} releases between checks.
+     *
+     * @return cost in milliseconds per tick, or {@link Double#NaN} when no check is due
+     */
+    private double checkRegionCost(final ThreadedRegion<R, S> region) {
+        if (this.costSplitMspt <= 0.0D || region.sectionByKey.size() < 2 || --region.releasesUntilCostCheck > 0) {
+            return Double.NaN;
+        }
+        region.releasesUntilCostCheck = this.costSplitCheckInterval;
+        return this.callbacks.getRegionTickCost(region);
+    }
+
+    /**
+     * Groups sections into regions by BFS, joining any two sections within {@code radius} of each other.
+     * Consumes {@code sections}.
+     */
+    private static <R extends ThreadedRegionData<R, S>, S extends ThreadedRegionSectionData> List<List<ThreadedRegionSection<R, S>>> partitionSections(
+        final Long2ReferenceOpenHashMap<ThreadedRegionSection<R, S>> sections, final int radius) {
+        final List<List<ThreadedRegionSection<R, S>>> newRegions = new ArrayList<>();
+        while (!sections.isEmpty()) {
+            // select any section, then BFS around it to find all of its neighbours to form a region
+            // once no more neighbours are found, the region is complete
+            final List<ThreadedRegionSection<R, S>> currRegion = new ArrayList<>();
+            final Iterator<ThreadedRegionSection<R, S>> firstIterator = sections.values().iterator();
+
+            currRegion.add(firstIterator.next());
+            firstIterator.remove();
+            search_loop:
+            for (int idx = 0; idx < currRegion.size(); ++idx) {
+                final ThreadedRegionSection<R, S> curr = currRegion.get(idx);
+                final int centerX = curr.sectionX;
+                final int centerZ = curr.sectionZ;
+
+                // find neighbours in radius
+                for (int dz = -radius; dz <= radius; ++dz) {
+                    for (int dx = -radius; dx <= radius; ++dx) {
+                        if ((dx | dz) == 0) {
+                            continue;
+                        }
+
+                        final ThreadedRegionSection<R, S> section = sections.remove(CoordinateUtil.getChunkKey(dx + centerX, dz + centerZ));
+                        if (section == null) {
+                            continue;
+                        }
+
+                        currRegion.add(section);
+
+                        if (sections.isEmpty()) {
+                            // no point in searching further
+                            break search_loop;
+                        }
+                    }
+                }
+            }
+
+            newRegions.add(currRegion);
+        }
+
+        return newRegions;
+    }
+
+    /**
+     * Partitions the sections of a region that stays over {@link #costSplitMspt}. Only sections with
+     * chunks join components, using the same merge radius {@link #addChunk} merges by; empty buffer
+     * sections then follow the nearest component but never bridge two. Clusters of loaded chunks
+     * that were only held together by buffers tick as separate regions afterwards.
+     */
+    private List<List<ThreadedRegionSection<R, S>>> partitionByChunks(final Long2ReferenceOpenHashMap<ThreadedRegionSection<R, S>> sections) {
+        final Long2ReferenceOpenHashMap<ThreadedRegionSection<R, S>> nonEmpty = new Long2ReferenceOpenHashMap<>(sections.size());
+        for (final ThreadedRegionSection<R, S> section : sections.values()) {
+            if (!section.isEmpty()) {
+                nonEmpty.put(section.sectionKey, section);
+            }
+        }
+        if (nonEmpty.isEmpty()) {
+            final List<List<ThreadedRegionSection<R, S>>> single = new ArrayList<>(1);
+            single.add(new ArrayList<>(sections.values()));
+            return single;
+        }
+
+        final List<List<ThreadedRegionSection<R, S>>> newRegions = partitionSections(nonEmpty, this.regionSectionMergeRadius);
+        final Long2ReferenceOpenHashMap<List<ThreadedRegionSection<R, S>>> componentByKey = new Long2ReferenceOpenHashMap<>(sections.size());
+        for (final List<ThreadedRegionSection<R, S>> component : newRegions) {
+            for (final ThreadedRegionSection<R, S> section : component) {
+                componentByKey.put(section.sectionKey, component);
+            }
+        }
+
+        final int searchRadius = Math.max(this.regionSectionMergeRadius, this.emptySectionCreateRadius);
+        for (final ThreadedRegionSection<R, S> section : sections.values()) {
+            if (!section.isEmpty()) {
+                continue;
+            }
+            List<ThreadedRegionSection<R, S>> owner = null;
+            search_loop:
+            for (int ring = 1; ring <= searchRadius; ++ring) {
+                for (int dz = -ring; dz <= ring; ++dz) {
+                    for (int dx = -ring; dx <= ring; ++dx) {
+                        if (Math.max(Math.abs(dx), Math.abs(dz)) != ring) {
+                            continue;
+                        }
+                        owner = componentByKey.get(CoordinateUtil.getChunkKey(section.sectionX + dx, section.sectionZ + dz));
+                        if (owner != null) {
+                            break search_loop;
+                        }
+                    }
+                }
+            }
+            // dead sections waiting for removal may have no non-empty section around them
+            (owner == null ? newRegions.get(0) : owner).add(section);
+        }
+
+        return newRegions;
+    }
+
+    private static <R extends ThreadedRegionData<R, S>, S extends ThreadedRegionSectionData> double largestChunkShare(
+        final List<List<ThreadedRegionSection<R, S>>> regions) {
+        long total = 0L;
+        long largest = 0L;
+        for (final List<ThreadedRegionSection<R, S>> sections : regions) {
+            long chunks = 0L;
+            for (final ThreadedRegionSection<R, S> section : sections) {
+                chunks += section.chunkCount;
+            }
+            total += chunks;
+            largest = Math.max(largest, chunks);
+        }
+        return total == 0L ? 1.0D : (double)largest / (double)total;
+    }
+
     public static final class ThreadedRegion<R extends ThreadedRegionData<R, S>, S extends ThreadedRegionSectionData> {
 
         private static final AtomicLong REGION_ID_GENERATOR = new AtomicLong();
@@ -746,6 +901,12 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
         private final ReferenceOpenHashSet<ThreadedRegion<R, S>> mergeIntoLater = new ReferenceOpenHashSet<>();
         private final ReferenceOpenHashSet<ThreadedRegion<R, S>> expectingMergeFrom = new ReferenceOpenHashSet<>();
 
+        // Bumped whenever a section or chunk joins or leaves this region; see RegionOwnershipSnapshot
+        private final AtomicLong ownershipVersion = new AtomicLong();
+
+        // Releases left until the regioniser checks this region's tick cost again, guarded by the write lock
+        private int releasesUntilCostCheck;
+
         /**
          * Returns a human-readable string representation of the region's current state for debugging purposes.
          */
@@ -761,6 +922,7 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
             this.regioniser = regioniser;
             this.id = REGION_ID_GENERATOR.getAndIncrement();
             this.state = STATE_TRANSIENT;
+            this.releasesUntilCostCheck = regioniser.costSplitCheckInterval;
             this.data = regioniser.callbacks.createNewData(this);
         }
 
@@ -781,6 +943,54 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
             }
         }
 
+        /**
+         * Returns the current ownership version. The version changes whenever a section or chunk is
+         * added to or removed from this region.
+         */
+        public long getOwnershipVersion() {
+            return this.ownershipVersion.get();
+        }
+
+        private void bumpOwnershipVersion() {
+            this.ownershipVersion.incrementAndGet();
+        }
+
+        /**
+         * Captures an immutable view of the chunks this region currently owns, for lock-free
+         * ownership checks by the thread ticking this region.
+         *
+         * @return ownership snapshot, or {@code null} when the region spans too many sections to
+         *         snapshot as a bitmap
+         */
+        public RegionOwnershipSnapshot captureOwnershipSnapshot() {
+            final boolean lock = this.regioniser.writeLockOwner != Thread.currentThread();
+            if (lock) {
+                this.regioniser.regionLock.readLock();
+            }
+            try {
+                // Read the version before copying so a concurrent chunk add is either copied or
+                // leaves the snapshot stale
+                final long version = this.ownershipVersion.get();
+                final int sectionCount = this.sectionByKey.size();
+                final int words = Math.max(1, this.regioniser.regionSectionChunkSize * this.regioniser.regionSectionChunkSize / Long.SIZE);
+                final long[] keys = new long[sectionCount];
+                final long[] chunks = new long[sectionCount * words];
+                final ThreadedRegionSectionData[] data = new ThreadedRegionSectionData[sectionCount];
+                int index = 0;
+                for (final ThreadedRegionSection<R, S> section : this.sectionByKey.values()) {
+                    keys[index] = section.sectionKey;
+                    data[index] = section.getData();
+                    System.arraycopy(section.chunksBitset, 0, chunks, index * words, words);
+                    ++index;
+                }
+                return RegionOwnershipSnapshot.build(this, version, this.regioniser.sectionChunkShift, keys, chunks, data, words);
+            } finally {
+                if (lock) {
+                    this.regioniser.regionLock.tryUnlockRead();
+                }
+            }
+        }
+
         /**
          * returns an iterator directly over the sections map. This is only to be used by a thread which is _ticking_
          * 'this' region.
@@ -1146,6 +1356,7 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
                 throw new IllegalStateException("Already have section " + section + ", mapped to " + this.sectionByKey.get(section.sectionKey));
             }
             section.setRegionRelease(this);
+            this.bumpOwnershipVersion();
         }
 
         public R getData() {
@@ -1401,6 +1612,7 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
             if (notEmpty && this.nonEmptyNeighbours == 0) {
                 this.markAlive();
             }
+            this.bumpRegionOwnershipVersion();
             return notEmpty;
         }
 
@@ -1419,9 +1631,17 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
             if (empty && this.nonEmptyNeighbours == 0) {
                 this.markDead();
             }
+            this.bumpRegionOwnershipVersion();
             return empty;
         }
 
+        private void bumpRegionOwnershipVersion() {
+            final ThreadedRegion<R, S> region = this.getRegionAcquire();
+            if (region != null) {
+                region.bumpOwnershipVersion();
+            }
+        }
+
         @Override
         public String toString() {
             return "RegionSection{" +
@@ -1616,5 +1836,41 @@ public final class ThreadedRegionizer<R extends ThreadedRegionizer.ThreadedRegio
          * @param into The list of regions to split into.
          */
         public void preSplit(final ThreadedRegion<R, S> from, final List<ThreadedRegion<R, S>> into);
+
+        /**
+         * Returns the sustained tick cost of a region the regioniser is about to release, compared against
+         * {@link ThreadedRegionizer#costSplitMspt}. Only queried when cost based splitting is enabled.
+         * <p>
+         * <b>Note:</b>
+         * </p>
+         * <p>
+         * This function is always called while holding critical locks and as such should not attempt to block on anything, and
+         * should NOT retrieve or modify ANY world state.
+         * </p>
+         * @param region The region being released by its ticking thread.
+         * @return Milliseconds per tick, or {@link Double#NaN} if not known yet.
+         */
+        public default double getRegionTickCost(final ThreadedRegion<R, S> region) {
+            return Double.NaN;
+        }
+
+        /**
+         * Callback for when a region over the cost threshold was recalculated without empty sections bridging its
+         * chunk clusters. Invoked before {@link #preSplit}, which only follows if {@code pieces} is above one.
+         * <p>
+         * <b>Note:</b>
+         * </p>
+         * <p>
+         * This function is always called while holding critical locks and as such should not attempt to block on anything, and
+         * should NOT retrieve or modify ANY world state.
+         * </p>
+         * @param region The region that was recalculated.
+         * @param costMspt Its tick cost from {@link #getRegionTickCost}.
+         * @param pieces Number of regions it is split into, {@code 1} if it stays whole.
+         * @param largestChunkShare Share of the region's chunks owned by the largest piece.
+         */
+        public default void onRegionCostRecalculation(final ThreadedRegion<R, S> region, final double costMspt,
+                                                      final int pieces, final double largestChunkShare) {
+        }
     }
 }
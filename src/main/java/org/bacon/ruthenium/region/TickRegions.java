@@ -5,6 +5,8 @@ import java.util.Objects;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.bacon.ruthenium.debug.RegionDebug;
+import org.bacon.ruthenium.world.RegionTickMonitor;
+import org.bacon.ruthenium.world.RegionTickStats;
 import org.bacon.ruthenium.world.TickRegionScheduler;
 
 /**
@@ -23,7 +25,7 @@ public final class TickRegions implements ThreadedRegionizer.RegionCallbacks<Reg
 
     @Override
     public RegionTickData.RegionSectionData createNewSectionData(final int sectionX, final int sectionZ, final int sectionShift) {
-        return new RegionTickData.RegionSectionData();
+        return new RegionTickData.RegionSectionData(sectionShift);
     }
 
     @Override
@@ -57,6 +59,7 @@ public final class TickRegions implements ThreadedRegionizer.RegionCallbacks<Reg
             RegionDebug.log(RegionDebug.LogCategory.LIFECYCLE,
                 "Region {} destroyed", region.id);
         }
+        RegionTickMonitor.getInstance().forgetRegion(region.regioniser.world, region.id);
     }
 
     @Override
@@ -118,4 +121,25 @@ public final class TickRegions implements ThreadedRegionizer.RegionCallbacks<Reg
                 "Region {} splitting into {} regions", from.id, into.size());
         }
     }
+
+    @Override
+    public double getRegionTickCost(final ThreadedRegionizer.ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region) {
+        final RegionTickStats stats = region.getData().getTickStats();
+        // only a full window counts as sustained, a few slow ticks after a merge or load do not
+        if (stats == null || stats.getSampleCount() < stats.getWindowSize()) {
+            return Double.NaN;
+        }
+        return stats.getAverageTickMillis();
+    }
+
+    @Override
+    public void onRegionCostRecalculation(final ThreadedRegionizer.ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region,
+                                          final double costMspt, final int pieces, final double largestChunkShare) {
+        if (RegionDebug.isEnabled(RegionDebug.LogCategory.LIFECYCLE)) {
+            RegionDebug.log(RegionDebug.LogCategory.LIFECYCLE,
+                "Region {} at {} MSPT recalculated into {} regions (largest owns {} of its chunks)",
+                region.id, costMspt, pieces, largestChunkShare);
+        }
+        RegionTickMonitor.getInstance().recordCostRecalculation(region.regioniser.world, costMspt, pieces, largestChunkShare);
+    }
 }
@@ -0,0 +1,210 @@
+package org.bacon.ruthenium.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ReferenceLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ReferenceMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * List of elements bucketed by packed chunk key, in chunk insertion order.
+ *
+ * <p>Iteration visits one bucket per chunk, so a per-chunk condition is evaluated once for the
+ * whole bucket rather than once per element. Removal compacts each bucket in place during the
+ * same pass, keeping bulk removals linear in the bucket size. Not thread-safe.</p>
+ *
+ * @param <T> element type
+ */
+public final class ChunkBucketList<T> {
+
+    private final Long2ReferenceLinkedOpenHashMap<ObjectArrayList<T>> buckets = new Long2ReferenceLinkedOpenHashMap<>();
+    private int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public ChunkBucketList() {
+    }
+
+    /**
+     * Appends an element to the bucket of the supplied chunk. Duplicates are not detected.
+     *
+     * @param chunkKey packed chunk key
+     * @param element  element to add
+     */
+    public void add(final long chunkKey, final T element) {
+        Objects.requireNonNull(element, "element");
+        ObjectArrayList<T> bucket = this.buckets.get(chunkKey);
+        if (bucket == null) {
+            bucket = new ObjectArrayList<>();
+            this.buckets.put(chunkKey, bucket);
+        }
+        bucket.add(element);
+        ++this.size;
+    }
+
+    /**
+     * Returns the total number of elements.
+     *
+     * @return element count
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether the list holds no elements.
+     *
+     * @return {@code true} when empty
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the number of chunks with at least one element.
+     *
+     * @return bucket count
+     */
+    public int bucketCount() {
+        return this.buckets.size();
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void clear() {
+        this.buckets.clear();
+        this.size = 0;
+    }
+
+    /**
+     * Visits every element once, in bucket then insertion order.
+     *
+     * @param action receives each element
+     */
+    public void forEach(final Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action");
+        for (final ObjectArrayList<T> bucket : this.buckets.values()) {
+            for (int i = 0, len = bucket.size(); i < len; ++i) {
+                action.accept(bucket.get(i));
+            }
+        }
+    }
+
+    /**
+     * Walks every bucket, dropping removed elements and running {@code action} on the remaining
+     * elements of chunks accepted by {@code chunkFilter}. Removed elements are detected before
+     * {@code action} runs and are compacted out of their bucket in the same pass; emptied buckets
+     * are dropped. Elements of rejected chunks are only checked for removal.
+     *
+     * <p>{@code action} must not add to this list.</p>
+     *
+     * @param chunkFilter decides once per bucket whether its elements run
+     * @param removed     decides whether an element should be dropped
+     * @param action      runs for each retained element of an accepted chunk
+     * @param onRemoved   receives each dropped element
+     * @return number of dropped elements
+     */
+    public int processAndCompact(final LongPredicate chunkFilter, final Predicate<? super T> removed,
+                                 final Consumer<? super T> action, final Consumer<? super T> onRemoved) {
+        Objects.requireNonNull(chunkFilter, "chunkFilter");
+        Objects.requireNonNull(removed, "removed");
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(onRemoved, "onRemoved");
+        int dropped = 0;
+        for (final ObjectIterator<Long2ReferenceMap.Entry<ObjectArrayList<T>>> iterator =
+                 this.buckets.long2ReferenceEntrySet().fastIterator(); iterator.hasNext();) {
+            final Long2ReferenceMap.Entry<ObjectArrayList<T>> entry = iterator.next();
+            final ObjectArrayList<T> bucket = entry.getValue();
+            final boolean run = chunkFilter.test(entry.getLongKey());
+            final int len = bucket.size();
+            int write = 0;
+            int read = 0;
+            try {
+                for (; read < len; ++read) {
+                    final T element = bucket.get(read);
+                    if (removed.test(element)) {
+                        ++dropped;
+                        onRemoved.accept(element);
+                        continue;
+                    }
+                    if (write != read) {
+                        bucket.set(write, element);
+                    }
+                    ++write;
+                    if (run) {
+                        action.accept(element);
+                    }
+                }
+            } finally {
+                // Keep the unvisited tail if an action threw part way through the bucket
+                for (; read < len; ++read) {
+                    bucket.set(write++, bucket.get(read));
+                }
+                this.size -= len - write;
+                bucket.size(write);
+            }
+            if (write == 0) {
+                iterator.remove();
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Moves every bucket of {@code other} into this list, leaving {@code other} empty. Buckets for
+     * chunks already present here are appended to the existing bucket.
+     *
+     * @param other list to drain
+     */
+    public void absorb(final ChunkBucketList<T> other) {
+        Objects.requireNonNull(other, "other");
+        if (other == this) {
+            return;
+        }
+        for (final ObjectIterator<Long2ReferenceMap.Entry<ObjectArrayList<T>>> iterator =
+                 other.buckets.long2ReferenceEntrySet().fastIterator(); iterator.hasNext();) {
+            final Long2ReferenceMap.Entry<ObjectArrayList<T>> entry = iterator.next();
+            this.moveBucket(entry.getLongKey(), entry.getValue());
+        }
+        other.clear();
+    }
+
+    /**
+     * Moves each bucket to the list returned for its chunk by {@code targetByChunk}. Buckets whose
+     * chunk maps to {@code null} (or to this list) remain here.
+     *
+     * @param targetByChunk destination for each packed chunk key
+     */
+    public void distributeByChunk(final LongFunction<ChunkBucketList<T>> targetByChunk) {
+        Objects.requireNonNull(targetByChunk, "targetByChunk");
+        for (final ObjectIterator<Long2ReferenceMap.Entry<ObjectArrayList<T>>> iterator =
+                 this.buckets.long2ReferenceEntrySet().fastIterator(); iterator.hasNext();) {
+            final Long2ReferenceMap.Entry<ObjectArrayList<T>> entry = iterator.next();
+            final long chunkKey = entry.getLongKey();
+            final ChunkBucketList<T> target = targetByChunk.apply(chunkKey);
+            if (target == null || target == this) {
+                continue;
+            }
+            final ObjectArrayList<T> bucket = entry.getValue();
+            this.size -= bucket.size();
+            iterator.remove();
+            target.moveBucket(chunkKey, bucket);
+        }
+    }
+
+    private void moveBucket(final long chunkKey, final ObjectArrayList<T> bucket) {
+        final ObjectArrayList<T> existing = this.buckets.get(chunkKey);
+        if (existing == null) {
+            this.buckets.put(chunkKey, bucket);
+        } else {
+            existing.addAll(bucket);
+        }
+        this.size += bucket.size();
+    }
+}
@@ -0,0 +1,231 @@
+package org.bacon.ruthenium.util;
+
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.longs.Long2ReferenceLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ReferenceMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectOpenCustomHashSet;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * FIFO queue of chunk-bound events with duplicate suppression and per-chunk parking, drained by a
+ * single owning thread.
+ *
+ * <p>An event is dropped on {@link #push(Object)} while an equal event, as defined by the supplied
+ * hash strategy, is still queued or parked. {@link #drain(LongPredicate, Consumer)} runs events in
+ * insertion order, including events pushed by the action itself. Events whose chunk is not ready
+ * are parked in a bucket for that chunk rather than being requeued, so later drains only check
+ * each parked chunk once instead of every parked event. Not thread-safe.</p>
+ *
+ * @param <T> event type
+ */
+public final class ChunkEventQueue<T> {
+
+    private final ToLongFunction<? super T> chunkKeyFunction;
+    private final ObjectOpenCustomHashSet<T> queued;
+    private final ArrayDeque<T> pending = new ArrayDeque<>();
+    private final Long2ReferenceLinkedOpenHashMap<ObjectArrayList<T>> parked = new Long2ReferenceLinkedOpenHashMap<>();
+    private int parkedCount;
+
+    /**
+     * Creates an empty queue.
+     *
+     * @param dedupeStrategy   defines which events are duplicates of each other
+     * @param chunkKeyFunction returns the packed chunk key of an event
+     */
+    public ChunkEventQueue(final Hash.Strategy<? super T> dedupeStrategy, final ToLongFunction<? super T> chunkKeyFunction) {
+        this.queued = new ObjectOpenCustomHashSet<>(Objects.requireNonNull(dedupeStrategy, "dedupeStrategy"));
+        this.chunkKeyFunction = Objects.requireNonNull(chunkKeyFunction, "chunkKeyFunction");
+    }
+
+    /**
+     * Queues an event unless an equal event is already queued or parked.
+     *
+     * @param event event to queue
+     * @return {@code true} if the event was queued
+     */
+    public boolean push(final T event) {
+        Objects.requireNonNull(event, "event");
+        if (!this.queued.add(event)) {
+            return false;
+        }
+        this.pending.addLast(event);
+        return true;
+    }
+
+    /**
+     * Returns the number of queued and parked events.
+     *
+     * @return event count
+     */
+    public int size() {
+        return this.pending.size() + this.parkedCount;
+    }
+
+    /**
+     * Returns whether no events are queued or parked.
+     *
+     * @return {@code true} when empty
+     */
+    public boolean isEmpty() {
+        return this.pending.isEmpty() && this.parkedCount == 0;
+    }
+
+    /**
+     * Returns the number of parked events.
+     *
+     * @return parked event count
+     */
+    public int parkedSize() {
+        return this.parkedCount;
+    }
+
+    /**
+     * Removes every queued and parked event.
+     */
+    public void clear() {
+        this.queued.clear();
+        this.pending.clear();
+        this.parked.clear();
+        this.parkedCount = 0;
+    }
+
+    /**
+     * Requeues the parked events of chunks that are now ready, then runs queued events in order
+     * until the queue is empty. Events of chunks that are not ready are parked. Readiness is
+     * evaluated once per run of consecutive events in the same chunk.
+     *
+     * <p>If {@code action} throws, the events not yet run stay queued.</p>
+     *
+     * @param chunkReady decides whether events of a chunk may run
+     * @param action     runs each event; may push further events
+     * @return number of events run
+     */
+    public int drain(final LongPredicate chunkReady, final Consumer<? super T> action) {
+        Objects.requireNonNull(chunkReady, "chunkReady");
+        Objects.requireNonNull(action, "action");
+        if (this.parkedCount != 0) {
+            this.releaseParked(chunkReady);
+        }
+
+        int ran = 0;
+        long lastChunkKey = 0L;
+        boolean lastReady = false;
+        boolean haveLast = false;
+        T event;
+        while ((event = this.pending.pollFirst()) != null) {
+            final long chunkKey = this.chunkKeyFunction.applyAsLong(event);
+            if (!haveLast || chunkKey != lastChunkKey) {
+                lastChunkKey = chunkKey;
+                lastReady = chunkReady.test(chunkKey);
+                haveLast = true;
+            }
+            if (!lastReady) {
+                // Stays in the dedupe set while parked
+                this.park(chunkKey, event);
+                continue;
+            }
+            this.queued.remove(event);
+            ++ran;
+            action.accept(event);
+        }
+        return ran;
+    }
+
+    /**
+     * Moves every event of {@code other} into this queue, leaving {@code other} empty. Queued
+     * events keep their order after this queue's events; duplicates are dropped.
+     *
+     * @param other queue to drain
+     */
+    public void absorb(final ChunkEventQueue<T> other) {
+        Objects.requireNonNull(other, "other");
+        if (other == this) {
+            return;
+        }
+        for (final T event : other.pending) {
+            this.push(event);
+        }
+        for (final Long2ReferenceMap.Entry<ObjectArrayList<T>> entry : other.parked.long2ReferenceEntrySet()) {
+            this.parkAll(entry.getLongKey(), entry.getValue());
+        }
+        other.clear();
+    }
+
+    /**
+     * Moves each event to the queue returned for its chunk by {@code targetByChunk}. Events whose
+     * chunk maps to {@code null} (or to this queue) remain here. Parked buckets move as a whole.
+     *
+     * @param targetByChunk destination for each packed chunk key
+     */
+    public void distributeByChunk(final LongFunction<ChunkEventQueue<T>> targetByChunk) {
+        Objects.requireNonNull(targetByChunk, "targetByChunk");
+        final int pendingCount = this.pending.size();
+        for (int i = 0; i < pendingCount; ++i) {
+            final T event = this.pending.pollFirst();
+            final ChunkEventQueue<T> target = targetByChunk.apply(this.chunkKeyFunction.applyAsLong(event));
+            if (target == null || target == this) {
+                this.pending.addLast(event);
+                continue;
+            }
+            this.queued.remove(event);
+            target.push(event);
+        }
+        for (final ObjectIterator<Long2ReferenceMap.Entry<ObjectArrayList<T>>> iterator =
+                 this.parked.long2ReferenceEntrySet().fastIterator(); iterator.hasNext();) {
+            final Long2ReferenceMap.Entry<ObjectArrayList<T>> entry = iterator.next();
+            final long chunkKey = entry.getLongKey();
+            final ChunkEventQueue<T> target = targetByChunk.apply(chunkKey);
+            if (target == null || target == this) {
+                continue;
+            }
+            final ObjectArrayList<T> bucket = entry.getValue();
+            iterator.remove();
+            this.parkedCount -= bucket.size();
+            for (int i = 0, len = bucket.size(); i < len; ++i) {
+                this.queued.remove(bucket.get(i));
+            }
+            target.parkAll(chunkKey, bucket);
+        }
+    }
+
+    private void releaseParked(final LongPredicate chunkReady) {
+        for (final ObjectIterator<Long2ReferenceMap.Entry<ObjectArrayList<T>>> iterator =
+                 this.parked.long2ReferenceEntrySet().fastIterator(); iterator.hasNext();) {
+            final Long2ReferenceMap.Entry<ObjectArrayList<T>> entry = iterator.next();
+            if (!chunkReady.test(entry.getLongKey())) {
+                continue;
+            }
+            final ObjectArrayList<T> bucket = entry.getValue();
+            iterator.remove();
+            this.parkedCount -= bucket.size();
+            // Already in the dedupe set, so bypass push
+            this.pending.addAll(bucket);
+        }
+    }
+
+    private void park(final long chunkKey, final T event) {
+        ObjectArrayList<T> bucket = this.parked.get(chunkKey);
+        if (bucket == null) {
+            bucket = new ObjectArrayList<>();
+            this.parked.put(chunkKey, bucket);
+        }
+        bucket.add(event);
+        ++this.parkedCount;
+    }
+
+    private void parkAll(final long chunkKey, final ObjectArrayList<T> events) {
+        for (int i = 0, len = events.size(); i < len; ++i) {
+            final T event = events.get(i);
+            if (this.queued.add(event)) {
+                this.park(chunkKey, event);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.bacon.ruthenium.util;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import java.util.Objects;
+
+/**
+ * Immutable open-addressing {@code long} set intended to be published through a single volatile
+ * field and queried concurrently without locking.
+ *
+ * <p>Keys are stored in a power-of-two table with linear probing at a load factor of at most 0.5.
+ * {@code 0} marks an empty slot; membership of the key {@code 0} itself is tracked separately.</p>
+ */
+public final class FrozenLongSet {
+
+    /** Shared empty set. */
+    public static final FrozenLongSet EMPTY = new FrozenLongSet(new long[1], 0, false, 0);
+
+    private final long[] table;
+    private final int mask;
+    private final boolean containsZero;
+    private final int size;
+
+    private FrozenLongSet(final long[] table, final int mask, final boolean containsZero, final int size) {
+        this.table = table;
+        this.mask = mask;
+        this.containsZero = containsZero;
+        this.size = size;
+    }
+
+    /**
+     * Creates a frozen copy of the supplied collection.
+     *
+     * @param source keys to copy
+     * @return frozen set containing every key in {@code source}
+     */
+    public static FrozenLongSet copyOf(final LongCollection source) {
+        Objects.requireNonNull(source, "source");
+        if (source.isEmpty()) {
+            return EMPTY;
+        }
+        final int capacity = HashCommon.arraySize(source.size(), 0.5f);
+        final long[] table = new long[capacity];
+        final int mask = capacity - 1;
+        boolean containsZero = false;
+        int size = 0;
+        for (final LongIterator iterator = source.iterator(); iterator.hasNext();) {
+            final long key = iterator.nextLong();
+            if (key == 0L) {
+                if (!containsZero) {
+                    containsZero = true;
+                    ++size;
+                }
+                continue;
+            }
+            int index = (int)HashCommon.mix(key) & mask;
+            long current;
+            while ((current = table[index]) != 0L && current != key) {
+                index = (index + 1) & mask;
+            }
+            if (current == 0L) {
+                table[index] = key;
+                ++size;
+            }
+        }
+        return new FrozenLongSet(table, mask, containsZero, size);
+    }
+
+    /**
+     * Returns whether the key is present.
+     *
+     * @param key key to look up
+     * @return {@code true} if the set contains {@code key}
+     */
+    public boolean contains(final long key) {
+        if (key == 0L) {
+            return this.containsZero;
+        }
+        final long[] table = this.table;
+        int index = (int)HashCommon.mix(key) & this.mask;
+        long current;
+        while ((current = table[index]) != 0L) {
+            if (current == key) {
+                return true;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of keys in this set.
+     *
+     * @return key count
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether this set is empty.
+     *
+     * @return {@code true} if the set holds no keys
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Copies the keys into a new array in unspecified order.
+     *
+     * @return array containing every key
+     */
+    public long[] toLongArray() {
+        final long[] result = new long[this.size];
+        int cursor = 0;
+        if (this.containsZero) {
+            result[cursor++] = 0L;
+        }
+        for (final long key : this.table) {
+            if (key != 0L) {
+                result[cursor++] = key;
+            }
+        }
+        return result;
+    }
+}
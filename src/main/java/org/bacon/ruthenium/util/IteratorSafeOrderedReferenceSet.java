@@ -0,0 +1,219 @@
+package org.bacon.ruthenium.util;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Insertion-ordered identity set backed by a flat array that can be walked by index while it is
+ * being modified.
+ *
+ * <p>Removing an element only clears its slot, so indexes handed out by the raw iterator stay
+ * valid until every iterator is finished; the array is compacted afterwards once enough slots are
+ * empty. Elements appended during an iteration land past the current end and are visited by that
+ * iteration only if it reads {@link #getListSize()} again. Not thread-safe: callers guard access
+ * themselves.</p>
+ *
+ * @param <E> element type
+ */
+public final class IteratorSafeOrderedReferenceSet<E> {
+
+    private static final int MIN_COMPACT_NULLS = 16;
+
+    private final Reference2IntOpenHashMap<E> indexMap;
+    private final double maxFragmentation;
+    private E[] elements;
+    private int listSize;
+    private int nullCount;
+    private int iteratorCount;
+
+    /**
+     * Creates an empty set that compacts once a fifth of its slots are empty.
+     */
+    public IteratorSafeOrderedReferenceSet() {
+        this(16, 0.2D);
+    }
+
+    /**
+     * Creates an empty set.
+     *
+     * @param capacity         initial slot count
+     * @param maxFragmentation fraction of empty slots that triggers compaction
+     */
+    @SuppressWarnings("unchecked")
+    public IteratorSafeOrderedReferenceSet(final int capacity, final double maxFragmentation) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        if (!(maxFragmentation > 0.0D && maxFragmentation <= 1.0D)) {
+            throw new IllegalArgumentException("Invalid fragmentation factor " + maxFragmentation);
+        }
+        this.indexMap = new Reference2IntOpenHashMap<>(capacity);
+        this.indexMap.defaultReturnValue(-1);
+        this.maxFragmentation = maxFragmentation;
+        this.elements = (E[])new Object[Math.max(1, capacity)];
+    }
+
+    /**
+     * Appends an element unless it is already present.
+     *
+     * @param element element to add
+     * @return {@code true} if the element was added
+     */
+    public boolean add(final E element) {
+        Objects.requireNonNull(element, "element");
+        if (this.indexMap.containsKey(element)) {
+            return false;
+        }
+        if (this.listSize == this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, this.listSize << 1);
+        }
+        this.indexMap.put(element, this.listSize);
+        this.elements[this.listSize++] = element;
+        return true;
+    }
+
+    /**
+     * Removes an element, leaving an empty slot behind.
+     *
+     * @param element element to remove
+     * @return {@code true} if the element was present
+     */
+    public boolean remove(final E element) {
+        final int index = this.indexMap.removeInt(element);
+        if (index < 0) {
+            return false;
+        }
+        this.elements[index] = null;
+        ++this.nullCount;
+        if (this.iteratorCount == 0) {
+            this.compactIfFragmented();
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the element is present.
+     *
+     * @param element element to check
+     * @return {@code true} if present
+     */
+    public boolean contains(final E element) {
+        return this.indexMap.containsKey(element);
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return element count
+     */
+    public int size() {
+        return this.indexMap.size();
+    }
+
+    /**
+     * Returns whether the set has no elements.
+     *
+     * @return {@code true} when empty
+     */
+    public boolean isEmpty() {
+        return this.indexMap.isEmpty();
+    }
+
+    /**
+     * Removes every element. Running iterators see no further elements.
+     */
+    public void clear() {
+        this.indexMap.clear();
+        Arrays.fill(this.elements, 0, this.listSize, null);
+        this.listSize = 0;
+        this.nullCount = 0;
+    }
+
+    /**
+     * Returns the number of slots in use, including empty ones. Raw iterator indexes are below it.
+     *
+     * @return used slot count
+     */
+    public int getListSize() {
+        return this.listSize;
+    }
+
+    /**
+     * Starts an iteration. Every call must be paired with {@link #finishRawIterator()}, which is
+     * when compaction may happen again.
+     *
+     * @return index of the first element, or {@code -1} if there is none
+     */
+    public int createRawIterator() {
+        ++this.iteratorCount;
+        return this.advanceRawIterator(-1);
+    }
+
+    /**
+     * Returns the index of the next element after {@code index}.
+     *
+     * @param index current index
+     * @return index of the next element, or {@code -1} if there is none
+     */
+    public int advanceRawIterator(final int index) {
+        final E[] elements = this.elements;
+        for (int next = index + 1, size = this.listSize; next < size; ++next) {
+            if (elements[next] != null) {
+                return next;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the element at a raw iterator index.
+     *
+     * @param index index returned by the raw iterator
+     * @return element, or {@code null} if it was removed since
+     */
+    public E rawGet(final int index) {
+        return index < this.listSize ? this.elements[index] : null;
+    }
+
+    /**
+     * Ends an iteration started by {@link #createRawIterator()}.
+     */
+    public void finishRawIterator() {
+        if (this.iteratorCount <= 0) {
+            throw new IllegalStateException("No iteration in progress");
+        }
+        if (--this.iteratorCount == 0) {
+            this.compactIfFragmented();
+        }
+    }
+
+    private void compactIfFragmented() {
+        if (this.nullCount == this.listSize) {
+            // Only empty slots left, which is common once a region loses all its entities
+            Arrays.fill(this.elements, 0, this.listSize, null);
+            this.listSize = 0;
+            this.nullCount = 0;
+            return;
+        }
+        if (this.nullCount < MIN_COMPACT_NULLS || this.nullCount < this.listSize * this.maxFragmentation) {
+            return;
+        }
+        final E[] elements = this.elements;
+        int write = 0;
+        for (int read = 0; read < this.listSize; ++read) {
+            final E element = elements[read];
+            if (element == null) {
+                continue;
+            }
+            if (write != read) {
+                elements[write] = element;
+                this.indexMap.put(element, write);
+            }
+            ++write;
+        }
+        Arrays.fill(elements, write, this.listSize, null);
+        this.listSize = write;
+        this.nullCount = 0;
+    }
+}
@@ -0,0 +1,162 @@
+package org.bacon.ruthenium.util;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free batch of level updates queued by region threads for a single level propagator.
+ *
+ * <p>Any thread may {@link #offer} an update without blocking. The thread that owns the
+ * propagator later applies everything queued so far with {@link #drainSorted}, ordered by target
+ * id so updates to the same position sit next to each other. The sort is stable, so updates
+ * queued by one thread for the same id keep their order. {@link #offer} fails once the batch is
+ * full, in which case the caller applies the update directly.</p>
+ *
+ * <p>Updates are stored in parallel primitive arrays indexed by ring slot, so queueing one does not
+ * allocate. A producer claims a slot by advancing the tail, fills it, then publishes it by storing
+ * the slot's claim sequence; the drainer waits for every claimed slot to be published.</p>
+ */
+public final class LevelUpdateBatch {
+
+    /** Receives drained updates. */
+    @FunctionalInterface
+    public interface Sink {
+
+        /**
+         * Applies one update.
+         *
+         * @param sourceId position the update propagates from
+         * @param id       position to update
+         * @param level    new level
+         * @param decrease whether the level decreases
+         */
+        void apply(long sourceId, long id, int level, boolean decrease);
+    }
+
+    private final int mask;
+    // Slot contents, written by the producer that claimed the slot before it publishes it
+    private final long[] sourceIds;
+    private final long[] ids;
+    private final int[] levels;
+    private final boolean[] decreases;
+    // A slot is published once it holds its claim sequence plus one
+    private final AtomicLongArray published;
+    private final AtomicLong tail = new AtomicLong();
+    // Only written by the drainer; read by producers for the capacity check
+    private volatile long head;
+    // Drainer scratch: slots of the current drain, sorted by target id then queue order
+    private final int[] order;
+    private long drainStart;
+    private final IntComparator byId = this::compareSlots;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param capacity maximum number of queued updates, rounded up to a power of two
+     */
+    public LevelUpdateBatch(final int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        final int size = Math.max(1, Integer.highestOneBit(capacity - 1) << 1);
+        this.mask = size - 1;
+        this.sourceIds = new long[size];
+        this.ids = new long[size];
+        this.levels = new int[size];
+        this.decreases = new boolean[size];
+        this.published = new AtomicLongArray(size);
+        this.order = new int[size];
+    }
+
+    /**
+     * Queues an update. Safe to call from any thread.
+     *
+     * @param sourceId position the update propagates from
+     * @param id       position to update
+     * @param level    new level
+     * @param decrease whether the level decreases
+     * @return {@code true} if queued, {@code false} if the batch is full
+     */
+    public boolean offer(final long sourceId, final long id, final int level, final boolean decrease) {
+        final long capacity = this.mask + 1L;
+        long claimed;
+        do {
+            claimed = this.tail.get();
+            if (claimed - this.head >= capacity) {
+                return false;
+            }
+        } while (!this.tail.compareAndSet(claimed, claimed + 1L));
+        final int slot = (int)claimed & this.mask;
+        this.sourceIds[slot] = sourceId;
+        this.ids[slot] = id;
+        this.levels[slot] = level;
+        this.decreases[slot] = decrease;
+        this.published.setRelease(slot, claimed + 1L);
+        return true;
+    }
+
+    /**
+     * Returns whether no update is queued. Exact only while drains are excluded.
+     *
+     * @return {@code true} when empty
+     */
+    public boolean isEmpty() {
+        return this.head == this.tail.get();
+    }
+
+    /**
+     * Applies every update queued before this call, sorted by target id. Callers must serialize
+     * drains.
+     *
+     * @param sink applies each update
+     * @return number of applied updates
+     */
+    public int drainSorted(final Sink sink) {
+        final long start = this.head;
+        final long limit = this.tail.get();
+        if (start == limit) {
+            return 0;
+        }
+        final int count = (int)(limit - start);
+        final int[] order = this.order;
+        boolean sorted = true;
+        long previousId = Long.MIN_VALUE;
+        for (int i = 0; i < count; ++i) {
+            final long sequence = start + i;
+            final int slot = (int)sequence & this.mask;
+            while (this.published.getAcquire(slot) != sequence + 1L) {
+                // The producer is between claiming and publishing the slot
+                Thread.onSpinWait();
+            }
+            order[i] = slot;
+            sorted &= this.ids[slot] >= previousId;
+            previousId = this.ids[slot];
+        }
+        try {
+            if (!sorted) {
+                this.drainStart = start;
+                IntArrays.quickSort(order, 0, count, this.byId);
+            }
+            for (int i = 0; i < count; ++i) {
+                final int slot = order[i];
+                sink.apply(this.sourceIds[slot], this.ids[slot], this.levels[slot], this.decreases[slot]);
+            }
+        } finally {
+            // Producers may reuse the slots only once they have been applied
+            this.head = limit;
+        }
+        return count;
+    }
+
+    private int compareSlots(final int slotA, final int slotB) {
+        final int result = Long.compare(this.ids[slotA], this.ids[slotB]);
+        if (result != 0) {
+            return result;
+        }
+        // Same id: queue order, measured from the first slot of this drain
+        final int start = (int)this.drainStart & this.mask;
+        return Integer.compare((slotA - start) & this.mask, (slotB - start) & this.mask);
+    }
+}
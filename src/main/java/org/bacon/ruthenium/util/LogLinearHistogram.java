@@ -0,0 +1,193 @@
+package org.bacon.ruthenium.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Fixed-size log-linear histogram of non-negative {@code long} values, in the style of
+ * HdrHistogram.
+ *
+ * <p>Values below {@value #SUB_BUCKETS} get one bucket each; above that, every power of two is
+ * split into {@value #SUB_BUCKETS} linear sub-buckets, bounding the relative error of reported
+ * values to 12.5%. Values at or above {@code 2^(MAX_EXPONENT + 1)} share the last bucket. Recording
+ * never allocates. Not thread-safe; callers synchronize externally.</p>
+ */
+public final class LogLinearHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Highest tracked power of two; with nanosecond values this covers roughly 36 minutes. */
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_TRACKED_VALUE = (1L << (MAX_EXPONENT + 1)) - 1L;
+
+    /** Number of buckets held by every histogram. */
+    public static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long totalSum;
+    private long maxValue;
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LogLinearHistogram() {
+    }
+
+    /**
+     * Records a single value. Negative values are recorded as {@code 0}.
+     *
+     * @param value value to record
+     */
+    public void record(final long value) {
+        final long clamped = Math.max(0L, value);
+        ++this.counts[bucketFor(clamped)];
+        ++this.totalCount;
+        this.totalSum += clamped;
+        if (clamped > this.maxValue) {
+            this.maxValue = clamped;
+        }
+    }
+
+    /**
+     * Adds every recorded value of {@code other} to this histogram.
+     *
+     * @param other histogram to add
+     */
+    public void add(final LogLinearHistogram other) {
+        Objects.requireNonNull(other, "other");
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            this.counts[i] += other.counts[i];
+        }
+        this.totalCount += other.totalCount;
+        this.totalSum += other.totalSum;
+        this.maxValue = Math.max(this.maxValue, other.maxValue);
+    }
+
+    /**
+     * Replaces the contents of this histogram with those of {@code other}.
+     *
+     * @param other histogram to copy
+     */
+    public void copyFrom(final LogLinearHistogram other) {
+        Objects.requireNonNull(other, "other");
+        System.arraycopy(other.counts, 0, this.counts, 0, BUCKET_COUNT);
+        this.totalCount = other.totalCount;
+        this.totalSum = other.totalSum;
+        this.maxValue = other.maxValue;
+    }
+
+    /**
+     * Removes every recorded value.
+     */
+    public void clear() {
+        Arrays.fill(this.counts, 0L);
+        this.totalCount = 0L;
+        this.totalSum = 0L;
+        this.maxValue = 0L;
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public long getCount() {
+        return this.totalCount;
+    }
+
+    /**
+     * @return sum of every recorded value
+     */
+    public long getSum() {
+        return this.totalSum;
+    }
+
+    /**
+     * @return largest recorded value, or {@code 0} when empty
+     */
+    public long getMax() {
+        return this.maxValue;
+    }
+
+    /**
+     * @return mean of the recorded values, or {@code 0} when empty
+     */
+    public double getMean() {
+        return this.totalCount == 0L ? 0.0D : (double)this.totalSum / (double)this.totalCount;
+    }
+
+    /**
+     * Returns the number of values recorded in the supplied bucket.
+     *
+     * @param bucket bucket index in {@code [0, BUCKET_COUNT)}
+     * @return bucket count
+     */
+    public long getBucketCount(final int bucket) {
+        return this.counts[bucket];
+    }
+
+    /**
+     * Returns a value at or below which {@code percentile} percent of the recorded values fall,
+     * reported as the upper bound of the containing bucket and capped at the recorded maximum.
+     *
+     * @param percentile percentile in {@code [0, 100]}
+     * @return value at the percentile, or {@code 0} when empty
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (this.totalCount == 0L) {
+            return 0L;
+        }
+        final double clamped = Math.min(100.0D, Math.max(0.0D, percentile));
+        final long target = Math.max(1L, (long)Math.ceil(clamped / 100.0D * this.totalCount));
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            seen += this.counts[i];
+            if (seen >= target) {
+                return Math.min(bucketUpperBound(i) - 1L, this.maxValue);
+            }
+        }
+        return this.maxValue;
+    }
+
+    /**
+     * Returns the bucket index holding {@code value}.
+     *
+     * @param value non-negative value
+     * @return bucket index
+     */
+    public static int bucketFor(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int)Math.max(0L, value);
+        }
+        final long tracked = Math.min(value, MAX_TRACKED_VALUE);
+        final int shift = (63 - Long.numberOfLeadingZeros(tracked)) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int)((tracked >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Returns the smallest value mapped to the supplied bucket.
+     *
+     * @param bucket bucket index
+     * @return inclusive lower bound
+     */
+    public static long bucketLowerBound(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        return (long)(SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    }
+
+    /**
+     * Returns the smallest value mapped to the bucket after the supplied one.
+     *
+     * @param bucket bucket index
+     * @return exclusive upper bound
+     */
+    public static long bucketUpperBound(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket + 1L;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        return (long)(SUB_BUCKETS + bucket % SUB_BUCKETS + 1) << shift;
+    }
+}
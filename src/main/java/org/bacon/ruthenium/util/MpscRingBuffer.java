@@ -0,0 +1,142 @@
+package org.bacon.ruthenium.util;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free ring buffer with any number of producers and a single consumer.
+ *
+ * <p>Producers claim a slot by advancing the tail counter and then publish the element into it;
+ * a {@code null} slot means "not yet published". The consumer clears each slot before advancing
+ * the head, so a producer never overwrites an element that has not been consumed. Elements are
+ * consumed in claim order: the consumer stops at the first claimed but unpublished slot and picks
+ * it up on the next drain. {@link #offer(Object)} fails instead of blocking when the buffer is
+ * full, leaving overflow handling to the caller.</p>
+ *
+ * @param <E> element type
+ */
+public final class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLong tail = new AtomicLong();
+    // Only written by the consumer; read by producers for the capacity check
+    private volatile long head;
+
+    /**
+     * Creates an empty ring buffer.
+     *
+     * @param capacity requested capacity, rounded up to a power of two
+     */
+    public MpscRingBuffer(final int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = Math.max(1, size) - 1;
+        this.slots = new AtomicReferenceArray<>(this.mask + 1);
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * Appends an element unless the buffer is full. Safe to call from any thread.
+     *
+     * @param element element to append
+     * @return {@code true} if the element was appended
+     */
+    public boolean offer(final E element) {
+        Objects.requireNonNull(element, "element");
+        final long capacity = this.mask + 1L;
+        long claimed;
+        do {
+            claimed = this.tail.get();
+            if (claimed - this.head >= capacity) {
+                return false;
+            }
+        } while (!this.tail.compareAndSet(claimed, claimed + 1L));
+        this.slots.setRelease((int)claimed & this.mask, element);
+        return true;
+    }
+
+    /**
+     * Returns whether no element is claimed or published. Exact only on the consumer thread.
+     *
+     * @return {@code true} when empty
+     */
+    public boolean isEmpty() {
+        return this.head == this.tail.get();
+    }
+
+    /**
+     * Removes every published element in order and passes it to {@code consumer}. Must only be
+     * called by the single consumer thread.
+     *
+     * @param consumer receives each element
+     * @return number of drained elements
+     */
+    public int drain(final Consumer<? super E> consumer) {
+        Objects.requireNonNull(consumer, "consumer");
+        long current = this.head;
+        final long limit = this.tail.get();
+        int drained = 0;
+        try {
+            while (current < limit) {
+                final int index = (int)current & this.mask;
+                final E element = this.slots.getAcquire(index);
+                if (element == null) {
+                    // Claimed but not yet published
+                    break;
+                }
+                this.slots.setRelease(index, null);
+                ++current;
+                ++drained;
+                consumer.accept(element);
+            }
+        } finally {
+            this.head = current;
+        }
+        return drained;
+    }
+
+    /**
+     * Like {@link #drain(Consumer)}, but waits for producers that have already claimed a slot to
+     * publish it, so every element offered before this call is drained. Must only be called by
+     * the single consumer thread.
+     *
+     * @param consumer receives each element
+     * @return number of drained elements
+     */
+    public int drainAll(final Consumer<? super E> consumer) {
+        Objects.requireNonNull(consumer, "consumer");
+        long current = this.head;
+        final long limit = this.tail.get();
+        int drained = 0;
+        try {
+            while (current < limit) {
+                final int index = (int)current & this.mask;
+                E element;
+                while ((element = this.slots.getAcquire(index)) == null) {
+                    // The producer is between claiming and publishing the slot
+                    Thread.onSpinWait();
+                }
+                this.slots.setRelease(index, null);
+                ++current;
+                ++drained;
+                consumer.accept(element);
+            }
+        } finally {
+            this.head = current;
+        }
+        return drained;
+    }
+}
@@ -1,8 +1,11 @@
 package org.bacon.ruthenium.world;
 
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.HashCommon;
 import net.minecraft.block.Block;
 import net.minecraft.util.math.BlockPos;
 import java.util.Objects;
+import org.bacon.ruthenium.util.CoordinateUtil;
 
 /**
  * Value class representing a block event to be processed on a region thread.
@@ -11,6 +14,32 @@ import java.util.Objects;
  */
 public record BlockEventData(BlockPos pos, Block block, int eventId, int eventParam) {
 
+    /**
+     * Treats events as duplicates when they share the packed position, block, event id and
+     * parameter, matching vanilla's dedupe of synced block events.
+     */
+    public static final Hash.Strategy<BlockEventData> DEDUPE_STRATEGY = new Hash.Strategy<>() {
+        @Override
+        public int hashCode(final BlockEventData event) {
+            if (event == null) {
+                return 0;
+            }
+            return HashCommon.mix((int)HashCommon.mix(event.pos.asLong()) + 31 * event.eventId + 961 * event.eventParam);
+        }
+
+        @Override
+        public boolean equals(final BlockEventData a, final BlockEventData b) {
+            if (a == b) {
+                return true;
+            }
+            if (a == null || b == null) {
+                return false;
+            }
+            return a.eventId == b.eventId && a.eventParam == b.eventParam && a.block == b.block
+                && a.pos.asLong() == b.pos.asLong();
+        }
+    };
+
     public BlockEventData {
         Objects.requireNonNull(pos, "pos");
         Objects.requireNonNull(block, "block");
@@ -29,5 +58,12 @@ public record BlockEventData(BlockPos pos, Block block, int eventId, int eventPa
     public int chunkZ() {
         return this.pos.getZ() >> 4;
     }
+
+    /**
+     * Returns the packed chunk key for this block event.
+     */
+    public long chunkKey() {
+        return CoordinateUtil.getChunkKey(this.chunkX(), this.chunkZ());
+    }
 }
 
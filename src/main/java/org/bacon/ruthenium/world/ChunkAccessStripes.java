@@ -0,0 +1,134 @@
+package org.bacon.ruthenium.world;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Striped chunk access guard keyed by regionizer section.
+ *
+ * <p>Each regionizer section hashes onto one of {@link #STRIPE_COUNT} fair read/write locks. A
+ * region thread only takes the read side of the stripes covering its own sections, so regions no
+ * longer share a single reader counter and a writer only stalls the regions whose sections map onto
+ * the stripes it locks. Stripe sets are passed around as {@code long} bitmasks and are always locked
+ * in ascending stripe order, which keeps concurrent multi-stripe acquisitions deadlock free.</p>
+ */
+public final class ChunkAccessStripes {
+
+    /** Number of lock stripes; fixed at 64 so that a stripe set fits into one {@code long}. */
+    public static final int STRIPE_COUNT = Long.SIZE;
+
+    /** Stripe mask covering every stripe. */
+    public static final long ALL_STRIPES = -1L;
+
+    private final ReentrantReadWriteLock[] stripes = new ReentrantReadWriteLock[STRIPE_COUNT];
+
+    /**
+     * Creates a new stripe set with fair locks so that the orchestrator's writer cannot be starved
+     * by continuous region-thread reads.
+     */
+    public ChunkAccessStripes() {
+        for (int i = 0; i < STRIPE_COUNT; ++i) {
+            this.stripes[i] = new ReentrantReadWriteLock(true);
+        }
+    }
+
+    /**
+     * Returns the stripe index for the supplied regionizer section key.
+     *
+     * @param sectionKey section key as produced by {@code ThreadedRegionizer#getSectionKey}
+     * @return stripe index in {@code [0, STRIPE_COUNT)}
+     */
+    public static int stripeIndex(final long sectionKey) {
+        return (int)(HashCommon.mix(sectionKey) & (STRIPE_COUNT - 1));
+    }
+
+    /**
+     * Returns the stripe mask containing only the stripe of the supplied section.
+     *
+     * @param sectionKey section key
+     * @return single-bit stripe mask
+     */
+    public static long maskForSection(final long sectionKey) {
+        return 1L << stripeIndex(sectionKey);
+    }
+
+    /**
+     * Returns the stripe mask covering every supplied section.
+     *
+     * @param sectionKeys iterator over section keys
+     * @return combined stripe mask, {@code 0} if the iterator was empty
+     */
+    public static long maskForSections(final LongIterator sectionKeys) {
+        long mask = 0L;
+        while (sectionKeys.hasNext()) {
+            mask |= maskForSection(sectionKeys.nextLong());
+            if (mask == ALL_STRIPES) {
+                break;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Acquires the read side of every stripe in the mask, in ascending stripe order.
+     *
+     * @param mask stripes to lock
+     */
+    public void lockRead(final long mask) {
+        for (long remaining = mask; remaining != 0L; remaining &= remaining - 1L) {
+            this.stripes[Long.numberOfTrailingZeros(remaining)].readLock().lock();
+        }
+    }
+
+    /**
+     * Releases the read side of every stripe in the mask.
+     *
+     * @param mask stripes to unlock; must match the mask passed to {@link #lockRead(long)}
+     */
+    public void unlockRead(final long mask) {
+        for (long remaining = mask; remaining != 0L; remaining &= remaining - 1L) {
+            this.stripes[Long.numberOfTrailingZeros(remaining)].readLock().unlock();
+        }
+    }
+
+    /**
+     * Acquires the write side of every stripe in the mask, in ascending stripe order.
+     *
+     * @param mask stripes to lock
+     */
+    public void lockWrite(final long mask) {
+        for (long remaining = mask; remaining != 0L; remaining &= remaining - 1L) {
+            this.stripes[Long.numberOfTrailingZeros(remaining)].writeLock().lock();
+        }
+    }
+
+    /**
+     * Releases the write side of every stripe in the mask.
+     *
+     * @param mask stripes to unlock; must match the mask passed to {@link #lockWrite(long)}
+     */
+    public void unlockWrite(final long mask) {
+        for (long remaining = mask; remaining != 0L; remaining &= remaining - 1L) {
+            this.stripes[Long.numberOfTrailingZeros(remaining)].writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether the current thread holds the write side of every stripe in the mask.
+     *
+     * @param mask stripes to check
+     * @return {@code true} if all stripes in the mask are write-locked by the caller
+     */
+    public boolean isWriteLockedByCurrentThread(final long mask) {
+        if (mask == 0L) {
+            return false;
+        }
+        for (long remaining = mask; remaining != 0L; remaining &= remaining - 1L) {
+            if (!this.stripes[Long.numberOfTrailingZeros(remaining)].isWriteLockedByCurrentThread()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -5,6 +5,7 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.world.ServerWorld;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.bacon.ruthenium.metrics.OpenMetricsWriter;
 
 /**
  * Guards and tracks vanilla tick entry points to ensure the main thread
@@ -414,6 +415,23 @@ public final class MainThreadTickGuard {
         );
     }
 
+    /**
+     * Publishes the vanilla fallback counters into a metrics scrape.
+     *
+     * @param writer scrape output
+     */
+    public static void collectMetrics(final OpenMetricsWriter writer) {
+        final TickMetrics metrics = getMetrics();
+        writer.family("ruthenium_main_thread_fallbacks", OpenMetricsWriter.Type.COUNTER,
+            "Ticks that fell back to the vanilla main-thread path, by tick path");
+        writer.sample("ruthenium_main_thread_fallbacks_total", metrics.worldTickViolations(), "path", "world");
+        writer.sample("ruthenium_main_thread_fallbacks_total", metrics.chunkTickViolations(), "path", "chunk");
+        writer.sample("ruthenium_main_thread_fallbacks_total", metrics.entityTickViolations(), "path", "entity");
+        writer.sample("ruthenium_main_thread_fallbacks_total", metrics.blockEntityTickViolations(), "path", "blockEntity");
+        writer.sample("ruthenium_main_thread_fallbacks_total", metrics.scheduledTickViolations(), "path", "scheduledTick");
+        writer.sample("ruthenium_main_thread_fallbacks_total", metrics.blockEventViolations(), "path", "blockEvent");
+    }
+
     /**
      * Resets all metrics counters. Useful for testing.
      */
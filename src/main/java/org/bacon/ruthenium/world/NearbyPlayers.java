@@ -1,6 +1,8 @@
 package org.bacon.ruthenium.world;
 
+import it.unimi.dsi.fastutil.longs.Long2ReferenceMap;
 import it.unimi.dsi.fastutil.longs.Long2ReferenceOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ReferenceMap;
 import it.unimi.dsi.fastutil.objects.Reference2ReferenceOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -9,6 +11,7 @@ import net.minecraft.util.math.ChunkPos;
 import org.bacon.ruthenium.util.CoordinateUtil;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Tracks nearby players with chunk-distance bucketing so region services can answer proximity queries.
@@ -33,7 +36,7 @@ public final class NearbyPlayers {
             return;
         }
         for (int i = 0; i < trackers.length; ++i) {
-            trackers[i] = new TrackedPlayer(player, NearbyMapType.values()[i]);
+            trackers[i] = new TrackedPlayer(this, player, NearbyMapType.values()[i]);
         }
         this.tickPlayer(player);
     }
@@ -49,13 +52,49 @@ public final class NearbyPlayers {
     }
 
     public void clear() {
-        if (this.trackedPlayers.isEmpty()) {
+        // Every footprint is dropped at once, so there is no need to walk each player's area
+        this.trackedPlayers.clear();
+        this.byChunk.clear();
+    }
+
+    /**
+     * Moves every tracked player and its chunk footprint into {@code target}, leaving this tracker
+     * empty. Per-chunk player sets are moved or unioned instead of recomputing each player's area,
+     * so the cost is proportional to the number of tracked chunks. Players already tracked by
+     * {@code target} keep the target's footprint.
+     *
+     * @param target tracker receiving the players
+     */
+    public void transferTo(final NearbyPlayers target) {
+        Objects.requireNonNull(target, "target");
+        if (target == this) {
             return;
         }
-        final List<ServerPlayerEntity> snapshot = new ArrayList<>(this.trackedPlayers.keySet());
-        for (final ServerPlayerEntity player : snapshot) {
-            this.removePlayer(player);
+        if (!target.trackedPlayers.isEmpty()) {
+            final List<ServerPlayerEntity> duplicates = new ArrayList<>();
+            for (final ServerPlayerEntity player : this.trackedPlayers.keySet()) {
+                if (target.trackedPlayers.containsKey(player)) {
+                    duplicates.add(player);
+                }
+            }
+            for (final ServerPlayerEntity player : duplicates) {
+                this.removePlayer(player);
+            }
         }
+
+        for (final Long2ReferenceMap.Entry<TrackedChunk> entry : this.byChunk.long2ReferenceEntrySet()) {
+            final TrackedChunk existing = target.byChunk.putIfAbsent(entry.getLongKey(), entry.getValue());
+            if (existing != null) {
+                existing.absorb(entry.getValue());
+            }
+        }
+        for (final Reference2ReferenceMap.Entry<ServerPlayerEntity, TrackedPlayer[]> entry : this.trackedPlayers.reference2ReferenceEntrySet()) {
+            for (final TrackedPlayer tracker : entry.getValue()) {
+                tracker.owner = target;
+            }
+            target.trackedPlayers.put(entry.getKey(), entry.getValue());
+        }
+        this.clear();
     }
 
     public void tickPlayer(final ServerPlayerEntity player) {
@@ -92,7 +131,7 @@ public final class NearbyPlayers {
         if (chunk != null) {
             return chunk;
         }
-        final TrackedChunk created = new TrackedChunk(chunkKey);
+        final TrackedChunk created = new TrackedChunk();
         this.byChunk.put(chunkKey, created);
         return created;
     }
@@ -103,16 +142,11 @@ public final class NearbyPlayers {
         }
     }
 
-    private final class TrackedChunk {
+    private static final class TrackedChunk {
 
-        private final long chunkKey;
         @SuppressWarnings({"unchecked", "rawtypes"})
         private final ReferenceOpenHashSet<ServerPlayerEntity>[] playerSets = (ReferenceOpenHashSet<ServerPlayerEntity>[]) new ReferenceOpenHashSet[NearbyMapType.values().length];
 
-        TrackedChunk(final long chunkKey) {
-            this.chunkKey = chunkKey;
-        }
-
         ReferenceOpenHashSet<ServerPlayerEntity> getPlayers(final NearbyMapType type) {
             return this.playerSets[type.ordinal()];
         }
@@ -136,6 +170,21 @@ public final class NearbyPlayers {
             set.remove(player);
         }
 
+        void absorb(final TrackedChunk other) {
+            for (int i = 0; i < this.playerSets.length; ++i) {
+                final ReferenceOpenHashSet<ServerPlayerEntity> from = other.playerSets[i];
+                if (from == null || from.isEmpty()) {
+                    continue;
+                }
+                final ReferenceOpenHashSet<ServerPlayerEntity> into = this.playerSets[i];
+                if (into == null) {
+                    this.playerSets[i] = from;
+                } else {
+                    into.addAll(from);
+                }
+            }
+        }
+
         boolean isEmpty() {
             for (final ReferenceOpenHashSet<ServerPlayerEntity> set : this.playerSets) {
                 if (set != null && !set.isEmpty()) {
@@ -146,12 +195,15 @@ public final class NearbyPlayers {
         }
     }
 
-    private final class TrackedPlayer extends SingleUserAreaMap<ServerPlayerEntity> {
+    private static final class TrackedPlayer extends SingleUserAreaMap<ServerPlayerEntity> {
 
         private final NearbyMapType type;
+        // Reassigned when the player moves to another tracker
+        private NearbyPlayers owner;
 
-        TrackedPlayer(final ServerPlayerEntity player, final NearbyMapType type) {
+        TrackedPlayer(final NearbyPlayers owner, final ServerPlayerEntity player, final NearbyMapType type) {
             super(player);
+            this.owner = owner;
             this.type = type;
         }
 
@@ -173,17 +225,17 @@ public final class NearbyPlayers {
         @Override
         protected void addCallback(final ServerPlayerEntity player, final int chunkX, final int chunkZ) {
             final long chunkKey = CoordinateUtil.getChunkKey(chunkX, chunkZ);
-            final TrackedChunk chunk = NearbyPlayers.this.getOrCreateChunk(chunkKey);
+            final TrackedChunk chunk = this.owner.getOrCreateChunk(chunkKey);
             chunk.addPlayer(player, this.type);
         }
 
         @Override
         protected void removeCallback(final ServerPlayerEntity player, final int chunkX, final int chunkZ) {
             final long chunkKey = CoordinateUtil.getChunkKey(chunkX, chunkZ);
-            final TrackedChunk chunk = NearbyPlayers.this.byChunk.get(chunkKey);
+            final TrackedChunk chunk = this.owner.byChunk.get(chunkKey);
             if (chunk != null) {
                 chunk.removePlayer(player, this.type);
-                NearbyPlayers.this.removeChunkIfEmpty(chunkKey, chunk);
+                this.owner.removeChunkIfEmpty(chunkKey, chunk);
             }
         }
     }
@@ -192,6 +244,26 @@ public final class NearbyPlayers {
         GENERAL,
         GENERAL_SMALL,
         GENERAL_REALLY_SMALL,
-        SPAWN_RANGE
+        SPAWN_RANGE;
+
+        /**
+         * Returns the smallest general map whose tracked area reaches {@code chunkDistance} chunks
+         * from a player, or {@code null} when none does.
+         *
+         * @param chunkDistance required chunk distance
+         * @return covering map type, or {@code null}
+         */
+        public static NearbyMapType covering(final int chunkDistance) {
+            if (chunkDistance <= GENERAL_REALLY_SMALL_VIEW_DISTANCE) {
+                return GENERAL_REALLY_SMALL;
+            }
+            if (chunkDistance <= GENERAL_SMALL_VIEW_DISTANCE) {
+                return GENERAL_SMALL;
+            }
+            if (chunkDistance <= GENERAL_AREA_VIEW_DISTANCE) {
+                return GENERAL;
+            }
+            return null;
+        }
     }
 }
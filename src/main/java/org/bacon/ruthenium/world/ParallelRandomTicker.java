@@ -0,0 +1,150 @@
+package org.bacon.ruthenium.world;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.SplittableRandom;
+import net.minecraft.block.BlockState;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.profiler.Profiler;
+import net.minecraft.util.profiler.Profilers;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+/**
+ * Opt-in fork-join random ticking for oversized regions.
+ *
+ * <p>Picking random tick positions dominates random ticking in large regions: almost every
+ * sampled block has no random tick. {@link #plan} does that sampling for groups of chunks in
+ * parallel on idle region workers while the owning thread waits, which only reads block states of
+ * chunks the region owns. The owning thread then runs the vanilla chunk tick for each chunk in
+ * order, and {@code ServerWorldMixin} replaces vanilla's sampling loop with
+ * {@link #apply(ServerWorld, WorldChunk, int[])} for the planned candidates. Every
+ * {@code randomTick} call, and with it every world side effect, still runs on the owning
+ * thread.</p>
+ */
+public final class ParallelRandomTicker {
+
+    /** Returned to vanilla's random tick loop so it has nothing left to iterate. */
+    public static final ChunkSection[] NO_SECTIONS = new ChunkSection[0];
+
+    private static final int[] NO_CANDIDATES = new int[0];
+    private static final ThreadLocal<int[]> CURRENT_PLAN = new ThreadLocal<>();
+
+    private ParallelRandomTicker() {
+    }
+
+    /**
+     * Samples random tick candidates for {@code chunks} in parallel.
+     *
+     * @param pool            pool whose idle workers help
+     * @param chunks          chunks in tick order; {@code null} entries are skipped
+     * @param randomTickSpeed positions sampled per ticking section
+     * @param seed            seed for the per-group generators, drawn from the region's random
+     * @param groupSize       chunks sampled per subtask
+     * @return candidates per chunk, {@code null} for skipped chunks
+     */
+    static int[][] plan(final RegionTickThreadPool pool, final WorldChunk[] chunks, final int randomTickSpeed,
+                        final long seed, final int groupSize) {
+        final int[][] plans = new int[chunks.length][];
+        final int groups = (chunks.length + groupSize - 1) / groupSize;
+        final Runnable[] subtasks = new Runnable[groups];
+        final SplittableRandom root = new SplittableRandom(seed);
+        for (int group = 0; group < groups; ++group) {
+            final int from = group * groupSize;
+            final int to = Math.min(chunks.length, from + groupSize);
+            final SplittableRandom random = root.split();
+            subtasks[group] = () -> {
+                final IntArrayList candidates = new IntArrayList();
+                for (int i = from; i < to; ++i) {
+                    final WorldChunk chunk = chunks[i];
+                    if (chunk == null) {
+                        continue;
+                    }
+                    candidates.clear();
+                    sample(chunk, randomTickSpeed, random, candidates);
+                    plans[i] = candidates.isEmpty() ? NO_CANDIDATES : candidates.toIntArray();
+                }
+            };
+        }
+        pool.runParallel(subtasks);
+        return plans;
+    }
+
+    private static void sample(final WorldChunk chunk, final int randomTickSpeed, final SplittableRandom random,
+                               final IntArrayList candidates) {
+        final ChunkSection[] sections = chunk.getSectionArray();
+        for (int sectionIndex = 0; sectionIndex < sections.length; ++sectionIndex) {
+            final ChunkSection section = sections[sectionIndex];
+            if (!section.hasRandomTicks()) {
+                continue;
+            }
+            for (int i = 0; i < randomTickSpeed; ++i) {
+                final int location = random.nextInt(16 * 16 * 16);
+                final BlockState state = section.getBlockState(location & 15, (location >>> 8) & 15, (location >>> 4) & 15);
+                if (state.hasRandomTicks() || state.getFluidState().hasRandomTicks()) {
+                    candidates.add(sectionIndex << 12 | location);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the candidates planned for the chunk the current thread is about to tick.
+     *
+     * @return candidates, or {@code null} to let vanilla sample the chunk itself
+     */
+    public static int[] currentPlan() {
+        return CURRENT_PLAN.get();
+    }
+
+    static void setCurrentPlan(final int[] plan) {
+        if (plan == null) {
+            CURRENT_PLAN.remove();
+        } else {
+            CURRENT_PLAN.set(plan);
+        }
+    }
+
+    /**
+     * Random ticks the planned candidates of {@code chunk}. Block states are read again because an
+     * earlier tick may have changed them.
+     *
+     * @param world owning world
+     * @param chunk chunk being ticked
+     * @param plan  candidates from {@link #plan}
+     */
+    public static void apply(final ServerWorld world, final WorldChunk chunk, final int[] plan) {
+        if (plan.length == 0) {
+            return;
+        }
+        final Profiler profiler = Profilers.get();
+        final ChunkSection[] sections = chunk.getSectionArray();
+        final int offsetX = chunk.getPos().getStartX();
+        final int offsetZ = chunk.getPos().getStartZ();
+        for (final int candidate : plan) {
+            final int sectionIndex = candidate >>> 12;
+            final int location = candidate & 4095;
+            final int localX = location & 15;
+            final int localY = (location >>> 8) & 15;
+            final int localZ = (location >>> 4) & 15;
+            final BlockState state = sections[sectionIndex].getBlockState(localX, localY, localZ);
+            final FluidState fluidState = state.getFluidState();
+            if (!state.hasRandomTicks() && !fluidState.hasRandomTicks()) {
+                continue;
+            }
+            // Not a mutable position: some random tick implementations keep it
+            final BlockPos pos = new BlockPos(offsetX | localX,
+                ChunkSectionPos.getBlockCoord(chunk.sectionIndexToCoord(sectionIndex)) | localY, offsetZ | localZ);
+            profiler.push("randomTick");
+            if (state.hasRandomTicks()) {
+                state.randomTick(world, pos, world.getRandom());
+            }
+            if (fluidState.hasRandomTicks()) {
+                fluidState.onRandomTick(world, pos, world.getRandom());
+            }
+            profiler.pop();
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package org.bacon.ruthenium.world;
 
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
 import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Reference2ReferenceMap;
 import it.unimi.dsi.fastutil.objects.Reference2ReferenceOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ReferenceSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import org.bacon.ruthenium.util.CoordinateUtil;
 
 /**
@@ -14,7 +19,7 @@ import org.bacon.ruthenium.util.CoordinateUtil;
  */
 public final class PositionCountingAreaMap<T> {
 
-    private final Reference2ReferenceOpenHashMap<T, PositionCounter> counters = new Reference2ReferenceOpenHashMap<>();
+    private final Reference2ReferenceOpenHashMap<T, PositionCounter<T>> counters = new Reference2ReferenceOpenHashMap<>();
     private final Long2IntOpenHashMap positions = new Long2IntOpenHashMap();
 
     public ReferenceSet<T> getObjects() {
@@ -42,12 +47,12 @@ public final class PositionCountingAreaMap<T> {
     }
 
     public boolean add(final T parameter, final int toX, final int toZ, final int distance) {
-        final PositionCounter existing = this.counters.get(parameter);
+        final PositionCounter<T> existing = this.counters.get(parameter);
         if (existing != null) {
             return false;
         }
 
-        final PositionCounter counter = new PositionCounter(parameter);
+        final PositionCounter<T> counter = new PositionCounter<>(this, parameter);
 
         this.counters.put(parameter, counter);
 
@@ -55,12 +60,12 @@ public final class PositionCountingAreaMap<T> {
     }
 
     public boolean addOrUpdate(final T parameter, final int toX, final int toZ, final int distance) {
-        final PositionCounter existing = this.counters.get(parameter);
+        final PositionCounter<T> existing = this.counters.get(parameter);
         if (existing != null) {
             return existing.update(toX, toZ, distance);
         }
 
-        final PositionCounter counter = new PositionCounter(parameter);
+        final PositionCounter<T> counter = new PositionCounter<>(this, parameter);
 
         this.counters.put(parameter, counter);
 
@@ -68,7 +73,7 @@ public final class PositionCountingAreaMap<T> {
     }
 
     public boolean remove(final T parameter) {
-        final PositionCounter counter = this.counters.remove(parameter);
+        final PositionCounter<T> counter = this.counters.remove(parameter);
         if (counter == null) {
             return false;
         }
@@ -79,7 +84,7 @@ public final class PositionCountingAreaMap<T> {
     }
 
     public boolean update(final T parameter, final int toX, final int toZ, final int distance) {
-        final PositionCounter counter = this.counters.get(parameter);
+        final PositionCounter<T> counter = this.counters.get(parameter);
         if (counter == null) {
             return false;
         }
@@ -92,22 +97,67 @@ public final class PositionCountingAreaMap<T> {
         this.positions.clear();
     }
 
-    private final class PositionCounter extends SingleUserAreaMap<T> {
+    /**
+     * Moves every parameter and its counted footprint into {@code target}, leaving this map empty.
+     * Footprints are added position by position instead of being recomputed, so the cost is
+     * proportional to the number of covered positions rather than to the parameter count times
+     * the area of each footprint. Parameters already present in {@code target} keep the target's
+     * footprint.
+     *
+     * @param target map receiving the parameters
+     */
+    public void transferTo(final PositionCountingAreaMap<T> target) {
+        Objects.requireNonNull(target, "target");
+        if (target == this) {
+            return;
+        }
+        if (!target.counters.isEmpty()) {
+            final List<T> duplicates = new ArrayList<>();
+            for (final T parameter : this.counters.keySet()) {
+                if (target.counters.containsKey(parameter)) {
+                    duplicates.add(parameter);
+                }
+            }
+            for (final T parameter : duplicates) {
+                this.remove(parameter);
+            }
+        }
+
+        if (target.positions.isEmpty()) {
+            target.positions.putAll(this.positions);
+        } else {
+            for (final Long2IntMap.Entry entry : this.positions.long2IntEntrySet()) {
+                target.positions.addTo(entry.getLongKey(), entry.getIntValue());
+            }
+        }
+        for (final Reference2ReferenceMap.Entry<T, PositionCounter<T>> entry : this.counters.reference2ReferenceEntrySet()) {
+            final PositionCounter<T> counter = entry.getValue();
+            counter.owner = target;
+            target.counters.put(entry.getKey(), counter);
+        }
+        this.clear();
+    }
+
+    private static final class PositionCounter<T> extends SingleUserAreaMap<T> {
+
+        // Reassigned when the counter moves to another map
+        private PositionCountingAreaMap<T> owner;
 
-        public PositionCounter(final T parameter) {
+        private PositionCounter(final PositionCountingAreaMap<T> owner, final T parameter) {
             super(parameter);
+            this.owner = owner;
         }
 
         @Override
         protected void addCallback(final T parameter, final int toX, final int toZ) {
-            PositionCountingAreaMap.this.positions.addTo(CoordinateUtil.getChunkKey(toX, toZ), 1);
+            this.owner.positions.addTo(CoordinateUtil.getChunkKey(toX, toZ), 1);
         }
 
         @Override
         protected void removeCallback(final T parameter, final int toX, final int toZ) {
             final long key = CoordinateUtil.getChunkKey(toX, toZ);
-            if (PositionCountingAreaMap.this.positions.addTo(key, -1) == 1) {
-                PositionCountingAreaMap.this.positions.remove(key);
+            if (this.owner.positions.addTo(key, -1) == 1) {
+                this.owner.positions.remove(key);
             }
         }
     }
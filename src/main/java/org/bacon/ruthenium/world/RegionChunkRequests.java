@@ -0,0 +1,385 @@
+package org.bacon.ruthenium.world;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import net.minecraft.server.world.ChunkHolder;
+import net.minecraft.server.world.ChunkLevels;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerChunkLoadingManager;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkStatus;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bacon.ruthenium.mixin.accessor.ServerChunkLoadingManagerAccessor;
+import org.bacon.ruthenium.mixin.accessor.ServerChunkManagerAccessor;
+import org.bacon.ruthenium.util.CoordinateUtil;
+
+/**
+ * Asynchronous chunk requests for region threads.
+ *
+ * <p>Region code cannot block on the chunk system: chunk holders and tickets belong to the
+ * orchestrator, which only touches them while holding the chunk write lock. A request is queued
+ * without locking and picked up by the orchestrator's next {@code populateChunkState}, which adds a
+ * ticket for the requested status, lets vanilla create the holder and starts the holder's load.
+ * Generation then runs on vanilla's worldgen workers and reads or writes on the IO worker, so the
+ * orchestrator never waits for the chunk.</p>
+ *
+ * <p>{@link #requestChunk} hands the chunk to a callback, queued through
+ * {@link RegionTaskDispatcher} on the region owning the requested chunk, and keeps the ticket until
+ * the callback has run. {@link #prefetch} has no callback: its ticket is kept until a region thread
+ * reads the chunk again ({@link #markTaken(int, int)}), or until {@link #TAKE_TIMEOUT_TICKS} ticks
+ * after the load finished, so the chunk cannot unload before the region that missed it gets to use
+ * it.</p>
+ *
+ * <p>Each world's {@link RegionizedWorldData} owns one instance.</p>
+ */
+public final class RegionChunkRequests {
+
+    private static final Logger LOGGER = LogManager.getLogger(RegionChunkRequests.class);
+    // Ticks a loaded chunk stays ticketed while no region has taken it
+    static final int TAKE_TIMEOUT_TICKS = 100;
+
+    private static final int LOADING = 0;
+    private static final int LOADED = 1;
+    private static final int FAILED = 2;
+
+    /**
+     * The chunk system operations requests need, kept apart so the bookkeeping can be tested
+     * without a running server.
+     */
+    interface ChunkSystem {
+
+        /** Ticket level that loads a chunk to {@code status}. */
+        int levelFor(ChunkStatus status);
+
+        /** The chunk if it already reached {@code status}, else {@code null}. */
+        Chunk getIfPresent(int chunkX, int chunkZ, ChunkStatus status);
+
+        void addTicket(int chunkX, int chunkZ, int level);
+
+        void removeTicket(int chunkX, int chunkZ, int level);
+
+        /** Starts loading a chunk whose ticket was added; {@code null} if it has no holder. */
+        CompletableFuture<Chunk> load(int chunkX, int chunkZ, ChunkStatus status);
+
+        /** Whether the caller is a region thread ticking this world. */
+        boolean isOnRegionThread();
+
+        /** Runs a callback task on the region owning a chunk, or on the server thread. */
+        void deliver(int chunkX, int chunkZ, boolean onRegion, Runnable task);
+    }
+
+    private static final class Request {
+        final int chunkX;
+        final int chunkZ;
+        final ChunkStatus status;
+        final int level;
+        // null for prefetches
+        final Consumer<Chunk> callback;
+        final boolean onRegion;
+        volatile int state = LOADING;
+        // Prefetch read by a region, or callback finished
+        volatile boolean taken;
+        // Orchestrator only: tick the load was first seen finished, -1 until then
+        long loadedTick = -1L;
+
+        Request(final int chunkX, final int chunkZ, final ChunkStatus status, final int level,
+                final Consumer<Chunk> callback, final boolean onRegion) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.status = status;
+            this.level = level;
+            this.callback = callback;
+            this.onRegion = onRegion;
+        }
+    }
+
+    private final ChunkSystem chunkSystem;
+    private final ConcurrentLinkedQueue<Request> queued = new ConcurrentLinkedQueue<>();
+    // Outstanding prefetches by chunk key, from queueing until taken or expired
+    private final Map<Long, Request> prefetching = new ConcurrentHashMap<>();
+    // Orchestrator only
+    private final RegionTicketRefs ticketRefs = new RegionTicketRefs();
+    private final List<Request> ticketed = new ArrayList<>();
+    private final List<Request> awaitingLoad = new ArrayList<>();
+    private long tick;
+
+    /**
+     * Creates the request state for a world.
+     *
+     * @param world world the requests load chunks in
+     */
+    public RegionChunkRequests(final ServerWorld world) {
+        this(new WorldChunkSystem(world));
+    }
+
+    RegionChunkRequests(final ChunkSystem chunkSystem) {
+        this.chunkSystem = Objects.requireNonNull(chunkSystem, "chunkSystem");
+    }
+
+    /**
+     * Requests a chunk at the supplied status without blocking. When called on a region thread the
+     * callback runs on the region owning the requested chunk once the chunk is there; otherwise it
+     * runs on the server thread. The callback receives {@code null} if the chunk could not be
+     * loaded. The chunk stays loaded at least until the callback has run.
+     *
+     * @param chunkX   chunk X coordinate
+     * @param chunkZ   chunk Z coordinate
+     * @param status   least status the chunk must reach
+     * @param callback receives the chunk once it reached {@code status}
+     */
+    public void requestChunk(final int chunkX, final int chunkZ, final ChunkStatus status,
+                             final Consumer<Chunk> callback) {
+        Objects.requireNonNull(callback, "callback");
+        final Request request = new Request(chunkX, chunkZ, status, this.chunkSystem.levelFor(status),
+            callback, this.chunkSystem.isOnRegionThread());
+        final Chunk present = this.chunkSystem.getIfPresent(chunkX, chunkZ, status);
+        if (present != null) {
+            // Already there: hand it over now rather than waiting a tick for a ticket
+            this.chunkSystem.deliver(chunkX, chunkZ, request.onRegion, () -> callback.accept(present));
+            return;
+        }
+        this.queued.add(request);
+    }
+
+    /**
+     * Starts loading a chunk that a region thread needed but found missing, so it is available by
+     * the time the region looks again. At most one prefetch per chunk is in flight.
+     *
+     * @param chunkX chunk X coordinate
+     * @param chunkZ chunk Z coordinate
+     * @param status least status the chunk must reach
+     */
+    public void prefetch(final int chunkX, final int chunkZ, final ChunkStatus status) {
+        final Long chunkKey = CoordinateUtil.getChunkKey(chunkX, chunkZ);
+        if (this.prefetching.containsKey(chunkKey)) {
+            return;
+        }
+        final Request request = new Request(chunkX, chunkZ, status, this.chunkSystem.levelFor(status), null, false);
+        if (this.prefetching.putIfAbsent(chunkKey, request) == null) {
+            this.queued.add(request);
+        }
+    }
+
+    /**
+     * Records that a region thread found a chunk present, letting go of the ticket of the
+     * prefetch that loaded it, if any. Cheap when nothing is being prefetched.
+     *
+     * @param chunkX chunk X coordinate
+     * @param chunkZ chunk Z coordinate
+     */
+    public void markTaken(final int chunkX, final int chunkZ) {
+        if (this.prefetching.isEmpty()) {
+            return;
+        }
+        final Request request = this.prefetching.remove(CoordinateUtil.getChunkKey(chunkX, chunkZ));
+        if (request != null) {
+            request.taken = true;
+        }
+    }
+
+    /**
+     * Adds tickets for newly queued requests and removes the tickets of finished ones. Must be
+     * called on the orchestrator once per tick while holding the chunk write lock, before the
+     * ticket manager ticks.
+     */
+    public void applyTicketChanges() {
+        ++this.tick;
+        if (this.ticketed.isEmpty() && this.queued.isEmpty()) {
+            return;
+        }
+        for (final Iterator<Request> iterator = this.ticketed.iterator(); iterator.hasNext();) {
+            final Request request = iterator.next();
+            if (!this.shouldRelease(request)) {
+                continue;
+            }
+            iterator.remove();
+            final long chunkKey = CoordinateUtil.getChunkKey(request.chunkX, request.chunkZ);
+            if (request.callback == null) {
+                this.prefetching.remove(chunkKey, request);
+            }
+            if (this.ticketRefs.release(chunkKey, request.level)) {
+                this.chunkSystem.removeTicket(request.chunkX, request.chunkZ, request.level);
+            }
+        }
+        Request request;
+        while ((request = this.queued.poll()) != null) {
+            if (request.taken) {
+                // Prefetch loaded by someone else and already read before the ticket was ever added
+                continue;
+            }
+            if (this.ticketRefs.acquire(CoordinateUtil.getChunkKey(request.chunkX, request.chunkZ), request.level)) {
+                this.chunkSystem.addTicket(request.chunkX, request.chunkZ, request.level);
+            }
+            this.ticketed.add(request);
+            this.awaitingLoad.add(request);
+        }
+    }
+
+    private boolean shouldRelease(final Request request) {
+        if (request.taken) {
+            return true;
+        }
+        if (request.callback != null) {
+            // Held until the callback has run, however long the region takes to get to it
+            return false;
+        }
+        final int state = request.state;
+        if (state == FAILED) {
+            return true;
+        }
+        if (state != LOADED) {
+            return false;
+        }
+        if (request.loadedTick < 0L) {
+            request.loadedTick = this.tick;
+            return false;
+        }
+        return this.tick - request.loadedTick >= TAKE_TIMEOUT_TICKS;
+    }
+
+    /**
+     * Starts the holder loads for requests whose tickets were added by
+     * {@link #applyTicketChanges()}. Must be called on the orchestrator after the chunk holders were
+     * updated, still holding the chunk write lock.
+     */
+    public void startPendingLoads() {
+        if (this.awaitingLoad.isEmpty()) {
+            return;
+        }
+        for (final Request request : this.awaitingLoad) {
+            final CompletableFuture<Chunk> load = this.chunkSystem.load(request.chunkX, request.chunkZ, request.status);
+            if (load == null) {
+                this.finish(request, null);
+                continue;
+            }
+            load.whenComplete((chunk, throwable) -> {
+                if (throwable != null) {
+                    LOGGER.warn("Failed to load chunk {} at {} for a region request",
+                        new ChunkPos(request.chunkX, request.chunkZ), request.status, throwable);
+                }
+                this.finish(request, throwable == null ? chunk : null);
+            });
+        }
+        this.awaitingLoad.clear();
+    }
+
+    private void finish(final Request request, final Chunk chunk) {
+        request.state = chunk != null ? LOADED : FAILED;
+        if (request.callback == null) {
+            return;
+        }
+        this.chunkSystem.deliver(request.chunkX, request.chunkZ, request.onRegion, () -> {
+            try {
+                request.callback.accept(chunk);
+            } finally {
+                // The orchestrator drops the ticket on its next pass
+                request.taken = true;
+            }
+        });
+    }
+
+    /**
+     * Forgets every outstanding request during shutdown. Their callbacks never run and their
+     * tickets are left to the chunk system, which does not save them.
+     *
+     * @return number of discarded requests
+     */
+    public int discard() {
+        int discarded = 0;
+        for (final Request request : this.ticketed) {
+            if (!request.taken) {
+                ++discarded;
+            }
+        }
+        discarded += this.queued.size();
+        this.prefetching.clear();
+        this.queued.clear();
+        this.ticketed.clear();
+        this.awaitingLoad.clear();
+        return discarded;
+    }
+
+    /**
+     * Returns how many requests hold the ticket of a chunk at a level. Used by tests.
+     */
+    int ticketCount(final int chunkX, final int chunkZ, final int level) {
+        return this.ticketRefs.count(CoordinateUtil.getChunkKey(chunkX, chunkZ), level);
+    }
+
+    private static final class WorldChunkSystem implements ChunkSystem {
+
+        // Never times out and is never saved; each request releases its own reference
+        private static final ChunkTicketType REGION_REQUEST = new ChunkTicketType(0L, ChunkTicketType.FOR_LOADING);
+
+        private final ServerWorld world;
+
+        WorldChunkSystem(final ServerWorld world) {
+            this.world = Objects.requireNonNull(world, "world");
+        }
+
+        private ServerChunkLoadingManager loadingManager() {
+            return ((ServerChunkManagerAccessor)this.world.getChunkManager()).ruthenium$getChunkLoadingManager();
+        }
+
+        private ChunkHolder holder(final int chunkX, final int chunkZ) {
+            return ((ServerChunkLoadingManagerAccessor)this.loadingManager())
+                .ruthenium$getChunkHolder(ChunkPos.toLong(chunkX, chunkZ));
+        }
+
+        @Override
+        public int levelFor(final ChunkStatus status) {
+            return ChunkLevels.getLevelFromStatus(Objects.requireNonNull(status, "status"));
+        }
+
+        @Override
+        public Chunk getIfPresent(final int chunkX, final int chunkZ, final ChunkStatus status) {
+            final ChunkHolder holder = this.holder(chunkX, chunkZ);
+            return holder == null ? null : holder.getOrNull(status);
+        }
+
+        @Override
+        public void addTicket(final int chunkX, final int chunkZ, final int level) {
+            ((ServerChunkManagerAccessor)this.world.getChunkManager()).ruthenium$getTicketManager()
+                .addTicketWithLevel(REGION_REQUEST, new ChunkPos(chunkX, chunkZ), level);
+        }
+
+        @Override
+        public void removeTicket(final int chunkX, final int chunkZ, final int level) {
+            ((ServerChunkManagerAccessor)this.world.getChunkManager()).ruthenium$getTicketManager()
+                .removeTicketWithLevel(REGION_REQUEST, new ChunkPos(chunkX, chunkZ), level);
+        }
+
+        @Override
+        public CompletableFuture<Chunk> load(final int chunkX, final int chunkZ, final ChunkStatus status) {
+            final ChunkHolder holder = this.holder(chunkX, chunkZ);
+            if (holder == null) {
+                return null;
+            }
+            return holder.load(status, this.loadingManager()).thenApply(result -> result.orElse(null));
+        }
+
+        @Override
+        public boolean isOnRegionThread() {
+            return TickRegionScheduler.getCurrentRegion() != null && TickRegionScheduler.getCurrentWorld() == this.world;
+        }
+
+        @Override
+        public void deliver(final int chunkX, final int chunkZ, final boolean onRegion, final Runnable task) {
+            if (onRegion) {
+                RegionTaskDispatcher.runOnChunk(this.world, chunkX, chunkZ, task);
+            } else {
+                this.world.getServer().execute(task);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.bacon.ruthenium.world;
+
+import java.util.List;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import org.bacon.ruthenium.region.RegionTickData;
+import org.bacon.ruthenium.region.ThreadedRegionizer;
+import org.bacon.ruthenium.util.CoordinateUtil;
+
+/**
+ * Routes entity tracking events into the per-region entity index kept by {@link RegionizedWorldData}.
+ *
+ * <p>Entities are owned by the region whose chunks contain their entity section column. Lookups are
+ * performed under the regionizer read lock so that an entity is never filed into a region that is
+ * concurrently being merged or split. Entities inside chunks that are not (yet) part of a region are
+ * parked in the world-scoped data and adopted once the chunk joins a region.</p>
+ */
+public final class RegionEntityTracker {
+
+    private RegionEntityTracker() {}
+
+    /**
+     * Indexes an entity that started being tracked by the world's entity manager.
+     *
+     * @param world  world containing the entity
+     * @param entity entity that became tracked
+     */
+    public static void onTrackingStart(final ServerWorld world, final Entity entity) {
+        if (!(world instanceof RegionizedServerWorld regionized)) {
+            return;
+        }
+        final ChunkPos pos = entity.getChunkPos();
+        final long chunkKey = CoordinateUtil.getChunkKey(pos.x, pos.z);
+        regionized.ruthenium$getRegionizer().computeAtChunkSynchronised(pos.x, pos.z, region ->
+            resolveData(regionized, region).addEntity(entity, chunkKey));
+    }
+
+    /**
+     * Removes an entity that stopped being tracked by the world's entity manager.
+     *
+     * @param world  world containing the entity
+     * @param entity entity that is no longer tracked
+     */
+    public static void onTrackingEnd(final ServerWorld world, final Entity entity) {
+        if (!(world instanceof RegionizedServerWorld regionized)) {
+            return;
+        }
+        final ChunkPos pos = entity.getChunkPos();
+        final boolean[] removed = new boolean[1];
+        regionized.ruthenium$getRegionizer().computeAtChunkSynchronised(pos.x, pos.z, region ->
+            removed[0] = resolveData(regionized, region).removeEntity(entity));
+        if (!removed[0]) {
+            // The entity was filed under a different column than its current chunk position, fall back to a full sweep
+            removeEverywhere(regionized, entity);
+        }
+    }
+
+    /**
+     * Moves an entity whose entity section column changed.
+     *
+     * @param world   world containing the entity
+     * @param entity  entity that moved
+     * @param fromX   previous chunk X
+     * @param fromZ   previous chunk Z
+     * @param toX     new chunk X
+     * @param toZ     new chunk Z
+     */
+    public static void onSectionColumnChanged(final ServerWorld world, final Entity entity,
+                                              final int fromX, final int fromZ,
+                                              final int toX, final int toZ) {
+        if (!(world instanceof RegionizedServerWorld regionized)) {
+            return;
+        }
+        final ThreadedRegionizer<RegionTickData, RegionTickData.RegionSectionData> regionizer =
+            regionized.ruthenium$getRegionizer();
+        final long toKey = CoordinateUtil.getChunkKey(toX, toZ);
+        // Both lookups happen under a single read lock so that the pair of regions is consistent
+        regionizer.computeAtChunkSynchronised(toX, toZ, toRegion -> {
+            final RegionizedWorldData target = resolveData(regionized, toRegion);
+            final RegionizedWorldData source = resolveData(regionized, regionizer.getRegionAtUnsynchronised(fromX, fromZ));
+            if (source != target) {
+                source.removeEntity(entity);
+            }
+            target.addEntity(entity, toKey);
+        });
+    }
+
+    /**
+     * Moves entities parked in the world-scoped data for the supplied chunk into the region that now
+     * owns the chunk. Called after a chunk has been added to a region.
+     *
+     * @param world  world containing the chunk
+     * @param region region that owns the chunk
+     * @param chunkX chunk X coordinate
+     * @param chunkZ chunk Z coordinate
+     */
+    public static void adoptParkedEntities(final ServerWorld world,
+                                           final ThreadedRegionizer.ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region,
+                                           final int chunkX, final int chunkZ) {
+        if (!(world instanceof RegionizedServerWorld regionized)) {
+            return;
+        }
+        final long chunkKey = CoordinateUtil.getChunkKey(chunkX, chunkZ);
+        final List<Entity> parked = regionized.ruthenium$getWorldRegionData().removeEntitiesInChunk(chunkKey);
+        if (parked.isEmpty()) {
+            return;
+        }
+        final RegionizedWorldData target = region.getData().getWorldData();
+        for (final Entity entity : parked) {
+            target.addEntity(entity, chunkKey);
+        }
+    }
+
+    private static RegionizedWorldData resolveData(final RegionizedServerWorld world,
+                                                   final ThreadedRegionizer.ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region) {
+        return region == null ? world.ruthenium$getWorldRegionData() : region.getData().getWorldData();
+    }
+
+    private static void removeEverywhere(final RegionizedServerWorld world, final Entity entity) {
+        if (world.ruthenium$getWorldRegionData().removeEntity(entity)) {
+            return;
+        }
+        world.ruthenium$getRegionizer().computeForAllRegions(region -> region.getData().getWorldData().removeEntity(entity));
+    }
+}
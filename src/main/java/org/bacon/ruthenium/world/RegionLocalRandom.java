@@ -0,0 +1,16 @@
+package org.bacon.ruthenium.world;
+
+/**
+ * Marker interface implemented via mixin on {@code CheckedRandom}. Generators flagged as region
+ * local are served from the ticking region's {@link org.bacon.ruthenium.region.RegionRandom}
+ * whenever they are used on a region thread.
+ */
+public interface RegionLocalRandom {
+
+    /**
+     * Flags the generator as region local.
+     *
+     * @param regionLocal {@code true} to serve region threads from their region's generator
+     */
+    void ruthenium$setRegionLocal(boolean regionLocal);
+}
@@ -0,0 +1,92 @@
+package org.bacon.ruthenium.world;
+
+import net.minecraft.server.world.ServerWorld;
+import org.bacon.ruthenium.region.RegionScheduledTickQueue;
+import org.bacon.ruthenium.region.RegionTickData;
+import org.bacon.ruthenium.region.ThreadedRegionizer;
+
+/**
+ * Routes scheduled tick notifications into the per-region {@link RegionScheduledTickQueue}s held
+ * by {@link RegionTickData}.
+ *
+ * <p>Ticks scheduled by a region into one of its own chunks take a lock-free fast path. All other
+ * lookups happen under the regionizer read lock so that a chunk is never filed into a region that
+ * is concurrently being merged or split. Chunks that are not (yet) part of a region are parked in
+ * the world-scoped data and adopted once the chunk joins a region.</p>
+ */
+public final class RegionScheduledTicks {
+
+    private RegionScheduledTicks() {}
+
+    /**
+     * Records that a chunk's tick scheduler holds a pending tick due at {@code triggerTick}.
+     *
+     * @param world       world containing the chunk
+     * @param blockTicks  {@code true} for block ticks, {@code false} for fluid ticks
+     * @param chunkX      chunk X coordinate
+     * @param chunkZ      chunk Z coordinate
+     * @param triggerTick game time at which the tick is due
+     */
+    public static void onTickScheduled(final ServerWorld world, final boolean blockTicks,
+                                       final int chunkX, final int chunkZ, final long triggerTick) {
+        if (!(world instanceof RegionizedServerWorld regionized)) {
+            return;
+        }
+        final ThreadedRegionizer.ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> current =
+            TickRegionScheduler.getCurrentRegion();
+        if (current != null && TickRegionScheduler.getCurrentWorld() == world && current.containsChunk(chunkX, chunkZ)) {
+            getQueue(current.getData(), blockTicks).schedule(chunkX, chunkZ, triggerTick);
+            return;
+        }
+        regionized.ruthenium$getRegionizer().computeAtChunkSynchronised(chunkX, chunkZ, region ->
+            resolveQueue(regionized, region, blockTicks).schedule(chunkX, chunkZ, triggerTick));
+    }
+
+    /**
+     * Moves scheduled tick entries parked in the world-scoped data for the supplied chunk into the
+     * region that now owns the chunk. Called after a chunk has been added to a region.
+     *
+     * @param world  world containing the chunk
+     * @param region region that owns the chunk
+     * @param chunkX chunk X coordinate
+     * @param chunkZ chunk Z coordinate
+     */
+    public static void adoptParkedTicks(final ServerWorld world,
+                                        final ThreadedRegionizer.ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region,
+                                        final int chunkX, final int chunkZ) {
+        if (!(world instanceof RegionizedServerWorld regionized)) {
+            return;
+        }
+        final RegionizedWorldData worldData = regionized.ruthenium$getWorldRegionData();
+        adoptParked(worldData.getParkedScheduledTickQueue(true), region.getData().getBlockTickQueue(), chunkX, chunkZ);
+        adoptParked(worldData.getParkedScheduledTickQueue(false), region.getData().getFluidTickQueue(), chunkX, chunkZ);
+    }
+
+    /**
+     * Returns the block or fluid tick queue of the supplied region data.
+     *
+     * @param data       region data
+     * @param blockTicks {@code true} for the block tick queue, {@code false} for the fluid one
+     * @return the requested queue
+     */
+    public static RegionScheduledTickQueue getQueue(final RegionTickData data, final boolean blockTicks) {
+        return blockTicks ? data.getBlockTickQueue() : data.getFluidTickQueue();
+    }
+
+    private static void adoptParked(final RegionScheduledTickQueue parked, final RegionScheduledTickQueue target,
+                                    final int chunkX, final int chunkZ) {
+        final long triggerTick = parked.remove(chunkX, chunkZ);
+        if (triggerTick != Long.MAX_VALUE) {
+            target.schedule(chunkX, chunkZ, triggerTick);
+        }
+    }
+
+    private static RegionScheduledTickQueue resolveQueue(final RegionizedServerWorld world,
+                                                         final ThreadedRegionizer.ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region,
+                                                         final boolean blockTicks) {
+        if (region == null) {
+            return world.ruthenium$getWorldRegionData().getParkedScheduledTickQueue(blockTicks);
+        }
+        return getQueue(region.getData(), blockTicks);
+    }
+}
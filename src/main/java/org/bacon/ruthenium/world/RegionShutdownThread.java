@@ -76,10 +76,17 @@ final class RegionShutdownThread extends Thread {
         try {
             LOGGER.info("Draining pending cross-region tasks before shutdown");
             int drained = 0;
+            int discarded = 0;
             for (final net.minecraft.server.world.ServerWorld world : this.server.getWorlds()) {
                 drained += RegionTaskDispatcher.drainPendingChunkTasks(world);
+                if (world instanceof RegionizedServerWorld regionized) {
+                    discarded += regionized.ruthenium$getWorldRegionData().getChunkRequests().discard();
+                }
             }
             LOGGER.info("Drained {} pending chunk tasks during shutdown", drained);
+            if (discarded > 0) {
+                LOGGER.info("Discarded {} unfinished region chunk requests during shutdown", discarded);
+            }
         } catch (final Throwable throwable) {
             LOGGER.error("Failure while draining pending tasks during shutdown", throwable);
             escalate = true;
@@ -6,6 +6,7 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import org.bacon.ruthenium.region.RegionOwnershipSnapshot;
 import org.bacon.ruthenium.region.RegionTickData;
 import org.bacon.ruthenium.region.ThreadedRegionizer;
 
@@ -74,7 +75,8 @@ public final class RegionThreadUtil {
 
     /**
      * Determines whether the current region owns the supplied chunk or any chunk within the
-     * provided radius.
+     * provided radius. Answered from the running region's ownership snapshot without locking when
+     * one is available.
      *
      * @param world  world containing the chunk
      * @param chunkX chunk X coordinate
@@ -86,6 +88,10 @@ public final class RegionThreadUtil {
         if (world == null) {
             return false;
         }
+        final RegionOwnershipSnapshot ownership = TickRegionScheduler.getCurrentOwnership();
+        if (ownership != null) {
+            return ownership.getRegion().regioniser.world == world && ownership.containsAnyChunk(chunkX, chunkZ, radius);
+        }
         final ThreadedRegionizer.ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region = TickRegionScheduler.getCurrentRegion();
         if (region == null || TickRegionScheduler.getCurrentWorld() != world) {
             return false;
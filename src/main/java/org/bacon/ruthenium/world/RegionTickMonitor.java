@@ -11,18 +11,27 @@ import net.minecraft.registry.RegistryKey;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import org.bacon.ruthenium.metrics.MetricSource;
+import org.bacon.ruthenium.metrics.OpenMetricsWriter;
+import org.bacon.ruthenium.region.RegionTickData;
+import org.bacon.ruthenium.world.network.RegionNetworkManager;
 
 /**
  * Lightweight tracker that records recent tick activity for each region. The
- * data is used for diagnostics commands and to confirm that regions keep
- * ticking over time.
+ * data is used for diagnostics commands, the metrics exporter and to confirm
+ * that regions keep ticking over time.
  */
-public final class RegionTickMonitor {
+public final class RegionTickMonitor implements MetricSource {
+
+    private static final double[] TICK_QUANTILES = {50.0D, 95.0D, 99.0D};
+    private static final String[] TICK_QUANTILE_LABELS = {"0.5", "0.95", "0.99"};
 
     private static final RegionTickMonitor INSTANCE = new RegionTickMonitor();
 
     private final ConcurrentHashMap<RegistryKey<World>, ConcurrentHashMap<Long, RegionStats>> stats =
         new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<RegistryKey<World>, CostSplitStats> costSplits = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<RegistryKey<World>, OrchestrationStats> orchestration = new ConcurrentHashMap<>();
 
     private RegionTickMonitor() {
     }
@@ -35,13 +44,28 @@ public final class RegionTickMonitor {
                            final long regionId,
                            final int chunkCount,
                            final int processedTasks,
-                           final long durationNanos) {
+                           final long durationNanos,
+                           final RegionTickData data) {
         final RegistryKey<World> worldKey = world.getRegistryKey();
         final ConcurrentHashMap<Long, RegionStats> perWorld =
             this.stats.computeIfAbsent(worldKey, ignored -> new ConcurrentHashMap<>());
         final RegionStats regionStats =
             perWorld.computeIfAbsent(regionId, ignored -> new RegionStats(regionId));
         regionStats.record(chunkCount, processedTasks, durationNanos);
+        regionStats.data = data;
+    }
+
+    /**
+     * Drops the stats of a region that no longer exists (merged away or removed).
+     *
+     * @param world    world owning the region
+     * @param regionId id of the destroyed region
+     */
+    public void forgetRegion(final ServerWorld world, final long regionId) {
+        final ConcurrentHashMap<Long, RegionStats> perWorld = this.stats.get(world.getRegistryKey());
+        if (perWorld != null) {
+            perWorld.remove(regionId);
+        }
     }
 
     public void recordError(final ServerWorld world, final long regionId) {
@@ -62,6 +86,43 @@ public final class RegionTickMonitor {
         regionStats.recordStall();
     }
 
+    /**
+     * Records that the regionizer recalculated a region because of its tick cost.
+     *
+     * @param world             world owning the region
+     * @param costMspt          rolling tick cost that triggered the recalculation
+     * @param pieces            regions it was split into, {@code 1} if it stayed whole
+     * @param largestChunkShare share of its chunks the largest piece kept
+     */
+    public void recordCostRecalculation(final ServerWorld world, final double costMspt, final int pieces,
+                                        final double largestChunkShare) {
+        final CostSplitStats splitStats = this.costSplits.computeIfAbsent(world.getRegistryKey(), ignored -> new CostSplitStats());
+        splitStats.checks.incrementAndGet();
+        if (pieces > 1) {
+            splitStats.splits.incrementAndGet();
+            splitStats.regionsCreated.addAndGet(pieces);
+            splitStats.lastParentMspt = costMspt;
+            splitStats.lastLargestChunkShare = largestChunkShare;
+        }
+    }
+
+    /**
+     * Records the orchestrator's work for one world tick.
+     *
+     * @param world           world that was orchestrated
+     * @param servicesNanos   time spent on world-level services (tick start, global task drain)
+     * @param chunkStateNanos time spent updating tickets, chunk holders, broadcasts and trackers
+     * @param totalNanos      wall time of the whole orchestration step
+     */
+    public void recordOrchestration(final ServerWorld world, final long servicesNanos, final long chunkStateNanos,
+                                    final long totalNanos) {
+        final OrchestrationStats orchestrationStats =
+            this.orchestration.computeIfAbsent(world.getRegistryKey(), ignored -> new OrchestrationStats());
+        orchestrationStats.servicesNanos.addAndGet(servicesNanos);
+        orchestrationStats.chunkStateNanos.addAndGet(chunkStateNanos);
+        orchestrationStats.lastTotalNanos = totalNanos;
+    }
+
     public List<String> buildReport() {
         final List<String> lines = new ArrayList<>();
         for (final Map.Entry<RegistryKey<World>, ConcurrentHashMap<Long, RegionStats>> worldEntry : this.stats.entrySet()) {
@@ -87,6 +148,12 @@ public final class RegionTickMonitor {
                     stats.lastDurationMillis(), stats.minDurationMillis(), stats.maxDurationMillis()));
                 lines.add(String.format("    lastTick: chunks=%d tasks=%d",
                     stats.lastChunkSample(), stats.lastProcessedTasks()));
+                final RegionTickData data = stats.data;
+                if (data != null) {
+                    for (final RegionTickPhaseProfiler.PhaseSummary summary : data.getPhaseProfiler().summarize()) {
+                        lines.add("    phase " + summary.describe());
+                    }
+                }
 
                 if (stats.totalErrors() > 0) {
                     final long errorAge = stats.lastErrorAgeMillis();
@@ -100,6 +167,171 @@ public final class RegionTickMonitor {
         return lines;
     }
 
+    /**
+     * Publishes per-region tick, queue and network metrics plus cost split counters. Only reads atomics and the per-region
+     * stats monitors; never touches the regionizer or region locks.
+     *
+     * @param writer scrape output
+     */
+    @Override
+    public void collect(final OpenMetricsWriter writer) {
+        final List<RegionSample> samples = new ArrayList<>();
+        for (final Map.Entry<RegistryKey<World>, ConcurrentHashMap<Long, RegionStats>> worldEntry : this.stats.entrySet()) {
+            final String worldId = worldEntry.getKey().getValue().toString();
+            for (final RegionStats regionStats : worldEntry.getValue().values()) {
+                samples.add(new RegionSample(worldId, Long.toString(regionStats.regionId()), regionStats, regionStats.data));
+            }
+        }
+
+        writer.family("ruthenium_region_ticks", OpenMetricsWriter.Type.COUNTER, "Completed region ticks");
+        for (final RegionSample sample : samples) {
+            writer.sample("ruthenium_region_ticks_total", sample.stats().totalTicks(), sample.labels());
+        }
+        writer.family("ruthenium_region_tick_errors", OpenMetricsWriter.Type.COUNTER, "Region ticks that threw");
+        for (final RegionSample sample : samples) {
+            writer.sample("ruthenium_region_tick_errors_total", sample.stats().totalErrors(), sample.labels());
+        }
+        writer.family("ruthenium_region_consecutive_stalls", OpenMetricsWriter.Type.GAUGE,
+            "Watchdog stall reports since the region last ticked");
+        for (final RegionSample sample : samples) {
+            writer.sample("ruthenium_region_consecutive_stalls", sample.stats().consecutiveStalls(), sample.labels());
+        }
+        writer.family("ruthenium_region_last_tick_age_seconds", OpenMetricsWriter.Type.GAUGE,
+            "Seconds since the region last completed a tick");
+        for (final RegionSample sample : samples) {
+            final long ageMillis = sample.stats().lastAgeMillis();
+            writer.sample("ruthenium_region_last_tick_age_seconds", ageMillis < 0L ? Double.NaN : ageMillis / 1000.0D,
+                sample.labels());
+        }
+        writer.family("ruthenium_region_mspt", OpenMetricsWriter.Type.SUMMARY,
+            "Region tick duration in milliseconds over the rolling tick window");
+        for (final RegionSample sample : samples) {
+            final RegionTickStats tickStats = sample.data() == null ? null : sample.data().getTickStats();
+            if (tickStats == null) {
+                continue;
+            }
+            final long[] quantiles = tickStats.percentilesNanos(TICK_QUANTILES);
+            for (int i = 0; i < quantiles.length; ++i) {
+                writer.sample("ruthenium_region_mspt", quantiles[i] / 1_000_000.0D,
+                    "world", sample.world(), "region", sample.region(), "quantile", TICK_QUANTILE_LABELS[i]);
+            }
+            final RegionTickStats.Snapshot snapshot = tickStats.snapshot();
+            writer.sample("ruthenium_region_mspt_count", snapshot.sampleCount(), sample.labels());
+            writer.sample("ruthenium_region_mspt_sum", snapshot.averageTickMillis() * snapshot.sampleCount(), sample.labels());
+        }
+        writer.family("ruthenium_region_scheduling_delay_seconds", OpenMetricsWriter.Type.COUNTER,
+            "Time region ticks spent due but waiting for a worker");
+        for (final RegionSample sample : samples) {
+            final RegionTickStats tickStats = sample.data() == null ? null : sample.data().getTickStats();
+            if (tickStats != null) {
+                writer.sample("ruthenium_region_scheduling_delay_seconds_total",
+                    tickStats.getTotalSchedulingDelayNanos() / 1.0E9D, sample.labels());
+            }
+        }
+        writer.family("ruthenium_region_phase_p99_seconds", OpenMetricsWriter.Type.GAUGE,
+            "99th percentile time spent per tick in each region tick phase over the last one to two minutes");
+        for (final RegionSample sample : samples) {
+            if (sample.data() == null) {
+                continue;
+            }
+            for (final RegionTickPhaseProfiler.PhaseSummary summary : sample.data().getPhaseProfiler().summarize()) {
+                writer.sample("ruthenium_region_phase_p99_seconds", summary.p99Nanos() / 1.0E9D,
+                    "world", sample.world(), "region", sample.region(), "phase", summary.phase().id());
+            }
+        }
+        writer.family("ruthenium_region_queue_depth", OpenMetricsWriter.Type.GAUGE, "Pending entries in region queues");
+        for (final RegionSample sample : samples) {
+            if (sample.data() == null) {
+                continue;
+            }
+            writer.sample("ruthenium_region_queue_depth", sample.data().getTaskQueue().size(),
+                "world", sample.world(), "region", sample.region(), "queue", "tasks");
+            writer.sample("ruthenium_region_queue_depth", sample.data().getBlockTickQueue().size(),
+                "world", sample.world(), "region", sample.region(), "queue", "blockTicks");
+            writer.sample("ruthenium_region_queue_depth", sample.data().getFluidTickQueue().size(),
+                "world", sample.world(), "region", sample.region(), "queue", "fluidTicks");
+        }
+        writer.family("ruthenium_region_cross_region_packets", OpenMetricsWriter.Type.COUNTER,
+            "Packets routed to a player owned by another region");
+        for (final RegionSample sample : samples) {
+            if (sample.data() == null) {
+                continue;
+            }
+            final RegionNetworkManager.NetworkMetrics network = sample.data().getWorldData().getNetworkManager().getMetrics();
+            writer.sample("ruthenium_region_cross_region_packets_total", network.crossRegionPackets(), sample.labels());
+        }
+
+        writer.family("ruthenium_regionizer_cost_recalculations", OpenMetricsWriter.Type.COUNTER,
+            "Regions recalculated because their rolling MSPT stayed over the cost split threshold");
+        for (final Map.Entry<RegistryKey<World>, CostSplitStats> entry : this.costSplits.entrySet()) {
+            writer.sample("ruthenium_regionizer_cost_recalculations_total", entry.getValue().checks.get(),
+                "world", entry.getKey().getValue().toString());
+        }
+        writer.family("ruthenium_regionizer_cost_splits", OpenMetricsWriter.Type.COUNTER,
+            "Cost recalculations that split the region");
+        for (final Map.Entry<RegistryKey<World>, CostSplitStats> entry : this.costSplits.entrySet()) {
+            writer.sample("ruthenium_regionizer_cost_splits_total", entry.getValue().splits.get(),
+                "world", entry.getKey().getValue().toString());
+        }
+        writer.family("ruthenium_regionizer_cost_split_regions", OpenMetricsWriter.Type.COUNTER,
+            "Regions created by cost splits");
+        for (final Map.Entry<RegistryKey<World>, CostSplitStats> entry : this.costSplits.entrySet()) {
+            writer.sample("ruthenium_regionizer_cost_split_regions_total", entry.getValue().regionsCreated.get(),
+                "world", entry.getKey().getValue().toString());
+        }
+        writer.family("ruthenium_regionizer_last_cost_split_mspt", OpenMetricsWriter.Type.GAUGE,
+            "Rolling MSPT of the region most recently split by cost");
+        for (final Map.Entry<RegistryKey<World>, CostSplitStats> entry : this.costSplits.entrySet()) {
+            writer.sample("ruthenium_regionizer_last_cost_split_mspt", entry.getValue().lastParentMspt,
+                "world", entry.getKey().getValue().toString());
+        }
+        writer.family("ruthenium_regionizer_last_cost_split_largest_share", OpenMetricsWriter.Type.GAUGE,
+            "Share of the chunks the largest piece kept in the most recent cost split");
+        for (final Map.Entry<RegistryKey<World>, CostSplitStats> entry : this.costSplits.entrySet()) {
+            writer.sample("ruthenium_regionizer_last_cost_split_largest_share", entry.getValue().lastLargestChunkShare,
+                "world", entry.getKey().getValue().toString());
+        }
+
+        writer.family("ruthenium_orchestrator_world_seconds", OpenMetricsWriter.Type.COUNTER,
+            "Time the orchestrator spent on each world, by phase");
+        for (final Map.Entry<RegistryKey<World>, OrchestrationStats> entry : this.orchestration.entrySet()) {
+            final String worldId = entry.getKey().getValue().toString();
+            writer.sample("ruthenium_orchestrator_world_seconds_total", entry.getValue().servicesNanos.get() / 1.0E9D,
+                "world", worldId, "phase", "services");
+            writer.sample("ruthenium_orchestrator_world_seconds_total", entry.getValue().chunkStateNanos.get() / 1.0E9D,
+                "world", worldId, "phase", "chunkState");
+        }
+        writer.family("ruthenium_orchestrator_world_last_tick_seconds", OpenMetricsWriter.Type.GAUGE,
+            "Wall time of the most recent orchestration step of each world");
+        for (final Map.Entry<RegistryKey<World>, OrchestrationStats> entry : this.orchestration.entrySet()) {
+            writer.sample("ruthenium_orchestrator_world_last_tick_seconds", entry.getValue().lastTotalNanos / 1.0E9D,
+                "world", entry.getKey().getValue().toString());
+        }
+    }
+
+    private record RegionSample(String world, String region, RegionStats stats, RegionTickData data) {
+
+        String[] labels() {
+            return new String[] {"world", this.world, "region", this.region};
+        }
+    }
+
+    private static final class CostSplitStats {
+
+        private final AtomicLong checks = new AtomicLong();
+        private final AtomicLong splits = new AtomicLong();
+        private final AtomicLong regionsCreated = new AtomicLong();
+        private volatile double lastParentMspt = Double.NaN;
+        private volatile double lastLargestChunkShare = Double.NaN;
+    }
+
+    private static final class OrchestrationStats {
+
+        private final AtomicLong servicesNanos = new AtomicLong();
+        private final AtomicLong chunkStateNanos = new AtomicLong();
+        private volatile long lastTotalNanos;
+    }
+
     private static final class RegionStats {
 
         private final long regionId;
@@ -113,6 +345,7 @@ public final class RegionTickMonitor {
         private final AtomicLong totalErrors = new AtomicLong();
         private final AtomicLong consecutiveStalls = new AtomicLong();
         private final AtomicLong lastErrorMillis = new AtomicLong();
+        private volatile RegionTickData data;
 
         RegionStats(final long regionId) {
             this.regionId = regionId;
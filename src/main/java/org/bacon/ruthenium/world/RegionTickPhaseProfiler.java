@@ -0,0 +1,249 @@
+package org.bacon.ruthenium.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import org.bacon.ruthenium.util.LogLinearHistogram;
+
+/**
+ * Per-region histograms of the time spent in each phase of a region tick.
+ *
+ * <p>The ticking thread accumulates phase durations with {@link #add(Phase, long)} into plain
+ * per-tick counters and publishes them once per tick through {@link #commitTick()}, which takes the
+ * profiler monitor a single time. Readers take the same monitor to obtain consistent copies. No
+ * call allocates on the tick path.</p>
+ *
+ * <p>Samples are kept in two rolling windows of {@link #DEFAULT_WINDOW_TICKS} ticks each: when the
+ * current window fills up it replaces the previous one and starts empty. Reports cover both, so
+ * they describe the last one to two minutes of a region rather than its whole lifetime.</p>
+ */
+public final class RegionTickPhaseProfiler {
+
+    /**
+     * Phases of a region tick, in execution order.
+     */
+    public enum Phase {
+        TASKS("tasks"),
+        SCHEDULED_TICKS("scheduledTicks"),
+        CHUNK_TICKS("chunkTicks"),
+        ENTITIES("entities"),
+        SPAWNING("spawning"),
+        BLOCK_EVENTS("blockEvents"),
+        BROADCAST("broadcast"),
+        ENTITY_TRACKING("entityTracking"),
+        BLOCK_ENTITIES("blockEntities");
+
+        private final String id;
+
+        Phase(final String id) {
+            this.id = id;
+        }
+
+        /**
+         * @return stable identifier used in reports and exported metrics
+         */
+        public String id() {
+            return this.id;
+        }
+    }
+
+    /**
+     * Ticks per rolling window, one minute at the normal tick rate.
+     */
+    public static final int DEFAULT_WINDOW_TICKS = 20 * 60;
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final int windowTicks;
+    // Only touched by the thread currently ticking the owning region
+    private final long[] pendingNanos = new long[PHASES.length];
+    // Guarded by this
+    private LogLinearHistogram[] current = newHistograms();
+    private LogLinearHistogram[] previous = newHistograms();
+    private int currentTicks;
+
+    /**
+     * Creates a profiler with empty histograms.
+     */
+    public RegionTickPhaseProfiler() {
+        this(DEFAULT_WINDOW_TICKS);
+    }
+
+    RegionTickPhaseProfiler(final int windowTicks) {
+        if (windowTicks <= 0) {
+            throw new IllegalArgumentException("windowTicks must be positive: " + windowTicks);
+        }
+        this.windowTicks = windowTicks;
+    }
+
+    private static LogLinearHistogram[] newHistograms() {
+        final LogLinearHistogram[] histograms = new LogLinearHistogram[PHASES.length];
+        for (int i = 0; i < histograms.length; ++i) {
+            histograms[i] = new LogLinearHistogram();
+        }
+        return histograms;
+    }
+
+    /**
+     * Adds time spent in a phase during the current tick. Must only be called by the thread
+     * ticking the owning region.
+     *
+     * @param phase phase that ran
+     * @param nanos elapsed nanoseconds
+     */
+    public void add(final Phase phase, final long nanos) {
+        this.pendingNanos[phase.ordinal()] += nanos;
+    }
+
+    /**
+     * Records the accumulated phase durations of the current tick into the histograms and resets
+     * the accumulators. Phases that did not run are recorded as zero so every histogram counts the
+     * same ticks. Rolls the windows over once the current one is full.
+     */
+    public void commitTick() {
+        synchronized (this) {
+            for (int i = 0; i < PHASES.length; ++i) {
+                this.current[i].record(this.pendingNanos[i]);
+            }
+            if (++this.currentTicks >= this.windowTicks) {
+                final LogLinearHistogram[] recycled = this.previous;
+                for (final LogLinearHistogram histogram : recycled) {
+                    histogram.clear();
+                }
+                this.previous = this.current;
+                this.current = recycled;
+                this.currentTicks = 0;
+            }
+        }
+        Arrays.fill(this.pendingNanos, 0L);
+    }
+
+    /**
+     * Adds the histograms of another profiler to this one, window by window, used when regions
+     * merge.
+     *
+     * @param other profiler of the region being merged
+     */
+    public void mergeFrom(final RegionTickPhaseProfiler other) {
+        Objects.requireNonNull(other, "other");
+        if (other == this) {
+            return;
+        }
+        final LogLinearHistogram[] otherCurrent = newHistograms();
+        final LogLinearHistogram[] otherPrevious = newHistograms();
+        synchronized (other) {
+            for (int i = 0; i < PHASES.length; ++i) {
+                otherCurrent[i].copyFrom(other.current[i]);
+                otherPrevious[i].copyFrom(other.previous[i]);
+            }
+        }
+        synchronized (this) {
+            for (int i = 0; i < PHASES.length; ++i) {
+                this.current[i].add(otherCurrent[i]);
+                this.previous[i].add(otherPrevious[i]);
+            }
+        }
+    }
+
+    /**
+     * Replaces the histograms of this profiler with those of another, used when region data is
+     * copied. Split regions start empty instead, so the parent's samples are not counted once per
+     * child.
+     *
+     * @param other profiler to copy
+     */
+    public void copyFrom(final RegionTickPhaseProfiler other) {
+        Objects.requireNonNull(other, "other");
+        if (other == this) {
+            return;
+        }
+        final LogLinearHistogram[] otherCurrent = newHistograms();
+        final LogLinearHistogram[] otherPrevious = newHistograms();
+        final int otherTicks;
+        synchronized (other) {
+            for (int i = 0; i < PHASES.length; ++i) {
+                otherCurrent[i].copyFrom(other.current[i]);
+                otherPrevious[i].copyFrom(other.previous[i]);
+            }
+            otherTicks = other.currentTicks;
+        }
+        synchronized (this) {
+            this.current = otherCurrent;
+            this.previous = otherPrevious;
+            this.currentTicks = Math.min(otherTicks, this.windowTicks - 1);
+        }
+    }
+
+    /**
+     * Clears every histogram.
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < PHASES.length; ++i) {
+            this.current[i].clear();
+            this.previous[i].clear();
+        }
+        this.currentTicks = 0;
+    }
+
+    /**
+     * Returns a consistent copy of the histogram for one phase, covering both windows.
+     *
+     * @param phase phase to copy
+     * @return detached histogram copy
+     */
+    public LogLinearHistogram copyHistogram(final Phase phase) {
+        final LogLinearHistogram copy = new LogLinearHistogram();
+        synchronized (this) {
+            copy.copyFrom(this.previous[phase.ordinal()]);
+            copy.add(this.current[phase.ordinal()]);
+        }
+        return copy;
+    }
+
+    /**
+     * Captures summary statistics for every phase over the last one to two windows.
+     *
+     * @return one summary per phase, in execution order
+     */
+    public List<PhaseSummary> summarize() {
+        final LogLinearHistogram[] copy = this.copyHistograms();
+        final List<PhaseSummary> summaries = new ArrayList<>(PHASES.length);
+        for (int i = 0; i < PHASES.length; ++i) {
+            final LogLinearHistogram histogram = copy[i];
+            summaries.add(new PhaseSummary(PHASES[i], histogram.getCount(), histogram.getMean(),
+                histogram.getValueAtPercentile(50.0D), histogram.getValueAtPercentile(99.0D), histogram.getMax()));
+        }
+        return summaries;
+    }
+
+    private LogLinearHistogram[] copyHistograms() {
+        final LogLinearHistogram[] copy = newHistograms();
+        synchronized (this) {
+            for (int i = 0; i < PHASES.length; ++i) {
+                copy[i].copyFrom(this.previous[i]);
+                copy[i].add(this.current[i]);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Immutable per-phase summary.
+     */
+    public record PhaseSummary(Phase phase, long samples, double meanNanos,
+                               long p50Nanos, long p99Nanos, long maxNanos) {
+
+        /**
+         * Formats the summary as a single report line, with durations in milliseconds.
+         *
+         * @return formatted summary
+         */
+        public String describe() {
+            return String.format(Locale.ROOT, "%s: mean=%.3fms p50=%.3fms p99=%.3fms max=%.3fms",
+                this.phase.id(), this.meanNanos / 1_000_000.0D, this.p50Nanos / 1_000_000.0D,
+                this.p99Nanos / 1_000_000.0D, this.maxNanos / 1_000_000.0D);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package org.bacon.ruthenium.world;
 
 import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
- * Maintains a rolling window of region tick durations for instrumentation and debugging.
+ * Maintains a rolling window of region tick durations for instrumentation and debugging, along
+ * with how late each tick started relative to its scheduled start.
  */
 public final class RegionTickStats {
 
@@ -14,6 +16,9 @@ public final class RegionTickStats {
     private final int windowSize;
     private final LongArrayList samples;
     private long totalNanos;
+    private final LongArrayList delaySamples;
+    private long totalDelayNanos;
+    private long cumulativeDelayNanos;
 
     /**
      * Creates a new stats tracker with the default sample window size.
@@ -33,6 +38,7 @@ public final class RegionTickStats {
         }
         this.windowSize = windowSize;
         this.samples = new LongArrayList(windowSize);
+        this.delaySamples = new LongArrayList(windowSize);
     }
 
     /**
@@ -52,22 +58,48 @@ public final class RegionTickStats {
         }
     }
 
+    /**
+     * Records how long after its scheduled start a tick began.
+     *
+     * @param delayNanos scheduling delay in nanoseconds
+     */
+    public synchronized void recordSchedulingDelay(final long delayNanos) {
+        if (delayNanos < 0L) {
+            throw new IllegalArgumentException("delayNanos must be >= 0");
+        }
+        this.delaySamples.add(delayNanos);
+        this.totalDelayNanos += delayNanos;
+        this.cumulativeDelayNanos += delayNanos;
+        if (this.delaySamples.size() > this.windowSize) {
+            this.totalDelayNanos -= this.delaySamples.removeLong(0);
+        }
+    }
+
     /**
      * Clears all recorded samples.
      */
     public synchronized void clear() {
         this.samples.clear();
         this.totalNanos = 0L;
+        this.delaySamples.clear();
+        this.totalDelayNanos = 0L;
     }
 
     /**
-     * Copies the recorded samples from {@code other}, replacing the existing snapshot.
+     * Copies the recorded samples from {@code other}, replacing the existing snapshot. Cumulative
+     * counters restart at zero: split children copy their parent, and carrying the parent's totals
+     * over would count them once per child.
      *
      * @param other the stats instance to copy from
      */
     public void copyFrom(final RegionTickStats other) {
         Objects.requireNonNull(other, "other");
-        final long[] snapshot = other.snapshotNanos();
+        final long[] snapshot;
+        final long[] delays;
+        synchronized (other) {
+            snapshot = other.samples.toLongArray();
+            delays = other.delaySamples.toLongArray();
+        }
         synchronized (this) {
             this.samples.clear();
             this.totalNanos = 0L;
@@ -75,6 +107,13 @@ public final class RegionTickStats {
                 this.samples.add(value);
                 this.totalNanos += value;
             }
+            this.delaySamples.clear();
+            this.totalDelayNanos = 0L;
+            for (final long value : delays) {
+                this.delaySamples.add(value);
+                this.totalDelayNanos += value;
+            }
+            this.cumulativeDelayNanos = 0L;
             this.trimIfNeeded();
         }
     }
@@ -158,6 +197,21 @@ public final class RegionTickStats {
         return min;
     }
 
+    /**
+     * @return average scheduling delay over the window in nanoseconds or {@code 0} when empty
+     */
+    public synchronized double getAverageSchedulingDelayNanos() {
+        return this.delaySamples.isEmpty() ? 0.0D : (double)this.totalDelayNanos / (double)this.delaySamples.size();
+    }
+
+    /**
+     * @return scheduling delay summed over every recorded tick, including samples that left the
+     *     window, in nanoseconds
+     */
+    public synchronized long getTotalSchedulingDelayNanos() {
+        return this.cumulativeDelayNanos;
+    }
+
     /**
      * Creates a defensive copy of the current samples.
      *
@@ -195,26 +249,58 @@ public final class RegionTickStats {
                 }
             }
 
+            long maxDelay = 0L;
+            for (int i = 0, len = this.delaySamples.size(); i < len; ++i) {
+                maxDelay = Math.max(maxDelay, this.delaySamples.getLong(i));
+            }
+            final double averageDelay = this.delaySamples.isEmpty() ? 0.0D
+                : (double)this.totalDelayNanos / (double)this.delaySamples.size();
+
             final long last = this.samples.getLong(count - 1);
             final double average = (double)this.totalNanos / (double)count;
-            return new Snapshot(count, average, last, min, max);
+            return new Snapshot(count, average, last, min, max, averageDelay, maxDelay);
         }
     }
 
+    /**
+     * Computes nearest-rank percentiles over the current sample window.
+     *
+     * @param percentiles percentiles in {@code [0, 100]}
+     * @return one duration in nanoseconds per requested percentile, all {@code 0} when empty
+     */
+    public long[] percentilesNanos(final double... percentiles) {
+        final long[] sorted = this.snapshotNanos();
+        final long[] result = new long[percentiles.length];
+        if (sorted.length == 0) {
+            return result;
+        }
+        Arrays.sort(sorted);
+        for (int i = 0; i < percentiles.length; ++i) {
+            final double percentile = Math.min(100.0D, Math.max(0.0D, percentiles[i]));
+            final int rank = (int)Math.ceil(percentile / 100.0D * sorted.length);
+            result[i] = sorted[Math.max(0, rank - 1)];
+        }
+        return result;
+    }
+
     private void trimIfNeeded() {
         while (this.samples.size() > this.windowSize) {
             final long removed = this.samples.removeLong(0);
             this.totalNanos -= removed;
         }
+        while (this.delaySamples.size() > this.windowSize) {
+            this.totalDelayNanos -= this.delaySamples.removeLong(0);
+        }
     }
 
     /**
      * Immutable snapshot of aggregated statistics.
      */
     public record Snapshot(int sampleCount, double averageTickNanos,
-                           long lastTickNanos, long minTickNanos, long maxTickNanos) {
+                           long lastTickNanos, long minTickNanos, long maxTickNanos,
+                           double averageSchedulingDelayNanos, long maxSchedulingDelayNanos) {
 
-        public static final Snapshot EMPTY = new Snapshot(0, 0.0D, 0L, 0L, 0L);
+        public static final Snapshot EMPTY = new Snapshot(0, 0.0D, 0L, 0L, 0L, 0.0D, 0L);
 
         private static final double NANOS_PER_SECOND = 1_000_000_000.0D;
         private static final double TARGET_MSPT = 50.0D;
@@ -235,6 +321,14 @@ public final class RegionTickStats {
             return this.maxTickNanos / 1_000_000.0D;
         }
 
+        public double averageSchedulingDelayMillis() {
+            return this.averageSchedulingDelayNanos / 1_000_000.0D;
+        }
+
+        public double maxSchedulingDelayMillis() {
+            return this.maxSchedulingDelayNanos / 1_000_000.0D;
+        }
+
         /**
          * Calculates the effective TPS based on average tick time.
          * TPS is capped at 20 (50ms per tick target).
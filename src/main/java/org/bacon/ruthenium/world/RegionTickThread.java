@@ -0,0 +1,36 @@
+package org.bacon.ruthenium.world;
+
+import org.bacon.ruthenium.region.RegionRandom;
+
+/**
+ * Worker thread used by the region scheduler. Exposes the random generator of the region the
+ * thread is currently ticking through a plain field, so hot paths such as the world random can
+ * reach it without a thread-local lookup.
+ */
+public final class RegionTickThread extends Thread {
+
+    private RegionRandom currentRandom;
+
+    /**
+     * Creates a new region worker thread.
+     *
+     * @param runnable work loop
+     * @param name     thread name
+     */
+    public RegionTickThread(final Runnable runnable, final String name) {
+        super(runnable, name);
+    }
+
+    /**
+     * Returns the random generator of the region ticking on the current thread.
+     *
+     * @return region random, or {@code null} when the current thread is not ticking a region
+     */
+    public static RegionRandom getCurrentRandom() {
+        return Thread.currentThread() instanceof RegionTickThread thread ? thread.currentRandom : null;
+    }
+
+    void setCurrentRandom(final RegionRandom random) {
+        this.currentRandom = random;
+    }
+}
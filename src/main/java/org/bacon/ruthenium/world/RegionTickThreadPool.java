@@ -0,0 +1,735 @@
+package org.bacon.ruthenium.world;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bacon.ruthenium.metrics.OpenMetricsWriter;
+
+/**
+ * Deadline-ordered tick pool for region handles with soft thread affinity and an optional adaptive
+ * worker count.
+ *
+ * <p>Follows the contract of concurrentutil's {@code SchedulerThreadPool}: a task runs when its
+ * scheduled start is reached, {@link SchedulableTick#runTick()} sets the next start and returns
+ * whether to keep the task scheduled, and ticks of one task never overlap. In addition, every
+ * worker keeps a home queue of the tasks it ran last. A worker prefers due tasks from its own queue
+ * so a region keeps its working set in the same core's cache, and only steals a due task from a
+ * worker that is busy running something else.</p>
+ *
+ * <p>Tasks wait in a time-ordered queue until their scheduled start, then move to a ready queue
+ * ordered by {@link SchedulableTick#getDispatchPriority()}, which defaults to the scheduled start
+ * (earliest deadline first). Tasks override it to favour or demote themselves among the tasks that
+ * are already due; it never makes a task run before its scheduled start.</p>
+ *
+ * <p>When constructed with fewer minimum than maximum workers, the number of workers taking tasks
+ * is adjusted once per window from measured utilization and start lateness: one worker is added
+ * when ticks start late or workers are nearly saturated, and one is retired when workers are
+ * mostly idle. Retired workers park indefinitely and their queued tasks move to active workers.</p>
+ *
+ * <p>A running tick can fan work out with {@link #runParallel(Runnable[])}: active workers with
+ * nothing due help run the subtasks before parking again.</p>
+ */
+public final class RegionTickThreadPool {
+
+    private static final Logger LOGGER = LogManager.getLogger(RegionTickThreadPool.class);
+
+    public static final long DEADLINE_NOT_SET = Long.MIN_VALUE;
+
+    private static final Comparator<SchedulableTick> TICK_COMPARATOR_BY_TIME = (final SchedulableTick t1, final SchedulableTick t2) -> {
+        final int timeCompare = Long.signum(t1.scheduledStart - t2.scheduledStart);
+        if (timeCompare != 0) {
+            return timeCompare;
+        }
+        return Long.signum(t1.id - t2.id);
+    };
+
+    private static final Comparator<SchedulableTick> TICK_COMPARATOR_BY_PRIORITY = (final SchedulableTick t1, final SchedulableTick t2) -> {
+        final int priorityCompare = Long.signum(t1.dispatchPriority - t2.dispatchPriority);
+        if (priorityCompare != 0) {
+            return priorityCompare;
+        }
+        return TICK_COMPARATOR_BY_TIME.compare(t1, t2);
+    };
+
+    // Grow when ticks start this late on average, or when workers are this busy
+    private static final long GROW_LATENESS_NANOS = 2_000_000L;
+    private static final double GROW_UTILIZATION = 0.85D;
+    // Shrink only if the remaining workers would stay below this utilization
+    private static final long SHRINK_LATENESS_NANOS = 500_000L;
+    private static final double SHRINK_UTILIZATION = 0.60D;
+
+    private final Object scheduleLock = new Object();
+    private final Runner[] runners;
+    private final Thread[] threads;
+    private final int minThreads;
+    private final long adaptWindowNanos;
+
+    private volatile int activeThreads;
+    private volatile boolean halted;
+
+    // Adaptive window, guarded by scheduleLock
+    private long windowStart;
+    private long windowBusyNanos;
+    private long windowLatenessNanos;
+    private long windowTicks;
+
+    private final AtomicLong affinityHits = new AtomicLong();
+    private final AtomicLong migrations = new AtomicLong();
+    private final AtomicLong resizes = new AtomicLong();
+    private final ConcurrentLinkedQueue<ParallelBatch> parallelBatches = new ConcurrentLinkedQueue<>();
+    private final AtomicLong parallelSubtasks = new AtomicLong();
+    private final AtomicLong helpedSubtasks = new AtomicLong();
+
+    /**
+     * Creates, but does not start, a pool.
+     *
+     * @param maxThreads       number of worker threads created
+     * @param initialThreads   number of workers initially taking tasks
+     * @param minThreads       lower bound on workers taking tasks; equal to {@code maxThreads} for a
+     *                         fixed-size pool
+     * @param adaptWindowNanos length of the measurement window between resizes
+     * @param threadFactory    creates the worker threads
+     */
+    public RegionTickThreadPool(final int maxThreads, final int initialThreads, final int minThreads,
+                                final long adaptWindowNanos, final ThreadFactory threadFactory) {
+        Objects.requireNonNull(threadFactory, "threadFactory");
+        if (maxThreads <= 0 || minThreads <= 0 || minThreads > maxThreads) {
+            throw new IllegalArgumentException("Invalid thread bounds min=" + minThreads + " max=" + maxThreads);
+        }
+        this.minThreads = minThreads;
+        this.adaptWindowNanos = Math.max(1L, adaptWindowNanos);
+        this.activeThreads = Math.max(minThreads, Math.min(maxThreads, initialThreads));
+        this.runners = new Runner[maxThreads];
+        this.threads = new Thread[maxThreads];
+        for (int i = 0; i < maxThreads; ++i) {
+            this.runners[i] = new Runner(i);
+            this.threads[i] = threadFactory.newThread(this.runners[i]);
+        }
+        this.windowStart = System.nanoTime();
+    }
+
+    /**
+     * Starts the worker threads.
+     */
+    public void start() {
+        for (final Thread thread : this.threads) {
+            thread.start();
+        }
+    }
+
+    /**
+     * Attempts to prevent further execution of tasks, optionally waiting for the workers to die.
+     *
+     * @param sync      whether to wait for the workers to die
+     * @param maxWaitNS maximum time to wait
+     * @return {@code true} if {@code sync} was false or the workers died before the timeout
+     */
+    public boolean halt(final boolean sync, final long maxWaitNS) {
+        this.halted = true;
+        for (final Thread thread : this.threads) {
+            LockSupport.unpark(thread);
+        }
+        if (!sync) {
+            return true;
+        }
+        final long start = System.nanoTime();
+        for (;;) {
+            boolean allDead = true;
+            for (final Thread thread : this.threads) {
+                if (thread.isAlive()) {
+                    allDead = false;
+                    break;
+                }
+            }
+            if (allDead) {
+                return true;
+            }
+            if (System.nanoTime() - start >= maxWaitNS) {
+                return false;
+            }
+            LockSupport.parkNanos(1_000_000L);
+        }
+    }
+
+    /**
+     * Returns the worker threads.
+     *
+     * @return copy of the worker thread array
+     */
+    public Thread[] getThreads() {
+        return this.threads.clone();
+    }
+
+    /**
+     * Returns the number of workers currently taking tasks.
+     *
+     * @return active worker count
+     */
+    public int getActiveThreadCount() {
+        return this.activeThreads;
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return maximum worker count
+     */
+    public int getMaxThreadCount() {
+        return this.runners.length;
+    }
+
+    /**
+     * Returns whether the active worker count adapts to load.
+     *
+     * @return {@code true} in adaptive mode
+     */
+    public boolean isAdaptive() {
+        return this.minThreads < this.runners.length;
+    }
+
+    /**
+     * Schedules a task.
+     *
+     * @param task task to schedule
+     * @throws IllegalStateException if the task is already scheduled or was cancelled
+     */
+    public void schedule(final SchedulableTick task) {
+        synchronized (this.scheduleLock) {
+            if (!task.tryMarkScheduled()) {
+                throw new IllegalStateException("Task " + task + " is already scheduled or cancelled");
+            }
+            task.ownedBy = this;
+            this.enqueue(task, null);
+        }
+    }
+
+    /**
+     * Moves the scheduled start of a queued task to the later of its current start and
+     * {@code newStart}.
+     *
+     * @param task     queued task
+     * @param newStart candidate start
+     * @return whether the start was moved
+     */
+    public boolean updateTickStartToMax(final SchedulableTick task, final long newStart) {
+        synchronized (this.scheduleLock) {
+            if (Long.signum(newStart - task.scheduledStart) <= 0) {
+                return false;
+            }
+            final Runner queuedOn = task.queuedOn;
+            if (queuedOn == null) {
+                return false;
+            }
+            queuedOn.remove(task);
+            task.scheduledStart = newStart;
+            queuedOn.home.add(task);
+            return true;
+        }
+    }
+
+    /**
+     * Returns {@code null} if the task is not scheduled here, {@code TRUE} if it was removed while
+     * queued and {@code FALSE} if it was cancelled while executing.
+     *
+     * @param task task to retire
+     * @return retirement result
+     */
+    public Boolean tryRetire(final SchedulableTick task) {
+        if (task.ownedBy != this) {
+            return null;
+        }
+        synchronized (this.scheduleLock) {
+            final Runner queuedOn = task.queuedOn;
+            if (queuedOn != null) {
+                queuedOn.remove(task);
+                task.queuedOn = null;
+                task.tryMarkCancelled();
+                return Boolean.TRUE;
+            }
+            return task.tryMarkCancelled() ? Boolean.FALSE : null;
+        }
+    }
+
+    /**
+     * Indicates that intermediate tasks are available. Currently a no-op, as in
+     * {@code SchedulerThreadPool}.
+     *
+     * @param task task with intermediate work
+     */
+    public void notifyTasks(final SchedulableTick task) {
+        // Not implemented
+    }
+
+    /**
+     * Runs every subtask, using the calling thread and any active worker that has no due tick, and
+     * returns once all of them completed. Subtasks must not touch state owned by the caller's
+     * region unless they only read it while the caller waits here.
+     *
+     * @param subtasks independent subtasks
+     * @throws CompletionException wrapping the first subtask failure, after all subtasks finished
+     */
+    public void runParallel(final Runnable[] subtasks) {
+        Objects.requireNonNull(subtasks, "subtasks");
+        if (subtasks.length == 0) {
+            return;
+        }
+        this.parallelSubtasks.addAndGet(subtasks.length);
+        final ParallelBatch batch = new ParallelBatch(subtasks, Thread.currentThread());
+        if (subtasks.length > 1 && !this.halted) {
+            this.parallelBatches.add(batch);
+            synchronized (this.scheduleLock) {
+                int toWake = subtasks.length - 1;
+                final int active = this.activeThreads;
+                for (int i = 0; i < active && toWake > 0; ++i) {
+                    final Runner runner = this.runners[i];
+                    if (runner.parked && runner.thread != Thread.currentThread()) {
+                        LockSupport.unpark(runner.thread);
+                        --toWake;
+                    }
+                }
+            }
+        }
+        try {
+            batch.help();
+        } finally {
+            this.parallelBatches.remove(batch);
+        }
+        batch.awaitCompletion();
+        final Throwable failure = batch.failure.get();
+        if (failure != null) {
+            throw new CompletionException(failure);
+        }
+    }
+
+    /**
+     * Writes pool size and affinity metrics.
+     *
+     * @param writer scrape output
+     */
+    public void collectMetrics(final OpenMetricsWriter writer) {
+        writer.family("ruthenium_scheduler_active_threads", OpenMetricsWriter.Type.GAUGE,
+            "Region worker threads currently taking ticks");
+        writer.sample("ruthenium_scheduler_active_threads", this.activeThreads);
+        writer.family("ruthenium_scheduler_max_threads", OpenMetricsWriter.Type.GAUGE,
+            "Region worker threads created");
+        writer.sample("ruthenium_scheduler_max_threads", this.runners.length);
+        writer.family("ruthenium_scheduler_affinity_hits", OpenMetricsWriter.Type.COUNTER,
+            "Region ticks run on the same worker as the previous tick");
+        writer.sample("ruthenium_scheduler_affinity_hits_total", this.affinityHits.get());
+        writer.family("ruthenium_scheduler_migrations", OpenMetricsWriter.Type.COUNTER,
+            "Region ticks run on a different worker than the previous tick");
+        writer.sample("ruthenium_scheduler_migrations_total", this.migrations.get());
+        writer.family("ruthenium_scheduler_resizes", OpenMetricsWriter.Type.COUNTER,
+            "Adaptive changes of the active worker count");
+        writer.sample("ruthenium_scheduler_resizes_total", this.resizes.get());
+        writer.family("ruthenium_scheduler_parallel_subtasks", OpenMetricsWriter.Type.COUNTER,
+            "Subtasks submitted through runParallel");
+        writer.sample("ruthenium_scheduler_parallel_subtasks_total", this.parallelSubtasks.get());
+        writer.family("ruthenium_scheduler_helped_subtasks", OpenMetricsWriter.Type.COUNTER,
+            "runParallel subtasks run by an idle worker instead of the submitting thread");
+        writer.sample("ruthenium_scheduler_helped_subtasks_total", this.helpedSubtasks.get());
+    }
+
+    @Override
+    public String toString() {
+        return "RegionTickThreadPool{active=" + this.activeThreads + ", max=" + this.runners.length
+            + ", min=" + this.minThreads + ", affinityHits=" + this.affinityHits.get()
+            + ", migrations=" + this.migrations.get() + "}";
+    }
+
+    // Everything below is guarded by scheduleLock
+
+    /**
+     * Queues a task on its previous worker when that worker is active, otherwise on the least
+     * loaded active worker, and wakes whoever needs to re-evaluate its wait.
+     */
+    private void enqueue(final SchedulableTick task, final Runner caller) {
+        final int active = this.activeThreads;
+        Runner target = task.lastRunner >= 0 && task.lastRunner < active ? this.runners[task.lastRunner] : null;
+        if (target == null) {
+            target = this.runners[0];
+            for (int i = 1; i < active; ++i) {
+                if (this.runners[i].load() < target.load()) {
+                    target = this.runners[i];
+                }
+            }
+        }
+        task.ready = false;
+        target.home.add(task);
+        task.queuedOn = target;
+        if (target == caller) {
+            // The caller re-evaluates its queue right away
+            return;
+        }
+        if (target.parked) {
+            LockSupport.unpark(target.thread);
+        } else {
+            this.wakeIdle(target);
+        }
+    }
+
+    /**
+     * Wakes one parked active worker other than {@code except} so it can reconsider stealing.
+     */
+    private void wakeIdle(final Runner except) {
+        final int active = this.activeThreads;
+        for (int i = 0; i < active; ++i) {
+            final Runner runner = this.runners[i];
+            if (runner != except && runner.parked) {
+                LockSupport.unpark(runner.thread);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Picks the next due task for {@code runner}: the highest priority due task of its own queue
+     * first, otherwise the highest priority due task queued on a worker that is busy.
+     */
+    private SchedulableTick pick(final Runner runner, final long now) {
+        runner.promoteDue(now);
+        if (!runner.ready.isEmpty()) {
+            return runner.ready.poll();
+        }
+        Runner victim = null;
+        SchedulableTick best = null;
+        final int active = this.activeThreads;
+        for (int i = 0; i < active; ++i) {
+            final Runner other = this.runners[i];
+            if (other == runner || other.running == null) {
+                continue;
+            }
+            other.promoteDue(now);
+            final SchedulableTick head = other.ready.peek();
+            if (head != null && (best == null || TICK_COMPARATOR_BY_PRIORITY.compare(head, best) < 0)) {
+                best = head;
+                victim = other;
+            }
+        }
+        if (victim != null) {
+            victim.ready.poll();
+        }
+        return best;
+    }
+
+    /**
+     * Returns how long {@code runner} may park before something it could run becomes due, or
+     * {@code -1} to park until woken.
+     */
+    private long waitNanos(final Runner runner, final long now) {
+        SchedulableTick next = runner.home.peek();
+        final int active = this.activeThreads;
+        for (int i = 0; i < active; ++i) {
+            final Runner other = this.runners[i];
+            if (other == runner || other.running == null) {
+                continue;
+            }
+            if (!other.ready.isEmpty()) {
+                // Already due
+                return 1L;
+            }
+            final SchedulableTick head = other.home.peek();
+            if (head != null && (next == null || TICK_COMPARATOR_BY_TIME.compare(head, next) < 0)) {
+                next = head;
+            }
+        }
+        return next == null ? -1L : Math.max(1L, next.scheduledStart - now);
+    }
+
+    private void adapt(final long now) {
+        final long elapsed = now - this.windowStart;
+        if (elapsed < this.adaptWindowNanos) {
+            return;
+        }
+        final int active = this.activeThreads;
+        final double capacity = (double)active * (double)elapsed;
+        final double utilization = this.windowBusyNanos / capacity;
+        final long meanLateness = this.windowTicks == 0L ? 0L : this.windowLatenessNanos / this.windowTicks;
+
+        if (active < this.runners.length && (meanLateness > GROW_LATENESS_NANOS || utilization > GROW_UTILIZATION)) {
+            this.activeThreads = active + 1;
+            this.resizes.incrementAndGet();
+            LOGGER.debug("Growing region workers to {} (utilization={}, meanLatenessNanos={})",
+                active + 1, utilization, meanLateness);
+            LockSupport.unpark(this.runners[active].thread);
+        } else if (active > this.minThreads && meanLateness < SHRINK_LATENESS_NANOS
+            && this.windowBusyNanos / ((double)(active - 1) * (double)elapsed) < SHRINK_UTILIZATION) {
+            final Runner retired = this.runners[active - 1];
+            this.activeThreads = active - 1;
+            this.resizes.incrementAndGet();
+            LOGGER.debug("Shrinking region workers to {} (utilization={}, meanLatenessNanos={})",
+                active - 1, utilization, meanLateness);
+            final List<SchedulableTick> moved = new ArrayList<>(retired.home);
+            moved.addAll(retired.ready);
+            retired.home.clear();
+            retired.ready.clear();
+            for (final SchedulableTick task : moved) {
+                this.enqueue(task, null);
+            }
+            LockSupport.unpark(retired.thread);
+        }
+
+        this.windowStart = now;
+        this.windowBusyNanos = 0L;
+        this.windowLatenessNanos = 0L;
+        this.windowTicks = 0L;
+    }
+
+    private final class Runner implements Runnable {
+
+        private final int id;
+        // Guarded by scheduleLock
+        private final PriorityQueue<SchedulableTick> home = new PriorityQueue<>(TICK_COMPARATOR_BY_TIME);
+        private final PriorityQueue<SchedulableTick> ready = new PriorityQueue<>(TICK_COMPARATOR_BY_PRIORITY);
+        private SchedulableTick running;
+        private boolean parked;
+        private volatile Thread thread;
+
+        private Runner(final int id) {
+            this.id = id;
+        }
+
+        private int load() {
+            return this.home.size() + this.ready.size() + (this.running == null ? 0 : 1);
+        }
+
+        /**
+         * Moves every task whose scheduled start has passed into the ready queue, fixing its
+         * dispatch priority for as long as it waits there.
+         */
+        private void promoteDue(final long now) {
+            SchedulableTick head;
+            while ((head = this.home.peek()) != null && head.scheduledStart - now <= 0L) {
+                this.home.poll();
+                head.dispatchPriority = head.getDispatchPriority();
+                head.ready = true;
+                this.ready.add(head);
+            }
+        }
+
+        private void remove(final SchedulableTick task) {
+            if (task.ready) {
+                this.ready.remove(task);
+                task.ready = false;
+            } else {
+                this.home.remove(task);
+            }
+        }
+
+        @Override
+        public void run() {
+            this.thread = Thread.currentThread();
+            final RegionTickThreadPool pool = RegionTickThreadPool.this;
+            for (;;) {
+                if (pool.halted) {
+                    return;
+                }
+                final SchedulableTick task;
+                long wait = -1L;
+                synchronized (pool.scheduleLock) {
+                    final long now = System.nanoTime();
+                    task = this.id < pool.activeThreads ? pool.pick(this, now) : null;
+                    if (task != null) {
+                        task.queuedOn = null;
+                        task.ready = false;
+                        this.running = task;
+                        this.parked = false;
+                        if (task.lastRunner == this.id) {
+                            pool.affinityHits.incrementAndGet();
+                        } else {
+                            pool.migrations.incrementAndGet();
+                        }
+                        pool.windowLatenessNanos += Math.max(0L, now - task.scheduledStart);
+                        ++pool.windowTicks;
+                        if (!this.home.isEmpty() || !this.ready.isEmpty()) {
+                            // Our queued tasks become stealable while we are busy
+                            pool.wakeIdle(this);
+                        }
+                    } else {
+                        this.parked = true;
+                        if (this.id < pool.activeThreads) {
+                            wait = pool.waitNanos(this, now);
+                        }
+                    }
+                }
+
+                if (task == null) {
+                    final ParallelBatch batch = pool.parallelBatches.peek();
+                    final int helped = batch == null ? 0 : batch.help();
+                    if (helped > 0) {
+                        pool.helpedSubtasks.addAndGet(helped);
+                        continue;
+                    }
+                    Thread.interrupted();
+                    if (wait < 0L) {
+                        LockSupport.park(this);
+                    } else {
+                        LockSupport.parkNanos(this, wait);
+                    }
+                    continue;
+                }
+
+                final long start = System.nanoTime();
+                boolean reschedule = false;
+                try {
+                    reschedule = task.runTick();
+                } catch (final Throwable throwable) {
+                    LOGGER.error("Unhandled exception ticking {} on {}", task, Thread.currentThread().getName(), throwable);
+                }
+                final long end = System.nanoTime();
+
+                synchronized (pool.scheduleLock) {
+                    this.running = null;
+                    task.lastRunner = this.id;
+                    pool.windowBusyNanos += end - start;
+                    if (reschedule && task.isScheduled()) {
+                        pool.enqueue(task, this);
+                    }
+                    if (pool.isAdaptive()) {
+                        pool.adapt(end);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Subtasks of one {@link #runParallel(Runnable[])} call, claimed by index.
+     */
+    private static final class ParallelBatch {
+
+        private final Runnable[] subtasks;
+        private final Thread owner;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private ParallelBatch(final Runnable[] subtasks, final Thread owner) {
+            this.subtasks = subtasks;
+            this.owner = owner;
+            this.remaining = new AtomicInteger(subtasks.length);
+        }
+
+        /**
+         * Runs unclaimed subtasks until none are left.
+         *
+         * @return number of subtasks run by this call
+         */
+        private int help() {
+            int ran = 0;
+            for (int i; (i = this.next.getAndIncrement()) < this.subtasks.length;) {
+                try {
+                    this.subtasks[i].run();
+                } catch (final Throwable throwable) {
+                    this.failure.compareAndSet(null, throwable);
+                } finally {
+                    ++ran;
+                    if (this.remaining.decrementAndGet() == 0) {
+                        LockSupport.unpark(this.owner);
+                    }
+                }
+            }
+            return ran;
+        }
+
+        private void awaitCompletion() {
+            while (this.remaining.get() != 0) {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * Tickable task scheduled into a {@link RegionTickThreadPool}. {@link #runTick()} and
+     * {@link #runTasks(BooleanSupplier)} are never invoked in parallel.
+     */
+    public abstract static class SchedulableTick {
+
+        private static final AtomicLong ID_GENERATOR = new AtomicLong();
+        public final long id = ID_GENERATOR.getAndIncrement();
+
+        private static final int SCHEDULE_STATE_NOT_SCHEDULED = 0;
+        private static final int SCHEDULE_STATE_SCHEDULED = 1;
+        private static final int SCHEDULE_STATE_CANCELLED = 2;
+
+        private final AtomicInteger scheduled = new AtomicInteger();
+        private RegionTickThreadPool ownedBy;
+        private long scheduledStart = DEADLINE_NOT_SET;
+        // Guarded by the owning pool's scheduleLock
+        private Runner queuedOn;
+        private boolean ready;
+        private long dispatchPriority;
+        private int lastRunner = -1;
+
+        private boolean tryMarkScheduled() {
+            return this.scheduled.compareAndSet(SCHEDULE_STATE_NOT_SCHEDULED, SCHEDULE_STATE_SCHEDULED);
+        }
+
+        private boolean tryMarkCancelled() {
+            return this.scheduled.compareAndSet(SCHEDULE_STATE_SCHEDULED, SCHEDULE_STATE_CANCELLED);
+        }
+
+        private boolean isScheduled() {
+            return this.scheduled.get() == SCHEDULE_STATE_SCHEDULED;
+        }
+
+        protected final long getScheduledStart() {
+            return this.scheduledStart;
+        }
+
+        /**
+         * If this task is scheduled, may only be invoked during {@link #runTick()} or
+         * {@link #runTasks(BooleanSupplier)}.
+         */
+        protected final void setScheduledStart(final long value) {
+            this.scheduledStart = value;
+        }
+
+        /**
+         * Returns the ordering key among due tasks; lower values run first. Evaluated once when
+         * the task becomes due, under the pool's lock, so it must be cheap and must not block.
+         * Defaults to the scheduled start.
+         *
+         * @return dispatch priority in nanosecond units
+         */
+        protected long getDispatchPriority() {
+            return this.scheduledStart;
+        }
+
+        /**
+         * Executes the tick. The callee sets the start of the next tick through
+         * {@link #setScheduledStart(long)}.
+         *
+         * @return {@code true} if the task should stay scheduled
+         */
+        public abstract boolean runTick();
+
+        /**
+         * Returns whether this task has intermediate tasks that can be executed.
+         */
+        public abstract boolean hasTasks();
+
+        /**
+         * Returns {@code null} if this task should not be scheduled, otherwise whether more
+         * intermediate tasks remain.
+         */
+        public abstract Boolean runTasks(final BooleanSupplier canContinue);
+
+        @Override
+        public String toString() {
+            return "SchedulableTick:{class=" + this.getClass().getName() + ",scheduled_state=" + this.scheduled.get() + "}";
+        }
+    }
+}
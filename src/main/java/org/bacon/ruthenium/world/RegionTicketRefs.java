@@ -0,0 +1,67 @@
+package org.bacon.ruthenium.world;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+
+/**
+ * Reference counts for the chunk tickets held by {@link RegionChunkRequests}.
+ *
+ * <p>Several requests for the same chunk and level share one ticket: only the first reference
+ * adds it and only the last one removes it. Not thread-safe; only the orchestrator touches it.</p>
+ */
+final class RegionTicketRefs {
+
+    // Ticket references by level, then chunk key
+    private final Int2ObjectOpenHashMap<Long2IntOpenHashMap> refs = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Adds a reference to the ticket of a chunk at a level.
+     *
+     * @param chunkKey chunk key
+     * @param level    ticket level
+     * @return {@code true} if this is the first reference and the ticket must be added
+     */
+    boolean acquire(final long chunkKey, final int level) {
+        Long2IntOpenHashMap byChunk = this.refs.get(level);
+        if (byChunk == null) {
+            byChunk = new Long2IntOpenHashMap();
+            this.refs.put(level, byChunk);
+        }
+        return byChunk.addTo(chunkKey, 1) == 0;
+    }
+
+    /**
+     * Drops a reference to the ticket of a chunk at a level. Releasing a reference that was never
+     * acquired does nothing.
+     *
+     * @param chunkKey chunk key
+     * @param level    ticket level
+     * @return {@code true} if this was the last reference and the ticket must be removed
+     */
+    boolean release(final long chunkKey, final int level) {
+        final Long2IntOpenHashMap byChunk = this.refs.get(level);
+        if (byChunk == null || !byChunk.containsKey(chunkKey)) {
+            return false;
+        }
+        if (byChunk.addTo(chunkKey, -1) > 1) {
+            return false;
+        }
+        byChunk.remove(chunkKey);
+        if (byChunk.isEmpty()) {
+            this.refs.remove(level);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of references held on a chunk's ticket at a level.
+     *
+     * @param chunkKey chunk key
+     * @param level    ticket level
+     * @return reference count, {@code 0} if no ticket is held
+     */
+    int count(final long chunkKey, final int level) {
+        final Long2IntOpenHashMap byChunk = this.refs.get(level);
+        return byChunk == null ? 0 : byChunk.get(chunkKey);
+    }
+}
@@ -0,0 +1,24 @@
+package org.bacon.ruthenium.world;
+
+import org.bacon.ruthenium.mixin.accessor.EntityTrackerAccessor;
+
+/**
+ * Implemented via mixin on entities so the region owning an entity can reach its
+ * {@code ServerChunkLoadingManager} tracker without going through the world-wide tracker map.
+ */
+public interface RegionTrackedEntity {
+
+    /**
+     * Returns the tracker sending this entity to players.
+     *
+     * @return the tracker, or {@code null} while the entity is not loaded by the chunk loading manager
+     */
+    EntityTrackerAccessor ruthenium$getEntityTracker();
+
+    /**
+     * Attaches or detaches the entity's tracker. Called with the world-wide tracker map locked.
+     *
+     * @param tracker the new tracker, or {@code null} once it was removed
+     */
+    void ruthenium$setEntityTracker(EntityTrackerAccessor tracker);
+}
@@ -2,6 +2,7 @@ package org.bacon.ruthenium.world;
 
 import java.util.Objects;
 import net.minecraft.server.world.ServerWorld;
+import org.bacon.ruthenium.region.RegionOwnershipSnapshot;
 import org.bacon.ruthenium.region.RegionTickData;
 import org.bacon.ruthenium.region.ThreadedRegionizer;
 import org.bacon.ruthenium.region.ThreadedRegionizer.ThreadedRegion;
@@ -76,6 +77,12 @@ public final class RegionizedServer {
         Objects.requireNonNull(world, "world");
         final ThreadedRegionizer<RegionTickData, RegionTickData.RegionSectionData> regionizer =
             world.ruthenium$getRegionizer();
+        // Sections cannot leave a region while it runs, so a snapshot hit is authoritative
+        final RegionOwnershipSnapshot ownership = TickRegionScheduler.getCurrentOwnership();
+        if (ownership != null && ownership.getRegion().regioniser == regionizer
+            && ownership.containsSection(chunkX >> regionizer.sectionChunkShift, chunkZ >> regionizer.sectionChunkShift)) {
+            return true;
+        }
         final ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region =
             regionizer.getRegionForChunk(chunkX, chunkZ);
         return region != null && region == getCurrentRegion();
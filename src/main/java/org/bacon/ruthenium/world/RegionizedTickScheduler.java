@@ -0,0 +1,18 @@
+package org.bacon.ruthenium.world;
+
+import net.minecraft.server.world.ServerWorld;
+
+/**
+ * Marker interface implemented via mixin on world tick schedulers so that scheduled ticks can be
+ * routed into the owning region's {@link org.bacon.ruthenium.region.RegionScheduledTickQueue}.
+ */
+public interface RegionizedTickScheduler {
+
+    /**
+     * Binds the scheduler to the world that owns it.
+     *
+     * @param world      world owning the scheduler
+     * @param blockTicks {@code true} for the block tick scheduler, {@code false} for the fluid one
+     */
+    void ruthenium$bindRegionWorld(ServerWorld world, boolean blockTicks);
+}
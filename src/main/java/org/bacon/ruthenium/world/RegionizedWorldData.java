@@ -1,46 +1,64 @@
 package org.bacon.ruthenium.world;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.longs.Long2ReferenceOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ReferenceMap;
+import it.unimi.dsi.fastutil.objects.Reference2ReferenceOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.fluid.Fluid;
+import net.minecraft.network.listener.ClientPlayPacketListener;
+import net.minecraft.network.packet.Packet;
 import net.minecraft.network.packet.s2c.play.BlockEventS2CPacket;
+import net.minecraft.network.packet.s2c.play.BundleS2CPacket;
+import net.minecraft.server.network.PlayerAssociatedNetworkHandler;
 import net.minecraft.server.network.ServerPlayNetworkHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ChunkHolder;
 import net.minecraft.server.world.ServerChunkLoadingManager;
 import net.minecraft.server.world.ServerChunkManager;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.server.world.ChunkLevelManager;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
-import net.minecraft.util.profiler.Profilers;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.village.raid.RaidManager;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.BlockEntityTickInvoker;
-import net.minecraft.world.tick.OrderedTick;
+import net.minecraft.world.chunk.WorldChunk;
 import net.minecraft.world.tick.WorldTickScheduler;
+import org.bacon.ruthenium.mixin.accessor.EntityTrackerAccessor;
 import org.bacon.ruthenium.mixin.accessor.ServerChunkLoadingManagerAccessor;
 import org.bacon.ruthenium.mixin.accessor.ServerChunkManagerAccessor;
 import org.bacon.ruthenium.mixin.accessor.ServerWorldAccessor;
+import org.bacon.ruthenium.region.RegionScheduledTickQueue;
+import org.bacon.ruthenium.region.RegionTickData;
+import org.bacon.ruthenium.region.ThreadedRegionizer;
+import org.bacon.ruthenium.region.ThreadedRegionizer.ThreadedRegion;
+import org.bacon.ruthenium.util.ChunkBucketList;
+import org.bacon.ruthenium.util.ChunkEventQueue;
 import org.bacon.ruthenium.util.CoordinateUtil;
+import org.bacon.ruthenium.util.FrozenLongSet;
+import org.bacon.ruthenium.util.IteratorSafeOrderedReferenceSet;
 import org.bacon.ruthenium.world.network.RegionNetworkManager;
 import org.bacon.ruthenium.world.raid.RaidManagerThreadSafe;
 
@@ -57,10 +75,13 @@ public class RegionizedWorldData {
     private final Object chunkLock = new Object();
     private final LongSet tickingChunks = new LongOpenHashSet();
     private final LongSet entityTickingChunks = new LongOpenHashSet();
-    private final LongSet scheduledBlockTickChunks = new LongOpenHashSet();
-    private final LongSet scheduledFluidTickChunks = new LongOpenHashSet();
-    private final Long2ObjectOpenHashMap<List<OrderedTick<Block>>> scheduledBlockTicks = new Long2ObjectOpenHashMap<>();
-    private final Long2ObjectOpenHashMap<List<OrderedTick<Fluid>>> scheduledFluidTicks = new Long2ObjectOpenHashMap<>();
+    // Frozen copy of the two ticking sets for lock-free lookups, republished by writers only
+    private volatile TickingChunkSnapshot tickingSnapshot = TickingChunkSnapshot.EMPTY;
+    // Whether the sets changed since the last publish; guarded by chunkLock
+    private boolean tickingSnapshotDirty;
+    // Scheduled tick chunks outside any region; only used on the world-scoped instance
+    private final RegionScheduledTickQueue parkedBlockTicks = new RegionScheduledTickQueue();
+    private final RegionScheduledTickQueue parkedFluidTicks = new RegionScheduledTickQueue();
     private volatile boolean handlingTick;
     private volatile boolean tickAllowed;
     private volatile long lagCompensationTick;
@@ -79,31 +100,50 @@ public class RegionizedWorldData {
     private Object lastSpawnState;
 
     private final List<ServerPlayerEntity> players = new ArrayList<>();
-    private final List<Entity> entities = new ArrayList<>();
+    // Entities currently inside this region's chunks, bucketed by entity section column (chunk key)
+    private final Object entityIndexLock = new Object();
+    private final Reference2LongOpenHashMap<Entity> entityChunkKeys = new Reference2LongOpenHashMap<>();
+    private final Long2ReferenceOpenHashMap<ReferenceOpenHashSet<Entity>> entitiesByChunk = new Long2ReferenceOpenHashMap<>();
+    // The same entities in index order, walked by the region tick without touching the entity section cache
+    private final IteratorSafeOrderedReferenceSet<Entity> entityTickList = new IteratorSafeOrderedReferenceSet<>();
+    // Bumped under the index lock whenever entities leave the index, so batch walks know to re-check
+    private volatile int entityRemovals;
     private final NearbyPlayers nearbyPlayers;
     private final PositionCountingAreaMap<ServerPlayerEntity> spawnChunkTracker;
     private final PositionCountingAreaMap<ServerPlayerEntity> narrowSpawnChunkTracker;
 
     // Block event queue (note blocks, comparator updates, etc.)
-    private final ObjectLinkedOpenHashSet<BlockEventData> blockEvents = new ObjectLinkedOpenHashSet<>();
-    private final Object blockEventsLock = new Object();
+    // Only touched by the thread owning this region
+    private final ChunkEventQueue<BlockEventData> blockEvents =
+        new ChunkEventQueue<>(BlockEventData.DEDUPE_STRATEGY, BlockEventData::chunkKey);
 
-    // Block entity tickers
-    private final List<BlockEntityTickInvoker> blockEntityTickers = new ArrayList<>();
+    // Chunk holders with pending block/light deltas for chunks owned by this region. Only touched
+    // by the owning region thread (or while the region is not ticking during merge/split).
+    private final ReferenceOpenHashSet<ChunkHolder> chunksToBroadcast = new ReferenceOpenHashSet<>();
+
+    // Block entity tickers, bucketed by chunk so non-ticking chunks are skipped per bucket
+    private final ChunkBucketList<BlockEntityTickInvoker> blockEntityTickers = new ChunkBucketList<>();
     private final List<BlockEntityTickInvoker> pendingBlockEntityTickers = new ArrayList<>();
     private final ReferenceOpenHashSet<BlockEntityTickInvoker> blockEntityTickerSet = new ReferenceOpenHashSet<>();
     private volatile boolean tickingBlockEntities = false;
 
     /**
-     * Lock to synchronize chunk data access between region threads and main thread.
-     * Region threads acquire read lock during chunk ticking (allows parallel ticking).
-     * Main thread acquires write lock before broadcasting updates (blocks until regions complete).
+     * Striped locks synchronizing chunk data access between region threads and the main thread.
+     * Region threads read-lock only the stripes covering their own regionizer sections (allows
+     * parallel ticking without a shared reader counter). The main thread write-locks the stripes
+     * covering the chunks it mutates, or every stripe for world-wide chunk system work.
      */
-    // Use a fair RW lock to prevent the main-thread writer (broadcastUpdates) from being
+    // Stripes are fair to prevent the main-thread writer (broadcastUpdates) from being
     // starved by continuous region-thread reads. Starvation here manifests as client desync
     // (e.g. temporary invisible/ghost blocks during rapid piston toggles).
-    private final ReentrantReadWriteLock chunkAccessLock = new ReentrantReadWriteLock(true);
+    private final ChunkAccessStripes chunkAccessStripes = new ChunkAccessStripes();
     private static final long CHUNK_WRITE_LOCK_WARN_MILLIS = 50L;
+    // Vanilla sends synced block events to players within 64 blocks; GENERAL_SMALL buckets cover that
+    private static final double BLOCK_EVENT_BROADCAST_DISTANCE_SQUARED = 64.0 * 64.0;
+    // Clients reject bundles holding more than 4096 packets
+    private static final int MAX_BUNDLE_PACKETS = 4096;
+    // Entities pulled out of the tick list per index lock acquisition
+    private static final int ENTITY_TICK_BATCH = 64;
 
     /**
      * Counter for active region threads currently ticking chunks.
@@ -116,6 +156,12 @@ public class RegionizedWorldData {
      */
     private final RegionNetworkManager networkManager;
 
+    /**
+     * Chunk loads requested by region threads. Only the world-level data uses them, so they are
+     * created on first use.
+     */
+    private volatile RegionChunkRequests chunkRequests;
+
     /**
      * Creates a new world data wrapper for the supplied world.
      *
@@ -269,6 +315,7 @@ public class RegionizedWorldData {
         final long key = CoordinateUtil.getChunkKey(chunkX, chunkZ);
         synchronized (this.chunkLock) {
             this.tickingChunks.add(key);
+            this.tickingSnapshotDirty = true;
         }
     }
 
@@ -283,6 +330,7 @@ public class RegionizedWorldData {
         synchronized (this.chunkLock) {
             this.tickingChunks.remove(key);
             this.entityTickingChunks.remove(key);
+            this.tickingSnapshotDirty = true;
         }
     }
 
@@ -296,6 +344,7 @@ public class RegionizedWorldData {
         final long key = CoordinateUtil.getChunkKey(chunkX, chunkZ);
         synchronized (this.chunkLock) {
             this.entityTickingChunks.add(key);
+            this.tickingSnapshotDirty = true;
         }
     }
 
@@ -309,6 +358,7 @@ public class RegionizedWorldData {
         final long key = CoordinateUtil.getChunkKey(chunkX, chunkZ);
         synchronized (this.chunkLock) {
             this.entityTickingChunks.remove(key);
+            this.tickingSnapshotDirty = true;
         }
     }
 
@@ -339,10 +389,7 @@ public class RegionizedWorldData {
      * orchestrator snapshot.
      */
     public boolean shouldTickBlocksInChunk(final int chunkX, final int chunkZ) {
-        final long key = CoordinateUtil.getChunkKey(chunkX, chunkZ);
-        synchronized (this.chunkLock) {
-            return this.tickingChunks.contains(key);
-        }
+        return this.getTickingSnapshot().ticking().contains(CoordinateUtil.getChunkKey(chunkX, chunkZ));
     }
 
     /**
@@ -350,10 +397,31 @@ public class RegionizedWorldData {
      * orchestrator snapshot.
      */
     public boolean shouldTickEntitiesInChunk(final int chunkX, final int chunkZ) {
-        final long key = CoordinateUtil.getChunkKey(chunkX, chunkZ);
-        synchronized (this.chunkLock) {
-            return this.entityTickingChunks.contains(key);
+        return this.getTickingSnapshot().entityTicking().contains(CoordinateUtil.getChunkKey(chunkX, chunkZ));
+    }
+
+    /**
+     * Returns the published ticking snapshot. Readers never rebuild it: writers republish once at
+     * the end of {@link #populateChunkState}, {@link #merge} and {@link #split}, and single-chunk
+     * mutations in between become visible with the next publish.
+     */
+    private TickingChunkSnapshot getTickingSnapshot() {
+        return this.tickingSnapshot;
+    }
+
+    /**
+     * Freezes the current ticking sets into a new snapshot if they changed since the last publish.
+     * Must be called while holding {@link #chunkLock}.
+     */
+    private void publishTickingSnapshot() {
+        if (!this.tickingSnapshotDirty) {
+            return;
         }
+        this.tickingSnapshot = new TickingChunkSnapshot(
+            FrozenLongSet.copyOf(this.tickingChunks),
+            FrozenLongSet.copyOf(this.entityTickingChunks)
+        );
+        this.tickingSnapshotDirty = false;
     }
 
     /**
@@ -399,30 +467,59 @@ public class RegionizedWorldData {
     }
 
     /**
-     * Acquires the read lock for chunk access. Region threads call this before ticking chunks.
-     * Multiple region threads can hold the read lock simultaneously for parallel ticking.
+     * Acquires the read lock on every chunk access stripe. Prefer {@link #acquireChunkReadLock(long)}
+     * with the caller's section mask so that unrelated writers are not blocked.
      */
     public void acquireChunkReadLock() {
-        this.chunkAccessLock.readLock().lock();
+        this.acquireChunkReadLock(ChunkAccessStripes.ALL_STRIPES);
+    }
+
+    /**
+     * Acquires the read lock on the supplied chunk access stripes. Region threads call this before
+     * ticking chunks. Multiple region threads can hold overlapping stripes simultaneously.
+     *
+     * @param stripeMask stripes covering the caller's sections, see {@link #getChunkStripeMask(LongIterator)}
+     */
+    public void acquireChunkReadLock(final long stripeMask) {
+        this.chunkAccessStripes.lockRead(stripeMask);
         this.activeRegionThreads.incrementAndGet();
     }
 
     /**
-     * Releases the read lock for chunk access. Region threads call this after ticking chunks.
+     * Releases the read lock on every chunk access stripe.
      */
     public void releaseChunkReadLock() {
+        this.releaseChunkReadLock(ChunkAccessStripes.ALL_STRIPES);
+    }
+
+    /**
+     * Releases the read lock on the supplied chunk access stripes.
+     *
+     * @param stripeMask stripes passed to {@link #acquireChunkReadLock(long)}
+     */
+    public void releaseChunkReadLock(final long stripeMask) {
         this.activeRegionThreads.decrementAndGet();
-        this.chunkAccessLock.readLock().unlock();
+        this.chunkAccessStripes.unlockRead(stripeMask);
     }
 
     /**
-     * Acquires the write lock for chunk access.
-     * Main thread calls this before broadcasting chunk updates to players.
+     * Acquires the write lock on every chunk access stripe.
+     * Main thread calls this before world-wide chunk system work (ticket and holder-map processing).
      * This blocks until all region threads release their read locks.
      */
     public void acquireChunkWriteLock() {
+        this.acquireChunkWriteLock(ChunkAccessStripes.ALL_STRIPES);
+    }
+
+    /**
+     * Acquires the write lock on the supplied chunk access stripes. Only regions whose sections map
+     * onto these stripes are blocked.
+     *
+     * @param stripeMask stripes covering the chunks about to be mutated
+     */
+    public void acquireChunkWriteLock(final long stripeMask) {
         final long startNanos = System.nanoTime();
-        this.chunkAccessLock.writeLock().lock();
+        this.chunkAccessStripes.lockWrite(stripeMask);
         final long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
         if (waitedMillis >= CHUNK_WRITE_LOCK_WARN_MILLIS) {
             LOGGER.debug("Waited {}ms for chunk write lock in world {}", waitedMillis, this.world.getRegistryKey().getValue());
@@ -430,17 +527,36 @@ public class RegionizedWorldData {
     }
 
     /**
-     * Releases the write lock for chunk access. Main thread calls this after broadcasting updates.
+     * Releases the write lock on every chunk access stripe.
      */
     public void releaseChunkWriteLock() {
-        this.chunkAccessLock.writeLock().unlock();
+        this.releaseChunkWriteLock(ChunkAccessStripes.ALL_STRIPES);
+    }
+
+    /**
+     * Releases the write lock on the supplied chunk access stripes.
+     *
+     * @param stripeMask stripes passed to {@link #acquireChunkWriteLock(long)}
+     */
+    public void releaseChunkWriteLock(final long stripeMask) {
+        this.chunkAccessStripes.unlockWrite(stripeMask);
     }
 
     /**
-     * Returns whether the chunk access write lock is held by the current thread.
+     * Returns whether every chunk access stripe is write-locked by the current thread.
      */
     public boolean isChunkWriteLockHeld() {
-        return this.chunkAccessLock.isWriteLockedByCurrentThread();
+        return this.chunkAccessStripes.isWriteLockedByCurrentThread(ChunkAccessStripes.ALL_STRIPES);
+    }
+
+    /**
+     * Computes the chunk access stripe mask for a set of regionizer sections.
+     *
+     * @param sectionKeys section keys owned by the caller
+     * @return stripe mask to pass to the chunk lock methods
+     */
+    public long getChunkStripeMask(final LongIterator sectionKeys) {
+        return ChunkAccessStripes.maskForSections(sectionKeys);
     }
 
     /**
@@ -482,6 +598,23 @@ public class RegionizedWorldData {
         return this.networkManager;
     }
 
+    /**
+     * Returns the chunk requests of this world. Only meaningful on the world-level data.
+     */
+    public RegionChunkRequests getChunkRequests() {
+        RegionChunkRequests requests = this.chunkRequests;
+        if (requests == null) {
+            synchronized (this) {
+                requests = this.chunkRequests;
+                if (requests == null) {
+                    requests = new RegionChunkRequests(this.world);
+                    this.chunkRequests = requests;
+                }
+            }
+        }
+        return requests;
+    }
+
     public void addPlayer(final ServerPlayerEntity player) {
         if (!this.players.contains(player)) {
             this.players.add(player);
@@ -497,12 +630,186 @@ public class RegionizedWorldData {
         }
     }
 
+    /**
+     * Adds an entity to this region's entity index using its current chunk position.
+     *
+     * @param entity entity to index
+     */
     public void addEntity(final Entity entity) {
-        this.entities.add(entity);
+        final ChunkPos pos = entity.getChunkPos();
+        this.addEntity(entity, CoordinateUtil.getChunkKey(pos.x, pos.z));
     }
 
-    public void removeEntity(final Entity entity) {
-        this.entities.remove(entity);
+    /**
+     * Adds an entity to this region's entity index under the supplied entity section column. An
+     * entity that is already indexed is moved to the new column.
+     *
+     * @param entity   entity to index
+     * @param chunkKey chunk key of the entity section column
+     */
+    public void addEntity(final Entity entity, final long chunkKey) {
+        synchronized (this.entityIndexLock) {
+            this.indexEntity(entity, chunkKey);
+        }
+    }
+
+    /**
+     * Removes an entity from this region's entity index.
+     *
+     * @param entity entity to remove
+     * @return true if the entity was indexed by this region
+     */
+    public boolean removeEntity(final Entity entity) {
+        synchronized (this.entityIndexLock) {
+            return this.unindexEntity(entity);
+        }
+    }
+
+    /**
+     * Removes and returns every indexed entity whose section column is the supplied chunk.
+     *
+     * @param chunkKey chunk key of the entity section column
+     * @return removed entities, empty if none were indexed there
+     */
+    public List<Entity> removeEntitiesInChunk(final long chunkKey) {
+        synchronized (this.entityIndexLock) {
+            final ReferenceOpenHashSet<Entity> bucket = this.entitiesByChunk.remove(chunkKey);
+            if (bucket == null) {
+                return List.of();
+            }
+            for (final Entity entity : bucket) {
+                this.entityChunkKeys.removeLong(entity);
+                this.entityTickList.remove(entity);
+            }
+            ++this.entityRemovals;
+            return new ArrayList<>(bucket);
+        }
+    }
+
+    /**
+     * Returns whether the entity is indexed by this region.
+     *
+     * @param entity entity to check
+     * @return true if indexed
+     */
+    public boolean containsEntity(final Entity entity) {
+        synchronized (this.entityIndexLock) {
+            return this.entityChunkKeys.containsKey(entity);
+        }
+    }
+
+    /**
+     * Returns a snapshot of all entities indexed by this region.
+     *
+     * @return list of region entities
+     */
+    public List<Entity> snapshotEntities() {
+        synchronized (this.entityIndexLock) {
+            return new ArrayList<>(this.entityChunkKeys.keySet());
+        }
+    }
+
+    /**
+     * Returns the number of entities indexed by this region.
+     *
+     * @return entity count
+     */
+    public int getEntityCount() {
+        synchronized (this.entityIndexLock) {
+            return this.entityChunkKeys.size();
+        }
+    }
+
+    /**
+     * Passes every entity indexed by this region to {@code action} in index order. Entities removed
+     * during the walk are skipped and entities added during it are left for the next call, matching
+     * vanilla's entity list. Entities are pulled out in batches so the index lock is taken once per
+     * batch rather than once per entity, and is never held across {@code action}.
+     *
+     * @param action receives each entity
+     */
+    public void forEachTickingEntity(final Consumer<Entity> action) {
+        final Entity[] batch = new Entity[ENTITY_TICK_BATCH];
+        final int end;
+        int index;
+        synchronized (this.entityIndexLock) {
+            end = this.entityTickList.getListSize();
+            index = this.entityTickList.createRawIterator();
+        }
+        try {
+            while (index != -1 && index < end) {
+                int count = 0;
+                int removals;
+                synchronized (this.entityIndexLock) {
+                    removals = this.entityRemovals;
+                    while (index != -1 && index < end && count < batch.length) {
+                        final Entity entity = this.entityTickList.rawGet(index);
+                        if (entity != null) {
+                            batch[count++] = entity;
+                        }
+                        index = this.entityTickList.advanceRawIterator(index);
+                    }
+                }
+                for (int i = 0; i < count; ++i) {
+                    if (this.entityRemovals != removals) {
+                        // Something left the index since the batch was taken; drop the stale rest once
+                        synchronized (this.entityIndexLock) {
+                            removals = this.entityRemovals;
+                            for (int j = i; j < count; ++j) {
+                                if (batch[j] != null && !this.entityChunkKeys.containsKey(batch[j])) {
+                                    batch[j] = null;
+                                }
+                            }
+                        }
+                    }
+                    final Entity entity = batch[i];
+                    batch[i] = null;
+                    if (entity != null) {
+                        action.accept(entity);
+                    }
+                }
+            }
+        } finally {
+            synchronized (this.entityIndexLock) {
+                this.entityTickList.finishRawIterator();
+            }
+        }
+    }
+
+    private void indexEntity(final Entity entity, final long chunkKey) {
+        if (this.entityChunkKeys.containsKey(entity)) {
+            final long previous = this.entityChunkKeys.getLong(entity);
+            if (previous == chunkKey) {
+                return;
+            }
+            this.removeFromChunkBucket(entity, previous);
+        } else {
+            this.entityTickList.add(entity);
+        }
+        this.entityChunkKeys.put(entity, chunkKey);
+        ReferenceOpenHashSet<Entity> bucket = this.entitiesByChunk.get(chunkKey);
+        if (bucket == null) {
+            bucket = new ReferenceOpenHashSet<>();
+            this.entitiesByChunk.put(chunkKey, bucket);
+        }
+        bucket.add(entity);
+    }
+
+    private boolean unindexEntity(final Entity entity) {
+        if (!this.entityChunkKeys.containsKey(entity)) {
+            return false;
+        }
+        this.removeFromChunkBucket(entity, this.entityChunkKeys.removeLong(entity));
+        this.entityTickList.remove(entity);
+        ++this.entityRemovals;
+        return true;
+    }
+
+    private void removeFromChunkBucket(final Entity entity, final long chunkKey) {
+        final ReferenceOpenHashSet<Entity> bucket = this.entitiesByChunk.get(chunkKey);
+        if (bucket != null && bucket.remove(entity) && bucket.isEmpty()) {
+            this.entitiesByChunk.remove(chunkKey);
+        }
     }
 
     private void addPlayerToSpawnTrackers(final ServerPlayerEntity player) {
@@ -539,42 +846,51 @@ public class RegionizedWorldData {
         this.lastSpawnState = spawnState;
     }
 
-    private void rebuildPlayerTrackers() {
-        this.nearbyPlayers.clear();
-        this.spawnChunkTracker.clear();
-        this.narrowSpawnChunkTracker.clear();
-        for (final ServerPlayerEntity player : this.players) {
-            this.nearbyPlayers.addPlayer(player);
-            this.addPlayerToSpawnTrackers(player);
-        }
+    private void transferPlayerTrackersTo(final RegionizedWorldData target) {
+        this.nearbyPlayers.transferTo(target.nearbyPlayers);
+        this.spawnChunkTracker.transferTo(target.spawnChunkTracker);
+        this.narrowSpawnChunkTracker.transferTo(target.narrowSpawnChunkTracker);
+    }
+
+    private static RegionizedWorldData splitTargetFor(final ServerPlayerEntity player, final int chunkToRegionShift,
+                                                      final Long2ReferenceOpenHashMap<RegionizedWorldData> regionToData) {
+        final ChunkPos pos = player.getChunkPos();
+        return regionToData.get(CoordinateUtil.getChunkKey(pos.x >> chunkToRegionShift, pos.z >> chunkToRegionShift));
     }
 
     public void merge(final RegionizedWorldData other) {
         this.players.addAll(other.players);
-        this.entities.addAll(other.entities);
+        synchronized (this.entityIndexLock) {
+            synchronized (other.entityIndexLock) {
+                for (final Reference2LongMap.Entry<Entity> entry : other.entityChunkKeys.reference2LongEntrySet()) {
+                    this.indexEntity(entry.getKey(), entry.getLongValue());
+                }
+                other.entityChunkKeys.clear();
+                other.entitiesByChunk.clear();
+                other.entityTickList.clear();
+                ++other.entityRemovals;
+            }
+        }
         synchronized (this.chunkLock) {
             this.tickingChunks.addAll(other.tickingChunks);
             this.entityTickingChunks.addAll(other.entityTickingChunks);
+            this.tickingSnapshotDirty = true;
+            this.publishTickingSnapshot();
         }
         // Merge block events
-        synchronized (this.blockEventsLock) {
-            synchronized (other.blockEventsLock) {
-                this.blockEvents.addAll(other.blockEvents);
-            }
-        }
-        // Merge block entity tickers
-        for (final BlockEntityTickInvoker ticker : other.blockEntityTickers) {
-            this.addBlockEntityTicker(ticker);
-        }
+        this.blockEvents.absorb(other.blockEvents);
+        this.chunksToBroadcast.addAll(other.chunksToBroadcast);
+        other.chunksToBroadcast.clear();
+        // Merge block entity tickers; buckets move wholesale since each chunk has a single owner
+        this.blockEntityTickers.absorb(other.blockEntityTickers);
+        this.blockEntityTickerSet.addAll(other.blockEntityTickerSet);
+        other.blockEntityTickerSet.clear();
         for (final BlockEntityTickInvoker ticker : other.pendingBlockEntityTickers) {
             this.addBlockEntityTicker(ticker);
         }
 
-        this.rebuildPlayerTrackers();
-        this.scheduledBlockTickChunks.addAll(other.scheduledBlockTickChunks);
-        this.scheduledFluidTickChunks.addAll(other.scheduledFluidTickChunks);
-        absorbScheduledTickLists(this.scheduledBlockTicks, other.scheduledBlockTicks);
-        absorbScheduledTickLists(this.scheduledFluidTicks, other.scheduledFluidTicks);
+        // Move the area-map footprints as they are rather than re-walking every player's view area
+        other.transferPlayerTrackersTo(this);
         this.catSpawnerNextTick = Math.max(this.catSpawnerNextTick, other.catSpawnerNextTick);
         this.patrolSpawnerNextTick = Math.max(this.patrolSpawnerNextTick, other.patrolSpawnerNextTick);
         this.phantomSpawnerNextTick = Math.max(this.phantomSpawnerNextTick, other.phantomSpawnerNextTick);
@@ -602,24 +918,65 @@ public class RegionizedWorldData {
     public void split(final int chunkToRegionShift,
                       final Long2ReferenceOpenHashMap<RegionizedWorldData> regionToData,
                       final ReferenceOpenHashSet<RegionizedWorldData> dataSet) {
-        // Distribute players to new regions
-        for (final ServerPlayerEntity player : this.players) {
-            final ChunkPos pos = player.getChunkPos();
-            final long regionKey = CoordinateUtil.getChunkKey(pos.x >> chunkToRegionShift, pos.z >> chunkToRegionShift);
-            final RegionizedWorldData target = regionToData.get(regionKey);
+        // Distribute players to new regions. The tracker footprints move wholesale to the region
+        // receiving the most players, so only players bound elsewhere have their areas re-walked.
+        RegionizedWorldData bulkTarget = null;
+        final int playerCount = this.players.size();
+        // Target of each player, in player order, so each target is looked up only once
+        final RegionizedWorldData[] playerTargets = new RegionizedWorldData[playerCount];
+        if (playerCount != 0) {
+            final Reference2IntOpenHashMap<RegionizedWorldData> playerCounts = new Reference2IntOpenHashMap<>();
+            int mostPlayers = 0;
+            for (int i = 0; i < playerCount; ++i) {
+                final RegionizedWorldData target = splitTargetFor(this.players.get(i), chunkToRegionShift, regionToData);
+                playerTargets[i] = target;
+                if (target != null) {
+                    final int count = playerCounts.addTo(target, 1) + 1;
+                    if (count > mostPlayers) {
+                        mostPlayers = count;
+                        bulkTarget = target;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < playerCount; ++i) {
+            final RegionizedWorldData target = playerTargets[i];
+            if (target == bulkTarget) {
+                continue;
+            }
+            final ServerPlayerEntity player = this.players.get(i);
+            this.nearbyPlayers.removePlayer(player);
+            this.removePlayerFromSpawnTrackers(player);
             if (target != null) {
                 target.addPlayer(player);
             }
         }
+        if (bulkTarget != null) {
+            this.transferPlayerTrackersTo(bulkTarget);
+            // The player list holds no duplicates and no other path adds to the bulk target here
+            for (int i = 0; i < playerCount; ++i) {
+                if (playerTargets[i] == bulkTarget) {
+                    bulkTarget.players.add(this.players.get(i));
+                }
+            }
+        }
 
-        // Distribute entities to new regions
-        for (final Entity entity : this.entities) {
-            final ChunkPos pos = entity.getChunkPos();
-            final long regionKey = CoordinateUtil.getChunkKey(pos.x >> chunkToRegionShift, pos.z >> chunkToRegionShift);
-            final RegionizedWorldData target = regionToData.get(regionKey);
-            if (target != null) {
-                target.addEntity(entity);
+        // Distribute entities to new regions by their indexed section column
+        synchronized (this.entityIndexLock) {
+            for (final Reference2LongMap.Entry<Entity> entry : this.entityChunkKeys.reference2LongEntrySet()) {
+                final long chunkKey = entry.getLongValue();
+                final int chunkX = CoordinateUtil.getChunkX(chunkKey);
+                final int chunkZ = CoordinateUtil.getChunkZ(chunkKey);
+                final long regionKey = CoordinateUtil.getChunkKey(chunkX >> chunkToRegionShift, chunkZ >> chunkToRegionShift);
+                final RegionizedWorldData target = regionToData.get(regionKey);
+                if (target != null) {
+                    target.addEntity(entry.getKey(), chunkKey);
+                }
             }
+            this.entityChunkKeys.clear();
+            this.entitiesByChunk.clear();
+            this.entityTickList.clear();
+            ++this.entityRemovals;
         }
 
         // Distribute chunks - must be done under lock to prevent concurrent modification
@@ -650,75 +1007,56 @@ public class RegionizedWorldData {
                 }
             }
 
-            final LongIterator scheduledBlockIterator = this.scheduledBlockTickChunks.iterator();
-            while (scheduledBlockIterator.hasNext()) {
-                final long chunkKey = scheduledBlockIterator.nextLong();
-                final int chunkX = CoordinateUtil.getChunkX(chunkKey);
-                final int chunkZ = CoordinateUtil.getChunkZ(chunkKey);
-                final long regionKey = CoordinateUtil.getChunkKey(chunkX >> chunkToRegionShift, chunkZ >> chunkToRegionShift);
-                final RegionizedWorldData target = regionToData.get(regionKey);
-                if (target != null) {
-                    target.scheduledBlockTickChunks.add(chunkKey);
-                    moveScheduledTickList(chunkKey, this.scheduledBlockTicks, target.scheduledBlockTicks);
-                }
-            }
-
-            final LongIterator scheduledFluidIterator = this.scheduledFluidTickChunks.iterator();
-            while (scheduledFluidIterator.hasNext()) {
-                final long chunkKey = scheduledFluidIterator.nextLong();
-                final int chunkX = CoordinateUtil.getChunkX(chunkKey);
-                final int chunkZ = CoordinateUtil.getChunkZ(chunkKey);
-                final long regionKey = CoordinateUtil.getChunkKey(chunkX >> chunkToRegionShift, chunkZ >> chunkToRegionShift);
-                final RegionizedWorldData target = regionToData.get(regionKey);
-                if (target != null) {
-                    target.scheduledFluidTickChunks.add(chunkKey);
-                    moveScheduledTickList(chunkKey, this.scheduledFluidTicks, target.scheduledFluidTicks);
-                }
-            }
-
             // Clear source data
             this.tickingChunks.clear();
             this.entityTickingChunks.clear();
-            this.scheduledBlockTickChunks.clear();
-            this.scheduledFluidTickChunks.clear();
-            this.scheduledBlockTicks.clear();
-            this.scheduledFluidTicks.clear();
+            this.tickingSnapshot = TickingChunkSnapshot.EMPTY;
+            this.tickingSnapshotDirty = false;
+        }
+        for (final RegionizedWorldData regionData : dataSet) {
+            synchronized (regionData.chunkLock) {
+                regionData.publishTickingSnapshot();
+            }
         }
 
         // Clear player and entity lists
         this.players.clear();
-        this.entities.clear();
         this.nearbyPlayers.clear();
         this.spawnChunkTracker.clear();
         this.narrowSpawnChunkTracker.clear();
 
-        // Distribute block events by position
-        synchronized (this.blockEventsLock) {
-            for (final BlockEventData blockEventData : this.blockEvents) {
-                final int chunkX = blockEventData.chunkX();
-                final int chunkZ = blockEventData.chunkZ();
-                final long regionKey = CoordinateUtil.getChunkKey(chunkX >> chunkToRegionShift, chunkZ >> chunkToRegionShift);
-                final RegionizedWorldData target = regionToData.get(regionKey);
-                if (target != null) {
-                    target.pushBlockEvent(blockEventData);
-                }
+        // Distribute block events by position; parked chunks move as whole buckets
+        this.blockEvents.distributeByChunk(chunkKey -> {
+            final RegionizedWorldData target = regionToData.get(CoordinateUtil.getChunkKey(
+                CoordinateUtil.getChunkX(chunkKey) >> chunkToRegionShift, CoordinateUtil.getChunkZ(chunkKey) >> chunkToRegionShift));
+            return target == null ? null : target.blockEvents;
+        });
+        this.blockEvents.clear();
+
+        // Distribute pending chunk broadcasts by holder position. Holders outside every new region
+        // still carry deltas, so the orchestrator's world-wide broadcast sends them instead.
+        for (final ChunkHolder holder : this.chunksToBroadcast) {
+            final ChunkPos pos = holder.getPos();
+            final long regionKey = CoordinateUtil.getChunkKey(pos.x >> chunkToRegionShift, pos.z >> chunkToRegionShift);
+            final RegionizedWorldData target = regionToData.get(regionKey);
+            if (target != null) {
+                target.chunksToBroadcast.add(holder);
+            } else {
+                ((WorldChunkBroadcasts)this.world.getChunkManager()).ruthenium$queueWorldBroadcast(holder);
             }
-            this.blockEvents.clear();
         }
+        this.chunksToBroadcast.clear();
 
-        // Distribute block entity tickers by position
+        // Distribute block entity tickers, moving whole chunk buckets
         synchronized (this.blockEntityTickerSet) {
-            for (final BlockEntityTickInvoker ticker : this.blockEntityTickers) {
-                final BlockPos pos = ticker.getPos();
-                if (pos != null) {
-                    final int chunkX = pos.getX() >> 4;
-                    final int chunkZ = pos.getZ() >> 4;
-                    final long regionKey = CoordinateUtil.getChunkKey(chunkX >> chunkToRegionShift, chunkZ >> chunkToRegionShift);
-                    final RegionizedWorldData target = regionToData.get(regionKey);
-                    if (target != null) {
-                        target.addBlockEntityTicker(ticker);
-                    }
-                }
+            this.blockEntityTickers.distributeByChunk(chunkKey -> {
+                final long regionKey = CoordinateUtil.getChunkKey(CoordinateUtil.getChunkX(chunkKey) >> chunkToRegionShift,
+                    CoordinateUtil.getChunkZ(chunkKey) >> chunkToRegionShift);
+                final RegionizedWorldData target = regionToData.get(regionKey);
+                return target == null ? null : target.blockEntityTickers;
+            });
+            for (final RegionizedWorldData regionData : dataSet) {
+                regionData.blockEntityTickers.forEach(regionData.blockEntityTickerSet::add);
             }
 
             for (final BlockEntityTickInvoker ticker : this.pendingBlockEntityTickers) {
@@ -774,23 +1112,38 @@ public class RegionizedWorldData {
          *
          * Instead, run the required sub-steps in vanilla order while still avoiding chunk ticking.
          *
-         * broadcastUpdates() reads PalettedContainer data to send chunk updates to players.
-         * We must acquire the write lock to ensure no region threads are modifying chunks.
+         * Only ticket and holder-map processing works on world-wide chunk system state, so only
+         * that step locks every stripe. Broadcasts and unloads lock the stripes of the chunks they
+         * touch, leaving every other region reading.
          */
         this.acquireChunkWriteLock();
         try {
+            this.getChunkRequests().applyTicketChanges();
             ((ServerChunkManagerAccessor)chunkManager).ruthenium$getTicketManager().tick(loadingManager);
             ((ServerChunkManagerAccessor)chunkManager).ruthenium$invokeUpdateChunks();
-            if (!this.world.isDebugWorld()) {
-                ((ServerChunkManagerAccessor)chunkManager).ruthenium$invokeBroadcastUpdates(Profilers.get());
-                ((ServerChunkLoadingManagerAccessor)loadingManager).ruthenium$invokeTickEntityMovement();
-            }
-            ((ServerChunkLoadingManagerAccessor)loadingManager).ruthenium$invokeTick(shouldKeepTicking);
-            ((ServerChunkManagerAccessor)chunkManager).ruthenium$invokeInitChunkCaches();
+            this.getChunkRequests().startPendingLoads();
         } finally {
             this.releaseChunkWriteLock();
         }
 
+        if (!this.world.isDebugWorld()) {
+            // broadcastUpdates reads PalettedContainer data, so each holder's stripe is write-locked
+            this.broadcastWorldChunkUpdates();
+            // Region threads tick the trackers of their own entities; only entities outside any
+            // region are left here, and nothing but this thread touches those
+            this.tickEntityTrackers();
+        }
+
+        // Unload tasks and periodic saves only touch the chunks queued for them
+        final long unloadStripes = this.getPendingUnloadStripeMask(loadingManager);
+        this.acquireChunkWriteLock(unloadStripes);
+        try {
+            ((ServerChunkLoadingManagerAccessor)loadingManager).ruthenium$invokeTick(shouldKeepTicking);
+        } finally {
+            this.releaseChunkWriteLock(unloadStripes);
+        }
+        ((ServerChunkManagerAccessor)chunkManager).ruthenium$invokeInitChunkCaches();
+
         final LongOpenHashSet newTicking = new LongOpenHashSet();
         ((ServerChunkLoadingManagerAccessor)loadingManager).ruthenium$forEachBlockTickingChunk(chunk -> {
             final ChunkPos pos = chunk.getPos();
@@ -815,11 +1168,74 @@ public class RegionizedWorldData {
                     this.entityTickingChunks.add(chunkKey);
                 }
             }
+            // Publish once here so region threads only ever read the snapshot
+            this.tickingSnapshotDirty = true;
+            this.publishTickingSnapshot();
         }
 
         this.refreshMobWakeBudgets(newTicking.size());
     }
 
+    /**
+     * Flushes the chunk holders on the world-wide broadcast set, mirroring vanilla's
+     * {@code ServerChunkManager#broadcastUpdates}. Holders are bucketed by chunk access stripe and
+     * each stripe is write-locked once, so only regions sharing a stripe with a dirty holder wait.
+     */
+    private void broadcastWorldChunkUpdates() {
+        final List<ChunkHolder> holders = ((WorldChunkBroadcasts)this.world.getChunkManager()).ruthenium$drainWorldBroadcasts();
+        if (holders.isEmpty()) {
+            return;
+        }
+        final ThreadedRegionizer<RegionTickData, RegionTickData.RegionSectionData> regionizer =
+            ((RegionizedServerWorld)this.world).ruthenium$getRegionizer();
+        final Int2ObjectOpenHashMap<List<ChunkHolder>> byStripe = new Int2ObjectOpenHashMap<>();
+        for (final ChunkHolder holder : holders) {
+            final int stripe = ChunkAccessStripes.stripeIndex(regionizer.getSectionKey(holder.getPos()));
+            List<ChunkHolder> bucket = byStripe.get(stripe);
+            if (bucket == null) {
+                bucket = new ArrayList<>();
+                byStripe.put(stripe, bucket);
+            }
+            bucket.add(holder);
+        }
+        for (final Int2ObjectMap.Entry<List<ChunkHolder>> entry : byStripe.int2ObjectEntrySet()) {
+            final long stripeMask = 1L << entry.getIntKey();
+            this.acquireChunkWriteLock(stripeMask);
+            try {
+                for (final ChunkHolder holder : entry.getValue()) {
+                    final WorldChunk chunk = holder.getWorldChunk();
+                    if (chunk != null) {
+                        holder.flushUpdates(chunk);
+                    }
+                }
+            } finally {
+                this.releaseChunkWriteLock(stripeMask);
+            }
+        }
+    }
+
+    /**
+     * Returns the stripes covering every chunk {@code ServerChunkLoadingManager#tick} may unload or
+     * save: chunks dropped from the holder map, holders waiting for their unload task and chunks
+     * queued for saving.
+     */
+    private long getPendingUnloadStripeMask(final ServerChunkLoadingManager loadingManager) {
+        final ServerChunkLoadingManagerAccessor accessor = (ServerChunkLoadingManagerAccessor)loadingManager;
+        final int sectionShift = ((RegionizedServerWorld)this.world).ruthenium$getRegionizer().sectionChunkShift;
+        long mask = addChunkStripes(0L, accessor.ruthenium$getUnloadedChunks().iterator(), sectionShift);
+        mask = addChunkStripes(mask, accessor.ruthenium$getChunksToUnload().keySet().iterator(), sectionShift);
+        return addChunkStripes(mask, accessor.ruthenium$getChunksToSave().iterator(), sectionShift);
+    }
+
+    private static long addChunkStripes(long mask, final LongIterator chunkKeys, final int sectionShift) {
+        while (mask != ChunkAccessStripes.ALL_STRIPES && chunkKeys.hasNext()) {
+            final long chunkKey = chunkKeys.nextLong();
+            mask |= ChunkAccessStripes.maskForSection(CoordinateUtil.getChunkKey(
+                CoordinateUtil.getChunkX(chunkKey) >> sectionShift, CoordinateUtil.getChunkZ(chunkKey) >> sectionShift));
+        }
+        return mask;
+    }
+
     private void refreshMobWakeBudgets(final int tickingChunkCount) {
         final int base = Math.max(1, tickingChunkCount / 16);
         final int monsters = Math.max(base * 2, 1);
@@ -893,121 +1309,31 @@ public class RegionizedWorldData {
             for (final ChunkPos pos : chunks) {
                 this.entityTickingChunks.remove(CoordinateUtil.getChunkKey(pos.x, pos.z));
             }
+            this.tickingSnapshotDirty = true;
         }
     }
 
-    public void registerScheduledBlockTick(final int chunkX,
-                                           final int chunkZ,
-                                           final OrderedTick<Block> tick) {
-        final long chunkKey = CoordinateUtil.getChunkKey(chunkX, chunkZ);
-        this.trackScheduledTick(this.scheduledBlockTicks, chunkKey, tick);
-        this.scheduledBlockTickChunks.add(chunkKey);
-    }
-
-    public void registerScheduledFluidTick(final int chunkX,
-                                           final int chunkZ,
-                                           final OrderedTick<Fluid> tick) {
-        final long chunkKey = CoordinateUtil.getChunkKey(chunkX, chunkZ);
-        this.trackScheduledTick(this.scheduledFluidTicks, chunkKey, tick);
-        this.scheduledFluidTickChunks.add(chunkKey);
-    }
-
-    public void consumeScheduledBlockTick(final long chunkKey, final OrderedTick<Block> tick) {
-        this.consumeScheduledTick(this.scheduledBlockTicks, this.scheduledBlockTickChunks, chunkKey, tick);
-    }
-
-    public void consumeScheduledFluidTick(final long chunkKey, final OrderedTick<Fluid> tick) {
-        this.consumeScheduledTick(this.scheduledFluidTicks, this.scheduledFluidTickChunks, chunkKey, tick);
-    }
-
-    public void mirrorScheduledBlockTickChunk(final long chunkKey, final boolean hasTicks) {
-        this.mirrorScheduledTickChunk(this.scheduledBlockTicks, this.scheduledBlockTickChunks, chunkKey, hasTicks);
-    }
-
-    public void mirrorScheduledFluidTickChunk(final long chunkKey, final boolean hasTicks) {
-        this.mirrorScheduledTickChunk(this.scheduledFluidTicks, this.scheduledFluidTickChunks, chunkKey, hasTicks);
-    }
-
-    public List<OrderedTick<Block>> getScheduledBlockTicks(final long chunkKey) {
-        return this.scheduledBlockTicks.get(chunkKey);
-    }
-
-    public List<OrderedTick<Fluid>> getScheduledFluidTicks(final long chunkKey) {
-        return this.scheduledFluidTicks.get(chunkKey);
-    }
-
-    public LongSet snapshotScheduledBlockTickChunks() {
-        return new LongOpenHashSet(this.scheduledBlockTickChunks);
-    }
-
-    public LongSet snapshotScheduledFluidTickChunks() {
-        return new LongOpenHashSet(this.scheduledFluidTickChunks);
-    }
-
-    private <T> void trackScheduledTick(final Long2ObjectOpenHashMap<List<OrderedTick<T>>> target,
-                                        final long chunkKey,
-                                        final OrderedTick<T> tick) {
-        final List<OrderedTick<T>> list = target.computeIfAbsent(chunkKey, key -> new ArrayList<>());
-        list.add(tick);
-    }
-
-    private <T> void consumeScheduledTick(final Long2ObjectOpenHashMap<List<OrderedTick<T>>> target,
-                                          final LongSet chunkSet,
-                                          final long chunkKey,
-                                          final OrderedTick<T> tick) {
-        final List<OrderedTick<T>> list = target.get(chunkKey);
-        if (list == null || list.isEmpty()) {
-            return;
-        }
-        list.remove(tick);
-        if (list.isEmpty()) {
-            target.remove(chunkKey);
-            chunkSet.remove(chunkKey);
-        }
-    }
-
-    private <T> void mirrorScheduledTickChunk(final Long2ObjectOpenHashMap<List<OrderedTick<T>>> target,
-                                              final LongSet chunkSet,
-                                              final long chunkKey,
-                                              final boolean hasTicks) {
-        if (hasTicks) {
-            chunkSet.add(chunkKey);
-            return;
-        }
-        chunkSet.remove(chunkKey);
-        target.remove(chunkKey);
-    }
-
-    private static <T> void absorbScheduledTickLists(final Long2ObjectOpenHashMap<List<OrderedTick<T>>> target,
-                                                     final Long2ObjectOpenHashMap<List<OrderedTick<T>>> source) {
-        for (final Long2ObjectMap.Entry<List<OrderedTick<T>>> entry : source.long2ObjectEntrySet()) {
-            final List<OrderedTick<T>> list = target.computeIfAbsent(entry.getLongKey(), key -> new ArrayList<>());
-            list.addAll(entry.getValue());
-        }
-    }
-
-    private static <T> void moveScheduledTickList(final long chunkKey,
-                                                  final Long2ObjectOpenHashMap<List<OrderedTick<T>>> source,
-                                                  final Long2ObjectOpenHashMap<List<OrderedTick<T>>> target) {
-        final List<OrderedTick<T>> list = source.remove(chunkKey);
-        if (list == null || list.isEmpty()) {
-            return;
-        }
-        final List<OrderedTick<T>> merged = target.computeIfAbsent(chunkKey, key -> new ArrayList<>());
-        merged.addAll(list);
+    /**
+     * Returns the queue holding scheduled tick chunks that are not part of any region yet. Entries
+     * are adopted by the owning region once the chunk joins it.
+     *
+     * @param blockTicks {@code true} for block ticks, {@code false} for fluid ticks
+     * @return parked scheduled tick queue
+     */
+    public RegionScheduledTickQueue getParkedScheduledTickQueue(final boolean blockTicks) {
+        return blockTicks ? this.parkedBlockTicks : this.parkedFluidTicks;
     }
 
     // ========== Block Event Queue Methods ==========
 
     /**
-     * Adds a block event to this region's queue.
+     * Adds a block event to this region's queue unless an identical event is already pending.
+     * Must be called by the thread owning this region.
      *
      * @param blockEventData the block event to queue
      */
     public void pushBlockEvent(final BlockEventData blockEventData) {
-        synchronized (this.blockEventsLock) {
-            this.blockEvents.add(blockEventData);
-        }
+        this.blockEvents.push(blockEventData);
     }
 
     /**
@@ -1023,52 +1349,22 @@ public class RegionizedWorldData {
     }
 
     /**
-     * Adds multiple block events to this region's queue.
-     *
-     * @param events collection of block events to add
-     */
-    public void pushBlockEvents(final Collection<? extends BlockEventData> events) {
-        synchronized (this.blockEventsLock) {
-            for (final BlockEventData event : events) {
-                this.blockEvents.add(event);
-            }
-        }
-    }
-
-    /**
-     * Removes and returns the first block event from the queue, or null if empty.
-     *
-     * @return the first block event, or null
-     */
-    public BlockEventData removeFirstBlockEvent() {
-        synchronized (this.blockEventsLock) {
-            if (this.blockEvents.isEmpty()) {
-                return null;
-            }
-            return this.blockEvents.removeFirst();
-        }
-    }
-
-    /**
-     * Checks if there are any block events pending.
+     * Checks if there are any block events pending, including events parked for chunks that are
+     * not ticking.
      *
      * @return true if the block events queue is not empty
      */
     public boolean hasBlockEvents() {
-        synchronized (this.blockEventsLock) {
-            return !this.blockEvents.isEmpty();
-        }
+        return !this.blockEvents.isEmpty();
     }
 
     /**
-     * Returns the current size of the block events queue.
+     * Returns the current size of the block events queue, including parked events.
      *
      * @return number of pending block events
      */
     public int getBlockEventCount() {
-        synchronized (this.blockEventsLock) {
-            return this.blockEvents.size();
-        }
+        return this.blockEvents.size();
     }
 
     /**
@@ -1081,62 +1377,236 @@ public class RegionizedWorldData {
      *
      * NOTE: Block event packets are NOT sent here - they're collected and returned to the caller.
      * The caller (TickRegionScheduler) is responsible for:
-     * 1. Calling broadcastUpdates() to flush chunk deltas
+     * 1. Calling flushChunkBroadcasts() to flush chunk deltas
      * 2. THEN sending the block event packets
      * This ensures clients receive block state updates BEFORE animation packets.
      *
      * @return list of block event packets to send after chunk updates are flushed
      */
     public List<BlockEventS2CPacket> processBlockEvents() {
+        if (this.blockEvents.isEmpty()) {
+            return List.of();
+        }
         // Get the world-scoped data which contains the authoritative "should tick" snapshot
         // maintained by the main-thread orchestrator.
         final RegionizedWorldData tickView = this.world instanceof RegionizedServerWorld regionized
             ? regionized.ruthenium$getWorldRegionData()
             : this;
-        final List<BlockEventData> toReschedule = new ArrayList<>(64);
+        final FrozenLongSet tickingChunks = tickView.getTickingSnapshot().ticking();
         final List<BlockEventS2CPacket> packetsToSend = new ArrayList<>(64);
 
-        // Process block events outside of the synchronized block so that new events can be added
-        // while we're processing. This is critical for pistons which chain-react.
-        BlockEventData event;
-        while ((event = this.removeFirstBlockEvent()) != null) {
-            final int chunkX = event.chunkX();
-            final int chunkZ = event.chunkZ();
-
-            // Check if this chunk should be ticked using the world-scoped authoritative snapshot
-            if (tickView.shouldTickBlocksInChunk(chunkX, chunkZ)) {
-                if (this.doBlockEvent(event)) {
-                    // Queue the packet - caller will send AFTER flushing chunk updates
-                    packetsToSend.add(new BlockEventS2CPacket(event.pos(), event.block(), event.eventId(), event.eventParam()));
-                }
-            } else {
-                toReschedule.add(event);
+        // The drain keeps going until the queue is empty, so events added by pistons while
+        // processing run in this same tick. Events for chunks that are not ticking are parked
+        // per chunk and only re-checked once per chunk on later drains.
+        this.blockEvents.drain(tickingChunks::contains, event -> {
+            if (this.doBlockEvent(event)) {
+                // Queue the packet - caller will send AFTER flushing chunk updates
+                packetsToSend.add(new BlockEventS2CPacket(event.pos(), event.block(), event.eventId(), event.eventParam()));
             }
-        }
-
-        // Re-add events that need to be rescheduled (chunk not ready to tick yet)
-        if (!toReschedule.isEmpty()) {
-            this.pushBlockEvents(toReschedule);
-        }
+        });
 
         return packetsToSend;
     }
 
     /**
      * Sends block event packets to nearby players.
-     * Called by TickRegionScheduler AFTER broadcastUpdates() to ensure proper ordering.
+     * Called by TickRegionScheduler AFTER flushChunkBroadcasts() to ensure proper ordering.
+     *
+     * <p>Recipients come from this region's {@link NearbyPlayers} chunk buckets instead of scanning
+     * every player on the server, then pass the same distance test as
+     * {@code PlayerManager.sendToAround}. Each player receives all of their packets for the tick in
+     * one bundle.</p>
      */
     public void sendBlockEventPackets(final List<BlockEventS2CPacket> packets) {
+        if (packets.isEmpty()) {
+            return;
+        }
+        final Reference2ReferenceOpenHashMap<ServerPlayerEntity, List<Packet<? super ClientPlayPacketListener>>> packetsByPlayer =
+            new Reference2ReferenceOpenHashMap<>();
         for (final BlockEventS2CPacket packet : packets) {
-            this.world.getServer().getPlayerManager().sendToAround(
-                null,
-                packet.getPos().getX(),
-                packet.getPos().getY(),
-                packet.getPos().getZ(),
-                64.0,
-                this.world.getRegistryKey(),
-                packet
-            );
+            final BlockPos pos = packet.getPos();
+            final ReferenceOpenHashSet<ServerPlayerEntity> nearby = this.nearbyPlayers.getPlayersByPosition(
+                pos.getX(), pos.getZ(), NearbyPlayers.NearbyMapType.GENERAL_SMALL);
+            if (nearby == null) {
+                continue;
+            }
+            for (final ServerPlayerEntity player : nearby) {
+                final double dx = pos.getX() - player.getX();
+                final double dy = pos.getY() - player.getY();
+                final double dz = pos.getZ() - player.getZ();
+                if (dx * dx + dy * dy + dz * dz >= BLOCK_EVENT_BROADCAST_DISTANCE_SQUARED) {
+                    continue;
+                }
+                List<Packet<? super ClientPlayPacketListener>> playerPackets = packetsByPlayer.get(player);
+                if (playerPackets == null) {
+                    playerPackets = new ArrayList<>();
+                    packetsByPlayer.put(player, playerPackets);
+                }
+                playerPackets.add(packet);
+            }
+        }
+
+        for (final Reference2ReferenceMap.Entry<ServerPlayerEntity, List<Packet<? super ClientPlayPacketListener>>> entry
+            : packetsByPlayer.reference2ReferenceEntrySet()) {
+            final ServerPlayNetworkHandler handler = entry.getKey().networkHandler;
+            if (handler == null) {
+                continue;
+            }
+            final List<Packet<? super ClientPlayPacketListener>> playerPackets = entry.getValue();
+            if (playerPackets.size() == 1) {
+                handler.sendPacket(playerPackets.get(0));
+                continue;
+            }
+            for (int from = 0, size = playerPackets.size(); from < size; from += MAX_BUNDLE_PACKETS) {
+                handler.sendPacket(new BundleS2CPacket(playerPackets.subList(from, Math.min(size, from + MAX_BUNDLE_PACKETS))));
+            }
+        }
+    }
+
+    /**
+     * Runs vanilla's {@code ServerChunkLoadingManager.tickEntityMovement} for the entities indexed
+     * by this data only, so each region updates the trackers it owns on its own thread. Tracker
+     * membership follows the entity index and moves with it on merge and split. Region threads call
+     * this holding the read side of their chunk stripes, so the orchestrator cannot unload the
+     * entities underneath it.
+     *
+     * <p>Vanilla re-checks a tracker against every player in the world. Here a tracker whose entity
+     * changed section is re-checked against the region's players plus the listeners of this
+     * region's trackers, and players that changed section are sent to every other region within
+     * view distance, which re-checks its own trackers against them in a region task.</p>
+     */
+    public void tickEntityTrackers() {
+        final RegionizedWorldData tickView = this.world instanceof RegionizedServerWorld regionized
+            ? regionized.ruthenium$getWorldRegionData() : this;
+        final FrozenLongSet entityTickingChunks = tickView.getTickingSnapshot().entityTicking();
+        final List<Entity> entities = this.snapshotEntities();
+        TrackingCandidates<ServerPlayerEntity> candidates = null;
+        List<ServerPlayerEntity> movedPlayers = null;
+        for (final Entity entity : entities) {
+            final EntityTrackerAccessor tracker = ((RegionTrackedEntity)entity).ruthenium$getEntityTracker();
+            if (tracker == null) {
+                continue;
+            }
+            final ChunkSectionPos section = ChunkSectionPos.from(entity);
+            final boolean sectionChanged = !Objects.equals(tracker.ruthenium$getTrackedSection(), section);
+            if (sectionChanged) {
+                if (candidates == null) {
+                    candidates = new TrackingCandidates<>(this.players);
+                }
+                addListenersTo(candidates, tracker);
+                tracker.ruthenium$updateTrackedStatus(candidates.asList());
+                if (entity instanceof ServerPlayerEntity player) {
+                    if (movedPlayers == null) {
+                        movedPlayers = new ArrayList<>();
+                    }
+                    movedPlayers.add(player);
+                }
+                tracker.ruthenium$setTrackedSection(section);
+            }
+            if (sectionChanged || entityTickingChunks.contains(CoordinateUtil.getChunkKey(section.getSectionX(), section.getSectionZ()))) {
+                tracker.ruthenium$getEntry().tick();
+            }
+        }
+
+        if (movedPlayers != null) {
+            this.recheckEntityTrackers(entities, movedPlayers);
+            this.sendMovedPlayersToNearbyRegions(movedPlayers);
+        }
+    }
+
+    /**
+     * Re-checks every tracker of this region against players that changed section in another
+     * region. Runs as a region task queued by {@link #tickEntityTrackers()}.
+     *
+     * @param movedPlayers players that changed section
+     */
+    public void recheckEntityTrackers(final List<ServerPlayerEntity> movedPlayers) {
+        this.recheckEntityTrackers(this.snapshotEntities(), movedPlayers);
+    }
+
+    private void recheckEntityTrackers(final List<Entity> entities, final List<ServerPlayerEntity> movedPlayers) {
+        for (final Entity entity : entities) {
+            final EntityTrackerAccessor tracker = ((RegionTrackedEntity)entity).ruthenium$getEntityTracker();
+            if (tracker != null) {
+                tracker.ruthenium$updateTrackedStatus(movedPlayers);
+            }
+        }
+    }
+
+    /**
+     * Queues a tracker re-check on every other region owning a section within view distance of a
+     * moved player, one task per region carrying all of its players.
+     */
+    private void sendMovedPlayersToNearbyRegions(final List<ServerPlayerEntity> movedPlayers) {
+        final ThreadedRegionizer<RegionTickData, RegionTickData.RegionSectionData> regionizer =
+            ((RegionizedServerWorld)this.world).ruthenium$getRegionizer();
+        final ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> current =
+            TickRegionScheduler.getCurrentRegion();
+        final int shift = regionizer.sectionChunkShift;
+        // Trackers never reach past the view distance; one extra chunk covers the entity's own offset
+        final int radius = this.world.getServer().getPlayerManager().getViewDistance() + 1;
+        final Reference2ReferenceOpenHashMap<ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData>, TrackerRecheck> rechecks =
+            new Reference2ReferenceOpenHashMap<>();
+        for (final ServerPlayerEntity player : movedPlayers) {
+            final ChunkPos pos = player.getChunkPos();
+            for (int sectionX = (pos.x - radius) >> shift, maxX = (pos.x + radius) >> shift; sectionX <= maxX; ++sectionX) {
+                for (int sectionZ = (pos.z - radius) >> shift, maxZ = (pos.z + radius) >> shift; sectionZ <= maxZ; ++sectionZ) {
+                    final int chunkX = sectionX << shift;
+                    final int chunkZ = sectionZ << shift;
+                    final ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region =
+                        regionizer.getRegionAtSynchronised(chunkX, chunkZ);
+                    if (region == null || region == current) {
+                        continue;
+                    }
+                    TrackerRecheck recheck = rechecks.get(region);
+                    if (recheck == null) {
+                        recheck = new TrackerRecheck(chunkX, chunkZ);
+                        rechecks.put(region, recheck);
+                    }
+                    recheck.add(player);
+                }
+            }
+        }
+        for (final TrackerRecheck recheck : rechecks.values()) {
+            final List<ServerPlayerEntity> players = recheck.players;
+            RegionTaskDispatcher.runOnChunk(this.world, recheck.chunkX, recheck.chunkZ, () -> {
+                final RegionizedWorldData regionData = TickRegionScheduler.getCurrentWorldData();
+                if (regionData != null) {
+                    regionData.recheckEntityTrackers(players);
+                }
+            });
+        }
+    }
+
+    private static void addListenersTo(final TrackingCandidates<ServerPlayerEntity> candidates,
+                                       final EntityTrackerAccessor tracker) {
+        final Set<PlayerAssociatedNetworkHandler> listeners = tracker.ruthenium$getListeners();
+        synchronized (listeners) {
+            for (final PlayerAssociatedNetworkHandler listener : listeners) {
+                candidates.addListener(listener.getPlayer());
+            }
+        }
+    }
+
+    /**
+     * Players one neighbouring region re-checks its trackers against, addressed through a chunk of
+     * one of its sections.
+     */
+    private static final class TrackerRecheck {
+        final int chunkX;
+        final int chunkZ;
+        final List<ServerPlayerEntity> players = new ArrayList<>();
+
+        TrackerRecheck(final int chunkX, final int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        void add(final ServerPlayerEntity player) {
+            // A player's sections are visited together, so a repeat is always the last entry
+            if (this.players.isEmpty() || this.players.get(this.players.size() - 1) != player) {
+                this.players.add(player);
+            }
         }
     }
 
@@ -1152,6 +1622,51 @@ public class RegionizedWorldData {
                state.onSyncedBlockEvent((World)(Object)this.world, event.pos(), event.eventId(), event.eventParam());
     }
 
+    // ========== Chunk Broadcast Methods ==========
+
+    /**
+     * Queues a chunk holder owned by this region for the region-local broadcast pass.
+     * Must only be called from the thread currently ticking this region.
+     *
+     * @param holder chunk holder with pending block or light deltas
+     * @return true if the holder was not already queued
+     */
+    public boolean markChunkHolderForBroadcast(final ChunkHolder holder) {
+        return this.chunksToBroadcast.add(holder);
+    }
+
+    /**
+     * Returns the number of chunk holders waiting for the region-local broadcast pass.
+     *
+     * @return pending chunk holder count
+     */
+    public int getPendingChunkBroadcastCount() {
+        return this.chunksToBroadcast.size();
+    }
+
+    /**
+     * Flushes pending block and light deltas for this region's chunk holders. Mirrors vanilla's
+     * {@code ServerChunkManager#broadcastUpdates} but only touches holders queued by this region, so
+     * the caller only needs the shared chunk read lock rather than the world-wide write lock.
+     *
+     * @return number of chunk holders flushed
+     */
+    public int flushChunkBroadcasts() {
+        if (this.chunksToBroadcast.isEmpty()) {
+            return 0;
+        }
+        int flushed = 0;
+        for (final ChunkHolder holder : this.chunksToBroadcast) {
+            final WorldChunk chunk = holder.getWorldChunk();
+            if (chunk != null) {
+                holder.flushUpdates(chunk);
+                ++flushed;
+            }
+        }
+        this.chunksToBroadcast.clear();
+        return flushed;
+    }
+
     // ========== Block Entity Ticker Methods ==========
 
     /**
@@ -1161,7 +1676,7 @@ public class RegionizedWorldData {
      * @param ticker the block entity ticker to add
      */
     public void addBlockEntityTicker(final BlockEntityTickInvoker ticker) {
-        if (ticker == null) {
+        if (ticker == null || ticker.getPos() == null) {
             return;
         }
         if (!this.blockEntityTickerSet.add(ticker)) {
@@ -1170,18 +1685,13 @@ public class RegionizedWorldData {
         if (this.tickingBlockEntities) {
             this.pendingBlockEntityTickers.add(ticker);
         } else {
-            this.blockEntityTickers.add(ticker);
+            this.blockEntityTickers.add(tickerChunkKey(ticker), ticker);
         }
     }
 
-    /**
-     * Returns the list of block entity tickers for this region.
-     * Used by the region tick loop to iterate and tick block entities.
-     *
-     * @return the list of block entity tickers
-     */
-    public List<BlockEntityTickInvoker> getBlockEntityTickers() {
-        return this.blockEntityTickers;
+    private static long tickerChunkKey(final BlockEntityTickInvoker ticker) {
+        final BlockPos pos = ticker.getPos();
+        return CoordinateUtil.getChunkKey(pos.getX() >> 4, pos.getZ() >> 4);
     }
 
     /**
@@ -1190,7 +1700,10 @@ public class RegionizedWorldData {
      */
     public void splicePendingBlockEntityTickers() {
         if (!this.pendingBlockEntityTickers.isEmpty()) {
-            this.blockEntityTickers.addAll(this.pendingBlockEntityTickers);
+            for (int i = 0, len = this.pendingBlockEntityTickers.size(); i < len; ++i) {
+                final BlockEntityTickInvoker ticker = this.pendingBlockEntityTickers.get(i);
+                this.blockEntityTickers.add(tickerChunkKey(ticker), ticker);
+            }
             this.pendingBlockEntityTickers.clear();
         }
     }
@@ -1214,40 +1727,24 @@ public class RegionizedWorldData {
     /**
      * Ticks all block entities for this region.
      * Should be called from region threads.
+     *
+     * <p>Tickers are walked per chunk bucket: the ticking check runs once per chunk, and removed
+     * tickers are compacted out of their bucket in the same pass, so bulk removals (explosions,
+     * chunk unloads) stay linear.</p>
      */
     public void tickBlockEntities() {
         this.setTickingBlockEntities(true);
         try {
             final boolean tickAllowed = this.world.getTickManager().shouldTick();
-            final List<BlockEntityTickInvoker> toRemove = new ArrayList<>();
-            for (int i = 0; i < this.blockEntityTickers.size(); i++) {
-                final BlockEntityTickInvoker ticker = this.blockEntityTickers.get(i);
-                if (ticker.isRemoved()) {
-                    toRemove.add(ticker);
-                    continue;
-                }
-                if (!tickAllowed) {
-                    continue;
-                }
-
-                final BlockPos pos = ticker.getPos();
-                if (pos == null) {
-                    continue;
-                }
-
-                if (this.world instanceof RegionizedServerWorld regionized) {
-                    final RegionizedWorldData tickView = regionized.ruthenium$getWorldRegionData();
-                    if (!tickView.shouldTickBlocksInChunk(pos.getX() >> 4, pos.getZ() >> 4)) {
-                        continue;
-                    }
-                }
-
-                ticker.tick();
-            }
-            this.blockEntityTickers.removeAll(toRemove);
-            for (final BlockEntityTickInvoker removed : toRemove) {
-                this.blockEntityTickerSet.remove(removed);
-            }
+            final RegionizedWorldData tickView = this.world instanceof RegionizedServerWorld regionized
+                ? regionized.ruthenium$getWorldRegionData() : null;
+            final FrozenLongSet tickingChunks = tickView == null ? null : tickView.getTickingSnapshot().ticking();
+            this.blockEntityTickers.processAndCompact(
+                chunkKey -> tickAllowed && (tickingChunks == null || tickingChunks.contains(chunkKey)),
+                BlockEntityTickInvoker::isRemoved,
+                BlockEntityTickInvoker::tick,
+                this.blockEntityTickerSet::remove
+            );
         } finally {
             this.setTickingBlockEntities(false);
             this.splicePendingBlockEntityTickers();
@@ -1283,4 +1780,11 @@ public class RegionizedWorldData {
             return true;
         }
     }
+
+    /**
+     * Immutable view of the ticking and entity-ticking chunk sets published for lock-free lookups.
+     */
+    private record TickingChunkSnapshot(FrozenLongSet ticking, FrozenLongSet entityTicking) {
+        static final TickingChunkSnapshot EMPTY = new TickingChunkSnapshot(FrozenLongSet.EMPTY, FrozenLongSet.EMPTY);
+    }
 }
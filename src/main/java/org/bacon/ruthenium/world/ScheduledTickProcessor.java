@@ -1,72 +1,119 @@
 package org.bacon.ruthenium.world;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.LongArrayList;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.function.Function;
-import java.util.function.LongPredicate;
+import java.util.function.LongFunction;
 import java.util.function.ToLongFunction;
+import org.bacon.ruthenium.region.RegionScheduledTickQueue;
 
 final class ScheduledTickProcessor {
 
     private ScheduledTickProcessor() {
     }
 
-    static <C, E> List<E> drainDueTicks(final Object schedulerMonitor,
-                                        final Long2ObjectMap<C> schedulersByChunk,
+    /**
+     * Drains up to {@code maxTicks} due ticks from the chunks that a region's queue reports as due,
+     * in global trigger order across those chunks.
+     *
+     * <p>Only the region's own due chunks are visited. Each chunk scheduler is locked through its
+     * own monitor while peeking and polling, so no world-wide lock is taken. Chunks that still hold
+     * pending ticks afterwards are re-queued with their next trigger tick; chunks whose scheduler
+     * can no longer be resolved (unloaded) are dropped.</p>
+     *
+     * @param queue            region queue of chunks with pending ticks
+     * @param time             current game time
+     * @param maxTicks         maximum number of ticks to drain
+     * @param schedulerLookup  resolves a packed chunk key to its loaded chunk scheduler, or {@code null}
+     * @param peek             returns the scheduler's earliest pending tick
+     * @param poll             removes and returns the scheduler's earliest pending tick
+     * @param triggerTime      returns a tick's trigger time
+     * @param order            total order of ticks with equal trigger time across chunks
+     * @return drained ticks in execution order
+     */
+    static <C, E> List<E> drainDueTicks(final RegionScheduledTickQueue queue,
                                         final long time,
                                         final int maxTicks,
-                                        final long[] candidateChunkKeys,
-                                        final LongPredicate isChunkLoaded,
+                                        final LongFunction<C> schedulerLookup,
                                         final Function<C, E> peek,
                                         final Function<C, E> poll,
-                                        final ToLongFunction<E> triggerTime) {
-        Objects.requireNonNull(schedulerMonitor, "schedulerMonitor");
-        Objects.requireNonNull(schedulersByChunk, "schedulersByChunk");
-        Objects.requireNonNull(candidateChunkKeys, "candidateChunkKeys");
-        Objects.requireNonNull(isChunkLoaded, "isChunkLoaded");
+                                        final ToLongFunction<E> triggerTime,
+                                        final Comparator<? super E> order) {
+        Objects.requireNonNull(queue, "queue");
+        Objects.requireNonNull(schedulerLookup, "schedulerLookup");
         Objects.requireNonNull(peek, "peek");
         Objects.requireNonNull(poll, "poll");
         Objects.requireNonNull(triggerTime, "triggerTime");
+        Objects.requireNonNull(order, "order");
         if (maxTicks <= 0) {
             return List.of();
         }
 
-        final LongArrayList loadedChunkKeys = new LongArrayList(candidateChunkKeys.length);
-        for (int i = 0; i < candidateChunkKeys.length; i++) {
-            final long chunkKey = candidateChunkKeys[i];
-            if (isChunkLoaded.test(chunkKey)) {
-                loadedChunkKeys.add(chunkKey);
+        final long[] dueChunkKeys = queue.pollDueChunks(time);
+        if (dueChunkKeys.length == 0) {
+            return List.of();
+        }
+
+        final List<DueChunk<C, E>> touched = new ArrayList<>(dueChunkKeys.length);
+        final PriorityQueue<DueChunk<C, E>> byNextTick =
+            new PriorityQueue<>(dueChunkKeys.length, (left, right) -> order.compare(left.head, right.head));
+        for (final long chunkKey : dueChunkKeys) {
+            final C chunkScheduler = schedulerLookup.apply(chunkKey);
+            if (chunkScheduler == null) {
+                continue;
+            }
+            final DueChunk<C, E> dueChunk = new DueChunk<>(chunkKey, chunkScheduler);
+            touched.add(dueChunk);
+            synchronized (chunkScheduler) {
+                dueChunk.head = peek.apply(chunkScheduler);
+            }
+            if (dueChunk.head != null && triggerTime.applyAsLong(dueChunk.head) <= time) {
+                byNextTick.add(dueChunk);
             }
         }
 
         final ArrayList<E> drainedTicks = new ArrayList<>(Math.min(maxTicks, 256));
-        synchronized (schedulerMonitor) {
-            int drained = 0;
-            for (int i = 0; i < loadedChunkKeys.size() && drained < maxTicks; i++) {
-                final C chunkScheduler = schedulersByChunk.get(loadedChunkKeys.getLong(i));
-                if (chunkScheduler == null) {
-                    continue;
-                }
+        while (drainedTicks.size() < maxTicks && !byNextTick.isEmpty()) {
+            final DueChunk<C, E> dueChunk = byNextTick.poll();
+            final E polled;
+            synchronized (dueChunk.scheduler) {
+                polled = poll.apply(dueChunk.scheduler);
+                dueChunk.head = peek.apply(dueChunk.scheduler);
+            }
+            if (polled != null) {
+                drainedTicks.add(polled);
+            }
+            if (dueChunk.head != null && triggerTime.applyAsLong(dueChunk.head) <= time) {
+                byNextTick.add(dueChunk);
+            }
+        }
 
-                while (drained < maxTicks) {
-                    final E next = peek.apply(chunkScheduler);
-                    if (next == null || triggerTime.applyAsLong(next) > time) {
-                        break;
-                    }
-                    final E polled = poll.apply(chunkScheduler);
-                    if (polled == null) {
-                        break;
-                    }
-                    drainedTicks.add(polled);
-                    drained++;
-                }
+        for (int i = 0, len = touched.size(); i < len; ++i) {
+            final DueChunk<C, E> dueChunk = touched.get(i);
+            final E next;
+            synchronized (dueChunk.scheduler) {
+                next = peek.apply(dueChunk.scheduler);
+            }
+            if (next != null) {
+                queue.schedule(dueChunk.chunkKey, triggerTime.applyAsLong(next));
             }
         }
 
         return drainedTicks;
     }
-}
 
+    private static final class DueChunk<C, E> {
+
+        private final long chunkKey;
+        private final C scheduler;
+        private E head;
+
+        private DueChunk(final long chunkKey, final C scheduler) {
+            this.chunkKey = chunkKey;
+            this.scheduler = scheduler;
+        }
+    }
+}
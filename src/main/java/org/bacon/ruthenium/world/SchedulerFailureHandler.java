@@ -13,6 +13,7 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.World;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.bacon.ruthenium.metrics.OpenMetricsWriter;
 
 /**
  * Handles scheduler failure detection, tracking, and recovery.
@@ -353,6 +354,29 @@ public final class SchedulerFailureHandler {
         return report.toString();
     }
 
+    /**
+     * Publishes failure and degradation state into a metrics scrape.
+     *
+     * @param writer scrape output
+     */
+    public void collectMetrics(final OpenMetricsWriter writer) {
+        writer.family("ruthenium_scheduler_graceful_degradation", OpenMetricsWriter.Type.GAUGE,
+            "1 while vanilla main-thread fallback ticking is active");
+        writer.sample("ruthenium_scheduler_graceful_degradation", this.gracefulDegradationActive.get() ? 1.0D : 0.0D);
+        writer.family("ruthenium_scheduler_window_failures", OpenMetricsWriter.Type.GAUGE,
+            "Region failures within the current global failure window");
+        writer.sample("ruthenium_scheduler_window_failures", this.globalFailureCount.get());
+        writer.family("ruthenium_region_consecutive_failures", OpenMetricsWriter.Type.GAUGE,
+            "Consecutive tick failures of regions that have failed at least once");
+        for (final Map.Entry<RegistryKey<World>, ConcurrentHashMap<Long, RegionFailureState>> worldEntry : this.regionFailures.entrySet()) {
+            final String worldId = worldEntry.getKey().getValue().toString();
+            for (final Map.Entry<Long, RegionFailureState> regionEntry : worldEntry.getValue().entrySet()) {
+                writer.sample("ruthenium_region_consecutive_failures", regionEntry.getValue().getConsecutiveFailures(),
+                    "world", worldId, "region", Long.toString(regionEntry.getKey()));
+            }
+        }
+    }
+
     private RegionFailureState getOrCreateFailureState(final RegistryKey<World> worldKey, final long regionId) {
         return this.regionFailures
             .computeIfAbsent(worldKey, ignored -> new ConcurrentHashMap<>())
@@ -1,13 +1,15 @@
 package org.bacon.ruthenium.world;
 
-import ca.spottedleaf.concurrentutil.scheduler.SchedulerThreadPool;
 import ca.spottedleaf.concurrentutil.util.TimeUtil;
-import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
-import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -22,12 +24,9 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.world.ChunkLevelManager;
 import net.minecraft.server.world.ServerChunkManager;
 import net.minecraft.server.world.ServerChunkLoadingManager;
-import net.minecraft.server.world.ServerEntityManager;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.util.function.LazyIterationConsumer;
 import net.minecraft.util.profiler.Profiler;
 import net.minecraft.util.profiler.Profilers;
-import net.minecraft.util.math.Box;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.SpawnDensityCapper;
 import net.minecraft.world.SpawnHelper;
@@ -37,20 +36,21 @@ import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.ChunkStatus;
 import net.minecraft.world.chunk.WorldChunk;
 import net.minecraft.world.tick.TickManager;
-import net.minecraft.world.entity.SectionedEntityCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.bacon.ruthenium.config.RutheniumConfig;
 import org.bacon.ruthenium.config.RutheniumConfigManager;
 import org.bacon.ruthenium.debug.RegionDebug;
+import org.bacon.ruthenium.metrics.MetricsRegistry;
 import org.bacon.ruthenium.mixin.accessor.ServerChunkManagerAccessor;
-import org.bacon.ruthenium.mixin.accessor.ServerEntityManagerAccessor;
 import org.bacon.ruthenium.mixin.accessor.ServerWorldAccessor;
+import org.bacon.ruthenium.region.RegionOwnershipSnapshot;
 import org.bacon.ruthenium.region.RegionTaskQueue;
 import org.bacon.ruthenium.region.RegionTickData;
 import org.bacon.ruthenium.region.ThreadedRegionizer;
 import org.bacon.ruthenium.region.ThreadedRegionizer.ThreadedRegion;
 import org.bacon.ruthenium.util.CoordinateUtil;
+import org.bacon.ruthenium.util.SneakyThrow;
 import org.bacon.ruthenium.world.RegionChunkTickAccess;
 import org.bacon.ruthenium.world.RegionWatchdog.Event;
 import org.bacon.ruthenium.world.RegionWatchdog.RunningTick;
@@ -63,8 +63,11 @@ public final class TickRegionScheduler {
 
     private static final Logger LOGGER = LogManager.getLogger(TickRegionScheduler.class);
     private static final AtomicInteger THREAD_ID = new AtomicInteger();
+    private static final AtomicInteger ORCHESTRATOR_THREAD_ID = new AtomicInteger();
     private static final long TICK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1L) / 20L;
     private static final long DEADLINE_NOT_SET = Long.MIN_VALUE;
+    // Chunks sampled per subtask when planning random ticks in parallel
+    private static final int RANDOM_TICK_PLAN_GROUP_CHUNKS = 64;
 
     private static volatile TickRegionScheduler INSTANCE;
 
@@ -102,17 +105,23 @@ public final class TickRegionScheduler {
         }
     }
 
-    // Use SchedulerThreadPool from concurrentutil (same as Folia)
-    @SuppressWarnings("deprecation")
-    private final SchedulerThreadPool scheduler;
+    // Deadline scheduling as in Folia's SchedulerThreadPool, plus region-to-worker affinity
+    private final RegionTickThreadPool scheduler;
     private final AtomicBoolean halted = new AtomicBoolean();
     private final RegionWatchdog watchdog;
     private final AtomicReference<MinecraftServer> serverRef = new AtomicReference<>();
     private final SchedulerFailureHandler failureHandler;
+    // Runs the orchestration step of every world but the first when parallelWorldOrchestration is on
+    private final ExecutorService worldOrchestrators;
+    private final ConcurrentHashMap<ServerWorld, CompletableFuture<Boolean>> orchestratedTicks = new ConcurrentHashMap<>();
 
     private volatile LoggingOptions loggingOptions;
     private volatile boolean verboseLogging;
     private volatile int maxScheduledTicksPerRegion;
+    private volatile DispatchPolicy dispatchPolicy;
+    private volatile boolean parallelRandomTicks;
+    private volatile int parallelRandomTickMinChunks;
+    private volatile boolean parallelWorldOrchestration;
 
     private final long mainThreadWarnNanos;
     private final long mainThreadCrashNanos;
@@ -123,6 +132,7 @@ public final class TickRegionScheduler {
     private final ThreadLocal<ServerWorld> currentWorld = new ThreadLocal<>();
     private final ThreadLocal<RegionizedWorldData> currentWorldData = new ThreadLocal<>();
     private final ThreadLocal<RegionScheduleHandle> currentHandle = new ThreadLocal<>();
+    private final ThreadLocal<RegionOwnershipSnapshot> currentOwnership = new ThreadLocal<>();
 
     static {
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
@@ -134,7 +144,6 @@ public final class TickRegionScheduler {
         }, "Ruthenium-RegionScheduler-Shutdown"));
     }
 
-    @SuppressWarnings("deprecation")
     private TickRegionScheduler(final RutheniumConfig config) {
         final RutheniumConfig validated = Objects.requireNonNull(config, "config").validated();
 
@@ -142,12 +151,16 @@ public final class TickRegionScheduler {
         final int targetThreads = validated.scheduler.threadCount == -1
             ? Math.max(1, processorCount <= 4 ? 1 : processorCount / 2)
             : Math.max(1, validated.scheduler.threadCount);
+        final boolean adaptive = validated.scheduler.adaptiveThreads;
+        final int maxThreads = !adaptive ? targetThreads
+            : validated.scheduler.maxThreadCount == -1 ? processorCount : validated.scheduler.maxThreadCount;
+        final int minThreads = !adaptive ? targetThreads : Math.min(validated.scheduler.minThreadCount, maxThreads);
 
         // Create thread factory following Folia's pattern
         final ThreadFactory threadFactory = new ThreadFactory() {
             @Override
             public Thread newThread(final Runnable runnable) {
-                final Thread thread = new Thread(runnable, "Ruthenium Region Thread #" + THREAD_ID.incrementAndGet());
+                final Thread thread = new RegionTickThread(runnable, "Ruthenium Region Thread #" + THREAD_ID.incrementAndGet());
                 thread.setDaemon(true);
                 thread.setUncaughtExceptionHandler((thr, throwable) -> {
                     LOGGER.error("Unhandled exception in {}", thr.getName(), throwable);
@@ -168,8 +181,20 @@ public final class TickRegionScheduler {
         this.regionTickStallNanos = TimeUnit.SECONDS.toNanos(validated.scheduler.regionStallSeconds);
         this.regionTickStallMillis = TimeUnit.NANOSECONDS.toMillis(this.regionTickStallNanos);
 
-        this.scheduler = new SchedulerThreadPool(targetThreads, threadFactory);
+        this.scheduler = new RegionTickThreadPool(maxThreads, targetThreads, minThreads,
+            TimeUnit.MILLISECONDS.toNanos(validated.scheduler.adaptiveWindowMillis), threadFactory);
+        // Plain threads, not RegionTickThreads: orchestration must never look like a region tick
+        this.worldOrchestrators = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "Ruthenium World Orchestrator #" + ORCHESTRATOR_THREAD_ID.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((thr, throwable) -> {
+                LOGGER.error("Unhandled exception in {}", thr.getName(), throwable);
+            });
+            return thread;
+        });
         this.failureHandler = new SchedulerFailureHandler(this);
+        MetricsRegistry.getInstance().register("schedulerFailures", this.failureHandler::collectMetrics);
+        MetricsRegistry.getInstance().register("schedulerThreads", this.scheduler::collectMetrics);
         this.watchdog = new RegionWatchdog(
             watchdogWarnNanos,
             watchdogCrashNanos,
@@ -183,6 +208,11 @@ public final class TickRegionScheduler {
         LOGGER.info("==================================================");
         LOGGER.info("RUTHENIUM REGION SCHEDULER STARTED");
         LOGGER.info("  Parallel tick threads: {}", targetThreads);
+        if (adaptive) {
+            LOGGER.info("  Adaptive tick threads: {}-{}", minThreads, maxThreads);
+        }
+        LOGGER.info("  Scheduling policy: {} (region CPU budget: {}%)", validated.scheduler.schedulingPolicy,
+            validated.scheduler.regionCpuBudgetPercent);
         LOGGER.info("  CPU cores detected: {}", processorCount);
         LOGGER.info("  Verbose logging: {}", this.verboseLogging);
         LOGGER.info("==================================================");
@@ -194,6 +224,10 @@ public final class TickRegionScheduler {
         this.verboseLogging = validated.logging.schedulerVerbose;
         this.loggingOptions = LoggingOptions.fromConfig(validated);
         this.maxScheduledTicksPerRegion = validated.scheduler.maxScheduledTicksPerRegion;
+        this.dispatchPolicy = DispatchPolicy.fromConfig(validated);
+        this.parallelRandomTicks = validated.scheduler.parallelRandomTicks;
+        this.parallelRandomTickMinChunks = validated.scheduler.parallelRandomTickMinChunks;
+        this.parallelWorldOrchestration = validated.scheduler.parallelWorldOrchestration;
     }
 
     public static TickRegionScheduler getInstance() {
@@ -262,16 +296,178 @@ public final class TickRegionScheduler {
         return getInstance().currentWorldData.get();
     }
 
+    /**
+     * Returns the ownership snapshot of the region running on this thread, recapturing it first if
+     * the region gained or lost chunks since it was taken.
+     *
+     * @return current ownership snapshot, or {@code null} when no region is running or the region
+     *         is too large to snapshot
+     */
+    public static RegionOwnershipSnapshot getCurrentOwnership() {
+        final TickRegionScheduler scheduler = getInstance();
+        final RegionOwnershipSnapshot snapshot = scheduler.currentOwnership.get();
+        if (snapshot == null || snapshot.isCurrent()) {
+            return snapshot;
+        }
+        final RegionOwnershipSnapshot refreshed = snapshot.getRegion().captureOwnershipSnapshot();
+        if (refreshed == null) {
+            scheduler.currentOwnership.remove();
+        } else {
+            scheduler.currentOwnership.set(refreshed);
+        }
+        return refreshed;
+    }
+
     @SuppressWarnings("unused") // exposed for future region task integrations
     public static RegionScheduleHandle getCurrentHandle() {
         return getInstance().currentHandle.get();
     }
 
+    /**
+     * Runs the orchestration step ({@link #tickWorld}) of every regionized world, with the chunk
+     * state step of each world running at once: one world on the calling thread and the rest on
+     * orchestrator threads. Global world services stay on the server thread, one world after the
+     * other, since they touch server-wide state and may wait on the server thread themselves. Each
+     * world keeps its own budget. The results are picked up by {@link #tickWorldOrCollect} when the
+     * server reaches that world. Does nothing unless parallel world orchestration is enabled and
+     * there are at least two regionized worlds.
+     *
+     * @param worlds            worlds about to be ticked
+     * @param shouldKeepTicking server tick budget
+     */
+    public void orchestrateWorlds(final Iterable<ServerWorld> worlds, final BooleanSupplier shouldKeepTicking) {
+        Objects.requireNonNull(worlds, "worlds");
+        Objects.requireNonNull(shouldKeepTicking, "shouldKeepTicking");
+        // Results the server never collected (e.g. a world skipped its tick) must not leak into this tick
+        this.orchestratedTicks.clear();
+        if (!this.parallelWorldOrchestration || this.halted.get()) {
+            return;
+        }
+        final List<ServerWorld> regionized = new ArrayList<>();
+        for (final ServerWorld world : worlds) {
+            if (world instanceof RegionizedServerWorld) {
+                regionized.add(world);
+            }
+        }
+        if (regionized.size() < 2) {
+            return;
+        }
+
+        final List<WorldOrchestration> steps = new ArrayList<>(regionized.size());
+        for (final ServerWorld world : regionized) {
+            try {
+                steps.add(this.startOrchestration(world, shouldKeepTicking, true));
+            } catch (final Throwable throwable) {
+                this.orchestratedTicks.put(world, CompletableFuture.failedFuture(throwable));
+            }
+        }
+        if (steps.isEmpty()) {
+            return;
+        }
+
+        final List<CompletableFuture<Void>> chunkStates = new ArrayList<>(steps.size());
+        chunkStates.add(null);
+        for (int i = 1; i < steps.size(); ++i) {
+            final WorldOrchestration step = steps.get(i);
+            chunkStates.add(CompletableFuture.runAsync(() -> this.runChunkState(step), this.worldOrchestrators));
+        }
+        CompletableFuture<Void> firstChunkState;
+        try {
+            this.runChunkState(steps.get(0));
+            firstChunkState = CompletableFuture.completedFuture(null);
+        } catch (final Throwable throwable) {
+            firstChunkState = CompletableFuture.failedFuture(throwable);
+        }
+        chunkStates.set(0, firstChunkState);
+
+        // Join before returning so nothing else in the server tick overlaps a chunk state step
+        for (int i = 0; i < steps.size(); ++i) {
+            final WorldOrchestration step = steps.get(i);
+            Throwable failure = null;
+            try {
+                chunkStates.get(i).join();
+            } catch (final CompletionException exception) {
+                failure = exception.getCause() == null ? exception : exception.getCause();
+            }
+            CompletableFuture<Boolean> result;
+            try {
+                result = CompletableFuture.completedFuture(this.finishOrchestration(step, failure));
+            } catch (final Throwable throwable) {
+                // Rethrown on the server thread by tickWorldOrCollect
+                result = CompletableFuture.failedFuture(throwable);
+            }
+            this.orchestratedTicks.put(step.world, result);
+        }
+    }
+
+    /**
+     * Returns the result of the orchestration step {@link #orchestrateWorlds} already ran for this
+     * world in the current server tick, or runs {@link #tickWorld} now if there is none.
+     *
+     * @param world             world being ticked
+     * @param shouldKeepTicking server tick budget
+     * @return {@code true} if regions handle the world, {@code false} to fall back to vanilla
+     */
+    public boolean tickWorldOrCollect(final ServerWorld world, final BooleanSupplier shouldKeepTicking) {
+        final CompletableFuture<Boolean> result = this.orchestratedTicks.remove(world);
+        if (result == null) {
+            return this.tickWorld(world, shouldKeepTicking);
+        }
+        try {
+            return result.join();
+        } catch (final CompletionException exception) {
+            throw SneakyThrow.sneaky(exception.getCause() == null ? exception : exception.getCause());
+        }
+    }
+
     public boolean tickWorld(final ServerWorld world, final BooleanSupplier shouldKeepTicking) {
+        final WorldOrchestration step = this.startOrchestration(world, shouldKeepTicking, false);
+        Throwable failure = null;
+        try {
+            this.runChunkState(step);
+        } catch (final Throwable throwable) {
+            failure = throwable;
+        }
+        return this.finishOrchestration(step, failure);
+    }
+
+    /**
+     * State of one world's orchestration step, carried from the server thread through the chunk
+     * state step and back.
+     */
+    private static final class WorldOrchestration {
+        final ServerWorld world;
+        final BooleanSupplier shouldKeepTicking;
+        final long invocationStart;
+        // Whether the chunk state step runs alongside other worlds, on its own budget
+        final boolean parallel;
+        BooleanSupplier orchestratorGuard;
+        RegionizedWorldData worldData;
+        long tickStart;
+        long servicesNanos;
+        long chunkStateNanos;
+        boolean fallback;
+        // Set once the step decided its result early
+        Boolean result;
+
+        WorldOrchestration(final ServerWorld world, final BooleanSupplier shouldKeepTicking, final long invocationStart,
+                           final boolean parallel) {
+            this.world = world;
+            this.shouldKeepTicking = shouldKeepTicking;
+            this.invocationStart = invocationStart;
+            this.parallel = parallel;
+        }
+    }
+
+    /**
+     * Starts a world's orchestration step and runs its global services. Must run on the server thread.
+     */
+    private WorldOrchestration startOrchestration(final ServerWorld world, final BooleanSupplier shouldKeepTicking,
+                                                  final boolean parallel) {
         Objects.requireNonNull(world, "world");
         Objects.requireNonNull(shouldKeepTicking, "shouldKeepTicking");
 
-        final long invocationStart = System.nanoTime();
+        final WorldOrchestration step = new WorldOrchestration(world, shouldKeepTicking, System.nanoTime(), parallel);
 
         if (this.verboseLogging) {
             LOGGER.info("[VERBOSE] tickWorld START for {} (halted={}, shouldKeepTicking={})",
@@ -282,53 +478,98 @@ public final class TickRegionScheduler {
             if (this.verboseLogging) {
                 LOGGER.info("[VERBOSE] tickWorld HALTED - scheduler halted before start");
             }
-            return this.logFallback(world, FallbackReason.SCHEDULER_HALTED_BEFORE_START,
+            step.result = this.logFallback(world, FallbackReason.SCHEDULER_HALTED_BEFORE_START,
                 this.buildDiagnostics(world, "pre-check",
-                    System.nanoTime() - invocationStart));
+                    System.nanoTime() - step.invocationStart));
+            return step;
         }
 
-        final BooleanSupplier orchestratorGuard = this.composeOrchestratorBudget(shouldKeepTicking, invocationStart);
-        this.logBudgetAbortIfExceeded(world, orchestratorGuard, "pre-check");
+        step.orchestratorGuard = this.composeOrchestratorBudget(shouldKeepTicking, step.invocationStart);
+        this.logBudgetAbortIfExceeded(world, step.orchestratorGuard, "pre-check");
 
         final RegionizedWorldData worldData = ((RegionizedServerWorld)world).ruthenium$getWorldRegionData();
-        final long tickStart = System.nanoTime();
-        final RunningTick runningTick = this.watchdog.track(world, null, Thread.currentThread(), tickStart);
-        worldData.beginTick();
-        this.currentWorldData.set(worldData);
-        boolean fallback = false;
+        step.tickStart = System.nanoTime();
+        final RunningTick servicesTick = this.watchdog.track(world, null, Thread.currentThread(), step.tickStart);
+        try {
+            worldData.beginTick();
+        } finally {
+            this.watchdog.untrack(servicesTick);
+        }
+        step.servicesNanos = System.nanoTime() - step.tickStart;
+        step.worldData = worldData;
+        return step;
+    }
+
+    /**
+     * Runs the chunk state step of a started orchestration. May run on an orchestrator thread.
+     */
+    private void runChunkState(final WorldOrchestration step) {
+        if (step.result != null) {
+            return;
+        }
+        // Tracked on the thread running the step, so a stall dump shows the stuck orchestrator thread
+        final RunningTick chunkStateTick = this.watchdog.track(step.world, null, Thread.currentThread(), 0L);
+        this.currentWorldData.set(step.worldData);
         try {
             if (this.halted.get()) {
                 if (this.verboseLogging) {
                     LOGGER.info("[VERBOSE] tickWorld HALTED - scheduler halted during tick");
                 }
-                fallback = true;
-                return this.logFallback(world, FallbackReason.SCHEDULER_HALTED_DURING_TICK,
-                    this.buildDiagnostics(world, "after-drain",
-                        System.nanoTime() - tickStart));
+                step.fallback = true;
+                step.result = this.logFallback(step.world, FallbackReason.SCHEDULER_HALTED_DURING_TICK,
+                    this.buildDiagnostics(step.world, "after-drain",
+                        System.nanoTime() - step.tickStart));
+                return;
+            }
+            this.logBudgetAbortIfExceeded(step.world, step.orchestratorGuard, "after-drain");
+            final long chunkStateStart = System.nanoTime();
+            // Worlds orchestrated in parallel each budget their unloads on their own clock; the
+            // sequential path keeps vanilla's server-wide budget
+            step.worldData.populateChunkState(step.parallel ? step.orchestratorGuard : step.shouldKeepTicking);
+            step.chunkStateNanos = System.nanoTime() - chunkStateStart;
+        } finally {
+            this.currentWorldData.remove();
+            this.watchdog.untrack(chunkStateTick);
+        }
+    }
+
+    /**
+     * Finishes a world's orchestration step and decides whether regions handle the world. A
+     * {@code failure} thrown by the chunk state step is rethrown once the step is cleaned up. Must
+     * run on the server thread.
+     */
+    private boolean finishOrchestration(final WorldOrchestration step, final Throwable failure) {
+        if (step.worldData == null) {
+            return step.result;
+        }
+        final ServerWorld world = step.world;
+        try {
+            if (failure != null) {
+                throw SneakyThrow.sneaky(failure);
+            }
+            if (step.result != null) {
+                return step.result;
             }
-            this.logBudgetAbortIfExceeded(world, orchestratorGuard, "after-drain");
-            worldData.populateChunkState(shouldKeepTicking);
             final boolean hasActiveRegions = this.hasActiveRegions(world);
             if (!hasActiveRegions) {
                 // No active regions - fall back to vanilla ticking
-                fallback = true;
+                step.fallback = true;
                 return this.logFallback(world, FallbackReason.NO_ACTIVE_REGIONS,
                     this.buildDiagnostics(world, "after-drain",
-                        System.nanoTime() - tickStart));
+                        System.nanoTime() - step.tickStart));
             }
             if (!this.hasRecentRegionTicks(world)) {
-                fallback = true;
+                step.fallback = true;
                 return this.logFallback(world, FallbackReason.REGION_TICKS_STALLED,
                     this.buildDiagnostics(world, "after-drain",
-                        System.nanoTime() - tickStart));
+                        System.nanoTime() - step.tickStart));
             }
             return true;
         } finally {
-            this.watchdog.untrack(runningTick);
-            this.currentWorldData.remove();
-            worldData.finishTick();
-            final long duration = System.nanoTime() - tickStart;
-            this.checkMainThreadBudget(world, duration, fallback);
+            step.worldData.finishTick();
+            final long duration = System.nanoTime() - step.tickStart;
+            RegionTickMonitor.getInstance().recordOrchestration(world, step.servicesNanos, step.chunkStateNanos, duration);
+            this.checkMainThreadBudget(world, duration, step.fallback);
         }
     }
 
@@ -447,6 +688,7 @@ public final class TickRegionScheduler {
             return;
         }
         this.watchdog.shutdown();
+        this.worldOrchestrators.shutdown();
         this.scheduler.halt(true, TimeUnit.SECONDS.toNanos(5L));
     }
 
@@ -676,10 +918,18 @@ public final class TickRegionScheduler {
         this.currentWorld.set(world);
         this.currentWorldData.set(handle.getData().getWorldData());
         this.currentHandle.set(handle);
+        this.currentOwnership.set(region.captureOwnershipSnapshot());
+        if (Thread.currentThread() instanceof RegionTickThread thread) {
+            thread.setCurrentRandom(handle.getData().getRandom());
+        }
     }
 
     void exitRegionContext() {
+        if (Thread.currentThread() instanceof RegionTickThread thread) {
+            thread.setCurrentRandom(null);
+        }
         this.currentHandle.remove();
+        this.currentOwnership.remove();
         this.currentWorld.remove();
         this.currentWorldData.remove();
         this.currentRegion.remove();
@@ -694,9 +944,14 @@ public final class TickRegionScheduler {
         final long tickStart = System.nanoTime();
         final Profiler profiler = Profilers.get();
         boolean inBlockTick = false;
+        // Sections only change on merge/split, which never happens while this region is ticking.
+        final long chunkStripes = tickView.getChunkStripeMask(region.getOwnedSectionsUnsynchronised());
 
+        final RegionTickPhaseProfiler phases = data.getPhaseProfiler();
         int processedTasks = 0;
+        long phaseStart = System.nanoTime();
         processedTasks += runQueuedTasks(data, region, tickView, guard);
+        phases.add(RegionTickPhaseProfiler.Phase.TASKS, System.nanoTime() - phaseStart);
 
         // Use region.getOwnedChunks() which tracks chunks at the regionizer section level,
         // ensuring we tick all chunks that belong to this region even if RegionTickData
@@ -712,6 +967,7 @@ public final class TickRegionScheduler {
         long chunkNanos = 0L;
         long blockEventsNanos = 0L;
         long blockEntitiesNanos = 0L;
+        long entityNanos = 0L;
 
         profiler.push("rutheniumRegionTick");
         try {
@@ -724,11 +980,12 @@ public final class TickRegionScheduler {
                 profiler.push("scheduledTicks");
                 final long sectionStart = System.nanoTime();
                 try {
-                    this.tickScheduledTicks(world, chunkSnapshot, tickView, tickCount);
+                    this.tickScheduledTicks(world, data, tickView, chunkStripes, tickCount);
                 } catch (final Throwable throwable) {
                     LOGGER.error("Failed to tick scheduled ticks in region {}", region.id, throwable);
                 } finally {
                     scheduledNanos += System.nanoTime() - sectionStart;
+                    phases.add(RegionTickPhaseProfiler.Phase.SCHEDULED_TICKS, scheduledNanos);
                     profiler.pop();
                 }
             }
@@ -749,8 +1006,10 @@ public final class TickRegionScheduler {
 
             profiler.push("chunkTicks");
             final long chunkStart = System.nanoTime();
-            tickView.acquireChunkReadLock();
+            tickView.acquireChunkReadLock(chunkStripes);
             try {
+                final int[][] randomTickPlans = this.planRandomTicks(world, tickView, chunkManager, chunkSnapshot,
+                    cursor, randomTickSpeed);
                 for (int offset = 0; offset < totalChunks; ++offset) {
                     if (!guard.getAsBoolean()) {
                         chunkLoopAborted = true;
@@ -775,8 +1034,16 @@ public final class TickRegionScheduler {
 
                     ((RegionChunkTickAccess)world).ruthenium$pushRegionChunkTick();
                     try {
-                        ((ServerWorldAccessor)world).ruthenium$invokeTickChunk(worldChunk, randomTickSpeed);
-                        this.tickChunkEntities(world, chunkManager, tickView, chunkX, chunkZ);
+                        if (randomTickPlans != null) {
+                            ParallelRandomTicker.setCurrentPlan(randomTickPlans[offset]);
+                            try {
+                                ((ServerWorldAccessor)world).ruthenium$invokeTickChunk(worldChunk, randomTickSpeed);
+                            } finally {
+                                ParallelRandomTicker.setCurrentPlan(null);
+                            }
+                        } else {
+                            ((ServerWorldAccessor)world).ruthenium$invokeTickChunk(worldChunk, randomTickSpeed);
+                        }
                         tickedChunks++;
                     } catch (final Throwable throwable) {
                         LOGGER.error("Failed to tick chunk {} in region {}", new ChunkPos(chunkX, chunkZ), region.id, throwable);
@@ -786,9 +1053,22 @@ public final class TickRegionScheduler {
 
                     iteratedChunks++;
                 }
+
+                // Entities tick after every chunk, as in vanilla, from the region's own entity list.
+                // Not budgeted: an over-budget chunk loop must not freeze every entity in the region.
+                if (worldData != null) {
+                    final long entityStart = System.nanoTime();
+                    try {
+                        this.tickRegionEntities(world, worldData, tickView, region);
+                    } finally {
+                        entityNanos += System.nanoTime() - entityStart;
+                    }
+                }
             } finally {
-                tickView.releaseChunkReadLock();
+                tickView.releaseChunkReadLock(chunkStripes);
                 chunkNanos += System.nanoTime() - chunkStart;
+                phases.add(RegionTickPhaseProfiler.Phase.CHUNK_TICKS, chunkNanos - entityNanos);
+                phases.add(RegionTickPhaseProfiler.Phase.ENTITIES, entityNanos);
                 profiler.pop();
             }
 
@@ -800,27 +1080,32 @@ public final class TickRegionScheduler {
             }
 
             if (worldData != null && guard.getAsBoolean()) {
+                phaseStart = System.nanoTime();
                 try {
                     this.tickMobSpawning(world, worldData, chunkSnapshot);
                 } catch (final Throwable throwable) {
                     LOGGER.error("Failed to run mob spawning for region {}", region.id, throwable);
+                } finally {
+                    phases.add(RegionTickPhaseProfiler.Phase.SPAWNING, System.nanoTime() - phaseStart);
                 }
             }
 
             // Process block events after chunk ticking to mirror vanilla ordering.
-            // Block event packets are collected but NOT sent yet - we send them after broadcastUpdates.
+            // Block event packets are collected but NOT sent yet - we send them after the region broadcast.
             java.util.List<net.minecraft.network.packet.s2c.play.BlockEventS2CPacket> blockEventPackets = java.util.List.of();
-            if (worldData != null && guard.getAsBoolean()) {
+            // Empty queues skip the chunk stripes entirely; the queue itself is owned by this thread.
+            if (worldData != null && worldData.hasBlockEvents() && guard.getAsBoolean()) {
                 profiler.push("blockEvents");
                 final long sectionStart = System.nanoTime();
-                tickView.acquireChunkReadLock();
+                tickView.acquireChunkReadLock(chunkStripes);
                 try {
                     blockEventPackets = worldData.processBlockEvents();
                 } catch (final Throwable throwable) {
                     LOGGER.error("Failed to process block events in region {}", region.id, throwable);
                 } finally {
-                    tickView.releaseChunkReadLock();
+                    tickView.releaseChunkReadLock(chunkStripes);
                     blockEventsNanos += System.nanoTime() - sectionStart;
+                    phases.add(RegionTickPhaseProfiler.Phase.BLOCK_EVENTS, blockEventsNanos);
                     profiler.pop();
                 }
             }
@@ -828,15 +1113,19 @@ public final class TickRegionScheduler {
             // CRITICAL FIX FOR PISTON VISUALS:
             // Flush chunk updates AFTER block events complete so clients receive block state changes
             // in the same tick. This sends chunk deltas to clients.
+            // Only the holders dirtied by this region are flushed, so the shared read lock is enough;
+            // holders dirtied off-region stay in the world set and are flushed by the orchestrator.
             if (worldData != null && !world.isDebugWorld()) {
                 profiler.push("broadcastUpdates");
-                tickView.acquireChunkWriteLock();
+                phaseStart = System.nanoTime();
+                tickView.acquireChunkReadLock(chunkStripes);
                 try {
-                    ((ServerChunkManagerAccessor) world.getChunkManager()).ruthenium$invokeBroadcastUpdates(profiler);
+                    worldData.flushChunkBroadcasts();
                 } catch (final Throwable throwable) {
                     LOGGER.error("Failed to broadcast chunk updates in region {}", region.id, throwable);
                 } finally {
-                    tickView.releaseChunkWriteLock();
+                    tickView.releaseChunkReadLock(chunkStripes);
+                    phases.add(RegionTickPhaseProfiler.Phase.BROADCAST, System.nanoTime() - phaseStart);
                     profiler.pop();
                 }
             }
@@ -846,11 +1135,30 @@ public final class TickRegionScheduler {
             // For pistons: chunk delta shows moving_piston, THEN block event triggers animation.
             if (!blockEventPackets.isEmpty() && worldData != null) {
                 profiler.push("blockEventPackets");
+                phaseStart = System.nanoTime();
                 try {
                     worldData.sendBlockEventPackets(blockEventPackets);
                 } catch (final Throwable throwable) {
                     LOGGER.error("Failed to send block event packets in region {}", region.id, throwable);
                 } finally {
+                    phases.add(RegionTickPhaseProfiler.Phase.BROADCAST, System.nanoTime() - phaseStart);
+                    profiler.pop();
+                }
+            }
+
+            // Movement and tracking updates for the entities this region owns, vanilla's tickEntityMovement
+            if (worldData != null && !world.isDebugWorld()) {
+                profiler.push("entityTracking");
+                phaseStart = System.nanoTime();
+                // Keeps the orchestrator from unloading tracked entities mid-tick
+                tickView.acquireChunkReadLock(chunkStripes);
+                try {
+                    worldData.tickEntityTrackers();
+                } catch (final Throwable throwable) {
+                    LOGGER.error("Failed to update entity trackers in region {}", region.id, throwable);
+                } finally {
+                    tickView.releaseChunkReadLock(chunkStripes);
+                    phases.add(RegionTickPhaseProfiler.Phase.ENTITY_TRACKING, System.nanoTime() - phaseStart);
                     profiler.pop();
                 }
             }
@@ -862,14 +1170,15 @@ public final class TickRegionScheduler {
             if (worldData != null && guard.getAsBoolean()) {
                 profiler.push("blockEntities");
                 final long sectionStart = System.nanoTime();
-                tickView.acquireChunkReadLock();
+                tickView.acquireChunkReadLock(chunkStripes);
                 try {
                     worldData.tickBlockEntities();
                 } catch (final Throwable throwable) {
                     LOGGER.error("Failed to tick block entities in region {}", region.id, throwable);
                 } finally {
-                    tickView.releaseChunkReadLock();
+                    tickView.releaseChunkReadLock(chunkStripes);
                     blockEntitiesNanos += System.nanoTime() - sectionStart;
+                    phases.add(RegionTickPhaseProfiler.Phase.BLOCK_ENTITIES, blockEntitiesNanos);
                     profiler.pop();
                 }
             }
@@ -902,7 +1211,10 @@ public final class TickRegionScheduler {
                 skippedNotFull);
         }
 
+        phaseStart = System.nanoTime();
         processedTasks += runQueuedTasks(data, region, tickView, guard);
+        phases.add(RegionTickPhaseProfiler.Phase.TASKS, System.nanoTime() - phaseStart);
+        phases.commitTick();
         // Advance tick counters by tickCount to properly handle lag compensation
         // When a region is behind, tickCount > 1, so we advance by the appropriate amount
         for (int i = 0; i < tickCount; i++) {
@@ -939,41 +1251,22 @@ public final class TickRegionScheduler {
             "Region {} tick summary: chunksTicked={}, tasksProcessed={}, lagComp={}ns (world={})",
             region.id, tickedChunks, processedTasks, lagCompTick, world.getRegistryKey().getValue());
         RegionTickMonitor.getInstance().recordTick(world, region.id, tickedChunks, processedTasks,
-            System.nanoTime() - tickStart);
+            System.nanoTime() - tickStart, data);
         return true;
     }
 
-    @SuppressWarnings("unchecked")
-    private void tickChunkEntities(final ServerWorld world,
-                                   final ServerChunkManager chunkManager,
-                                   final RegionizedWorldData tickView,
-                                   final int chunkX,
-                                   final int chunkZ) {
-        if (!tickView.shouldTickEntitiesInChunk(chunkX, chunkZ)) {
-            return;
-        }
-
+    private void tickRegionEntities(final ServerWorld world,
+                                    final RegionizedWorldData worldData,
+                                    final RegionizedWorldData tickView,
+                                    final ThreadedRegion<RegionTickData, RegionTickData.RegionSectionData> region) {
         final TickManager tickManager = world.getTickManager();
         final Profiler profiler = Profilers.get();
-        final ServerEntityManager<Entity> entityManager =
-            (ServerEntityManager<Entity>)((ServerWorldAccessor)world).ruthenium$getEntityManager();
-        final SectionedEntityCache<Entity> cache =
-            ((ServerEntityManagerAccessor)entityManager).ruthenium$getEntitySectionCache();
-        final long chunkKey = ChunkPos.toLong(chunkX, chunkZ);
-
-        final int minBlockX = chunkX << 4;
-        final int minBlockZ = chunkZ << 4;
-        final int maxY = world.getTopYInclusive() + 1;
-        final Box chunkBox = new Box(
-            minBlockX, world.getBottomY(), minBlockZ,
-            minBlockX + 16, maxY, minBlockZ + 16
-        );
-
-        cache.getTrackingSections(chunkKey).forEach(section -> {
-            section.forEach(chunkBox, entity -> {
+        worldData.forEachTickingEntity(entity -> {
+            try {
                 this.tickRegionEntity(world, tickManager, profiler, tickView, entity);
-                return LazyIterationConsumer.NextIteration.CONTINUE;
-            });
+            } catch (final Throwable throwable) {
+                LOGGER.error("Failed to tick entity {} in region {}", entity, region.id, throwable);
+            }
         });
     }
 
@@ -989,15 +1282,16 @@ public final class TickRegionScheduler {
             return;
         }
 
-        profiler.push("checkDespawn");
-        entity.checkDespawn();
-        profiler.pop();
-
+        // The region list also holds entities that are only tracked, which vanilla never ticks
         final ChunkPos entityChunk = entity.getChunkPos();
         if (!(entity instanceof ServerPlayerEntity) && !tickView.shouldTickEntitiesInChunk(entityChunk.x, entityChunk.z)) {
             return;
         }
 
+        profiler.push("checkDespawn");
+        entity.checkDespawn();
+        profiler.pop();
+
         final Entity vehicle = entity.getVehicle();
         if (vehicle != null) {
             if (!vehicle.isRemoved() && vehicle.hasPassenger(entity)) {
@@ -1015,7 +1309,8 @@ public final class TickRegionScheduler {
      * Ticks scheduled block/fluid ticks for a region.
      * This runs on the region thread to process ticks that are due.
      */
-    private void tickScheduledTicks(final ServerWorld world, final long[] chunkSnapshot, final RegionizedWorldData tickView, final int tickCount) {
+    private void tickScheduledTicks(final ServerWorld world, final RegionTickData data, final RegionizedWorldData tickView,
+                                    final long chunkStripes, final int tickCount) {
         if (world.isDebugWorld() || !world.getTickManager().shouldTick()) {
             return;
         }
@@ -1023,136 +1318,98 @@ public final class TickRegionScheduler {
         final long time = world.getTime();
         final ServerWorldAccessor accessor = (ServerWorldAccessor) world;
         final int maxTicksPerCycle = this.maxScheduledTicksPerRegion;
-        final RegionizedWorldData regionData = TickRegionScheduler.getCurrentWorldData();
-        tickScheduledTicks(world, world.getBlockTickScheduler(), time, maxTicksPerCycle, accessor::ruthenium$invokeTickBlock, chunkSnapshot, tickView, regionData, true);
-        tickScheduledTicks(world, world.getFluidTickScheduler(), time, maxTicksPerCycle, accessor::ruthenium$invokeTickFluid, chunkSnapshot, tickView, regionData, false);
+        tickScheduledTicks(world, data.getBlockTickQueue(), WorldChunk::getBlockTickScheduler, time, maxTicksPerCycle,
+            accessor::ruthenium$invokeTickBlock, tickView, chunkStripes);
+        tickScheduledTicks(world, data.getFluidTickQueue(), WorldChunk::getFluidTickScheduler, time, maxTicksPerCycle,
+            accessor::ruthenium$invokeTickFluid, tickView, chunkStripes);
     }
 
     private static <T> void tickScheduledTicks(final ServerWorld world,
-                                               final net.minecraft.world.tick.WorldTickScheduler<T> scheduler,
+                                               final org.bacon.ruthenium.region.RegionScheduledTickQueue queue,
+                                               final java.util.function.Function<WorldChunk, ?> chunkScheduler,
                                                final long time,
                                                final int maxTicks,
                                                final java.util.function.BiConsumer<net.minecraft.util.math.BlockPos, T> ticker,
-                                               final long[] chunkSnapshot,
                                                final RegionizedWorldData tickView,
-                                               final RegionizedWorldData regionData,
-                                               final boolean blockTicks) {
-        final net.minecraft.server.world.ServerChunkManager chunkManager = world.getChunkManager();
-        @SuppressWarnings("unchecked")
-        final org.bacon.ruthenium.mixin.accessor.WorldTickSchedulerAccessor<T> accessor =
-            (org.bacon.ruthenium.mixin.accessor.WorldTickSchedulerAccessor<T>) (Object) scheduler;
-        final it.unimi.dsi.fastutil.longs.Long2ObjectMap<net.minecraft.world.tick.ChunkTickScheduler<T>> byChunk =
-            accessor.ruthenium$getChunkTickSchedulers();
+                                               final long chunkStripes) {
+        final ServerChunkManager chunkManager = world.getChunkManager();
 
         /*
          * Avoid lock-order inversions between the chunk manager and scheduled tick scheduler.
          *
          * Vanilla (and downstream implementations) often acquire chunk-system locks and then
-         * enqueue scheduled ticks. Previously we held the WorldTickScheduler monitor while
-         * querying chunk state and executing ticks, which can deadlock when multiple region
-         * threads are active.
-         *
-         * We now:
-         *  1) Snapshot loaded chunk keys without holding the scheduler lock
-         *  2) Drain due ticks under the scheduler lock into a local list
-         *  3) Execute drained ticks without holding the scheduler lock
+         * enqueue scheduled ticks, so no scheduler lock may be held while querying chunk state
+         * or executing ticks. The region's queue only yields its own due chunks, and each chunk
+         * scheduler is drained under its own monitor:
+         *  1) Poll the region's due chunks and resolve their loaded chunk schedulers
+         *  2) Drain due ticks, locking one chunk scheduler at a time, into a local list
+         *  3) Execute drained ticks without holding any scheduler lock
          */
-        final long[] candidateChunks = resolveScheduledChunkCandidates(chunkSnapshot, scheduler, byChunk, regionData, blockTicks);
-        final long[] schedulerChunkKeys = new long[candidateChunks.length];
-        for (int i = 0; i < candidateChunks.length; i++) {
-            final long chunkKey = candidateChunks[i];
-            final int chunkX = org.bacon.ruthenium.util.CoordinateUtil.getChunkX(chunkKey);
-            final int chunkZ = org.bacon.ruthenium.util.CoordinateUtil.getChunkZ(chunkKey);
-            schedulerChunkKeys[i] = net.minecraft.util.math.ChunkPos.toLong(chunkX, chunkZ);
-        }
-
         final java.util.List<net.minecraft.world.tick.OrderedTick<T>> toRun = ScheduledTickProcessor.drainDueTicks(
-            scheduler,
-            byChunk,
+            queue,
             time,
             maxTicks,
-            schedulerChunkKeys,
-            schedulerChunkKey -> {
-                final int loadedChunkX = (int)schedulerChunkKey;
-                final int loadedChunkZ = (int)(schedulerChunkKey >> 32);
-                return chunkManager.getWorldChunk(loadedChunkX, loadedChunkZ) != null;
+            chunkKey -> {
+                final WorldChunk chunk = chunkManager.getWorldChunk(CoordinateUtil.getChunkX(chunkKey), CoordinateUtil.getChunkZ(chunkKey));
+                if (chunk == null) {
+                    return null;
+                }
+                final Object scheduler = chunkScheduler.apply(chunk);
+                @SuppressWarnings("unchecked")
+                final net.minecraft.world.tick.ChunkTickScheduler<T> ticks = scheduler instanceof net.minecraft.world.tick.ChunkTickScheduler<?>
+                    ? (net.minecraft.world.tick.ChunkTickScheduler<T>) scheduler : null;
+                return ticks;
             },
             net.minecraft.world.tick.ChunkTickScheduler::peekNextTick,
             net.minecraft.world.tick.ChunkTickScheduler::pollNextTick,
-            net.minecraft.world.tick.OrderedTick::triggerTick
+            net.minecraft.world.tick.OrderedTick::triggerTick,
+            net.minecraft.world.tick.OrderedTick.TRIGGER_TICK_COMPARATOR
         );
+        if (toRun.isEmpty()) {
+            return;
+        }
 
         // Acquire read lock to prevent main thread from broadcasting chunk data while we're modifying chunks
-        tickView.acquireChunkReadLock();
+        tickView.acquireChunkReadLock(chunkStripes);
         try {
             for (int i = 0; i < toRun.size(); i++) {
                 final net.minecraft.world.tick.OrderedTick<T> tick = toRun.get(i);
-                final long chunkKey = org.bacon.ruthenium.util.CoordinateUtil.getChunkKey(tick.pos().getX() >> 4, tick.pos().getZ() >> 4);
                 try {
                     ticker.accept(tick.pos(), tick.type());
                 } catch (final Throwable throwable) {
                     LOGGER.error("Failed to run scheduled tick at {} in {}", tick.pos(), world.getRegistryKey().getValue(), throwable);
-                } finally {
-                    if (regionData != null) {
-                        if (blockTicks) {
-                            @SuppressWarnings("unchecked")
-                            final net.minecraft.world.tick.OrderedTick<net.minecraft.block.Block> blockTick =
-                                (net.minecraft.world.tick.OrderedTick<net.minecraft.block.Block>) tick;
-                            regionData.consumeScheduledBlockTick(chunkKey, blockTick);
-                        } else {
-                            @SuppressWarnings("unchecked")
-                            final net.minecraft.world.tick.OrderedTick<net.minecraft.fluid.Fluid> fluidTick =
-                                (net.minecraft.world.tick.OrderedTick<net.minecraft.fluid.Fluid>) tick;
-                            regionData.consumeScheduledFluidTick(chunkKey, fluidTick);
-                        }
-                    }
                 }
             }
         } finally {
-            tickView.releaseChunkReadLock();
+            tickView.releaseChunkReadLock(chunkStripes);
         }
     }
 
-    private static <T> long[] resolveScheduledChunkCandidates(final long[] chunkSnapshot,
-                                                              final Object schedulerMonitor,
-                                                              final it.unimi.dsi.fastutil.longs.Long2ObjectMap<net.minecraft.world.tick.ChunkTickScheduler<T>> byChunk,
-                                                              final RegionizedWorldData regionData,
-                                                              final boolean blockTicks) {
-        if (regionData == null || byChunk.isEmpty() || chunkSnapshot.length == 0) {
-            return chunkSnapshot;
+    /**
+     * Samples random tick positions for an oversized region on idle workers when parallel random
+     * ticking is enabled. The result is indexed like the chunk loop's offsets from {@code cursor}.
+     *
+     * @return planned candidates per chunk, or {@code null} to let every chunk sample itself
+     */
+    private int[][] planRandomTicks(final ServerWorld world, final RegionizedWorldData tickView,
+                                    final ServerChunkManager chunkManager, final long[] chunkSnapshot,
+                                    final int cursor, final int randomTickSpeed) {
+        final int totalChunks = chunkSnapshot.length;
+        if (!this.parallelRandomTicks || randomTickSpeed <= 0 || totalChunks < this.parallelRandomTickMinChunks
+            || this.scheduler.getActiveThreadCount() < 2) {
+            return null;
         }
-
-        final LongSet regionChunks = new LongOpenHashSet(chunkSnapshot.length);
-        for (final long chunkKey : chunkSnapshot) {
-            regionChunks.add(chunkKey);
-        }
-        synchronized (schedulerMonitor) {
-            for (final it.unimi.dsi.fastutil.longs.Long2ObjectMap.Entry<net.minecraft.world.tick.ChunkTickScheduler<T>> entry
-                : byChunk.long2ObjectEntrySet()) {
-                final long schedulerChunkKey = entry.getLongKey();
-                final int chunkX = net.minecraft.util.math.ChunkPos.getPackedX(schedulerChunkKey);
-                final int chunkZ = net.minecraft.util.math.ChunkPos.getPackedZ(schedulerChunkKey);
-                final long chunkKey = org.bacon.ruthenium.util.CoordinateUtil.getChunkKey(chunkX, chunkZ);
-                if (!regionChunks.contains(chunkKey)) {
-                    continue;
-                }
-                final net.minecraft.world.tick.ChunkTickScheduler<T> scheduler = entry.getValue();
-                final boolean hasTicks = scheduler != null && scheduler.peekNextTick() != null;
-                if (blockTicks) {
-                    regionData.mirrorScheduledBlockTickChunk(chunkKey, hasTicks);
-                } else {
-                    regionData.mirrorScheduledFluidTickChunk(chunkKey, hasTicks);
-                }
+        final WorldChunk[] chunks = new WorldChunk[totalChunks];
+        for (int offset = 0; offset < totalChunks; ++offset) {
+            final int i = cursor + offset < totalChunks ? cursor + offset : (cursor + offset) - totalChunks;
+            final int chunkX = CoordinateUtil.getChunkX(chunkSnapshot[i]);
+            final int chunkZ = CoordinateUtil.getChunkZ(chunkSnapshot[i]);
+            if (tickView.shouldTickBlocksInChunk(chunkX, chunkZ)) {
+                chunks[offset] = chunkManager.getWorldChunk(chunkX, chunkZ);
             }
         }
-
-        final LongSet mirrored = blockTicks
-            ? regionData.snapshotScheduledBlockTickChunks()
-            : regionData.snapshotScheduledFluidTickChunks();
-        if (mirrored.isEmpty()) {
-            return chunkSnapshot;
-        }
-        return mirrored.toLongArray();
+        return ParallelRandomTicker.plan(this.scheduler, chunks, randomTickSpeed, world.getRandom().nextLong(),
+            RANDOM_TICK_PLAN_GROUP_CHUNKS);
     }
 
     private void tickMobSpawning(final ServerWorld world,
@@ -1188,18 +1445,8 @@ public final class TickRegionScheduler {
             return;
         }
 
-        final LongSet regionChunks = new LongOpenHashSet(chunkSnapshot.length);
-        for (final long chunkKey : chunkSnapshot) {
-            regionChunks.add(chunkKey);
-        }
-        final List<Entity> regionEntities = new ArrayList<>();
-        for (final Entity entity : world.iterateEntities()) {
-            final ChunkPos pos = entity.getChunkPos();
-            final long chunkKey = CoordinateUtil.getChunkKey(pos.x, pos.z);
-            if (regionChunks.contains(chunkKey)) {
-                regionEntities.add(entity);
-            }
-        }
+        // The region entity index only holds entities inside this region's chunks
+        final List<Entity> regionEntities = worldData.snapshotEntities();
 
         final SpawnDensityCapper densityCapper =
             new SpawnDensityCapper(((ServerChunkManagerAccessor)chunkManager).ruthenium$getChunkLoadingManager());
@@ -1245,8 +1492,10 @@ public final class TickRegionScheduler {
         int transferred = 0;
         boolean guardStoppedTasks = false;
 
+        final long chunkStripes = tickView == null ? 0L
+            : tickView.getChunkStripeMask(region.getOwnedSectionsUnsynchronised());
         if (tickView != null) {
-            tickView.acquireChunkReadLock();
+            tickView.acquireChunkReadLock(chunkStripes);
         }
         try {
             while (true) {
@@ -1275,7 +1524,7 @@ public final class TickRegionScheduler {
             }
         } finally {
             if (tickView != null) {
-                tickView.releaseChunkReadLock();
+                tickView.releaseChunkReadLock(chunkStripes);
             }
         }
         if (guardStoppedTasks) {
@@ -1676,13 +1925,12 @@ public final class TickRegionScheduler {
 
     /**
      * Handle for scheduling and managing a region's tick lifecycle.
-     * Extends SchedulableTick to integrate with SchedulerThreadPool.
+     * Extends SchedulableTick to integrate with RegionTickThreadPool.
      *
      * Following Folia's pattern where the handle is created with DEADLINE_NOT_SET
      * and then setInitialStart() is called before scheduling.
      */
-    @SuppressWarnings("deprecation")
-    public static final class RegionScheduleHandle extends SchedulerThreadPool.SchedulableTick {
+    public static final class RegionScheduleHandle extends RegionTickThreadPool.SchedulableTick {
 
         private final TickRegionScheduler scheduler;
         private final RegionTickData data;
@@ -1690,6 +1938,9 @@ public final class TickRegionScheduler {
         private final AtomicBoolean cancelled = new AtomicBoolean();
         private final AtomicBoolean currentlyTicking = new AtomicBoolean();
         private long lastTickStart = DEADLINE_NOT_SET;
+        // Written on the ticking worker, read by the pool under its lock once the tick is requeued
+        private int backlogTicks;
+        private double cpuShare;
         private final RegionTickStats tickStats = new RegionTickStats();
         private final Schedule tickSchedule;
 
@@ -1735,6 +1986,8 @@ public final class TickRegionScheduler {
 
         public void copyStateFrom(final RegionScheduleHandle other) {
             this.lastTickStart = other.lastTickStart;
+            this.backlogTicks = other.backlogTicks;
+            this.cpuShare = other.cpuShare;
             this.tickStats.copyFrom(other.tickStats);
             // Copy scheduled start - updateScheduledStartInternal also sets tickSchedule.lastPeriod correctly
             final long otherScheduledStart = other.getScheduledStart();
@@ -1825,6 +2078,7 @@ public final class TickRegionScheduler {
             }
 
             final long tickStart = System.nanoTime();
+            final long scheduledStart = this.getScheduledStart();
             // If this is the first tick (never ticked before), use 1; otherwise calculate periods ahead
             final int tickCount = this.lastTickStart == DEADLINE_NOT_SET
                 ? 1 : Math.max(1, this.tickSchedule.getPeriodsAhead(TICK_INTERVAL_NANOS, tickStart));
@@ -1925,9 +2179,17 @@ public final class TickRegionScheduler {
                 return true;
             }
 
+            final long previousTickStart = this.lastTickStart;
             this.lastTickStart = tickStart;
             final long duration = Math.max(0L, tickEnd - tickStart);
             this.tickStats.recordTickDuration(duration);
+            if (scheduledStart != DEADLINE_NOT_SET) {
+                this.tickStats.recordSchedulingDelay(Math.max(0L, tickStart - scheduledStart));
+            }
+            this.backlogTicks = tickCount - 1;
+            final long period = previousTickStart == DEADLINE_NOT_SET
+                ? TICK_INTERVAL_NANOS : Math.max(TICK_INTERVAL_NANOS, tickStart - previousTickStart);
+            this.cpuShare += DispatchPolicy.CPU_SHARE_SMOOTHING * ((double)duration / (double)period - this.cpuShare);
             RegionDebug.log(RegionDebug.LogCategory.SCHEDULER,
                 "Tick end region {}: {} ms", this.region.id, (duration / 1_000_000.0D));
 
@@ -2051,6 +2313,15 @@ public final class TickRegionScheduler {
             return this.tickStats;
         }
 
+        @Override
+        protected long getDispatchPriority() {
+            final DispatchPolicy policy = this.scheduler == null ? null : this.scheduler.dispatchPolicy;
+            if (policy == null) {
+                return this.getScheduledStart();
+            }
+            return policy.priority(this.getScheduledStart(), this.backlogTicks, this.cpuShare);
+        }
+
         private void updateScheduledStartInternal(final long scheduledStart) {
             this.setScheduledStart(scheduledStart);
             if (scheduledStart == DEADLINE_NOT_SET) {
@@ -2147,4 +2418,64 @@ public final class TickRegionScheduler {
             return this.logRedstoneTrace;
         }
     }
+
+    /**
+     * Orders due region ticks in the worker pool. Lower priorities run first; the base priority is
+     * the scheduled start, so with no backlog weighting and no budget this is plain
+     * earliest-deadline-first. Made package-visible for test access.
+     */
+    static final class DispatchPolicy {
+
+        // Regions over budget queue behind any in-budget region that became due within this window
+        static final long OVER_BUDGET_DEMOTION_NANOS = TimeUnit.MINUTES.toNanos(1L);
+        // Bounds the boost so it can never outweigh the over-budget demotion
+        static final int MAX_BOOSTED_BACKLOG_TICKS = 20;
+        // Weight of the newest sample in the per-region CPU share average
+        static final double CPU_SHARE_SMOOTHING = 0.2D;
+
+        private final boolean weightBacklog;
+        private final double backlogWeight;
+        private final double cpuBudget;
+
+        private DispatchPolicy(final boolean weightBacklog, final double backlogWeight, final double cpuBudget) {
+            this.weightBacklog = weightBacklog;
+            this.backlogWeight = backlogWeight;
+            this.cpuBudget = cpuBudget;
+        }
+
+        static DispatchPolicy fromConfig(final RutheniumConfig config) {
+            final RutheniumConfig validated = Objects.requireNonNull(config, "config").validated();
+            return new DispatchPolicy(
+                "backlog".equals(validated.scheduler.schedulingPolicy),
+                validated.scheduler.backlogWeight,
+                validated.scheduler.regionCpuBudgetPercent / 100.0D
+            );
+        }
+
+        /**
+         * @param scheduledStart start the region tick was scheduled for
+         * @param backlogTicks   catch-up ticks the region's last tick had to run
+         * @param cpuShare       smoothed share of one worker the region has been using
+         * @return dispatch priority
+         */
+        long priority(final long scheduledStart, final int backlogTicks, final double cpuShare) {
+            long priority = scheduledStart;
+            if (this.weightBacklog && backlogTicks > 0) {
+                final int boosted = Math.min(backlogTicks, MAX_BOOSTED_BACKLOG_TICKS);
+                priority -= (long)(boosted * this.backlogWeight * TICK_INTERVAL_NANOS);
+            }
+            if (this.cpuBudget > 0.0D && cpuShare > this.cpuBudget) {
+                priority += OVER_BUDGET_DEMOTION_NANOS;
+            }
+            return priority;
+        }
+
+        boolean weightBacklog() {
+            return this.weightBacklog;
+        }
+
+        double cpuBudget() {
+            return this.cpuBudget;
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package org.bacon.ruthenium.world;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Players a region's entity trackers are re-checked against during one tracker tick: the region's
+ * own players plus every listener met so far that belongs elsewhere. Built once per tick and
+ * shared by every tracker whose entity changed section, so listeners are merged by identity in
+ * constant time instead of being searched for in the player list.
+ *
+ * @param <P> player type
+ */
+final class TrackingCandidates<P> {
+
+    private final List<P> candidates;
+    private final ReferenceOpenHashSet<P> seen;
+
+    /**
+     * Starts from the region's players.
+     *
+     * @param regionPlayers players of the region; copied, no duplicates expected
+     */
+    TrackingCandidates(final List<P> regionPlayers) {
+        this.candidates = new ArrayList<>(regionPlayers);
+        this.seen = new ReferenceOpenHashSet<>(regionPlayers);
+    }
+
+    /**
+     * Adds a tracker listener unless it is already a candidate. Listeners that left the region
+     * still need their tracking dropped once out of range.
+     *
+     * @param player listening player
+     */
+    void addListener(final P player) {
+        if (this.seen.add(player)) {
+            this.candidates.add(player);
+        }
+    }
+
+    /**
+     * Returns the candidates in insertion order. The view grows with later listeners.
+     *
+     * @return unmodifiable view of the candidates
+     */
+    List<P> asList() {
+        return Collections.unmodifiableList(this.candidates);
+    }
+}
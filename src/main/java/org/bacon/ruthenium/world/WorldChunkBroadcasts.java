@@ -0,0 +1,27 @@
+package org.bacon.ruthenium.world;
+
+import java.util.List;
+import net.minecraft.server.world.ChunkHolder;
+
+/**
+ * Implemented via mixin on {@code ServerChunkManager} so region data can hand chunk holders back to
+ * the world-wide broadcast set, which the orchestrator flushes under the chunk write lock.
+ */
+public interface WorldChunkBroadcasts {
+
+    /**
+     * Queues a chunk holder for the orchestrator's next {@code broadcastUpdates}, bypassing the
+     * routing to the current region's broadcast set.
+     *
+     * @param holder chunk holder with pending block or light deltas
+     */
+    void ruthenium$queueWorldBroadcast(ChunkHolder holder);
+
+    /**
+     * Removes and returns every chunk holder queued on the world-wide broadcast set. Holders
+     * queued afterwards are left for the next drain.
+     *
+     * @return drained holders, empty if none were queued
+     */
+    List<ChunkHolder> ruthenium$drainWorldBroadcasts();
+}
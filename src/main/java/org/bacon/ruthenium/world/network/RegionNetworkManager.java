@@ -1,13 +1,14 @@
 package org.bacon.ruthenium.world.network;
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import net.minecraft.network.packet.Packet;
 import net.minecraft.server.network.ServerPlayNetworkHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -15,6 +16,8 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.ChunkPos;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.bacon.ruthenium.util.MpscRingBuffer;
+import org.bacon.ruthenium.world.NearbyPlayers;
 import org.bacon.ruthenium.world.RegionizedServer;
 import org.bacon.ruthenium.world.RegionizedServerWorld;
 import org.bacon.ruthenium.world.RegionizedWorldData;
@@ -36,11 +39,12 @@ import org.bacon.ruthenium.world.RegionizedWorldData;
 public final class RegionNetworkManager {
 
     private static final Logger LOGGER = LogManager.getLogger(RegionNetworkManager.class);
+    private static final Function<ServerPlayerEntity, PendingPackets> NEW_PENDING_PACKETS = ignored -> new PendingPackets();
 
     /**
      * Pending packets to send to players, keyed by player entity.
      */
-    private final ConcurrentHashMap<ServerPlayerEntity, ConcurrentLinkedQueue<Packet<?>>> pendingPackets =
+    private final ConcurrentHashMap<ServerPlayerEntity, PendingPackets> pendingPackets =
         new ConcurrentHashMap<>();
 
     /**
@@ -166,10 +170,12 @@ public final class RegionNetworkManager {
             return;
         }
 
-        // Queue for later delivery
-        final ConcurrentLinkedQueue<Packet<?>> queue = this.pendingPackets
-            .computeIfAbsent(player, ignored -> new ConcurrentLinkedQueue<>());
-        queue.add(packet);
+        // Queue for later delivery; the plain lookup avoids computeIfAbsent once the buffer exists
+        PendingPackets pending = this.pendingPackets.get(player);
+        if (pending == null) {
+            pending = this.pendingPackets.computeIfAbsent(player, NEW_PENDING_PACKETS);
+        }
+        pending.add(packet);
         this.crossRegionPackets.incrementAndGet();
     }
 
@@ -191,6 +197,10 @@ public final class RegionNetworkManager {
     /**
      * Broadcasts a packet to all players within a certain chunk distance.
      *
+     * <p>Candidates come from the region's {@link NearbyPlayers} bucket for the target chunk when a
+     * tracked area covers {@code distance}; larger distances fall back to scanning the region's
+     * players.</p>
+     *
      * @param worldData the region's world data
      * @param chunkX    center chunk X
      * @param chunkZ    center chunk Z
@@ -205,13 +215,30 @@ public final class RegionNetworkManager {
         Objects.requireNonNull(worldData, "worldData");
         Objects.requireNonNull(packet, "packet");
 
-        for (final ServerPlayerEntity player : worldData.getPlayers()) {
-            final ChunkPos playerChunk = player.getChunkPos();
-            final int dx = Math.abs(playerChunk.x - chunkX);
-            final int dz = Math.abs(playerChunk.z - chunkZ);
-            if (dx <= distance && dz <= distance) {
-                this.queuePacket(player, packet);
+        // One chunk of slack for players that moved since their area was last updated
+        final NearbyPlayers.NearbyMapType type = NearbyPlayers.NearbyMapType.covering(distance + 1);
+        if (type == null) {
+            for (final ServerPlayerEntity player : worldData.getPlayers()) {
+                this.queueIfWithin(player, chunkX, chunkZ, distance, packet);
             }
+            return;
+        }
+        final ReferenceOpenHashSet<ServerPlayerEntity> nearby = worldData.getNearbyPlayers().getPlayersByChunk(chunkX, chunkZ, type);
+        if (nearby == null) {
+            return;
+        }
+        for (final ServerPlayerEntity player : nearby) {
+            this.queueIfWithin(player, chunkX, chunkZ, distance, packet);
+        }
+    }
+
+    private void queueIfWithin(final ServerPlayerEntity player, final int chunkX, final int chunkZ,
+                               final int distance, final Packet<?> packet) {
+        final ChunkPos playerChunk = player.getChunkPos();
+        final int dx = Math.abs(playerChunk.x - chunkX);
+        final int dz = Math.abs(playerChunk.z - chunkZ);
+        if (dx <= distance && dz <= distance) {
+            this.queuePacket(player, packet);
         }
     }
 
@@ -231,21 +258,13 @@ public final class RegionNetworkManager {
      */
     private void flushPendingPackets(final RegionizedWorldData worldData) {
         for (final ServerPlayerEntity player : worldData.getPlayers()) {
-            final Queue<Packet<?>> queue = this.pendingPackets.get(player);
-            if (queue == null || queue.isEmpty()) {
+            final PendingPackets pending = this.pendingPackets.get(player);
+            if (pending == null || pending.isEmpty()) {
                 continue;
             }
 
             final ServerPlayNetworkHandler handler = player.networkHandler;
-            if (handler == null) {
-                queue.clear();
-                continue;
-            }
-
-            Packet<?> packet;
-            while ((packet = queue.poll()) != null) {
-                handler.sendPacket(packet);
-            }
+            pending.drain(handler == null ? ignored -> { } : handler::sendPacket);
         }
     }
 
@@ -392,6 +411,58 @@ public final class RegionNetworkManager {
 
     // ==================== Data Classes ====================
 
+    /**
+     * Per-player packets queued by other threads and flushed in bulk by the player's region
+     * thread. Packets go into a lock-free ring; once it fills, they spill into a locked overflow
+     * list, and every later packet goes there too until the owner drains it, so each producer's
+     * packets are still delivered in order.
+     */
+    private static final class PendingPackets {
+
+        private static final int RING_CAPACITY = 256;
+
+        private final MpscRingBuffer<Packet<?>> ring = new MpscRingBuffer<>(RING_CAPACITY);
+        private final List<Packet<?>> overflow = new ArrayList<>();
+        private volatile boolean overflowing;
+
+        void add(final Packet<?> packet) {
+            if (!this.overflowing && this.ring.offer(packet)) {
+                return;
+            }
+            synchronized (this.overflow) {
+                // Re-checked under the lock: the owner may have drained the overflow since
+                if (this.overflowing || !this.ring.offer(packet)) {
+                    this.overflowing = true;
+                    this.overflow.add(packet);
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return !this.overflowing && this.ring.isEmpty();
+        }
+
+        /**
+         * Must only be called by the owning region thread.
+         */
+        void drain(final Consumer<? super Packet<?>> sink) {
+            if (!this.overflowing) {
+                this.ring.drain(sink);
+                return;
+            }
+            synchronized (this.overflow) {
+                // A producer only spills after its earlier ring packets were published, so
+                // emptying the ring first keeps each producer's packets in order
+                this.ring.drainAll(sink);
+                for (int i = 0, len = this.overflow.size(); i < len; ++i) {
+                    sink.accept(this.overflow.get(i));
+                }
+                this.overflow.clear();
+                this.overflowing = false;
+            }
+        }
+    }
+
     /**
      * Represents a pending player region transfer.
      */
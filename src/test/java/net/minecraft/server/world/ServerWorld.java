@@ -24,6 +24,7 @@ public final class ServerWorld implements RegionizedServerWorld {
     private final TickManager tickManager;
     private ThreadedRegionizer<RegionTickData, RegionTickData.RegionSectionData> regionizer;
     private long time;
+    private volatile RuntimeException chunkStateFailure;
 
     public ServerWorld(final RegistryKey<World> registryKey,
                        final ThreadedRegionizer<RegionTickData, RegionTickData.RegionSectionData> regionizer) {
@@ -77,6 +78,14 @@ public final class ServerWorld implements RegionizedServerWorld {
         return this.tickManager;
     }
 
+    /**
+     * Makes every following chunk state step of this world throw {@code failure}, or succeed again
+     * when {@code null}.
+     */
+    public void setChunkStateFailure(final RuntimeException failure) {
+        this.chunkStateFailure = failure;
+    }
+
     private static final class StubRegionizedWorldData extends RegionizedWorldData {
 
         StubRegionizedWorldData(final ServerWorld world) {
@@ -91,6 +100,10 @@ public final class ServerWorld implements RegionizedServerWorld {
         @Override
         public void populateChunkState(final BooleanSupplier shouldKeepTicking) {
             // no-op for tests; prevents access to chunk manager infrastructure during scheduler tests
+            final RuntimeException failure = this.getWorld().chunkStateFailure;
+            if (failure != null) {
+                throw failure;
+            }
         }
     }
 }
@@ -0,0 +1,31 @@
+package org.bacon.ruthenium.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MetricsRegistry}.
+ */
+class MetricsRegistryTest {
+
+    @Test
+    void failingSourceDoesNotTearScrape() {
+        final MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.register("test-a-good", writer -> writer
+            .family("ruthenium_test_good", OpenMetricsWriter.Type.GAUGE, null)
+            .sample("ruthenium_test_good", 1.0D));
+        registry.register("test-b-bad", writer -> {
+            writer.family("ruthenium_test_bad", OpenMetricsWriter.Type.GAUGE, null);
+            throw new IllegalStateException("boom");
+        });
+        try {
+            final String text = registry.scrape();
+            Assertions.assertTrue(text.contains("ruthenium_test_good 1\n"));
+            Assertions.assertFalse(text.contains("ruthenium_test_bad"));
+            Assertions.assertTrue(text.endsWith("# EOF\n"));
+        } finally {
+            registry.unregister("test-a-good");
+            registry.unregister("test-b-bad");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.bacon.ruthenium.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link OpenMetricsWriter}.
+ */
+class OpenMetricsWriterTest {
+
+    @Test
+    void writesFamiliesSamplesAndTerminator() {
+        final String text = new OpenMetricsWriter()
+            .family("ruthenium_region_ticks", OpenMetricsWriter.Type.COUNTER, "Completed region ticks")
+            .sample("ruthenium_region_ticks_total", 42.0D, "world", "minecraft:overworld", "region", "7")
+            .family("ruthenium_region_mspt", OpenMetricsWriter.Type.SUMMARY, null)
+            .sample("ruthenium_region_mspt", 12.5D, "quantile", "0.99")
+            .finish();
+
+        Assertions.assertEquals(
+            "# TYPE ruthenium_region_ticks counter\n"
+                + "# HELP ruthenium_region_ticks Completed region ticks\n"
+                + "ruthenium_region_ticks_total{world=\"minecraft:overworld\",region=\"7\"} 42\n"
+                + "# TYPE ruthenium_region_mspt summary\n"
+                + "ruthenium_region_mspt{quantile=\"0.99\"} 12.5\n"
+                + "# EOF\n",
+            text);
+    }
+
+    @Test
+    void escapesLabelValuesAndSpecialNumbers() {
+        final String text = new OpenMetricsWriter()
+            .sample("ruthenium_value", Double.NaN, "label", "a\"b\\c\nd")
+            .sample("ruthenium_value", Double.POSITIVE_INFINITY)
+            .finish();
+
+        Assertions.assertEquals(
+            "ruthenium_value{label=\"a\\\"b\\\\c\\nd\"} NaN\n"
+                + "ruthenium_value +Inf\n"
+                + "# EOF\n",
+            text);
+    }
+
+    @Test
+    void rejectsUnpairedLabels() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new OpenMetricsWriter().sample("ruthenium_value", 1.0D, "world"));
+    }
+}
@@ -0,0 +1,93 @@
+package org.bacon.ruthenium.region;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import java.util.Random;
+import org.bacon.ruthenium.util.CoordinateUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RegionOwnershipSnapshot}.
+ */
+class RegionOwnershipSnapshotTest {
+
+    @Test
+    void containsChunkMatchesOwnedChunks() {
+        final LongOpenHashSet owned = new LongOpenHashSet();
+        owned.add(CoordinateUtil.getChunkKey(0, 0));
+        owned.add(CoordinateUtil.getChunkKey(15, 15));
+        owned.add(CoordinateUtil.getChunkKey(-1, -17));
+        final RegionOwnershipSnapshot snapshot = snapshotOf(4, owned);
+
+        Assertions.assertTrue(snapshot.containsChunk(0, 0));
+        Assertions.assertTrue(snapshot.containsChunk(15, 15));
+        Assertions.assertTrue(snapshot.containsChunk(-1, -17));
+        Assertions.assertFalse(snapshot.containsChunk(1, 0));
+        Assertions.assertFalse(snapshot.containsChunk(-1, -1));
+        Assertions.assertFalse(snapshot.containsChunk(1000, 1000));
+        Assertions.assertTrue(snapshot.containsSection(-1, -2));
+        Assertions.assertFalse(snapshot.containsSection(-1, -1));
+        Assertions.assertFalse(snapshot.isCurrent());
+    }
+
+    @Test
+    void radiusChecksMatchBruteForce() {
+        for (final int shift : new int[] {2, 4, 7}) {
+            final Random random = new Random(shift);
+            final LongOpenHashSet owned = new LongOpenHashSet();
+            for (int i = 0; i < 300; ++i) {
+                owned.add(CoordinateUtil.getChunkKey(random.nextInt(160) - 80, random.nextInt(160) - 80));
+            }
+            final RegionOwnershipSnapshot snapshot = snapshotOf(shift, owned);
+            for (int i = 0; i < 2_000; ++i) {
+                final int x = random.nextInt(200) - 100;
+                final int z = random.nextInt(200) - 100;
+                final int radius = random.nextInt(10);
+                Assertions.assertEquals(bruteForce(owned, x, z, radius), snapshot.containsAnyChunk(x, z, radius),
+                    "shift=" + shift + " x=" + x + " z=" + z + " radius=" + radius);
+            }
+        }
+    }
+
+    @Test
+    void emptySnapshotOwnsNothing() {
+        final RegionOwnershipSnapshot snapshot = snapshotOf(4, new LongOpenHashSet());
+        Assertions.assertFalse(snapshot.containsChunk(0, 0));
+        Assertions.assertFalse(snapshot.containsAnyChunk(0, 0, 8));
+    }
+
+    private static boolean bruteForce(final LongOpenHashSet owned, final int x, final int z, final int radius) {
+        for (int dx = -radius; dx <= radius; ++dx) {
+            for (int dz = -radius; dz <= radius; ++dz) {
+                if (owned.contains(CoordinateUtil.getChunkKey(x + dx, z + dz))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static RegionOwnershipSnapshot snapshotOf(final int shift, final LongOpenHashSet chunks) {
+        final int size = 1 << shift;
+        final int words = Math.max(1, size * size / Long.SIZE);
+        final LongOpenHashSet sections = new LongOpenHashSet();
+        chunks.forEach(key -> sections.add(CoordinateUtil.getChunkKey(
+            CoordinateUtil.getChunkX(key) >> shift, CoordinateUtil.getChunkZ(key) >> shift)));
+        final long[] sectionKeys = sections.toLongArray();
+        final long[] sectionChunks = new long[sectionKeys.length * words];
+        for (int i = 0; i < sectionKeys.length; ++i) {
+            final int sectionX = CoordinateUtil.getChunkX(sectionKeys[i]);
+            final int sectionZ = CoordinateUtil.getChunkZ(sectionKeys[i]);
+            for (final long key : chunks) {
+                final int chunkX = CoordinateUtil.getChunkX(key);
+                final int chunkZ = CoordinateUtil.getChunkZ(key);
+                if ((chunkX >> shift) == sectionX && (chunkZ >> shift) == sectionZ) {
+                    final int index = (chunkX & (size - 1)) | ((chunkZ & (size - 1)) << shift);
+                    sectionChunks[i * words + (index >>> 6)] |= 1L << index;
+                }
+            }
+        }
+        return RegionOwnershipSnapshot.build(null, 0L, shift, sectionKeys, sectionChunks,
+            new ThreadedRegionizer.ThreadedRegionSectionData[sectionKeys.length], words);
+    }
+}
@@ -0,0 +1,45 @@
+package org.bacon.ruthenium.region;
+
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RegionRandom}.
+ */
+class RegionRandomTest {
+
+    @Test
+    void matchesLinearCongruentialSequence() {
+        final Random reference = new Random(1234L);
+        final RegionRandom random = new RegionRandom(1234L);
+        for (int i = 0; i < 100; ++i) {
+            Assertions.assertEquals(reference.nextInt(), random.next(32));
+        }
+        Assertions.assertEquals(reference.nextDouble(), random.nextDouble());
+    }
+
+    @Test
+    void splitSeedsAreDeterministicAndSaltDependent() {
+        final RegionRandom first = new RegionRandom(99L);
+        final RegionRandom second = new RegionRandom(99L);
+
+        Assertions.assertEquals(first.deriveSplitSeed(7L), second.deriveSplitSeed(7L));
+        Assertions.assertNotEquals(first.deriveSplitSeed(7L), first.deriveSplitSeed(8L));
+    }
+
+    @Test
+    void mergeIsIndependentOfAbsorbingRegion() {
+        final RegionRandom left = new RegionRandom(1L);
+        final RegionRandom right = new RegionRandom(2L);
+        final RegionRandom leftCopy = new RegionRandom(0L);
+        final RegionRandom rightCopy = new RegionRandom(0L);
+        leftCopy.copyFrom(left);
+        rightCopy.copyFrom(right);
+
+        left.mergeFrom(right);
+        rightCopy.mergeFrom(leftCopy);
+
+        Assertions.assertEquals(left.getState(), rightCopy.getState());
+    }
+}
@@ -0,0 +1,105 @@
+package org.bacon.ruthenium.region;
+
+import java.util.Set;
+import org.bacon.ruthenium.util.CoordinateUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RegionScheduledTickQueue}.
+ */
+class RegionScheduledTickQueueTest {
+
+    @Test
+    void pollDueChunksReturnsDueChunksInTriggerOrder() {
+        final RegionScheduledTickQueue queue = new RegionScheduledTickQueue();
+        queue.schedule(0, 0, 30L);
+        queue.schedule(1, 0, 10L);
+        queue.schedule(2, 0, 20L);
+        queue.schedule(3, 0, 50L);
+
+        Assertions.assertEquals(10L, queue.peekNextTriggerTick());
+        Assertions.assertArrayEquals(new long[] {
+            CoordinateUtil.getChunkKey(1, 0),
+            CoordinateUtil.getChunkKey(2, 0),
+            CoordinateUtil.getChunkKey(0, 0)
+        }, queue.pollDueChunks(30L));
+        Assertions.assertEquals(1, queue.size());
+        Assertions.assertEquals(0, queue.pollDueChunks(49L).length);
+    }
+
+    @Test
+    void scheduleKeepsEarliestTriggerPerChunk() {
+        final RegionScheduledTickQueue queue = new RegionScheduledTickQueue();
+        queue.schedule(5, 5, 40L);
+        queue.schedule(5, 5, 60L);
+        queue.schedule(5, 5, 15L);
+
+        Assertions.assertEquals(1, queue.size());
+        Assertions.assertEquals(15L, queue.getTriggerTick(5, 5));
+        Assertions.assertArrayEquals(new long[] {CoordinateUtil.getChunkKey(5, 5)}, queue.pollDueChunks(100L));
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertEquals(Long.MAX_VALUE, queue.peekNextTriggerTick());
+    }
+
+    @Test
+    void removedChunksAreNotReturned() {
+        final RegionScheduledTickQueue queue = new RegionScheduledTickQueue();
+        queue.schedule(0, 0, 1L);
+        queue.schedule(1, 1, 2L);
+
+        Assertions.assertEquals(1L, queue.remove(0, 0));
+        Assertions.assertEquals(Long.MAX_VALUE, queue.remove(0, 0));
+        Assertions.assertArrayEquals(new long[] {CoordinateUtil.getChunkKey(1, 1)}, queue.pollDueChunks(5L));
+    }
+
+    @Test
+    void repeatedReschedulingStaysConsistent() {
+        final RegionScheduledTickQueue queue = new RegionScheduledTickQueue();
+        for (int round = 0; round < 1000; ++round) {
+            queue.schedule(round & 7, 0, 10_000L - round);
+        }
+
+        Assertions.assertEquals(8, queue.size());
+        final long[] due = queue.pollDueChunks(Long.MAX_VALUE);
+        Assertions.assertEquals(8, due.length);
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void absorbMovesChunksBetweenQueues() {
+        final RegionScheduledTickQueue source = new RegionScheduledTickQueue();
+        final RegionScheduledTickQueue target = new RegionScheduledTickQueue();
+        source.schedule(0, 0, 5L);
+        source.schedule(16, 0, 7L);
+        target.schedule(0, 0, 9L);
+
+        target.absorb(source);
+
+        Assertions.assertTrue(source.isEmpty());
+        Assertions.assertEquals(5L, target.getTriggerTick(0, 0));
+        Assertions.assertEquals(7L, target.getTriggerTick(16, 0));
+    }
+
+    @Test
+    void splitForSectionsMovesMatchingChunks() {
+        final RegionScheduledTickQueue queue = new RegionScheduledTickQueue();
+        queue.schedule(0, 0, 1L);
+        queue.schedule(32, 0, 2L);
+        queue.schedule(64, 0, 3L);
+
+        final int sectionShift = 4;
+        final Set<RegionSectionPos> reassignedSections = Set.of(
+            RegionSectionPos.fromChunk(32, 0, sectionShift),
+            RegionSectionPos.fromChunk(64, 0, sectionShift)
+        );
+
+        final RegionScheduledTickQueue split = queue.splitForSections(reassignedSections, sectionShift);
+
+        Assertions.assertTrue(queue.containsChunk(0, 0));
+        Assertions.assertFalse(queue.containsChunk(32, 0));
+        Assertions.assertEquals(2L, split.getTriggerTick(32, 0));
+        Assertions.assertEquals(3L, split.getTriggerTick(64, 0));
+        Assertions.assertArrayEquals(new long[] {CoordinateUtil.getChunkKey(0, 0)}, queue.pollDueChunks(10L));
+    }
+}
@@ -1,6 +1,12 @@
 package org.bacon.ruthenium.region;
 
+import it.unimi.dsi.fastutil.longs.Long2ReferenceOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bacon.ruthenium.util.CoordinateUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -51,4 +57,78 @@ class RegionTaskQueueTest {
         Assertions.assertTrue(moved.containsTask(64, 0));
         Assertions.assertFalse(moved.containsTask(0, 0));
     }
+
+    @Test
+    void distributeBySectionRoutesTasksInOnePass() {
+        final RegionTaskQueue queue = new RegionTaskQueue();
+        final RegionTaskQueue east = new RegionTaskQueue();
+        final RegionTaskQueue west = new RegionTaskQueue();
+        queue.queueChunkTask(0, 0, () -> { });
+        queue.queueChunkTask(32, 0, () -> { });
+        queue.queueChunkTask(-32, 0, () -> { });
+
+        final int sectionShift = 4;
+        final Long2ReferenceOpenHashMap<RegionTaskQueue> targets = new Long2ReferenceOpenHashMap<>();
+        targets.put(CoordinateUtil.getChunkKey(32 >> sectionShift, 0), east);
+        targets.put(CoordinateUtil.getChunkKey(-32 >> sectionShift, 0), west);
+
+        queue.distributeBySection(targets, sectionShift);
+
+        Assertions.assertEquals(1, queue.size());
+        Assertions.assertTrue(queue.containsTask(0, 0));
+        Assertions.assertTrue(east.containsTask(32, 0));
+        Assertions.assertTrue(west.containsTask(-32, 0));
+    }
+
+    @Test
+    void drainChunkTasksPreservesOrderAndHonoursLimit() {
+        final RegionTaskQueue queue = new RegionTaskQueue();
+        for (int i = 0; i < 5; ++i) {
+            queue.queueChunkTask(i, 0, () -> { });
+        }
+
+        final List<Integer> drained = new ArrayList<>();
+        Assertions.assertEquals(3, queue.drainChunkTasks(task -> drained.add(task.chunkX()), 3));
+        Assertions.assertEquals(List.of(0, 1, 2), drained);
+        Assertions.assertEquals(2, queue.drainChunkTasks(task -> drained.add(task.chunkX())));
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4), drained);
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void concurrentProducersLoseNoTasks() throws InterruptedException {
+        final RegionTaskQueue queue = new RegionTaskQueue();
+        final int producers = 8;
+        final int perProducer = 10_000;
+        final AtomicInteger executed = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; ++p) {
+            final int chunkX = p;
+            threads[p] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; ++i) {
+                    queue.queueChunkTask(chunkX, 0, executed::incrementAndGet);
+                }
+            });
+            threads[p].start();
+        }
+        start.countDown();
+
+        int consumed = 0;
+        while (consumed < producers * perProducer) {
+            consumed += queue.drainChunkTasks(task -> task.runnable().run());
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(producers * perProducer, executed.get());
+        Assertions.assertTrue(queue.isEmpty());
+    }
 }
@@ -188,6 +188,44 @@ class ThreadedRegionizerTest {
         Assertions.assertEquals(1, collectRegions(regionizer).size(), "Expected merge after adding a bridge chunk");
     }
 
+    @Test
+    void hotRegionSplitsClustersBridgedOnlyByBufferSections() {
+        final RegionizerConfig config = RegionizerConfig.builder()
+            .emptySectionCreationRadius(1)
+            .mergeRadius(1)
+            .recalculationSectionCount(4)
+            .maxDeadSectionPercent(0.10D)
+            .sectionChunkShift(4)
+            .costSplitMspt(40.0D)
+            .costSplitCheckInterval(1)
+            .build();
+        final TestRegionCallbacks callbacks = new TestRegionCallbacks();
+        final ThreadedRegionizer<TestRegionData, TestSectionData> regionizer =
+            new ThreadedRegionizer<>(config, null, callbacks);
+
+        regionizer.addChunk(0, 0);
+        regionizer.addChunk(32, 0);
+        regionizer.addChunk(16, 0);
+        Assertions.assertEquals(1, collectRegions(regionizer).size(), "Bridge chunk should merge both clusters");
+        // the bridge section stays as a buffer of both clusters
+        regionizer.removeChunk(16, 0);
+
+        final ThreadedRegionizer.ThreadedRegion<TestRegionData, TestSectionData> cheap = requireRegion(regionizer, 0, 0);
+        Assertions.assertTrue(cheap.tryMarkTicking(alwaysFalse()));
+        Assertions.assertTrue(cheap.markNotTicking());
+        Assertions.assertEquals(1, collectRegions(regionizer).size(), "Region under the threshold should stay whole");
+
+        callbacks.tickCost = 55.0D;
+        final ThreadedRegionizer.ThreadedRegion<TestRegionData, TestSectionData> hot = requireRegion(regionizer, 0, 0);
+        Assertions.assertTrue(hot.tryMarkTicking(alwaysFalse()));
+        Assertions.assertFalse(hot.markNotTicking(), "Split region should be dead after release");
+
+        Assertions.assertEquals(2, collectRegions(regionizer).size(), "Hot region should split at the buffer section");
+        Assertions.assertNotEquals(requireRegion(regionizer, 0, 0).id, requireRegion(regionizer, 32, 0).id);
+        Assertions.assertEquals(2, callbacks.lastCostRecalculationPieces);
+        Assertions.assertEquals(0.5D, callbacks.lastLargestChunkShare, 1.0E-9D);
+    }
+
     private TestHarness createHarness() {
         final RegionizerConfig config = RegionizerConfig.builder()
             .emptySectionCreationRadius(1)
@@ -251,6 +289,9 @@ class ThreadedRegionizerTest {
         private final Map<Long, Integer> activationCounts = new HashMap<>();
         private int createInvocations;
         private int destroyInvocations;
+        private double tickCost = Double.NaN;
+        private int lastCostRecalculationPieces;
+        private double lastLargestChunkShare;
 
         @Override
         public TestSectionData createNewSectionData(final int sectionX, final int sectionZ, final int sectionShift) {
@@ -303,6 +344,20 @@ class ThreadedRegionizerTest {
             // no-op test hook
         }
 
+        @Override
+        public double getRegionTickCost(
+            final ThreadedRegionizer.ThreadedRegion<TestRegionData, TestSectionData> region) {
+            return this.tickCost;
+        }
+
+        @Override
+        public void onRegionCostRecalculation(
+            final ThreadedRegionizer.ThreadedRegion<TestRegionData, TestSectionData> region,
+            final double costMspt, final int pieces, final double largestChunkShare) {
+            this.lastCostRecalculationPieces = pieces;
+            this.lastLargestChunkShare = largestChunkShare;
+        }
+
         int getCreateInvocations() {
             return this.createInvocations;
         }
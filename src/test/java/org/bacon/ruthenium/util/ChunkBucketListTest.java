@@ -0,0 +1,118 @@
+package org.bacon.ruthenium.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ChunkBucketList}.
+ */
+class ChunkBucketListTest {
+
+    private static final long CHUNK_A = CoordinateUtil.getChunkKey(0, 0);
+    private static final long CHUNK_B = CoordinateUtil.getChunkKey(1, 0);
+
+    private static final class FakeTicker {
+        private final String id;
+        private boolean removed;
+
+        private FakeTicker(final String id) {
+            this.id = id;
+        }
+    }
+
+    @Test
+    void processAndCompactSkipsRejectedChunksAndDropsRemoved() {
+        final ChunkBucketList<FakeTicker> list = new ChunkBucketList<>();
+        final FakeTicker a1 = new FakeTicker("a1");
+        final FakeTicker a2 = new FakeTicker("a2");
+        final FakeTicker a3 = new FakeTicker("a3");
+        final FakeTicker b1 = new FakeTicker("b1");
+        final FakeTicker b2 = new FakeTicker("b2");
+        list.add(CHUNK_A, a1);
+        list.add(CHUNK_A, a2);
+        list.add(CHUNK_A, a3);
+        list.add(CHUNK_B, b1);
+        list.add(CHUNK_B, b2);
+        a2.removed = true;
+        b1.removed = true;
+
+        final List<String> ticked = new ArrayList<>();
+        final List<String> dropped = new ArrayList<>();
+        final int removedCount = list.processAndCompact(
+            chunkKey -> chunkKey == CHUNK_A,
+            ticker -> ticker.removed,
+            ticker -> ticked.add(ticker.id),
+            ticker -> dropped.add(ticker.id)
+        );
+
+        Assertions.assertEquals(2, removedCount);
+        Assertions.assertEquals(List.of("a1", "a3"), ticked);
+        Assertions.assertEquals(List.of("a2", "b1"), dropped);
+        Assertions.assertEquals(3, list.size());
+
+        final List<String> remaining = new ArrayList<>();
+        list.forEach(ticker -> remaining.add(ticker.id));
+        Assertions.assertEquals(List.of("a1", "a3", "b2"), remaining);
+    }
+
+    @Test
+    void emptiedBucketsAreDropped() {
+        final ChunkBucketList<FakeTicker> list = new ChunkBucketList<>();
+        for (int i = 0; i < 10_000; ++i) {
+            final FakeTicker ticker = new FakeTicker("t" + i);
+            ticker.removed = true;
+            list.add(i % 2 == 0 ? CHUNK_A : CHUNK_B, ticker);
+        }
+
+        Assertions.assertEquals(10_000, list.processAndCompact(key -> true, ticker -> ticker.removed,
+            ticker -> Assertions.fail("Removed tickers must not run"), ticker -> { }));
+        Assertions.assertTrue(list.isEmpty());
+        Assertions.assertEquals(0, list.bucketCount());
+    }
+
+    @Test
+    void throwingActionKeepsUnvisitedElements() {
+        final ChunkBucketList<FakeTicker> list = new ChunkBucketList<>();
+        final FakeTicker removed = new FakeTicker("removed");
+        removed.removed = true;
+        list.add(CHUNK_A, removed);
+        list.add(CHUNK_A, new FakeTicker("boom"));
+        list.add(CHUNK_A, new FakeTicker("after"));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> list.processAndCompact(key -> true,
+            ticker -> ticker.removed,
+            ticker -> {
+                if (ticker.id.equals("boom")) {
+                    throw new IllegalStateException();
+                }
+            },
+            ticker -> { }));
+
+        final List<String> remaining = new ArrayList<>();
+        list.forEach(ticker -> remaining.add(ticker.id));
+        Assertions.assertEquals(List.of("boom", "after"), remaining);
+        Assertions.assertEquals(2, list.size());
+    }
+
+    @Test
+    void distributeAndAbsorbMoveWholeBuckets() {
+        final ChunkBucketList<FakeTicker> source = new ChunkBucketList<>();
+        final ChunkBucketList<FakeTicker> target = new ChunkBucketList<>();
+        source.add(CHUNK_A, new FakeTicker("a"));
+        source.add(CHUNK_B, new FakeTicker("b1"));
+        source.add(CHUNK_B, new FakeTicker("b2"));
+
+        source.distributeByChunk(chunkKey -> chunkKey == CHUNK_B ? target : null);
+
+        Assertions.assertEquals(1, source.size());
+        Assertions.assertEquals(2, target.size());
+
+        target.absorb(source);
+
+        Assertions.assertTrue(source.isEmpty());
+        Assertions.assertEquals(3, target.size());
+        Assertions.assertEquals(2, target.bucketCount());
+    }
+}
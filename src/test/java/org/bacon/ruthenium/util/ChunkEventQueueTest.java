@@ -0,0 +1,125 @@
+package org.bacon.ruthenium.util;
+
+import it.unimi.dsi.fastutil.Hash;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ChunkEventQueue}.
+ */
+class ChunkEventQueueTest {
+
+    private static final long CHUNK_A = CoordinateUtil.getChunkKey(0, 0);
+    private static final long CHUNK_B = CoordinateUtil.getChunkKey(1, 0);
+
+    private record FakeEvent(long chunkKey, int id) {
+    }
+
+    private static final Hash.Strategy<FakeEvent> STRATEGY = new Hash.Strategy<>() {
+        @Override
+        public int hashCode(final FakeEvent event) {
+            return Objects.hashCode(event);
+        }
+
+        @Override
+        public boolean equals(final FakeEvent a, final FakeEvent b) {
+            return Objects.equals(a, b);
+        }
+    };
+
+    private static ChunkEventQueue<FakeEvent> newQueue() {
+        return new ChunkEventQueue<>(STRATEGY, FakeEvent::chunkKey);
+    }
+
+    @Test
+    void pushDropsDuplicatesUntilRun() {
+        final ChunkEventQueue<FakeEvent> queue = newQueue();
+        Assertions.assertTrue(queue.push(new FakeEvent(CHUNK_A, 1)));
+        Assertions.assertFalse(queue.push(new FakeEvent(CHUNK_A, 1)));
+        Assertions.assertTrue(queue.push(new FakeEvent(CHUNK_A, 2)));
+        Assertions.assertEquals(2, queue.size());
+
+        Assertions.assertEquals(2, queue.drain(chunkKey -> true, event -> { }));
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertTrue(queue.push(new FakeEvent(CHUNK_A, 1)));
+    }
+
+    @Test
+    void drainRunsChainedEventsInOrder() {
+        final ChunkEventQueue<FakeEvent> queue = newQueue();
+        queue.push(new FakeEvent(CHUNK_A, 0));
+        final List<Integer> ran = new ArrayList<>();
+
+        final int count = queue.drain(chunkKey -> true, event -> {
+            ran.add(event.id());
+            if (event.id() < 4) {
+                queue.push(new FakeEvent(CHUNK_A, event.id() + 1));
+            }
+        });
+
+        Assertions.assertEquals(5, count);
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4), ran);
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void eventsOfUnreadyChunksParkUntilReady() {
+        final ChunkEventQueue<FakeEvent> queue = newQueue();
+        queue.push(new FakeEvent(CHUNK_A, 1));
+        queue.push(new FakeEvent(CHUNK_B, 2));
+        queue.push(new FakeEvent(CHUNK_B, 3));
+        final List<Integer> ran = new ArrayList<>();
+        final int[] checks = new int[1];
+
+        queue.drain(chunkKey -> {
+            ++checks[0];
+            return chunkKey == CHUNK_A;
+        }, event -> ran.add(event.id()));
+        Assertions.assertEquals(List.of(1), ran);
+        Assertions.assertEquals(2, queue.parkedSize());
+        Assertions.assertFalse(queue.push(new FakeEvent(CHUNK_B, 2)));
+
+        checks[0] = 0;
+        queue.drain(chunkKey -> {
+            ++checks[0];
+            return false;
+        }, event -> ran.add(event.id()));
+        Assertions.assertEquals(1, checks[0]);
+        Assertions.assertEquals(2, queue.parkedSize());
+
+        queue.drain(chunkKey -> true, event -> ran.add(event.id()));
+        Assertions.assertEquals(List.of(1, 2, 3), ran);
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void absorbAndDistributeMoveQueuedAndParkedEvents() {
+        final ChunkEventQueue<FakeEvent> source = newQueue();
+        source.push(new FakeEvent(CHUNK_B, 1));
+        source.drain(chunkKey -> false, event -> { });
+        source.push(new FakeEvent(CHUNK_A, 2));
+        source.push(new FakeEvent(CHUNK_B, 3));
+
+        final ChunkEventQueue<FakeEvent> merged = newQueue();
+        merged.push(new FakeEvent(CHUNK_A, 2));
+        merged.absorb(source);
+        Assertions.assertTrue(source.isEmpty());
+        Assertions.assertEquals(3, merged.size());
+        Assertions.assertEquals(1, merged.parkedSize());
+
+        final ChunkEventQueue<FakeEvent> targetA = newQueue();
+        final ChunkEventQueue<FakeEvent> targetB = newQueue();
+        merged.distributeByChunk(chunkKey -> chunkKey == CHUNK_A ? targetA : targetB);
+        Assertions.assertTrue(merged.isEmpty());
+        Assertions.assertEquals(1, targetA.size());
+        Assertions.assertEquals(2, targetB.size());
+        Assertions.assertEquals(1, targetB.parkedSize());
+
+        final List<Integer> ran = new ArrayList<>();
+        targetB.drain(chunkKey -> true, event -> ran.add(event.id()));
+        Assertions.assertEquals(List.of(3, 1), ran);
+    }
+}
@@ -0,0 +1,53 @@
+package org.bacon.ruthenium.util;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link FrozenLongSet}.
+ */
+class FrozenLongSetTest {
+
+    @Test
+    void containsMatchesSourceSet() {
+        final Random random = new Random(42L);
+        final LongOpenHashSet source = new LongOpenHashSet();
+        for (int i = 0; i < 5_000; ++i) {
+            source.add(CoordinateUtil.getChunkKey(random.nextInt(512) - 256, random.nextInt(512) - 256));
+        }
+        final FrozenLongSet frozen = FrozenLongSet.copyOf(source);
+
+        Assertions.assertEquals(source.size(), frozen.size());
+        for (int x = -260; x < 260; ++x) {
+            for (int z = -260; z < 260; z += 7) {
+                final long key = CoordinateUtil.getChunkKey(x, z);
+                Assertions.assertEquals(source.contains(key), frozen.contains(key), "Mismatch for " + x + "," + z);
+            }
+        }
+    }
+
+    @Test
+    void zeroKeyIsTrackedSeparately() {
+        final FrozenLongSet withoutZero = FrozenLongSet.copyOf(LongArrayList.of(1L, 2L));
+        Assertions.assertFalse(withoutZero.contains(0L));
+
+        final FrozenLongSet withZero = FrozenLongSet.copyOf(LongArrayList.of(0L, 0L, 5L));
+        Assertions.assertTrue(withZero.contains(0L));
+        Assertions.assertEquals(2, withZero.size());
+
+        final long[] keys = withZero.toLongArray();
+        Arrays.sort(keys);
+        Assertions.assertArrayEquals(new long[] {0L, 5L}, keys);
+    }
+
+    @Test
+    void emptyCopyReturnsSharedInstance() {
+        Assertions.assertSame(FrozenLongSet.EMPTY, FrozenLongSet.copyOf(new LongOpenHashSet()));
+        Assertions.assertFalse(FrozenLongSet.EMPTY.contains(123L));
+        Assertions.assertTrue(FrozenLongSet.EMPTY.isEmpty());
+    }
+}
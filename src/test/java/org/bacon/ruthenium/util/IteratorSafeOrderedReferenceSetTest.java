@@ -0,0 +1,101 @@
+package org.bacon.ruthenium.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link IteratorSafeOrderedReferenceSet}.
+ */
+class IteratorSafeOrderedReferenceSetTest {
+
+    private static <E> List<E> drain(final IteratorSafeOrderedReferenceSet<E> set) {
+        final List<E> seen = new ArrayList<>();
+        for (int i = set.createRawIterator(); i != -1; i = set.advanceRawIterator(i)) {
+            seen.add(set.rawGet(i));
+        }
+        set.finishRawIterator();
+        return seen;
+    }
+
+    @Test
+    void keepsInsertionOrderAndIdentity() {
+        final IteratorSafeOrderedReferenceSet<String> set = new IteratorSafeOrderedReferenceSet<>(2, 0.2D);
+        final String a = new String("a");
+        final String b = new String("b");
+        final String equalToA = new String("a");
+        Assertions.assertTrue(set.add(a));
+        Assertions.assertTrue(set.add(b));
+        Assertions.assertFalse(set.add(a));
+        Assertions.assertTrue(set.add(equalToA));
+        Assertions.assertEquals(3, set.size());
+
+        final List<String> seen = drain(set);
+        Assertions.assertEquals(3, seen.size());
+        Assertions.assertSame(a, seen.get(0));
+        Assertions.assertSame(b, seen.get(1));
+        Assertions.assertSame(equalToA, seen.get(2));
+    }
+
+    @Test
+    void removalDuringIterationKeepsIndexesStable() {
+        final IteratorSafeOrderedReferenceSet<Integer> set = new IteratorSafeOrderedReferenceSet<>();
+        final List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            final Integer value = Integer.valueOf(i + 1000);
+            values.add(value);
+            set.add(value);
+        }
+
+        final List<Integer> seen = new ArrayList<>();
+        for (int i = set.createRawIterator(); i != -1; i = set.advanceRawIterator(i)) {
+            final Integer value = set.rawGet(i);
+            seen.add(value);
+            // Drop the element itself and its successor; the iteration must skip the latter
+            set.remove(value);
+            final int next = values.indexOf(value) + 1;
+            if (next < values.size()) {
+                set.remove(values.get(next));
+            }
+        }
+        // Nothing is compacted while the iteration is running
+        Assertions.assertEquals(100, set.getListSize());
+        set.finishRawIterator();
+
+        Assertions.assertEquals(50, seen.size());
+        for (int i = 0; i < seen.size(); ++i) {
+            Assertions.assertSame(values.get(i * 2), seen.get(i));
+        }
+        Assertions.assertTrue(set.isEmpty());
+        Assertions.assertEquals(0, set.getListSize());
+    }
+
+    @Test
+    void compactsOnceFragmentedAndKeepsLookups() {
+        final IteratorSafeOrderedReferenceSet<Integer> set = new IteratorSafeOrderedReferenceSet<>();
+        final List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 200; ++i) {
+            final Integer value = Integer.valueOf(i + 1000);
+            values.add(value);
+            set.add(value);
+        }
+        for (int i = 0; i < 200; i += 2) {
+            set.remove(values.get(i));
+        }
+        Assertions.assertEquals(100, set.size());
+        Assertions.assertTrue(set.getListSize() < 200, "listSize=" + set.getListSize());
+
+        final List<Integer> seen = drain(set);
+        Assertions.assertEquals(100, seen.size());
+        for (int i = 0; i < seen.size(); ++i) {
+            Assertions.assertSame(values.get(i * 2 + 1), seen.get(i));
+        }
+        // Moved elements must still be removable by their new index
+        for (int i = 1; i < 200; i += 2) {
+            Assertions.assertTrue(set.remove(values.get(i)));
+        }
+        Assertions.assertTrue(set.isEmpty());
+        Assertions.assertThrows(IllegalStateException.class, set::finishRawIterator);
+    }
+}
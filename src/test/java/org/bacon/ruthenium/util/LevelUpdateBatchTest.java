@@ -0,0 +1,69 @@
+package org.bacon.ruthenium.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LevelUpdateBatch}.
+ */
+class LevelUpdateBatchTest {
+
+    @Test
+    void drainsSortedByIdKeepingPerIdOrder() {
+        final LevelUpdateBatch batch = new LevelUpdateBatch(16);
+        Assertions.assertTrue(batch.offer(1L, 30L, 5, true));
+        Assertions.assertTrue(batch.offer(2L, 10L, 7, false));
+        Assertions.assertTrue(batch.offer(3L, 30L, 2, false));
+        Assertions.assertTrue(batch.offer(4L, 20L, 1, true));
+        Assertions.assertFalse(batch.isEmpty());
+
+        final List<long[]> applied = new ArrayList<>();
+        Assertions.assertEquals(4, batch.drainSorted((sourceId, id, level, decrease) ->
+            applied.add(new long[] {sourceId, id, level, decrease ? 1L : 0L})));
+        Assertions.assertTrue(batch.isEmpty());
+
+        Assertions.assertEquals(4, applied.size());
+        Assertions.assertArrayEquals(new long[] {2L, 10L, 7L, 0L}, applied.get(0));
+        Assertions.assertArrayEquals(new long[] {4L, 20L, 1L, 1L}, applied.get(1));
+        // Same id: queue order wins
+        Assertions.assertArrayEquals(new long[] {1L, 30L, 5L, 1L}, applied.get(2));
+        Assertions.assertArrayEquals(new long[] {3L, 30L, 2L, 0L}, applied.get(3));
+
+        Assertions.assertEquals(0, batch.drainSorted((sourceId, id, level, decrease) -> Assertions.fail("empty")));
+    }
+
+    @Test
+    void offerFailsWhenFull() {
+        final LevelUpdateBatch batch = new LevelUpdateBatch(2);
+        Assertions.assertTrue(batch.offer(0L, 0L, 0, false));
+        Assertions.assertTrue(batch.offer(0L, 1L, 0, false));
+        Assertions.assertFalse(batch.offer(0L, 2L, 0, false));
+        Assertions.assertEquals(2, batch.drainSorted((sourceId, id, level, decrease) -> { }));
+        Assertions.assertTrue(batch.offer(0L, 2L, 0, false));
+    }
+
+    @Test
+    void keepsPerIdOrderAcrossRingWrap() {
+        final LevelUpdateBatch batch = new LevelUpdateBatch(4);
+        Assertions.assertTrue(batch.offer(0L, 0L, 0, false));
+        Assertions.assertTrue(batch.offer(0L, 0L, 0, false));
+        Assertions.assertTrue(batch.offer(0L, 0L, 0, false));
+        Assertions.assertEquals(3, batch.drainSorted((sourceId, id, level, decrease) -> { }));
+
+        // Slots 3, 0, 1, 2: queue order must win over slot order for the shared id
+        Assertions.assertTrue(batch.offer(1L, 9L, 1, false));
+        Assertions.assertTrue(batch.offer(2L, 5L, 2, false));
+        Assertions.assertTrue(batch.offer(3L, 9L, 3, true));
+        Assertions.assertTrue(batch.offer(4L, 9L, 4, false));
+
+        final List<long[]> applied = new ArrayList<>();
+        Assertions.assertEquals(4, batch.drainSorted((sourceId, id, level, decrease) ->
+            applied.add(new long[] {sourceId, id, level, decrease ? 1L : 0L})));
+        Assertions.assertArrayEquals(new long[] {2L, 5L, 2L, 0L}, applied.get(0));
+        Assertions.assertArrayEquals(new long[] {1L, 9L, 1L, 0L}, applied.get(1));
+        Assertions.assertArrayEquals(new long[] {3L, 9L, 3L, 1L}, applied.get(2));
+        Assertions.assertArrayEquals(new long[] {4L, 9L, 4L, 0L}, applied.get(3));
+    }
+}
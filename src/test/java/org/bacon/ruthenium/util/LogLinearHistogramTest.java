@@ -0,0 +1,53 @@
+package org.bacon.ruthenium.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LogLinearHistogram}.
+ */
+class LogLinearHistogramTest {
+
+    @Test
+    void bucketsCoverValuesContiguously() {
+        for (int bucket = 0; bucket < LogLinearHistogram.BUCKET_COUNT - 1; ++bucket) {
+            Assertions.assertEquals(LogLinearHistogram.bucketUpperBound(bucket), LogLinearHistogram.bucketLowerBound(bucket + 1));
+            Assertions.assertEquals(bucket, LogLinearHistogram.bucketFor(LogLinearHistogram.bucketLowerBound(bucket)));
+            Assertions.assertEquals(bucket, LogLinearHistogram.bucketFor(LogLinearHistogram.bucketUpperBound(bucket) - 1L));
+        }
+        Assertions.assertEquals(LogLinearHistogram.BUCKET_COUNT - 1, LogLinearHistogram.bucketFor(Long.MAX_VALUE));
+    }
+
+    @Test
+    void percentilesStayWithinBucketPrecision() {
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+        for (long value = 1L; value <= 1000L; ++value) {
+            histogram.record(value * 1_000L);
+        }
+
+        Assertions.assertEquals(1000L, histogram.getCount());
+        Assertions.assertEquals(1_000_000L, histogram.getMax());
+        Assertions.assertEquals(500_500.0D, histogram.getMean() / 1.0D, 0.0001D);
+        final long p50 = histogram.getValueAtPercentile(50.0D);
+        Assertions.assertTrue(p50 >= 500_000L && p50 <= 500_000L * 9L / 8L, "p50=" + p50);
+        final long p99 = histogram.getValueAtPercentile(99.0D);
+        Assertions.assertTrue(p99 >= 990_000L && p99 <= 1_000_000L, "p99=" + p99);
+        Assertions.assertEquals(1_000_000L, histogram.getValueAtPercentile(100.0D));
+    }
+
+    @Test
+    void addCombinesCountsAndMaximum() {
+        final LogLinearHistogram left = new LogLinearHistogram();
+        final LogLinearHistogram right = new LogLinearHistogram();
+        left.record(10L);
+        right.record(20L);
+        right.record(5_000L);
+
+        left.add(right);
+
+        Assertions.assertEquals(3L, left.getCount());
+        Assertions.assertEquals(5_030L, left.getSum());
+        Assertions.assertEquals(5_000L, left.getMax());
+        Assertions.assertEquals(0L, new LogLinearHistogram().getValueAtPercentile(50.0D));
+    }
+}
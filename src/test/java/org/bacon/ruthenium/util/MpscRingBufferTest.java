@@ -0,0 +1,90 @@
+package org.bacon.ruthenium.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MpscRingBuffer}.
+ */
+class MpscRingBufferTest {
+
+    @Test
+    void capacityRoundsUpToPowerOfTwo() {
+        Assertions.assertEquals(1, new MpscRingBuffer<>(1).capacity());
+        Assertions.assertEquals(8, new MpscRingBuffer<>(5).capacity());
+        Assertions.assertEquals(256, new MpscRingBuffer<>(256).capacity());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(0));
+    }
+
+    @Test
+    void offerFailsWhenFullAndDrainFreesSlots() {
+        final MpscRingBuffer<Integer> ring = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; ++i) {
+            Assertions.assertTrue(ring.offer(i));
+        }
+        Assertions.assertFalse(ring.offer(4));
+
+        final List<Integer> drained = new ArrayList<>();
+        Assertions.assertEquals(4, ring.drain(drained::add));
+        Assertions.assertEquals(List.of(0, 1, 2, 3), drained);
+        Assertions.assertTrue(ring.isEmpty());
+
+        // Wraps around the slot array
+        for (int i = 4; i < 7; ++i) {
+            Assertions.assertTrue(ring.offer(i));
+        }
+        drained.clear();
+        ring.drainAll(drained::add);
+        Assertions.assertEquals(List.of(4, 5, 6), drained);
+    }
+
+    @Test
+    void concurrentProducersKeepTheirOwnOrder() throws InterruptedException {
+        final int producers = 4;
+        final int perProducer = 10_000;
+        final MpscRingBuffer<long[]> ring = new MpscRingBuffer<>(64);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; ++p) {
+            final int producer = p;
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; ++i) {
+                    final long[] element = {producer, i};
+                    while (!ring.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+
+        final int[] next = new int[producers];
+        final int[] total = new int[1];
+        while (total[0] < producers * perProducer) {
+            final int drained = ring.drain(element -> {
+                final int producer = (int)element[0];
+                Assertions.assertEquals(next[producer], (int)element[1]);
+                ++next[producer];
+                ++total[0];
+            });
+            if (drained == 0) {
+                Thread.yield();
+            }
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertTrue(ring.isEmpty());
+    }
+}
@@ -0,0 +1,77 @@
+package org.bacon.ruthenium.world;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.bacon.ruthenium.util.CoordinateUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ChunkAccessStripes}.
+ */
+class ChunkAccessStripesTest {
+
+    @Test
+    void maskForSectionsCoversEverySection() {
+        final LongArrayList sections = new LongArrayList();
+        for (int x = -4; x <= 4; ++x) {
+            sections.add(CoordinateUtil.getChunkKey(x, 3));
+        }
+        final long mask = ChunkAccessStripes.maskForSections(sections.iterator());
+        for (int i = 0; i < sections.size(); ++i) {
+            final long sectionMask = ChunkAccessStripes.maskForSection(sections.getLong(i));
+            Assertions.assertEquals(sectionMask, mask & sectionMask, "Section stripe missing from mask");
+        }
+        Assertions.assertEquals(0L, ChunkAccessStripes.maskForSections(new LongArrayList().iterator()));
+    }
+
+    @Test
+    void writerOnDisjointStripeDoesNotBlockReader() throws InterruptedException {
+        final ChunkAccessStripes stripes = new ChunkAccessStripes();
+        final long readerMask = 1L;
+        final long writerMask = 1L << 5;
+
+        stripes.lockRead(readerMask);
+        final CountDownLatch acquired = new CountDownLatch(1);
+        final Thread writer = new Thread(() -> {
+            stripes.lockWrite(writerMask);
+            try {
+                acquired.countDown();
+            } finally {
+                stripes.unlockWrite(writerMask);
+            }
+        });
+        writer.start();
+        try {
+            Assertions.assertTrue(acquired.await(5L, TimeUnit.SECONDS),
+                "Writer on an unrelated stripe should not wait for the reader");
+        } finally {
+            stripes.unlockRead(readerMask);
+            writer.join();
+        }
+    }
+
+    @Test
+    void writerOnAllStripesWaitsForReader() throws InterruptedException {
+        final ChunkAccessStripes stripes = new ChunkAccessStripes();
+        final long readerMask = 1L << 17;
+        final AtomicBoolean acquired = new AtomicBoolean();
+
+        stripes.lockRead(readerMask);
+        final Thread writer = new Thread(() -> {
+            stripes.lockWrite(ChunkAccessStripes.ALL_STRIPES);
+            acquired.set(true);
+            Assertions.assertTrue(stripes.isWriteLockedByCurrentThread(ChunkAccessStripes.ALL_STRIPES));
+            stripes.unlockWrite(ChunkAccessStripes.ALL_STRIPES);
+        });
+        writer.start();
+        writer.join(100L);
+        Assertions.assertFalse(acquired.get(), "World-wide writer must wait for readers");
+
+        stripes.unlockRead(readerMask);
+        writer.join(5000L);
+        Assertions.assertTrue(acquired.get(), "Writer should proceed once the reader releases");
+    }
+}
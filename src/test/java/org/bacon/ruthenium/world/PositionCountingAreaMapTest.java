@@ -0,0 +1,58 @@
+package org.bacon.ruthenium.world;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PositionCountingAreaMap}.
+ */
+class PositionCountingAreaMapTest {
+
+    @Test
+    void transferToMovesFootprintsAndCounts() {
+        final PositionCountingAreaMap<String> source = new PositionCountingAreaMap<>();
+        final PositionCountingAreaMap<String> target = new PositionCountingAreaMap<>();
+        source.add("a", 0, 0, 2);
+        target.add("b", 3, 0, 2);
+
+        source.transferTo(target);
+
+        Assertions.assertEquals(0, source.getTotalPositions());
+        Assertions.assertTrue(source.getObjects().isEmpty());
+        Assertions.assertEquals(2, target.getObjects().size());
+        Assertions.assertEquals(2, target.getObjectsNear(1, 0));
+        Assertions.assertEquals(1, target.getObjectsNear(-2, 0));
+        Assertions.assertEquals(1, target.getObjectsNear(5, 0));
+        Assertions.assertEquals(5 * 5 + 5 * 5 - 2 * 5, target.getTotalPositions());
+    }
+
+    @Test
+    void transferredCountersUpdateTheirNewMap() {
+        final PositionCountingAreaMap<String> source = new PositionCountingAreaMap<>();
+        final PositionCountingAreaMap<String> target = new PositionCountingAreaMap<>();
+        source.add("a", 0, 0, 1);
+        source.transferTo(target);
+
+        target.update("a", 10, 10, 1);
+        Assertions.assertFalse(target.hasObjectsNear(0, 0));
+        Assertions.assertTrue(target.hasObjectsNear(11, 11));
+        Assertions.assertEquals(0, source.getTotalPositions());
+
+        target.remove("a");
+        Assertions.assertEquals(0, target.getTotalPositions());
+    }
+
+    @Test
+    void duplicateParametersKeepTargetFootprint() {
+        final PositionCountingAreaMap<String> source = new PositionCountingAreaMap<>();
+        final PositionCountingAreaMap<String> target = new PositionCountingAreaMap<>();
+        source.add("a", 0, 0, 1);
+        target.add("a", 20, 20, 1);
+
+        source.transferTo(target);
+
+        Assertions.assertFalse(target.hasObjectsNear(0, 0));
+        Assertions.assertEquals(1, target.getObjectsNear(20, 20));
+        Assertions.assertEquals(9, target.getTotalPositions());
+    }
+}
@@ -0,0 +1,140 @@
+package org.bacon.ruthenium.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RegionChunkRequests}.
+ */
+class RegionChunkRequestsTest {
+
+    private static final int LEVEL = 33;
+
+    @Test
+    void requestKeepsTicketUntilCallbackRan() {
+        final FakeChunkSystem chunkSystem = new FakeChunkSystem();
+        final RegionChunkRequests requests = new RegionChunkRequests(chunkSystem);
+        final List<Chunk> received = new ArrayList<>();
+
+        requests.requestChunk(4, -2, null, received::add);
+        Assertions.assertEquals(0, chunkSystem.ticketsAdded, "tickets are only added by the orchestrator");
+
+        requests.applyTicketChanges();
+        requests.startPendingLoads();
+        Assertions.assertEquals(1, chunkSystem.ticketsAdded);
+        Assertions.assertEquals(1, chunkSystem.loads.size());
+
+        chunkSystem.loads.get(0).complete(null);
+        Assertions.assertEquals(1, chunkSystem.delivered.size(), "the callback is queued once the load finished");
+        Assertions.assertTrue(chunkSystem.deliveredOnRegion.get(0), "a region thread request answers on a region");
+
+        // The region has not run the callback yet, so the chunk must stay ticketed
+        for (int i = 0; i < RegionChunkRequests.TAKE_TIMEOUT_TICKS * 2; ++i) {
+            requests.applyTicketChanges();
+        }
+        Assertions.assertEquals(0, chunkSystem.ticketsRemoved);
+        Assertions.assertEquals(1, requests.ticketCount(4, -2, LEVEL));
+
+        chunkSystem.delivered.get(0).run();
+        Assertions.assertEquals(1, received.size());
+        Assertions.assertNull(received.get(0), "a failed load hands the callback null");
+
+        requests.applyTicketChanges();
+        Assertions.assertEquals(1, chunkSystem.ticketsRemoved);
+        Assertions.assertEquals(0, requests.ticketCount(4, -2, LEVEL));
+    }
+
+    @Test
+    void requestsForOneChunkShareTheTicket() {
+        final FakeChunkSystem chunkSystem = new FakeChunkSystem();
+        final RegionChunkRequests requests = new RegionChunkRequests(chunkSystem);
+
+        requests.requestChunk(0, 0, null, chunk -> { });
+        requests.requestChunk(0, 0, null, chunk -> { });
+        requests.applyTicketChanges();
+        requests.startPendingLoads();
+        Assertions.assertEquals(1, chunkSystem.ticketsAdded);
+        Assertions.assertEquals(2, requests.ticketCount(0, 0, LEVEL));
+
+        chunkSystem.loads.forEach(load -> load.complete(null));
+        chunkSystem.delivered.get(0).run();
+        requests.applyTicketChanges();
+        Assertions.assertEquals(0, chunkSystem.ticketsRemoved, "the second callback still needs the chunk");
+
+        chunkSystem.delivered.get(1).run();
+        requests.applyTicketChanges();
+        Assertions.assertEquals(1, chunkSystem.ticketsRemoved);
+    }
+
+    @Test
+    void prefetchTicketIsDroppedOnceTaken() {
+        final FakeChunkSystem chunkSystem = new FakeChunkSystem();
+        final RegionChunkRequests requests = new RegionChunkRequests(chunkSystem);
+
+        requests.prefetch(2, 2, null);
+        requests.prefetch(2, 2, null);
+        requests.applyTicketChanges();
+        requests.startPendingLoads();
+        Assertions.assertEquals(1, chunkSystem.ticketsAdded, "one prefetch per chunk is in flight");
+        Assertions.assertTrue(chunkSystem.delivered.isEmpty());
+
+        requests.applyTicketChanges();
+        Assertions.assertEquals(0, chunkSystem.ticketsRemoved);
+
+        requests.markTaken(2, 2);
+        requests.applyTicketChanges();
+        Assertions.assertEquals(1, chunkSystem.ticketsRemoved);
+    }
+
+    private static final class FakeChunkSystem implements RegionChunkRequests.ChunkSystem {
+
+        final List<CompletableFuture<Chunk>> loads = new ArrayList<>();
+        final List<Runnable> delivered = new ArrayList<>();
+        final List<Boolean> deliveredOnRegion = new ArrayList<>();
+        int ticketsAdded;
+        int ticketsRemoved;
+
+        @Override
+        public int levelFor(final ChunkStatus status) {
+            return LEVEL;
+        }
+
+        @Override
+        public Chunk getIfPresent(final int chunkX, final int chunkZ, final ChunkStatus status) {
+            return null;
+        }
+
+        @Override
+        public void addTicket(final int chunkX, final int chunkZ, final int level) {
+            ++this.ticketsAdded;
+        }
+
+        @Override
+        public void removeTicket(final int chunkX, final int chunkZ, final int level) {
+            ++this.ticketsRemoved;
+        }
+
+        @Override
+        public CompletableFuture<Chunk> load(final int chunkX, final int chunkZ, final ChunkStatus status) {
+            final CompletableFuture<Chunk> load = new CompletableFuture<>();
+            this.loads.add(load);
+            return load;
+        }
+
+        @Override
+        public boolean isOnRegionThread() {
+            return true;
+        }
+
+        @Override
+        public void deliver(final int chunkX, final int chunkZ, final boolean onRegion, final Runnable task) {
+            this.delivered.add(task);
+            this.deliveredOnRegion.add(onRegion);
+        }
+    }
+}
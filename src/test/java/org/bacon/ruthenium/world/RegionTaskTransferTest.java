@@ -170,7 +170,7 @@ class RegionTaskTransferTest {
 
         @Override
         public RegionTickData.RegionSectionData createNewSectionData(final int sectionX, final int sectionZ, final int sectionShift) {
-            return new RegionTickData.RegionSectionData();
+            return new RegionTickData.RegionSectionData(sectionShift);
         }
 
         @Override
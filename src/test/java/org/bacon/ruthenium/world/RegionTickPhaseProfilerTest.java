@@ -0,0 +1,69 @@
+package org.bacon.ruthenium.world;
+
+import java.util.List;
+import org.bacon.ruthenium.util.LogLinearHistogram;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RegionTickPhaseProfiler}.
+ */
+class RegionTickPhaseProfilerTest {
+
+    @Test
+    void commitTickRecordsAccumulatedPhaseTime() {
+        final RegionTickPhaseProfiler profiler = new RegionTickPhaseProfiler();
+        profiler.add(RegionTickPhaseProfiler.Phase.TASKS, 100L);
+        profiler.add(RegionTickPhaseProfiler.Phase.TASKS, 50L);
+        profiler.add(RegionTickPhaseProfiler.Phase.CHUNK_TICKS, 4_000L);
+        profiler.commitTick();
+
+        Assertions.assertEquals(150L, profiler.copyHistogram(RegionTickPhaseProfiler.Phase.TASKS).getMax());
+        Assertions.assertEquals(4_000L, profiler.copyHistogram(RegionTickPhaseProfiler.Phase.CHUNK_TICKS).getSum());
+
+        final List<RegionTickPhaseProfiler.PhaseSummary> summaries = profiler.summarize();
+        Assertions.assertEquals(RegionTickPhaseProfiler.Phase.values().length, summaries.size());
+        for (final RegionTickPhaseProfiler.PhaseSummary summary : summaries) {
+            Assertions.assertEquals(1L, summary.samples(), "Every phase counts every tick");
+        }
+
+        profiler.commitTick();
+        Assertions.assertEquals(150L, profiler.copyHistogram(RegionTickPhaseProfiler.Phase.TASKS).getSum(),
+            "Accumulators reset after each commit");
+    }
+
+    @Test
+    void mergeFromAddsHistograms() {
+        final RegionTickPhaseProfiler target = new RegionTickPhaseProfiler();
+        final RegionTickPhaseProfiler source = new RegionTickPhaseProfiler();
+        target.add(RegionTickPhaseProfiler.Phase.ENTITIES, 1_000L);
+        target.commitTick();
+        source.add(RegionTickPhaseProfiler.Phase.ENTITIES, 9_000L);
+        source.commitTick();
+
+        target.mergeFrom(source);
+
+        Assertions.assertEquals(2L, target.copyHistogram(RegionTickPhaseProfiler.Phase.ENTITIES).getCount());
+        Assertions.assertEquals(9_000L, target.copyHistogram(RegionTickPhaseProfiler.Phase.ENTITIES).getMax());
+        Assertions.assertEquals(1L, source.copyHistogram(RegionTickPhaseProfiler.Phase.ENTITIES).getCount());
+    }
+
+    @Test
+    void oldWindowsAgeOut() {
+        final RegionTickPhaseProfiler profiler = new RegionTickPhaseProfiler(2);
+        profiler.add(RegionTickPhaseProfiler.Phase.CHUNK_TICKS, 50_000L);
+        profiler.commitTick();
+        profiler.commitTick();
+        // The slow tick moved to the previous window and is still reported
+        Assertions.assertEquals(50_000L, profiler.copyHistogram(RegionTickPhaseProfiler.Phase.CHUNK_TICKS).getMax());
+
+        profiler.add(RegionTickPhaseProfiler.Phase.CHUNK_TICKS, 10L);
+        profiler.commitTick();
+        profiler.add(RegionTickPhaseProfiler.Phase.CHUNK_TICKS, 10L);
+        profiler.commitTick();
+
+        final LogLinearHistogram histogram = profiler.copyHistogram(RegionTickPhaseProfiler.Phase.CHUNK_TICKS);
+        Assertions.assertEquals(2L, histogram.getCount(), "Only the last two windows are reported");
+        Assertions.assertEquals(10L, histogram.getMax(), "The slow tick from two windows ago is gone");
+    }
+}
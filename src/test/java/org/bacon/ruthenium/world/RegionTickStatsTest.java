@@ -44,6 +44,24 @@ class RegionTickStatsTest {
         Assertions.assertEquals(3.0D, snapshot.maxTickMillis(), 0.0001D);
     }
 
+    @Test
+    void tracksSchedulingDelay() {
+        final RegionTickStats stats = new RegionTickStats(2);
+        stats.recordSchedulingDelay(1_000_000L);
+        stats.recordSchedulingDelay(2_000_000L);
+        stats.recordSchedulingDelay(6_000_000L);
+        stats.recordTickDuration(1_000_000L);
+
+        Assertions.assertEquals(4_000_000.0D, stats.getAverageSchedulingDelayNanos(), 0.0001D);
+        // The running total keeps samples that left the window
+        Assertions.assertEquals(9_000_000L, stats.getTotalSchedulingDelayNanos());
+
+        final RegionTickStats.Snapshot snapshot = stats.snapshot();
+        Assertions.assertEquals(4.0D, snapshot.averageSchedulingDelayMillis(), 0.0001D);
+        Assertions.assertEquals(6.0D, snapshot.maxSchedulingDelayMillis(), 0.0001D);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> stats.recordSchedulingDelay(-1L));
+    }
+
     @Test
     void copyReplicatesSampleState() {
         final RegionTickStats source = new RegionTickStats();
@@ -57,4 +75,18 @@ class RegionTickStatsTest {
         Assertions.assertArrayEquals(source.snapshotNanos(), target.snapshotNanos());
         Assertions.assertEquals(source.getAverageTickNanos(), target.getAverageTickNanos());
     }
+
+    @Test
+    void copyRestartsCumulativeDelay() {
+        final RegionTickStats source = new RegionTickStats();
+        source.recordSchedulingDelay(3_000_000L);
+
+        final RegionTickStats child = new RegionTickStats();
+        child.copyFrom(source);
+        Assertions.assertEquals(0L, child.getTotalSchedulingDelayNanos(), "Split children must not repeat the parent's total");
+
+        child.recordSchedulingDelay(1_000_000L);
+        Assertions.assertEquals(1_000_000L, child.getTotalSchedulingDelayNanos());
+        Assertions.assertEquals(3_000_000L, source.getTotalSchedulingDelayNanos());
+    }
 }
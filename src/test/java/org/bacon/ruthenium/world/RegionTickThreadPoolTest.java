@@ -0,0 +1,225 @@
+package org.bacon.ruthenium.world;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RegionTickThreadPool}.
+ */
+class RegionTickThreadPoolTest {
+
+    private static final class CountingTick extends RegionTickThreadPool.SchedulableTick {
+        private final int runs;
+        private final AtomicInteger ran = new AtomicInteger();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+
+        private CountingTick(final int runs) {
+            this.runs = runs;
+            this.setScheduledStart(System.nanoTime());
+        }
+
+        @Override
+        public boolean runTick() {
+            this.threads.add(Thread.currentThread());
+            if (this.ran.incrementAndGet() >= this.runs) {
+                this.done.countDown();
+                return false;
+            }
+            this.setScheduledStart(System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(200L));
+            return true;
+        }
+
+        @Override
+        public boolean hasTasks() {
+            return false;
+        }
+
+        @Override
+        public Boolean runTasks(final BooleanSupplier canContinue) {
+            return Boolean.FALSE;
+        }
+    }
+
+    private static final class OrderedTick extends RegionTickThreadPool.SchedulableTick {
+        private final long priority;
+        private final List<OrderedTick> order;
+        private final CountDownLatch release;
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private OrderedTick(final long scheduledStart, final long priority, final List<OrderedTick> order,
+                            final CountDownLatch release) {
+            this.priority = priority;
+            this.order = order;
+            this.release = release;
+            this.setScheduledStart(scheduledStart);
+        }
+
+        @Override
+        protected long getDispatchPriority() {
+            return this.priority;
+        }
+
+        @Override
+        public boolean runTick() {
+            this.started.countDown();
+            if (this.release != null) {
+                try {
+                    this.release.await(10L, TimeUnit.SECONDS);
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            this.order.add(this);
+            return false;
+        }
+
+        @Override
+        public boolean hasTasks() {
+            return false;
+        }
+
+        @Override
+        public Boolean runTasks(final BooleanSupplier canContinue) {
+            return Boolean.FALSE;
+        }
+    }
+
+    private static RegionTickThreadPool newPool(final int max, final int initial, final int min) {
+        final RegionTickThreadPool pool = new RegionTickThreadPool(max, initial, min, TimeUnit.MILLISECONDS.toNanos(100L), runnable -> {
+            final Thread thread = new Thread(runnable, "test-region-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.start();
+        return pool;
+    }
+
+    @Test
+    void rescheduledTickStaysOnItsWorker() throws InterruptedException {
+        final RegionTickThreadPool pool = newPool(4, 4, 4);
+        try {
+            final CountingTick tick = new CountingTick(20);
+            pool.schedule(tick);
+            Assertions.assertTrue(tick.done.await(10L, TimeUnit.SECONDS));
+            Assertions.assertEquals(20, tick.ran.get());
+            // Only other busy workers may steal, and no other work exists
+            Assertions.assertEquals(1, tick.threads.size());
+        } finally {
+            pool.halt(true, TimeUnit.SECONDS.toNanos(5L));
+        }
+    }
+
+    @Test
+    void dueTasksRunInDispatchPriorityOrder() throws InterruptedException {
+        final RegionTickThreadPool pool = newPool(1, 1, 1);
+        try {
+            final List<OrderedTick> order = Collections.synchronizedList(new ArrayList<>());
+            final CountDownLatch release = new CountDownLatch(1);
+            final long now = System.nanoTime();
+            final OrderedTick blocker = new OrderedTick(now, Long.MIN_VALUE, order, release);
+            pool.schedule(blocker);
+            // Both tasks below are due by the time the single worker is free again
+            Assertions.assertTrue(blocker.started.await(10L, TimeUnit.SECONDS));
+
+            // Earlier deadline, but a worse priority
+            final OrderedTick early = new OrderedTick(now - 2L, 100L, order, null);
+            final OrderedTick boosted = new OrderedTick(now - 1L, 0L, order, null);
+            pool.schedule(early);
+            pool.schedule(boosted);
+            release.countDown();
+
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+            while (order.size() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(1L);
+            }
+            Assertions.assertEquals(List.of(blocker, boosted, early), order);
+        } finally {
+            pool.halt(true, TimeUnit.SECONDS.toNanos(5L));
+        }
+    }
+
+    @Test
+    void runParallelRunsEverySubtaskBeforeReturning() {
+        final RegionTickThreadPool pool = newPool(4, 4, 4);
+        try {
+            final AtomicInteger ran = new AtomicInteger();
+            final Runnable[] subtasks = new Runnable[64];
+            for (int i = 0; i < subtasks.length; ++i) {
+                subtasks[i] = () -> {
+                    Thread.yield();
+                    ran.incrementAndGet();
+                };
+            }
+            pool.runParallel(subtasks);
+            Assertions.assertEquals(subtasks.length, ran.get());
+        } finally {
+            pool.halt(true, TimeUnit.SECONDS.toNanos(5L));
+        }
+    }
+
+    @Test
+    void runParallelRethrowsAfterAllSubtasksFinished() {
+        final RegionTickThreadPool pool = newPool(2, 2, 2);
+        try {
+            final AtomicInteger ran = new AtomicInteger();
+            final Runnable[] subtasks = new Runnable[8];
+            for (int i = 0; i < subtasks.length; ++i) {
+                final int index = i;
+                subtasks[i] = () -> {
+                    ran.incrementAndGet();
+                    if (index == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                };
+            }
+            final CompletionException thrown = Assertions.assertThrows(CompletionException.class, () -> pool.runParallel(subtasks));
+            Assertions.assertInstanceOf(IllegalStateException.class, thrown.getCause());
+            Assertions.assertEquals(subtasks.length, ran.get());
+        } finally {
+            pool.halt(true, TimeUnit.SECONDS.toNanos(5L));
+        }
+    }
+
+    @Test
+    void scheduleRejectsDoubleScheduling() {
+        final RegionTickThreadPool pool = newPool(1, 1, 1);
+        try {
+            final CountingTick tick = new CountingTick(1_000_000);
+            tick.setScheduledStart(System.nanoTime() + TimeUnit.HOURS.toNanos(1L));
+            pool.schedule(tick);
+            Assertions.assertThrows(IllegalStateException.class, () -> pool.schedule(tick));
+            Assertions.assertEquals(Boolean.TRUE, pool.tryRetire(tick));
+            Assertions.assertEquals(0, tick.ran.get());
+            // A retired task is cancelled, not left looking scheduled
+            Assertions.assertThrows(IllegalStateException.class, () -> pool.schedule(tick));
+            Assertions.assertNull(pool.tryRetire(tick));
+        } finally {
+            pool.halt(true, TimeUnit.SECONDS.toNanos(5L));
+        }
+    }
+
+    @Test
+    void idleAdaptivePoolShrinksToMinimum() throws InterruptedException {
+        final RegionTickThreadPool pool = newPool(4, 4, 1);
+        try {
+            final CountingTick tick = new CountingTick(2_000);
+            pool.schedule(tick);
+            Assertions.assertTrue(tick.done.await(30L, TimeUnit.SECONDS));
+            Assertions.assertTrue(pool.isAdaptive());
+            Assertions.assertTrue(pool.getActiveThreadCount() < 4, "active=" + pool.getActiveThreadCount());
+        } finally {
+            pool.halt(true, TimeUnit.SECONDS.toNanos(5L));
+        }
+    }
+}
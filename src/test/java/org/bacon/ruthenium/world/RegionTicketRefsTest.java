@@ -0,0 +1,56 @@
+package org.bacon.ruthenium.world;
+
+import org.bacon.ruthenium.util.CoordinateUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RegionTicketRefs}.
+ */
+class RegionTicketRefsTest {
+
+    @Test
+    void firstAcquireAndLastReleaseToggleTheTicket() {
+        final RegionTicketRefs refs = new RegionTicketRefs();
+        final long chunk = CoordinateUtil.getChunkKey(3, -7);
+
+        Assertions.assertTrue(refs.acquire(chunk, 33));
+        Assertions.assertFalse(refs.acquire(chunk, 33));
+        Assertions.assertEquals(2, refs.count(chunk, 33));
+
+        Assertions.assertFalse(refs.release(chunk, 33));
+        Assertions.assertEquals(1, refs.count(chunk, 33));
+        Assertions.assertTrue(refs.release(chunk, 33));
+        Assertions.assertEquals(0, refs.count(chunk, 33));
+
+        // The ticket is gone, so the next request adds it again
+        Assertions.assertTrue(refs.acquire(chunk, 33));
+    }
+
+    @Test
+    void levelsAndChunksAreCountedSeparately() {
+        final RegionTicketRefs refs = new RegionTicketRefs();
+        final long chunk = CoordinateUtil.getChunkKey(0, 0);
+        final long neighbour = CoordinateUtil.getChunkKey(1, 0);
+
+        Assertions.assertTrue(refs.acquire(chunk, 33));
+        Assertions.assertTrue(refs.acquire(chunk, 44));
+        Assertions.assertTrue(refs.acquire(neighbour, 33));
+
+        Assertions.assertTrue(refs.release(chunk, 44));
+        Assertions.assertEquals(1, refs.count(chunk, 33));
+        Assertions.assertEquals(1, refs.count(neighbour, 33));
+    }
+
+    @Test
+    void releaseWithoutAcquireIsIgnored() {
+        final RegionTicketRefs refs = new RegionTicketRefs();
+        final long chunk = CoordinateUtil.getChunkKey(5, 5);
+
+        Assertions.assertFalse(refs.release(chunk, 33));
+        Assertions.assertTrue(refs.acquire(chunk, 33));
+        Assertions.assertTrue(refs.release(chunk, 33));
+        Assertions.assertFalse(refs.release(chunk, 33));
+        Assertions.assertEquals(0, refs.count(chunk, 33));
+    }
+}
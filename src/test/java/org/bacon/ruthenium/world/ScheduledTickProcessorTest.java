@@ -2,14 +2,20 @@ package org.bacon.ruthenium.world;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.ArrayDeque;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.bacon.ruthenium.region.RegionScheduledTickQueue;
+import org.bacon.ruthenium.util.CoordinateUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 class ScheduledTickProcessorTest {
 
+    private static final Comparator<FakeTick> ORDER =
+        Comparator.comparingLong(FakeTick::triggerTime).thenComparing(FakeTick::id);
+
     private record FakeTick(long triggerTime, String id) {
     }
 
@@ -23,10 +29,9 @@ class ScheduledTickProcessorTest {
     }
 
     @Test
-    void drainDueTicksAvoidsMonitorDuringLoadChecksAndReturnsRunnableTicks() {
-        final Object monitor = new Object();
-        final long chunkA = 1L;
-        final long chunkB = 2L;
+    void drainDueTicksLocksOnlyChunkSchedulersAndRunsInTriggerOrder() {
+        final long chunkA = CoordinateUtil.getChunkKey(0, 0);
+        final long chunkB = CoordinateUtil.getChunkKey(1, 0);
 
         final FakeChunkScheduler schedulerA = new FakeChunkScheduler()
             .add(new FakeTick(1L, "A1"))
@@ -40,48 +45,50 @@ class ScheduledTickProcessorTest {
         byChunk.put(chunkA, schedulerA);
         byChunk.put(chunkB, schedulerB);
 
-        final AtomicInteger loadChecks = new AtomicInteger();
+        final RegionScheduledTickQueue queue = new RegionScheduledTickQueue();
+        queue.schedule(chunkA, 1L);
+        queue.schedule(chunkB, 2L);
+
+        final AtomicInteger lookups = new AtomicInteger();
         final List<FakeTick> drained = ScheduledTickProcessor.drainDueTicks(
-            monitor,
-            byChunk,
+            queue,
             5L,
             10,
-            new long[] {chunkA, chunkB},
             key -> {
-                Assertions.assertFalse(Thread.holdsLock(monitor), "Chunk load checks must not hold the scheduler monitor");
-                loadChecks.incrementAndGet();
-                return true;
+                Assertions.assertFalse(Thread.holdsLock(queue), "Scheduler lookups must not hold the region queue");
+                Assertions.assertFalse(Thread.holdsLock(schedulerA) || Thread.holdsLock(schedulerB),
+                    "Scheduler lookups must not hold a chunk scheduler monitor");
+                lookups.incrementAndGet();
+                return byChunk.get(key);
             },
             scheduler -> {
-                Assertions.assertTrue(Thread.holdsLock(monitor), "peek must hold the scheduler monitor");
+                Assertions.assertTrue(Thread.holdsLock(scheduler), "peek must hold the chunk scheduler monitor");
                 return scheduler.ticks.peekFirst();
             },
             scheduler -> {
-                Assertions.assertTrue(Thread.holdsLock(monitor), "poll must hold the scheduler monitor");
+                Assertions.assertTrue(Thread.holdsLock(scheduler), "poll must hold the chunk scheduler monitor");
                 return scheduler.ticks.pollFirst();
             },
-            FakeTick::triggerTime
+            FakeTick::triggerTime,
+            ORDER
         );
 
-        Assertions.assertEquals(2, loadChecks.get(), "Expected one load check per candidate chunk key");
+        Assertions.assertEquals(2, lookups.get(), "Expected one lookup per due chunk");
         Assertions.assertEquals(List.of(
             new FakeTick(1L, "A1"),
-            new FakeTick(5L, "A5"),
             new FakeTick(2L, "B2"),
-            new FakeTick(4L, "B4")
+            new FakeTick(4L, "B4"),
+            new FakeTick(5L, "A5")
         ), drained);
 
-        for (final FakeTick tick : drained) {
-            Assertions.assertFalse(Thread.holdsLock(monitor), "Callers must run drained ticks without holding the scheduler monitor");
-            Assertions.assertNotNull(tick);
-        }
+        Assertions.assertEquals(12L, queue.getTriggerTick(0, 0), "Chunk A must be re-queued with its next tick");
+        Assertions.assertFalse(queue.containsChunk(1, 0), "Chunk B has no remaining ticks");
     }
 
     @Test
-    void drainDueTicksRespectsMaxTicks() {
-        final Object monitor = new Object();
-        final long chunkA = 10L;
-        final long chunkB = 20L;
+    void drainDueTicksRespectsMaxTicksAndRequeuesRemainder() {
+        final long chunkA = CoordinateUtil.getChunkKey(10, 0);
+        final long chunkB = CoordinateUtil.getChunkKey(20, 0);
 
         final FakeChunkScheduler schedulerA = new FakeChunkScheduler()
             .add(new FakeTick(1L, "A1"))
@@ -94,22 +101,46 @@ class ScheduledTickProcessorTest {
         byChunk.put(chunkA, schedulerA);
         byChunk.put(chunkB, schedulerB);
 
+        final RegionScheduledTickQueue queue = new RegionScheduledTickQueue();
+        queue.schedule(chunkA, 1L);
+        queue.schedule(chunkB, 1L);
+
         final List<FakeTick> drained = ScheduledTickProcessor.drainDueTicks(
-            monitor,
-            byChunk,
+            queue,
             10L,
             2,
-            new long[] {chunkA, chunkB},
-            key -> true,
+            byChunk::get,
             scheduler -> scheduler.ticks.peekFirst(),
             scheduler -> scheduler.ticks.pollFirst(),
-            FakeTick::triggerTime
+            FakeTick::triggerTime,
+            ORDER
         );
 
         Assertions.assertEquals(List.of(
             new FakeTick(1L, "A1"),
-            new FakeTick(2L, "A2")
+            new FakeTick(1L, "B1")
         ), drained);
+        Assertions.assertEquals(2L, queue.getTriggerTick(10, 0));
+        Assertions.assertEquals(2L, queue.getTriggerTick(20, 0));
     }
-}
 
+    @Test
+    void drainDueTicksDropsUnloadedChunks() {
+        final RegionScheduledTickQueue queue = new RegionScheduledTickQueue();
+        queue.schedule(3, 3, 1L);
+
+        final List<FakeTick> drained = ScheduledTickProcessor.drainDueTicks(
+            queue,
+            5L,
+            10,
+            key -> (FakeChunkScheduler)null,
+            scheduler -> scheduler.ticks.peekFirst(),
+            scheduler -> scheduler.ticks.pollFirst(),
+            FakeTick::triggerTime,
+            ORDER
+        );
+
+        Assertions.assertTrue(drained.isEmpty());
+        Assertions.assertTrue(queue.isEmpty());
+    }
+}
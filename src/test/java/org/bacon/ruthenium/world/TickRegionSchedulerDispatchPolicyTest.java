@@ -0,0 +1,59 @@
+package org.bacon.ruthenium.world;
+
+import java.util.concurrent.TimeUnit;
+import org.bacon.ruthenium.config.RutheniumConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TickRegionSchedulerDispatchPolicyTest {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50L);
+
+    @Test
+    void defaultsOrderByDeadlineOnly() {
+        final TickRegionScheduler.DispatchPolicy policy =
+            TickRegionScheduler.DispatchPolicy.fromConfig(RutheniumConfig.defaults());
+
+        Assertions.assertFalse(policy.weightBacklog(), "Backlog weighting should default to disabled");
+        Assertions.assertEquals(0.0D, policy.cpuBudget(), "CPU budget should default to disabled");
+        Assertions.assertEquals(1_000L, policy.priority(1_000L, 5, 10.0D));
+    }
+
+    @Test
+    void backlogMovesLaggingRegionsAhead() {
+        final RutheniumConfig config = RutheniumConfig.defaults();
+        config.scheduler.schedulingPolicy = "BACKLOG";
+        config.scheduler.backlogWeight = 2.0D;
+
+        final TickRegionScheduler.DispatchPolicy policy = TickRegionScheduler.DispatchPolicy.fromConfig(config);
+
+        Assertions.assertTrue(policy.weightBacklog(), "Policy name should be case-insensitive");
+        Assertions.assertEquals(0L, policy.priority(0L, 0, 0.0D));
+        Assertions.assertEquals(-6L * TICK_NANOS, policy.priority(0L, 3, 0.0D));
+        final long capped = -2L * TickRegionScheduler.DispatchPolicy.MAX_BOOSTED_BACKLOG_TICKS * TICK_NANOS;
+        Assertions.assertEquals(capped, policy.priority(0L, 10_000, 0.0D), "Boost should be capped");
+    }
+
+    @Test
+    void overBudgetRegionsAreDemoted() {
+        final RutheniumConfig config = RutheniumConfig.defaults();
+        config.scheduler.schedulingPolicy = "backlog";
+        config.scheduler.regionCpuBudgetPercent = 50;
+
+        final TickRegionScheduler.DispatchPolicy policy = TickRegionScheduler.DispatchPolicy.fromConfig(config);
+
+        Assertions.assertEquals(0L, policy.priority(0L, 0, 0.5D));
+        final long demoted = policy.priority(0L, 1_000, 0.9D);
+        Assertions.assertTrue(demoted > policy.priority(TimeUnit.SECONDS.toNanos(10L), 0, 0.1D),
+            "An over-budget region should wait behind in-budget regions that became due later");
+    }
+
+    @Test
+    void unknownPolicyFallsBackToDeadline() {
+        final RutheniumConfig config = RutheniumConfig.defaults();
+        config.scheduler.schedulingPolicy = "fastest";
+
+        Assertions.assertFalse(TickRegionScheduler.DispatchPolicy.fromConfig(config).weightBacklog());
+        Assertions.assertEquals("deadline", config.scheduler.schedulingPolicy);
+    }
+}
@@ -1,6 +1,7 @@
 package org.bacon.ruthenium.world;
 
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BooleanSupplier;
 import net.minecraft.registry.RegistryKey;
@@ -20,19 +21,26 @@ class TickRegionSchedulerTest {
 
     private static final Identifier TEST_WORLD_ID = Identifier.of("ruthenium", "test_world");
 
+    private static final Identifier OTHER_WORLD_ID = Identifier.of("ruthenium", "other_world");
+
     private TickRegionScheduler scheduler;
     private AtomicBoolean haltedFlag;
+    private boolean parallelWorldOrchestration;
 
     @BeforeEach
     void setUp() throws Exception {
         this.scheduler = TickRegionScheduler.getInstance();
         this.haltedFlag = extractHaltedFlag(this.scheduler);
         this.haltedFlag.set(false);
+        this.parallelWorldOrchestration = getParallelWorldOrchestration(this.scheduler);
     }
 
     @AfterEach
-    void tearDown() {
+    void tearDown() throws Exception {
         this.haltedFlag.set(false);
+        setParallelWorldOrchestration(this.scheduler, this.parallelWorldOrchestration);
+        // Drop anything a test left uncollected
+        this.scheduler.orchestrateWorlds(List.of(), () -> true);
     }
 
     @Test
@@ -56,6 +64,56 @@ class TickRegionSchedulerTest {
             "tickWorld should fall back to vanilla when no regions are active, even if the budget is exhausted");
     }
 
+    @Test
+    void orchestrationErrorIsRethrownOnCollect() throws Exception {
+        final ServerWorld healthy = createStubWorld();
+        final ServerWorld failing = createStubWorld(OTHER_WORLD_ID);
+        final IllegalStateException failure = new IllegalStateException("chunk state failed");
+        failing.setChunkStateFailure(failure);
+        setParallelWorldOrchestration(this.scheduler, true);
+
+        this.scheduler.orchestrateWorlds(List.of(healthy, failing), () -> true);
+
+        Assertions.assertFalse(this.scheduler.tickWorldOrCollect(healthy, () -> true),
+            "the healthy world should collect its own fallback result");
+        final IllegalStateException thrown = Assertions.assertThrows(IllegalStateException.class,
+            () -> this.scheduler.tickWorldOrCollect(failing, () -> true));
+        Assertions.assertSame(failure, thrown, "collect should rethrow the original error");
+    }
+
+    @Test
+    void uncollectedResultIsClearedNextTick() throws Exception {
+        final ServerWorld first = createStubWorld();
+        final ServerWorld skipped = createStubWorld(OTHER_WORLD_ID);
+        skipped.setChunkStateFailure(new IllegalStateException("stale"));
+        setParallelWorldOrchestration(this.scheduler, true);
+
+        this.scheduler.orchestrateWorlds(List.of(first, skipped), () -> true);
+        Assertions.assertFalse(this.scheduler.tickWorldOrCollect(first, () -> true));
+        // The server never reached the second world this tick
+
+        skipped.setChunkStateFailure(null);
+        setParallelWorldOrchestration(this.scheduler, false);
+        this.scheduler.orchestrateWorlds(List.of(first, skipped), () -> true);
+
+        Assertions.assertFalse(this.scheduler.tickWorldOrCollect(skipped, () -> true),
+            "the next tick should orchestrate the world again instead of collecting the stale error");
+    }
+
+    private static boolean getParallelWorldOrchestration(final TickRegionScheduler scheduler) throws Exception {
+        return parallelWorldOrchestrationField().getBoolean(scheduler);
+    }
+
+    private static void setParallelWorldOrchestration(final TickRegionScheduler scheduler, final boolean value) throws Exception {
+        parallelWorldOrchestrationField().setBoolean(scheduler, value);
+    }
+
+    private static Field parallelWorldOrchestrationField() throws Exception {
+        final Field field = TickRegionScheduler.class.getDeclaredField("parallelWorldOrchestration");
+        field.setAccessible(true);
+        return field;
+    }
+
     private static AtomicBoolean extractHaltedFlag(final TickRegionScheduler scheduler) throws Exception {
         final Field field = TickRegionScheduler.class.getDeclaredField("halted");
         field.setAccessible(true);
@@ -63,7 +121,11 @@ class TickRegionSchedulerTest {
     }
 
     private static ServerWorld createStubWorld() {
-        final RegistryKey<World> key = RegistryKey.of(RegistryKeys.WORLD, TEST_WORLD_ID);
+        return createStubWorld(TEST_WORLD_ID);
+    }
+
+    private static ServerWorld createStubWorld(final Identifier id) {
+        final RegistryKey<World> key = RegistryKey.of(RegistryKeys.WORLD, id);
         return new ServerWorld(key);
     }
 }
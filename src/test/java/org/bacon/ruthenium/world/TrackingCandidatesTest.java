@@ -0,0 +1,47 @@
+package org.bacon.ruthenium.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TrackingCandidates}.
+ */
+class TrackingCandidatesTest {
+
+    @Test
+    void mergesListenersByIdentityAfterRegionPlayers() {
+        final String a = new String("a");
+        final String b = new String("b");
+        final String foreign = new String("a");
+        final List<String> regionPlayers = new ArrayList<>(List.of(a, b));
+        final TrackingCandidates<String> candidates = new TrackingCandidates<>(regionPlayers);
+
+        candidates.addListener(b);
+        candidates.addListener(foreign);
+        candidates.addListener(foreign);
+
+        final List<String> list = candidates.asList();
+        Assertions.assertEquals(3, list.size());
+        Assertions.assertSame(a, list.get(0));
+        Assertions.assertSame(b, list.get(1));
+        Assertions.assertSame(foreign, list.get(2));
+        // The region's own list is copied, not extended
+        Assertions.assertEquals(2, regionPlayers.size());
+    }
+
+    @Test
+    void sharedViewGrowsWithLaterListeners() {
+        final TrackingCandidates<Integer> candidates = new TrackingCandidates<>(List.of());
+        final List<Integer> view = candidates.asList();
+        Assertions.assertTrue(view.isEmpty());
+
+        final Integer listener = Integer.valueOf(1000);
+        candidates.addListener(listener);
+
+        Assertions.assertEquals(1, view.size());
+        Assertions.assertSame(listener, view.get(0));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.add(listener));
+    }
+}